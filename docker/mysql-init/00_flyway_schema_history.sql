@@ -23,4 +23,24 @@ VALUES
     (1, '1', 'create document types tables', 'SQL', 'V1__create_document_types_tables.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
     (2, '2', 'insert colombia document types', 'SQL', 'V2__insert_colombia_document_types.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
     (3, '3', 'create geography tables', 'SQL', 'V3__create_geography_tables.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
-    (4, '4', 'insert colombia geography', 'SQL', 'V4__insert_colombia_geography.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE);
+    (4, '4', 'insert colombia geography', 'SQL', 'V4__insert_colombia_geography.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (5, '5', 'create payment methods table', 'SQL', 'V5__create_payment_methods_table.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (6, '6', 'insert colombia payment methods', 'SQL', 'V6__insert_colombia_payment_methods.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (7, '7', 'create tax types table', 'SQL', 'V7__create_tax_types_table.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (8, '8', 'insert colombia tax types', 'SQL', 'V8__insert_colombia_tax_types.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (9, '9', 'create units of measure table', 'SQL', 'V9__create_units_of_measure_table.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (10, '10', 'insert colombia units of measure', 'SQL', 'V10__insert_colombia_units_of_measure.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (11, '11', 'create security tables', 'SQL', 'V11__create_security_tables.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (12, '12', 'insert security seed data', 'SQL', 'V12__insert_security_seed_data.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (13, '13', 'create warehouses table', 'SQL', 'V13__create_warehouses_table.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (14, '14', 'insert warehouses seed data', 'SQL', 'V14__insert_warehouses_seed_data.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (15, '15', 'insert warehouse permissions', 'SQL', 'V15__insert_warehouse_permissions.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (16, '16', 'add audit log occurrences', 'SQL', 'V16__add_audit_log_occurrences.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (17, '17', 'hash refresh tokens', 'SQL', 'V17__hash_refresh_tokens.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (18, '18', 'partition audit logs by timestamp', 'SQL', 'V18__partition_audit_logs_by_timestamp.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (19, '19', 'warehouse binary uuids', 'SQL', 'V19__warehouse_binary_uuids.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (20, '19.1', 'backfill warehouse binary uuids', 'SQL', 'V19_1__backfill_warehouse_binary_uuids.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (21, '20', 'municipality id sequence', 'SQL', 'V20__municipality_id_sequence.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (22, '21', 'permission version', 'SQL', 'V21__permission_version.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (23, '22', 'per user permission versions', 'SQL', 'V22__per_user_permission_versions.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE),
+    (24, '23', 'read warehouse binary uuids', 'SQL', 'V23__read_warehouse_binary_uuids.sql', NULL, 'docker-init', CURRENT_TIMESTAMP, 0, TRUE);
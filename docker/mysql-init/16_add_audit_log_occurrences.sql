@@ -0,0 +1,5 @@
+-- Repeated events (e.g. PERMISSION_DENIED storms) are coalesced into one row per window:
+-- occurrences counts the events, first_timestamp/timestamp hold the first and last occurrence.
+ALTER TABLE audit_logs
+    ADD COLUMN occurrences     INT      NOT NULL DEFAULT 1 AFTER user_agent,
+    ADD COLUMN first_timestamp DATETIME NULL AFTER occurrences;
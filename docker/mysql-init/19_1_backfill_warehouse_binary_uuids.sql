@@ -0,0 +1,41 @@
+-- Backfills the binary warehouse UUIDs added by V19 in primary key ranges of 1000 rows, committing after each
+-- range so no statement locks the whole table or builds a large undo log. UUID_TO_BIN without the swap flag keeps
+-- the byte order Hibernate reads. Rows written meanwhile by the previous release are caught up by V23.
+DELIMITER //
+CREATE PROCEDURE backfill_warehouse_binary_uuids()
+BEGIN
+    DECLARE next_id BIGINT DEFAULT 0;
+    DECLARE max_id BIGINT;
+
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM warehouses;
+    WHILE next_id <= max_id DO
+        UPDATE warehouses
+        SET uuid_bin              = UUID_TO_BIN(uuid),
+            municipality_uuid_bin = UUID_TO_BIN(municipality_uuid)
+        WHERE id > next_id
+          AND id <= next_id + 1000
+          AND uuid_bin IS NULL;
+        COMMIT;
+        SET next_id = next_id + 1000;
+    END WHILE;
+END //
+DELIMITER ;
+
+CALL backfill_warehouse_binary_uuids();
+DROP PROCEDURE backfill_warehouse_binary_uuids;
+
+-- Warehouses pointing at municipalities that no longer exist are kept as they are and recorded here, as Flyway
+-- does not show query results: the foreign key of the contract step cannot be added until they are corrected.
+CREATE TABLE warehouse_missing_municipalities (
+    warehouse_id      BIGINT      NOT NULL PRIMARY KEY,
+    code              VARCHAR(20) NOT NULL,
+    municipality_uuid VARCHAR(36) NOT NULL,
+    recorded_at       DATETIME    NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO warehouse_missing_municipalities (warehouse_id, code, municipality_uuid, recorded_at)
+SELECT w.id, w.code, w.municipality_uuid, NOW()
+FROM warehouses w
+    LEFT JOIN municipalities m ON m.uuid = w.municipality_uuid_bin
+WHERE w.municipality_uuid_bin IS NOT NULL
+  AND m.id IS NULL;
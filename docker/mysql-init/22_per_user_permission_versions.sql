@@ -0,0 +1,6 @@
+-- Per-user permission versions: a role or user change stamps the affected users with the new permission version,
+-- so permission caches drop only those users and only those users' access tokens stop being trusted.
+ALTER TABLE users
+    ADD COLUMN permissions_version BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+
+CREATE INDEX idx_user_permissions_version ON users (permissions_version);
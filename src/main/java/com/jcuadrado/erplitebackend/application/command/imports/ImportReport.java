@@ -0,0 +1,25 @@
+package com.jcuadrado.erplitebackend.application.command.imports;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch import. Imports are all-or-nothing: {@code imported} is zero whenever {@code errors} is not empty.
+ */
+public record ImportReport(
+        int received,
+        int imported,
+        List<ImportRowError> errors
+) {
+
+    public static ImportReport rejected(int received, List<ImportRowError> errors) {
+        return new ImportReport(received, 0, List.copyOf(errors));
+    }
+
+    public static ImportReport imported(int received) {
+        return new ImportReport(received, received, List.of());
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
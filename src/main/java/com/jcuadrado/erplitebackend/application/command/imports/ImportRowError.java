@@ -0,0 +1,10 @@
+package com.jcuadrado.erplitebackend.application.command.imports;
+
+/**
+ * A rejected import row; {@code row} counts data rows from 1, without the CSV header.
+ */
+public record ImportRowError(
+        int row,
+        String message
+) {
+}
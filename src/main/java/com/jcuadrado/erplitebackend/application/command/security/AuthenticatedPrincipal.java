@@ -0,0 +1,20 @@
+package com.jcuadrado.erplitebackend.application.command.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record AuthenticatedPrincipal(
+        String subject,
+        UUID userId,
+        List<String> roles,
+        List<String> permissions,
+        long permissionsVersion,
+        Instant expiresAt
+) {
+
+    public AuthenticatedPrincipal {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+        permissions = permissions == null ? List.of() : List.copyOf(permissions);
+    }
+}
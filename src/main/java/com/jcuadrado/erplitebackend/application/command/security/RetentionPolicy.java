@@ -0,0 +1,16 @@
+package com.jcuadrado.erplitebackend.application.command.security;
+
+import java.time.Duration;
+
+/**
+ * Retention settings: how long expired/revoked refresh tokens and audit logs are kept, how many rows each delete
+ * batch touches, and how many quarters after the current one get an audit log partition ahead of time.
+ */
+public record RetentionPolicy(
+        Duration refreshTokenGracePeriod,
+        Duration auditLogMaxAge,
+        int batchSize,
+        Duration batchPause,
+        int auditLogPartitionsAhead
+) {
+}
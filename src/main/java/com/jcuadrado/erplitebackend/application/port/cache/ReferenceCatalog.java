@@ -0,0 +1,14 @@
+package com.jcuadrado.erplitebackend.application.port.cache;
+
+/**
+ * Reference catalogs whose active lists are served from {@link ReferenceDataCache}.
+ */
+public enum ReferenceCatalog {
+    DOCUMENT_TYPES,
+    PAYMENT_METHODS,
+    TAX_TYPES,
+    UNITS_OF_MEASURE,
+    DEPARTMENTS,
+    MUNICIPALITIES,
+    WAREHOUSES
+}
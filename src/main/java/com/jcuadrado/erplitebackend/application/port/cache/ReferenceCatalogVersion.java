@@ -0,0 +1,12 @@
+package com.jcuadrado.erplitebackend.application.port.cache;
+
+import java.time.Instant;
+
+/**
+ * Opaque version of one or more reference catalogs, suitable as an HTTP validator.
+ *
+ * @param tag          changes whenever the data behind the catalogs may have changed
+ * @param lastModified last change of any of the catalogs, with second precision
+ */
+public record ReferenceCatalogVersion(String tag, Instant lastModified) {
+}
@@ -0,0 +1,37 @@
+package com.jcuadrado.erplitebackend.application.port.cache;
+
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the active entries of each reference catalog.
+ */
+public interface ReferenceDataCache {
+
+    /**
+     * Returns the cached, immutable snapshot of the catalog, loading it with {@code loader} when absent or stale.
+     */
+    <T> List<T> getActive(ReferenceCatalog catalog, Supplier<List<T>> loader);
+
+    /**
+     * Returns a {@link TextSearchIndex} over the same snapshot, built on first use and dropped with it.
+     */
+    <T> TextSearchIndex<T> getSearchIndex(ReferenceCatalog catalog, Supplier<List<T>> loader,
+                                         Function<T, List<String>> fields);
+
+    /**
+     * Discards the catalog snapshot so the next read reloads it and advances its version. Inside a transaction
+     * this happens after commit.
+     */
+    void invalidate(ReferenceCatalog catalog);
+
+    /**
+     * Returns the combined version of {@code catalogs}. It advances on every {@link #invalidate} and, because
+     * other instances cannot bump it, at least once per snapshot max-age.
+     */
+    ReferenceCatalogVersion version(Set<ReferenceCatalog> catalogs);
+}
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.port.geography;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -20,4 +21,11 @@ public interface CompareDepartmentsUseCase {
     List<Department> getAllActive();
 
     Page<Department> findAll(Map<String, Object> filters, Pageable pageable);
+
+    Slice<Department> findSlice(Map<String, Object> filters, Pageable pageable);
+
+    /**
+     * Ranked typeahead search over active departments by code or name, ignoring case and accents.
+     */
+    List<Department> search(String query, int limit);
 }
@@ -3,10 +3,13 @@ package com.jcuadrado.erplitebackend.application.port.geography;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Input port for municipality query operations (CQRS - Query side).
@@ -20,4 +23,16 @@ public interface CompareMunicipalitiesUseCase {
     List<Municipality> getAllByDepartment(UUID departmentUuid);
 
     Page<Municipality> findAll(Map<String, Object> filters, Pageable pageable);
+
+    Slice<Municipality> findSlice(Map<String, Object> filters, Pageable pageable);
+
+    /**
+     * Streams every municipality matching {@code filters} to {@code sink}, from the geography index when it can answer, otherwise through a database cursor.
+     */
+    void exportAll(Map<String, Object> filters, Sort sort, Consumer<Municipality> sink);
+
+    /**
+     * Ranked typeahead search over active municipalities by DANE code or name, ignoring case and accents.
+     */
+    List<Municipality> search(String query, int limit);
 }
@@ -0,0 +1,21 @@
+package com.jcuadrado.erplitebackend.application.port.geography;
+
+import com.jcuadrado.erplitebackend.domain.model.geography.GeographyIndex;
+
+import java.util.Optional;
+
+/**
+ * Holds the current {@link GeographyIndex}.
+ */
+public interface GeographyIndexProvider {
+
+    /**
+     * The current index, or empty while it has not been loaded; callers then fall back to the repositories.
+     */
+    Optional<GeographyIndex> current();
+
+    /**
+     * Rebuilds the index from the repositories and swaps it in. Inside a transaction this happens after commit.
+     */
+    void refresh();
+}
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.port.paymentmethod;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -36,8 +37,20 @@ public interface ComparePaymentMethodsUseCase {
      */
     Page<PaymentMethod> findAll(Map<String, Object> filters, Pageable pageable);
 
+    /**
+     * Same as {@link #findAll} but without counting the total number of matches
+     * @param filters Map with filter criteria (enabled, search, etc.)
+     * @param pageable Pagination and sorting information
+     */
+    Slice<PaymentMethod> findSlice(Map<String, Object> filters, Pageable pageable);
+
     /**
      * Search payment methods by name containing
      */
     List<PaymentMethod> searchByName(String name);
+
+    /**
+     * Ranked typeahead search over active payment methods by code or name, ignoring case and accents
+     */
+    List<PaymentMethod> search(String query, int limit);
 }
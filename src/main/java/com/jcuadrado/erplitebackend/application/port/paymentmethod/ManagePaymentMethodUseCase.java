@@ -1,7 +1,9 @@
 package com.jcuadrado.erplitebackend.application.port.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,4 +36,9 @@ public interface ManagePaymentMethodUseCase {
      * Deactivate a payment method
      */
     PaymentMethod deactivate(UUID uuid);
+
+    /**
+     * Create a batch of payment methods; none is created if any row is invalid
+     */
+    ImportReport importAll(List<PaymentMethod> paymentMethods);
 }
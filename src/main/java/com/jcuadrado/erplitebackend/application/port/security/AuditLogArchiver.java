@@ -0,0 +1,23 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+
+import java.util.List;
+
+public interface AuditLogArchiver {
+
+    Session open();
+
+    /**
+     * One archive file; {@link #append} returns only once the batch is durably written.
+     */
+    interface Session extends AutoCloseable {
+
+        void append(List<AuditLog> auditLogs);
+
+        String location();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,29 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Range partitions of the audit log table by timestamp, so expired quarters can be dropped instead of deleted
+ * row by row.
+ */
+public interface AuditLogPartitionManager {
+
+    /**
+     * Partitions in range order; empty when the table is not partitioned.
+     */
+    List<Partition> findAll();
+
+    /**
+     * Splits the catch-all partition so each of {@code upperBounds}, in ascending order, closes a partition.
+     */
+    void addPartitions(List<LocalDateTime> upperBounds);
+
+    void drop(Partition partition);
+
+    /**
+     * @param upperBound exclusive upper bound of the partition's timestamps; {@code null} for the catch-all one
+     */
+    record Partition(String name, LocalDateTime upperBound) {
+    }
+}
@@ -4,13 +4,24 @@ import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AuditLogUseCase {
 
     Page<AuditLog> getAuditLogs(AuditLogFilter filter, Pageable pageable);
 
+    Window<AuditLog> scrollAuditLogs(AuditLogFilter filter, Sort sort, ScrollPosition position, int limit);
+
     Optional<AuditLog> getById(UUID id);
+
+    /**
+     * Streams every log matching {@code filter} to {@code sink}, for exports too large to page through.
+     */
+    void exportAuditLogs(AuditLogFilter filter, Sort sort, Consumer<AuditLog> sink);
 }
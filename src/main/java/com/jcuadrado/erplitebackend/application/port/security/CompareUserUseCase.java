@@ -3,6 +3,9 @@ package com.jcuadrado.erplitebackend.application.port.security;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.UUID;
 
@@ -11,4 +14,6 @@ public interface CompareUserUseCase {
     User getById(UUID id);
 
     Page<User> list(Pageable pageable);
+
+    Window<User> scroll(Sort sort, ScrollPosition position, int limit);
 }
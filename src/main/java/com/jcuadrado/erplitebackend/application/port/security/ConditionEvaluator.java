@@ -5,4 +5,12 @@ import java.util.Map;
 public interface ConditionEvaluator {
 
     boolean evaluate(String condition, Map<String, Object> context);
+
+    /**
+     * Rejects conditions that cannot be parsed so they never reach runtime evaluation.
+     *
+     * @throws com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException
+     *         when the condition is not a valid expression
+     */
+    void validate(String condition);
 }
@@ -14,4 +14,11 @@ public interface ManagePermissionUseCase {
     List<Permission> listAll();
 
     boolean checkPermission(UUID userId, String entity, String action, Map<String, Object> context);
+
+    /**
+     * Authorizes the same entity and action against many row contexts in one call.
+     *
+     * @return one decision per context, in the same order
+     */
+    List<Boolean> checkPermissions(UUID userId, String entity, String action, List<Map<String, Object>> contexts);
 }
@@ -0,0 +1,15 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.Permission;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionIndex;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface PermissionCache {
+
+    List<Permission> getPermissions(UUID userId, Function<UUID, List<Permission>> loader);
+
+    PermissionIndex getIndex(UUID userId, Function<UUID, List<Permission>> loader);
+}
@@ -0,0 +1,10 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
+
+import java.util.UUID;
+
+public interface PermissionDenialRecorder {
+
+    void recordDenial(UUID userId, String entity, PermissionAction action);
+}
@@ -0,0 +1,37 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface PermissionVersionService {
+
+    long currentVersion();
+
+    /**
+     * Only the given users' permissions changed.
+     */
+    void incrementForUsers(Collection<UUID> userIds);
+
+    /**
+     * Only the permissions of the users holding the role changed.
+     */
+    void incrementForRole(UUID roleId);
+
+    /**
+     * Whether the user's permissions are unchanged since {@code version}, such as the version stamped into an
+     * access token. {@code false} when that cannot be told.
+     */
+    boolean isCurrent(UUID userId, long version);
+
+    /**
+     * Users whose permissions changed after {@code version}, or all users when that can no longer be told.
+     */
+    Changes changesSince(long version);
+
+    record Changes(boolean allUsers, Set<UUID> userIds) {
+
+        public static final Changes NONE = new Changes(false, Set.of());
+        public static final Changes ALL = new Changes(true, Set.of());
+    }
+}
@@ -0,0 +1,15 @@
+package com.jcuadrado.erplitebackend.application.port.security;
+
+public interface RetentionUseCase {
+
+    int purgeRefreshTokens();
+
+    int archiveAuditLogs();
+
+    /**
+     * Creates the audit log partitions missing up to the configured number of quarters ahead.
+     *
+     * @return number of partitions added
+     */
+    int prepareAuditLogPartitions();
+}
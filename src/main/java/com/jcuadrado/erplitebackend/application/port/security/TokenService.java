@@ -1,12 +1,14 @@
 package com.jcuadrado.erplitebackend.application.port.security;
 
+import com.jcuadrado.erplitebackend.application.command.security.AuthenticatedPrincipal;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TokenService {
 
-    String generateAccessToken(User user, List<String> roles, List<String> permissions);
+    String generateAccessToken(User user, List<String> roles, List<String> permissions, long permissionsVersion);
 
     String extractUsername(String token);
 
@@ -15,4 +17,6 @@ public interface TokenService {
     List<String> extractPermissions(String token);
 
     boolean validateToken(String token);
+
+    Optional<AuthenticatedPrincipal> parseToken(String token);
 }
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.port.taxtype;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -34,4 +35,15 @@ public interface CompareTaxTypesUseCase {
      * El filtro 'name' realiza búsqueda case-insensitive parcial
      */
     Page<TaxType> findAll(Map<String, Object> filters, Pageable pageable);
+
+    /**
+     * Igual que {@link #findAll} pero sin contar el total de coincidencias
+     */
+    Slice<TaxType> findSlice(Map<String, Object> filters, Pageable pageable);
+    
+    /**
+     * Búsqueda tipo typeahead sobre los tipos de impuesto activos por código o nombre,
+     * ignorando mayúsculas y tildes, ordenada por relevancia
+     */
+    List<TaxType> search(String query, int limit);
 }
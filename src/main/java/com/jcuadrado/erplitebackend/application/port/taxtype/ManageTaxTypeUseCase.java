@@ -1,7 +1,9 @@
 package com.jcuadrado.erplitebackend.application.port.taxtype;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -33,4 +35,9 @@ public interface ManageTaxTypeUseCase {
      * Elimina un tipo de impuesto (solo si no tiene productos ni transacciones)
      */
     void delete(UUID uuid);
+
+    /**
+     * Crea un lote de tipos de impuesto; si alguna fila es inválida no se crea ninguna
+     */
+    ImportReport importAll(List<TaxType> taxTypes);
 }
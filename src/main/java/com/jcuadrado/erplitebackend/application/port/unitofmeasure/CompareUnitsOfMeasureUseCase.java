@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.port.unitofmeasure;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -16,7 +17,11 @@ public interface CompareUnitsOfMeasureUseCase {
 
     Page<UnitOfMeasure> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<UnitOfMeasure> findSlice(Map<String, Object> filters, Pageable pageable);
+
     List<UnitOfMeasure> searchByName(String name, Boolean enabled);
 
     List<UnitOfMeasure> searchByAbbreviation(String abbreviation, Boolean enabled);
+
+    List<UnitOfMeasure> search(String query, int limit);
 }
@@ -1,7 +1,9 @@
 package com.jcuadrado.erplitebackend.application.port.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ManageUnitOfMeasureUseCase {
@@ -15,4 +17,6 @@ public interface ManageUnitOfMeasureUseCase {
     UnitOfMeasure deactivate(UUID uuid);
 
     void delete(UUID uuid);
+
+    ImportReport importAll(List<UnitOfMeasure> unitsOfMeasure);
 }
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.port.warehouse;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -14,5 +15,7 @@ public interface CompareWarehouseUseCase {
 
     Page<Warehouse> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<Warehouse> findSlice(Map<String, Object> filters, Pageable pageable);
+
     List<Warehouse> findAllActive();
 }
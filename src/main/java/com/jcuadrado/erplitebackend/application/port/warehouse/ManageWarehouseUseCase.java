@@ -1,9 +1,11 @@
 package com.jcuadrado.erplitebackend.application.port.warehouse;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehouseCommand;
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ManageWarehouseUseCase {
@@ -17,4 +19,6 @@ public interface ManageWarehouseUseCase {
     Warehouse activate(UUID uuid);
 
     Warehouse deactivate(UUID uuid);
+
+    ImportReport importAll(List<CreateWarehouseCommand> commands);
 }
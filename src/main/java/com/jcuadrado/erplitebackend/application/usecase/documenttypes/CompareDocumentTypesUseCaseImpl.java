@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.documenttypes;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.documenttypes.CompareDocumentTypesUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.documenttypes.DocumentTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
@@ -7,6 +9,7 @@ import com.jcuadrado.erplitebackend.domain.port.documenttypes.DocumentTypeReposi
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ import java.util.UUID;
 public class CompareDocumentTypesUseCaseImpl implements CompareDocumentTypesUseCase {
 
     private final DocumentTypeRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public DocumentType getByUuid(UUID uuid) {
@@ -39,12 +43,17 @@ public class CompareDocumentTypesUseCaseImpl implements CompareDocumentTypesUseC
 
     @Override
     public List<DocumentType> getAllActive() {
-        return repository.findAllActive();
+        return referenceDataCache.getActive(ReferenceCatalog.DOCUMENT_TYPES, repository::findAllActive);
     }
 
     @Override
     public Page<DocumentType> findAll(Map<String, Object> filters, Pageable pageable) {
         return repository.findAll(filters, pageable);
     }
+
+    @Override
+    public Slice<DocumentType> findSlice(Map<String, Object> filters, Pageable pageable) {
+        return repository.findSlice(filters, pageable);
+    }
 }
 
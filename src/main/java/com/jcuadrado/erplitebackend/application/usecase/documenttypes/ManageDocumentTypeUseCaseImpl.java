@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.documenttypes;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.documenttypes.ManageDocumentTypeUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.documenttypes.DocumentTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
@@ -25,6 +27,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
 
     private final DocumentTypeRepository repository;
     private final DocumentTypeDomainService domainService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public DocumentType create(DocumentType documentType) {
@@ -35,6 +38,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
         documentType.setCreatedAt(LocalDateTime.now());
         // TODO: Set createdBy from security context when auth is implemented
 
+        referenceDataCache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
         DocumentType saved = repository.save(documentType);
 
         log.info("Document type created successfully with ID: {} and UUID: {}", saved.getId(), saved.getUuid());
@@ -55,6 +59,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
         existing.setUpdatedAt(LocalDateTime.now());
         // TODO: Set updatedBy from security context when auth is implemented
 
+        referenceDataCache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
         return repository.save(existing);
     }
 
@@ -68,6 +73,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
         }
 
         existing.markAsDeleted(null); // TODO: Get userId from security context
+        referenceDataCache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
         repository.save(existing);
     }
 
@@ -80,6 +86,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
         existing.setUpdatedAt(LocalDateTime.now());
         // TODO: Set updatedBy from security context when auth is implemented
 
+        referenceDataCache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
         repository.save(existing);
     }
 
@@ -96,6 +103,7 @@ public class ManageDocumentTypeUseCaseImpl implements ManageDocumentTypeUseCase
         existing.setUpdatedAt(LocalDateTime.now());
         // TODO: Set updatedBy from security context when auth is implemented
 
+        referenceDataCache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
         repository.save(existing);
     }
 }
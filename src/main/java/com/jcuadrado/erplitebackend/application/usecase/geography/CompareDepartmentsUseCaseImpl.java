@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.geography.CompareDepartmentsUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
@@ -7,11 +9,13 @@ import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class CompareDepartmentsUseCaseImpl implements CompareDepartmentsUseCase {
 
     private final DepartmentRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public Department getByUuid(UUID uuid) {
@@ -35,11 +40,23 @@ public class CompareDepartmentsUseCaseImpl implements CompareDepartmentsUseCase
 
     @Override
     public List<Department> getAllActive() {
-        return repository.findAllEnabled();
+        return referenceDataCache.getActive(ReferenceCatalog.DEPARTMENTS, repository::findAllEnabled);
+    }
+
+    @Override
+    public List<Department> search(String query, int limit) {
+        return referenceDataCache.getSearchIndex(ReferenceCatalog.DEPARTMENTS, repository::findAllEnabled,
+                department -> List.of(Objects.toString(department.getCode(), ""),
+                        Objects.toString(department.getName(), ""))).search(query, limit);
     }
 
     @Override
     public Page<Department> findAll(Map<String, Object> filters, Pageable pageable) {
         return repository.findAll(filters, pageable);
     }
+
+    @Override
+    public Slice<Department> findSlice(Map<String, Object> filters, Pageable pageable) {
+        return repository.findSlice(filters, pageable);
+    }
 }
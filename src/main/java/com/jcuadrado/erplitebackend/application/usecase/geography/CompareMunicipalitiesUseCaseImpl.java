@@ -1,43 +1,80 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.geography.CompareMunicipalitiesUseCase;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.exception.geography.MunicipalityNotFoundException;
+import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.geography.GeographyIndex;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CompareMunicipalitiesUseCaseImpl implements CompareMunicipalitiesUseCase {
 
+    private static final Set<String> INDEXED_FILTERS = Set.of("enabled", "departmentId", "search", "code", "name");
+    private static final Set<String> INDEXED_SORTS = Set.of("id", "code", "name", "enabled");
+
     private final MunicipalityRepository repository;
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final GeographyIndexProvider geographyIndexProvider;
 
     @Override
     public Municipality getByUuid(UUID uuid) {
-        return repository.findByUuid(uuid)
+        return geographyIndexProvider.current()
+                .flatMap(index -> index.findMunicipality(uuid))
+                .or(() -> repository.findByUuid(uuid))
                 .orElseThrow(() -> new MunicipalityNotFoundException(uuid));
     }
 
     @Override
     public List<Municipality> getAllActive() {
-        return repository.findAllEnabled();
+        return referenceDataCache.getActive(ReferenceCatalog.MUNICIPALITIES, repository::findAllEnabled);
+    }
+
+    @Override
+    public List<Municipality> search(String query, int limit) {
+        return geographyIndexProvider.current()
+                .map(index -> index.searchEnabled(query, limit))
+                // Only until the first index load succeeds
+                .orElseGet(() -> TextSearchIndex.of(repository.findAllEnabled(),
+                        municipality -> List.of(Objects.toString(municipality.getCode(), ""),
+                                Objects.toString(municipality.getName(), ""))).search(query, limit));
     }
 
     @Override
     public List<Municipality> getAllByDepartment(UUID departmentUuid) {
-         var department = departmentRepository.findByUuid(departmentUuid)
+        Optional<GeographyIndex> index = geographyIndexProvider.current();
+        Optional<Department> indexed = index.flatMap(i -> i.findDepartment(departmentUuid));
+        if (indexed.isPresent()) {
+            return index.get().municipalitiesOf(indexed.get().getId(), true);
+        }
+        var department = departmentRepository.findByUuid(departmentUuid)
                 .orElseThrow(() -> new DepartmentNotFoundException(departmentUuid));
         Long departmentId = department.getId();
         return repository.findAllByDepartmentIdAndEnabled(departmentId, true);
@@ -45,6 +82,68 @@ public class CompareMunicipalitiesUseCaseImpl implements CompareMunicipalitiesUs
 
     @Override
     public Page<Municipality> findAll(Map<String, Object> filters, Pageable pageable) {
+        Optional<GeographyIndex> index = geographyIndexProvider.current();
+        if (index.isPresent() && canUseIndex(filters, pageable)) {
+            return findInIndex(index.get(), filters, pageable);
+        }
         return repository.findAll(filters, pageable);
     }
+
+    @Override
+    public Slice<Municipality> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Optional<GeographyIndex> index = geographyIndexProvider.current();
+        if (index.isPresent() && canUseIndex(filters, pageable)) {
+            return findInIndex(index.get(), filters, pageable);
+        }
+        return repository.findSlice(filters, pageable);
+    }
+
+    @Override
+    public void exportAll(Map<String, Object> filters, Sort sort, Consumer<Municipality> sink) {
+        Pageable unpaged = Pageable.unpaged(sort);
+        Optional<GeographyIndex> index = geographyIndexProvider.current();
+        if (index.isPresent() && canUseIndex(filters, unpaged)) {
+            findInIndex(index.get(), filters, unpaged).forEach(sink);
+            return;
+        }
+        repository.forEach(filters, sort, sink);
+    }
+
+    private boolean canUseIndex(Map<String, Object> filters, Pageable pageable) {
+        boolean filtersSupported = filters == null || INDEXED_FILTERS.containsAll(filters.keySet());
+        return filtersSupported && pageable.getSort().stream().allMatch(order -> INDEXED_SORTS.contains(order.getProperty()));
+    }
+
+    private Page<Municipality> findInIndex(GeographyIndex index, Map<String, Object> filters, Pageable pageable) {
+        Map<String, Object> criteria = filters == null ? Map.of() : filters;
+        List<Municipality> matches = new ArrayList<>(index.filter(
+                (Boolean) criteria.get("enabled"),
+                (Long) criteria.get("departmentId"),
+                (String) criteria.get("search"),
+                (String) criteria.get("code"),
+                (String) criteria.get("name")));
+        if (pageable.getSort().isSorted()) {
+            matches.sort(comparatorFor(pageable.getSort()));
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(List.copyOf(matches.subList(from, to)), pageable, matches.size());
+    }
+
+    private static Comparator<Municipality> comparatorFor(Sort sort) {
+        Comparator<Municipality> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Municipality> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(Municipality::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "code" -> Comparator.comparing(Municipality::getCode, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "name" -> Comparator.comparing(m -> TextSearchIndex.normalize(m.getName()));
+                default -> Comparator.comparing(Municipality::getEnabled, Comparator.nullsLast(Comparator.naturalOrder()));
+            };
+            comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+        }
+        return comparator;
+    }
 }
@@ -1,5 +1,8 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.application.port.geography.ManageDepartmentUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
@@ -21,6 +24,8 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
 
     private final DepartmentRepository repository;
     private final GeographyDomainService domainService;
+    private final ReferenceDataCache referenceDataCache;
+    private final GeographyIndexProvider geographyIndexProvider;
 
     @Override
     public Department create(Department department) {
@@ -29,6 +34,7 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
         domainService.prepareForDepartmentCreation(department);
         department.setCreatedAt(LocalDateTime.now());
 
+        geographyChanged();
         Department saved = repository.save(department);
         log.info("Department created successfully with ID: {} and UUID: {}", saved.getId(), saved.getUuid());
         return saved;
@@ -45,6 +51,7 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
         domainService.prepareForDepartmentUpdate(existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
+        geographyChanged();
         return repository.save(existing);
     }
 
@@ -54,6 +61,7 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
                 .orElseThrow(() -> new DepartmentNotFoundException(uuid));
 
         domainService.ensureDepartmentCanBeDeleted(existing);
+        geographyChanged();
         repository.deleteByUuid(uuid);
     }
 
@@ -64,6 +72,7 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
 
         existing.activate();
         existing.setUpdatedAt(LocalDateTime.now());
+        geographyChanged();
         repository.save(existing);
     }
 
@@ -74,6 +83,13 @@ public class ManageDepartmentUseCaseImpl implements ManageDepartmentUseCase {
 
         existing.deactivate();
         existing.setUpdatedAt(LocalDateTime.now());
+        geographyChanged();
         repository.save(existing);
     }
+
+    private void geographyChanged() {
+        referenceDataCache.invalidate(ReferenceCatalog.DEPARTMENTS);
+        referenceDataCache.invalidate(ReferenceCatalog.MUNICIPALITIES);
+        geographyIndexProvider.refresh();
+    }
 }
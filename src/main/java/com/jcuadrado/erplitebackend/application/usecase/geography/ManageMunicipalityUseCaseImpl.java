@@ -1,12 +1,17 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.application.port.geography.ManageMunicipalityUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
+import com.jcuadrado.erplitebackend.domain.exception.geography.GeographyConstraintException;
 import com.jcuadrado.erplitebackend.domain.exception.geography.MunicipalityNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
+import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import com.jcuadrado.erplitebackend.domain.service.geography.GeographyDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +30,9 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
     private final MunicipalityRepository municipalityRepository;
     private final DepartmentRepository departmentRepository;
     private final GeographyDomainService domainService;
+    private final ReferenceDataCache referenceDataCache;
+    private final GeographyIndexProvider geographyIndexProvider;
+    private final WarehouseRepository warehouseRepository;
 
     @Override
     public Municipality create(Municipality municipality) {
@@ -38,6 +46,7 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
         domainService.prepareForMunicipalityCreation(municipality);
         municipality.setCreatedAt(LocalDateTime.now());
 
+        geographyChanged();
         Municipality saved = municipalityRepository.save(municipality);
         log.info("Municipality created successfully with ID: {} and UUID: {}", saved.getId(), saved.getUuid());
         return saved;
@@ -54,6 +63,7 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
         domainService.prepareForMunicipalityUpdate(existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
+        geographyChanged();
         return municipalityRepository.save(existing);
     }
 
@@ -62,6 +72,10 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
         municipalityRepository.findByUuid(uuid)
                 .orElseThrow(() -> new MunicipalityNotFoundException(uuid));
 
+        if (warehouseRepository.existsByMunicipalityUuid(uuid)) {
+            throw new GeographyConstraintException("Cannot delete municipality with associated warehouses");
+        }
+        geographyChanged();
         municipalityRepository.deleteByUuid(uuid);
     }
 
@@ -72,6 +86,7 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
 
         existing.activate();
         existing.setUpdatedAt(LocalDateTime.now());
+        geographyChanged();
         municipalityRepository.save(existing);
     }
 
@@ -82,6 +97,12 @@ public class ManageMunicipalityUseCaseImpl implements ManageMunicipalityUseCase
 
         existing.deactivate();
         existing.setUpdatedAt(LocalDateTime.now());
+        geographyChanged();
         municipalityRepository.save(existing);
     }
+
+    private void geographyChanged() {
+        referenceDataCache.invalidate(ReferenceCatalog.MUNICIPALITIES);
+        geographyIndexProvider.refresh();
+    }
 }
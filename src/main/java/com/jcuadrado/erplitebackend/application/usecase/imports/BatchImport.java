@@ -0,0 +1,110 @@
+package com.jcuadrado.erplitebackend.application.usecase.imports;
+
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Validates a whole import batch in memory before anything is written.
+ * <p>
+ * Each row goes through {@code prepare}, which validates and normalizes it the way a single create would and
+ * throws on invalid data. Unique keys are then checked, ignoring case and accents as the database collation
+ * (utf8mb4_unicode_ci) does, against the values loaded once from the database and against the rows before it, so a
+ * batch costs one query per key instead of one per row. Rows are only written when none of them failed.
+ *
+ * @param <S> what the caller submits for each row
+ * @param <T> what gets written
+ */
+public final class BatchImport<S, T> {
+
+    private final Function<S, T> prepare;
+    private final List<UniqueKey<T>> uniqueKeys = new ArrayList<>();
+
+    private BatchImport(Function<S, T> prepare) {
+        this.prepare = prepare;
+    }
+
+    public static <S, T> BatchImport<S, T> of(Function<S, T> prepare) {
+        return new BatchImport<>(prepare);
+    }
+
+    /**
+     * Rejects rows whose {@code key} is already taken. Rows with a {@code null} key are not checked.
+     *
+     * @param duplicate builds the same exception a single create throws, for its message
+     */
+    public BatchImport<S, T> unique(Function<T, String> key, Collection<String> existing,
+                                    Function<String, ? extends RuntimeException> duplicate) {
+        Set<String> taken = new HashSet<>();
+        existing.forEach(value -> taken.add(TextSearchIndex.normalize(value)));
+        uniqueKeys.add(new UniqueKey<>(key, taken, duplicate));
+        return this;
+    }
+
+    public ImportReport run(List<S> rows, Consumer<List<T>> writer) {
+        List<T> prepared = new ArrayList<>(rows.size());
+        List<ImportRowError> errors = new ArrayList<>();
+        List<Map<String, Integer>> seen = uniqueKeys.stream().<Map<String, Integer>>map(k -> new HashMap<>()).toList();
+
+        for (int i = 0; i < rows.size(); i++) {
+            int row = i + 1;
+            T item;
+            try {
+                item = prepare.apply(rows.get(i));
+            } catch (RuntimeException e) {
+                errors.add(new ImportRowError(row, e.getMessage()));
+                continue;
+            }
+            String conflict = null;
+            for (int k = 0; k < uniqueKeys.size() && conflict == null; k++) {
+                conflict = conflict(uniqueKeys.get(k), seen.get(k), item, row);
+            }
+            if (conflict != null) {
+                errors.add(new ImportRowError(row, conflict));
+            } else {
+                prepared.add(item);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return ImportReport.rejected(rows.size(), errors);
+        }
+        if (!prepared.isEmpty()) {
+            writer.accept(prepared);
+        }
+        return ImportReport.imported(rows.size());
+    }
+
+    /**
+     * @return why {@code item} cannot take its key, or {@code null} when the key is free
+     */
+    private static <T> String conflict(UniqueKey<T> uniqueKey, Map<String, Integer> seen, T item, int row) {
+        String value = uniqueKey.key().apply(item);
+        if (value == null) {
+            return null;
+        }
+        String normalized = TextSearchIndex.normalize(value);
+        if (uniqueKey.existing().contains(normalized)) {
+            return uniqueKey.duplicate().apply(value).getMessage();
+        }
+        Integer firstRow = seen.putIfAbsent(normalized, row);
+        if (firstRow != null) {
+            return uniqueKey.duplicate().apply(value).getMessage() + " (repetido de la fila " + firstRow + ")";
+        }
+        return null;
+    }
+
+    private record UniqueKey<T>(Function<T, String> key, Set<String> existing,
+                                Function<String, ? extends RuntimeException> duplicate) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.paymentmethod.ComparePaymentMethodsUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
@@ -8,11 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -22,6 +26,7 @@ import java.util.UUID;
 public class ComparePaymentMethodsUseCaseImpl implements ComparePaymentMethodsUseCase {
 
     private final PaymentMethodRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public PaymentMethod getByUuid(UUID uuid) {
@@ -40,7 +45,15 @@ public class ComparePaymentMethodsUseCaseImpl implements ComparePaymentMethodsUs
     @Override
     public List<PaymentMethod> getAllActive() {
         log.debug("Finding all active payment methods");
-        return repository.findAllActive();
+        return referenceDataCache.getActive(ReferenceCatalog.PAYMENT_METHODS, repository::findAllActive);
+    }
+
+    @Override
+    public List<PaymentMethod> search(String query, int limit) {
+        log.debug("Searching active payment methods for: {}", query);
+        return referenceDataCache.getSearchIndex(ReferenceCatalog.PAYMENT_METHODS, repository::findAllActive,
+                paymentMethod -> List.of(Objects.toString(paymentMethod.getCode(), ""),
+                        Objects.toString(paymentMethod.getName(), ""))).search(query, limit);
     }
 
     @Override
@@ -49,6 +62,12 @@ public class ComparePaymentMethodsUseCaseImpl implements ComparePaymentMethodsUs
         return repository.findAll(filters, pageable);
     }
 
+    @Override
+    public Slice<PaymentMethod> findSlice(Map<String, Object> filters, Pageable pageable) {
+        log.debug("Finding payment methods slice with filters: {} and pageable: {}", filters, pageable);
+        return repository.findSlice(filters, pageable);
+    }
+
     @Override
     public List<PaymentMethod> searchByName(String name) {
         log.debug("Searching payment methods by name containing: {}", name);
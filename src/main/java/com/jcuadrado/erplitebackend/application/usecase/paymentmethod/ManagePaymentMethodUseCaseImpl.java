@@ -1,6 +1,11 @@
 package com.jcuadrado.erplitebackend.application.usecase.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.paymentmethod.ManagePaymentMethodUseCase;
+import com.jcuadrado.erplitebackend.application.usecase.imports.BatchImport;
+import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.DuplicatePaymentMethodCodeException;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodConstraintException;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
@@ -12,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -24,6 +30,7 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
 
     private final PaymentMethodRepository repository;
     private final PaymentMethodDomainService domainService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public PaymentMethod create(PaymentMethod paymentMethod) {
@@ -34,12 +41,33 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
         paymentMethod.setCreatedAt(LocalDateTime.now());
         paymentMethod.setCreatedBy(SYSTEM_USER_ID);
 
+        referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
         PaymentMethod saved = repository.save(paymentMethod);
 
         log.info("Payment method created successfully with ID: {} and UUID: {}", saved.getId(), saved.getUuid());
         return saved;
     }
 
+    @Override
+    public ImportReport importAll(List<PaymentMethod> paymentMethods) {
+        log.debug("Importing {} payment methods", paymentMethods.size());
+
+        ImportReport report = BatchImport.<PaymentMethod, PaymentMethod>of(paymentMethod -> {
+                    domainService.prepareForImport(paymentMethod);
+                    paymentMethod.setCreatedAt(LocalDateTime.now());
+                    paymentMethod.setCreatedBy(SYSTEM_USER_ID);
+                    return paymentMethod;
+                })
+                .unique(PaymentMethod::getCode, repository.findAllCodes(), DuplicatePaymentMethodCodeException::new)
+                .run(paymentMethods, repository::insertAll);
+
+        if (report.imported() > 0) {
+            referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
+            log.info("Imported {} payment methods", report.imported());
+        }
+        return report;
+    }
+
     @Override
     public PaymentMethod update(UUID uuid, PaymentMethod paymentMethod) {
         log.debug("Updating payment method with UUID: {}", uuid);
@@ -58,6 +86,7 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
         existing.setUpdatedAt(LocalDateTime.now());
         existing.setUpdatedBy(SYSTEM_USER_ID);
 
+        referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
         PaymentMethod updated = repository.save(existing);
 
         log.info("Payment method updated successfully with UUID: {}", uuid);
@@ -81,6 +110,7 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
         existing.deactivate(SYSTEM_USER_ID);
         existing.setUpdatedBy(SYSTEM_USER_ID);
         existing.setUpdatedAt(LocalDateTime.now());
+        referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
         repository.save(existing);
 
         log.info("Payment method soft-deleted successfully with UUID: {}", uuid);
@@ -97,6 +127,7 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
         existing.setUpdatedAt(LocalDateTime.now());
         existing.setUpdatedBy(SYSTEM_USER_ID);
 
+        referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
         PaymentMethod activated = repository.save(existing);
 
         log.info("Payment method activated successfully with UUID: {}", uuid);
@@ -121,6 +152,7 @@ public class ManagePaymentMethodUseCaseImpl implements ManagePaymentMethodUseCas
         existing.setUpdatedAt(LocalDateTime.now());
         existing.setUpdatedBy(SYSTEM_USER_ID);
 
+        referenceDataCache.invalidate(ReferenceCatalog.PAYMENT_METHODS);
         PaymentMethod deactivated = repository.save(existing);
 
         log.info("Payment method deactivated successfully with UUID: {}", uuid);
@@ -7,9 +7,13 @@ import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class AuditLogUseCaseImpl implements AuditLogUseCase {
@@ -21,8 +25,18 @@ public class AuditLogUseCaseImpl implements AuditLogUseCase {
         return auditLogRepository.findByFilter(filter, pageable);
     }
 
+    @Override
+    public Window<AuditLog> scrollAuditLogs(AuditLogFilter filter, Sort sort, ScrollPosition position, int limit) {
+        return auditLogRepository.scrollByFilter(filter, sort, position, limit);
+    }
+
     @Override
     public Optional<AuditLog> getById(UUID id) {
         return auditLogRepository.findById(id);
     }
+
+    @Override
+    public void exportAuditLogs(AuditLogFilter filter, Sort sort, Consumer<AuditLog> sink) {
+        auditLogRepository.forEachByFilter(filter, sort, sink);
+    }
 }
@@ -6,6 +6,7 @@ import com.jcuadrado.erplitebackend.application.command.security.LogoutCommand;
 import com.jcuadrado.erplitebackend.application.command.security.RefreshTokenCommand;
 import com.jcuadrado.erplitebackend.application.port.security.AuthUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.domain.exception.security.AccountLockedException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
@@ -21,8 +22,10 @@ import com.jcuadrado.erplitebackend.domain.port.security.RefreshTokenRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.RoleRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -39,6 +42,9 @@ public class AuthUseCaseImpl implements AuthUseCase {
     private final AuditLogRepository auditLogRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final PermissionVersionService permissionVersionService;
+    // Only the writes of each flow run in a transaction: lookups and BCrypt must not hold a pooled connection
+    private final TransactionOperations transactions;
 
     @Override
     public LoginResponse login(LoginCommand command) {
@@ -62,16 +68,22 @@ public class AuthUseCaseImpl implements AuthUseCase {
 
         if (!passwordEncoder.matches(command.password(), user.getPasswordHash())) {
             user.incrementFailedAttempts();
-            userRepository.save(user);
-
-            auditLogRepository.save(AuditLog.create(
-                    user.getId(), user.getUsername(), "User", user.getId(),
-                    AuditAction.LOGIN_FAILED, command.ipAddress(), command.userAgent()));
+            transactions.executeWithoutResult(status -> {
+                userRepository.save(user);
 
-            if (user.isLocked()) {
                 auditLogRepository.save(AuditLog.create(
                         user.getId(), user.getUsername(), "User", user.getId(),
-                        AuditAction.ACCOUNT_LOCKED, command.ipAddress(), command.userAgent()));
+                        AuditAction.LOGIN_FAILED, command.ipAddress(), command.userAgent()));
+
+                if (user.isLocked()) {
+                    permissionVersionService.incrementForUsers(List.of(user.getId()));
+                    auditLogRepository.save(AuditLog.create(
+                            user.getId(), user.getUsername(), "User", user.getId(),
+                            AuditAction.ACCOUNT_LOCKED, command.ipAddress(), command.userAgent()));
+                }
+            });
+
+            if (user.isLocked()) {
                 throw new AccountLockedException(
                         "Cuenta bloqueada por múltiples intentos fallidos. Contacte al administrador");
             }
@@ -80,26 +92,28 @@ public class AuthUseCaseImpl implements AuthUseCase {
         }
 
         user.recordSuccessfulLogin();
-        userRepository.save(user);
 
+        long permissionsVersion = permissionVersionService.currentVersion();
         List<String> roles = buildRoleNames(user.getId());
         List<String> permissions = buildPermissionStrings(user.getId());
 
-        String accessToken = tokenService.generateAccessToken(user, roles, permissions);
+        String accessToken = tokenService.generateAccessToken(user, roles, permissions, permissionsVersion);
         String refreshTokenValue = UUID.randomUUID().toString();
-        RefreshToken refreshToken = RefreshToken.create(user.getId(), refreshTokenValue, REFRESH_TOKEN_DAYS);
-        refreshTokenRepository.save(refreshToken);
+        transactions.executeWithoutResult(status -> {
+            userRepository.save(user);
+            issueRefreshToken(user.getId(), refreshTokenValue);
 
-        auditLogRepository.save(AuditLog.create(
-                user.getId(), user.getUsername(), "User", user.getId(),
-                AuditAction.LOGIN, command.ipAddress(), command.userAgent()));
+            auditLogRepository.save(AuditLog.create(
+                    user.getId(), user.getUsername(), "User", user.getId(),
+                    AuditAction.LOGIN, command.ipAddress(), command.userAgent()));
+        });
 
         return new LoginResponse(accessToken, refreshTokenValue, ACCESS_TOKEN_EXPIRES_IN);
     }
 
     @Override
     public LoginResponse refreshToken(RefreshTokenCommand command) {
-        RefreshToken storedToken = refreshTokenRepository.findByToken(command.refreshToken())
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(command.refreshToken()))
                 .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido o revocado"));
 
         if (!storedToken.isValid()) {
@@ -107,38 +121,51 @@ public class AuthUseCaseImpl implements AuthUseCase {
         }
 
         storedToken.revoke();
-        refreshTokenRepository.save(storedToken);
 
-        User user = userRepository.findById(storedToken.getUserId())
-                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido o revocado"));
+        User user = userRepository.findById(storedToken.getUserId()).orElse(null);
+        if (user == null) {
+            refreshTokenRepository.save(storedToken);
+            throw new InvalidRefreshTokenException("Refresh token inválido o revocado");
+        }
 
+        long permissionsVersion = permissionVersionService.currentVersion();
         List<String> roles = buildRoleNames(user.getId());
         List<String> permissions = buildPermissionStrings(user.getId());
 
-        String newAccessToken = tokenService.generateAccessToken(user, roles, permissions);
+        String newAccessToken = tokenService.generateAccessToken(user, roles, permissions, permissionsVersion);
         String newRefreshTokenValue = UUID.randomUUID().toString();
-        RefreshToken newRefreshToken = RefreshToken.create(user.getId(), newRefreshTokenValue, REFRESH_TOKEN_DAYS);
-        refreshTokenRepository.save(newRefreshToken);
+        transactions.executeWithoutResult(status -> {
+            refreshTokenRepository.save(storedToken);
+            issueRefreshToken(user.getId(), newRefreshTokenValue);
+        });
 
         return new LoginResponse(newAccessToken, newRefreshTokenValue, ACCESS_TOKEN_EXPIRES_IN);
     }
 
     @Override
     public void logout(LogoutCommand command) {
-        RefreshToken storedToken = refreshTokenRepository.findByToken(command.refreshToken())
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(command.refreshToken()))
                 .orElse(null);
 
         if (storedToken != null) {
             storedToken.revoke();
-            refreshTokenRepository.save(storedToken);
+            Optional<User> user = userRepository.findById(storedToken.getUserId());
 
-            userRepository.findById(storedToken.getUserId()).ifPresent(user ->
-                    auditLogRepository.save(AuditLog.create(
-                            user.getId(), user.getUsername(), "User", user.getId(),
-                            AuditAction.LOGOUT, null, null)));
+            transactions.executeWithoutResult(status -> {
+                refreshTokenRepository.save(storedToken);
+
+                user.ifPresent(u -> auditLogRepository.save(AuditLog.create(
+                        u.getId(), u.getUsername(), "User", u.getId(),
+                        AuditAction.LOGOUT, null, null)));
+            });
         }
     }
 
+    private void issueRefreshToken(UUID userId, String rawToken) {
+        RefreshToken refreshToken = RefreshToken.create(userId, rawToken, REFRESH_TOKEN_DAYS);
+        refreshTokenRepository.insert(refreshToken);
+    }
+
     private List<String> buildRoleNames(UUID userId) {
         return roleRepository.findByUserId(userId).stream()
                 .map(Role::getName)
@@ -7,6 +7,9 @@ import com.jcuadrado.erplitebackend.domain.port.security.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.UUID;
 
@@ -25,4 +28,9 @@ public class CompareUserUseCaseImpl implements CompareUserUseCase {
     public Page<User> list(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
+
+    @Override
+    public Window<User> scroll(Sort sort, ScrollPosition position, int limit) {
+        return userRepository.scrollAll(sort, position, limit);
+    }
 }
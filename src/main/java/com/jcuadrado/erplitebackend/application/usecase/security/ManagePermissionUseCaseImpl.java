@@ -3,14 +3,16 @@ package com.jcuadrado.erplitebackend.application.usecase.security;
 import com.jcuadrado.erplitebackend.application.command.security.CreatePermissionCommand;
 import com.jcuadrado.erplitebackend.application.port.security.ConditionEvaluator;
 import com.jcuadrado.erplitebackend.application.port.security.ManagePermissionUseCase;
-import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
-import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionDenialRecorder;
 import com.jcuadrado.erplitebackend.domain.model.security.Permission;
 import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
-import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionIndex;
 import com.jcuadrado.erplitebackend.domain.port.security.PermissionRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -19,12 +21,14 @@ import java.util.UUID;
 public class ManagePermissionUseCaseImpl implements ManagePermissionUseCase {
 
     private final PermissionRepository permissionRepository;
-    private final AuditLogRepository auditLogRepository;
     private final ConditionEvaluator conditionEvaluator;
+    private final PermissionCache permissionCache;
+    private final PermissionDenialRecorder permissionDenialRecorder;
 
     @Override
     public Permission createPermission(CreatePermissionCommand command) {
         PermissionAction action = PermissionAction.valueOf(command.action());
+        conditionEvaluator.validate(command.condition());
         Permission permission = Permission.create(command.entity(), action, command.condition(), command.description());
         Permission saved = permissionRepository.save(permission);
 
@@ -38,24 +42,56 @@ public class ManagePermissionUseCaseImpl implements ManagePermissionUseCase {
 
     @Override
     public boolean checkPermission(UUID userId, String entity, String action, Map<String, Object> context) {
-        List<Permission> userPermissions = permissionRepository.findByUserId(userId);
+        PermissionIndex index = permissionCache.getIndex(userId, permissionRepository::findByUserId);
         PermissionAction requestedAction = PermissionAction.valueOf(action);
 
-        boolean hasPermission = userPermissions.stream()
-                .filter(p -> p.getEntity().equals(entity) && p.getAction() == requestedAction)
-                .anyMatch(p -> {
-                    if (!p.hasCondition()) {
-                        return true;
-                    }
-                    return conditionEvaluator.evaluate(p.getCondition(), context);
-                });
+        boolean hasPermission = index.grants(entity, requestedAction)
+                || matchesCondition(index, entity, requestedAction, context);
 
         if (!hasPermission) {
-            auditLogRepository.save(AuditLog.create(
-                    userId, null, entity, null,
-                    AuditAction.PERMISSION_DENIED, null, null));
+            permissionDenialRecorder.recordDenial(userId, entity, requestedAction);
         }
 
         return hasPermission;
     }
+
+    @Override
+    public List<Boolean> checkPermissions(UUID userId, String entity, String action,
+                                          List<Map<String, Object>> contexts) {
+        if (contexts.isEmpty()) {
+            return List.of();
+        }
+        PermissionIndex index = permissionCache.getIndex(userId, permissionRepository::findByUserId);
+        PermissionAction requestedAction = PermissionAction.valueOf(action);
+
+        if (index.grants(entity, requestedAction)) {
+            return Collections.nCopies(contexts.size(), Boolean.TRUE);
+        }
+        if (!index.hasConditional(entity, requestedAction)) {
+            permissionDenialRecorder.recordDenial(userId, entity, requestedAction);
+            return Collections.nCopies(contexts.size(), Boolean.FALSE);
+        }
+
+        List<Boolean> decisions = new ArrayList<>(contexts.size());
+        boolean anyDenied = false;
+        for (Map<String, Object> context : contexts) {
+            boolean allowed = matchesCondition(index, entity, requestedAction, context);
+            anyDenied |= !allowed;
+            decisions.add(allowed);
+        }
+        if (anyDenied) {
+            permissionDenialRecorder.recordDenial(userId, entity, requestedAction);
+        }
+        return decisions;
+    }
+
+    private boolean matchesCondition(PermissionIndex index, String entity, PermissionAction action,
+                                     Map<String, Object> context) {
+        for (Permission permission : index.getConditional(entity)) {
+            if (permission.getAction() == action && conditionEvaluator.evaluate(permission.getCondition(), context)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
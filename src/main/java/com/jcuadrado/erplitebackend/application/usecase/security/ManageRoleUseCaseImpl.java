@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.application.usecase.security;
 import com.jcuadrado.erplitebackend.application.command.security.CreateRoleCommand;
 import com.jcuadrado.erplitebackend.application.command.security.UpdateRoleCommand;
 import com.jcuadrado.erplitebackend.application.port.security.ManageRoleUseCase;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleNotFoundException;
 import com.jcuadrado.erplitebackend.domain.exception.security.SecurityDomainException;
@@ -14,6 +15,7 @@ import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.PermissionRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.RoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,8 +26,10 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final AuditLogRepository auditLogRepository;
+    private final PermissionVersionService permissionVersionService;
 
     @Override
+    @Transactional
     public Role createRole(CreateRoleCommand command) {
         if (roleRepository.existsByName(command.name())) {
             throw new SecurityDomainException("Ya existe un rol con el nombre: " + command.name());
@@ -46,6 +50,7 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
     }
 
     @Override
+    @Transactional
     public Role updateRole(UUID id, UpdateRoleCommand command) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado: " + id));
@@ -56,6 +61,7 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
 
         role.update(command.name(), command.description());
         Role saved = roleRepository.save(role);
+        permissionVersionService.incrementForRole(id);
 
         auditLogRepository.save(AuditLog.create(
                 null, null, "Role", id,
@@ -65,6 +71,7 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
     }
 
     @Override
+    @Transactional
     public void deleteRole(UUID id) {
         roleRepository.findById(id)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado: " + id));
@@ -75,12 +82,15 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
                     "No se puede eliminar el rol porque tiene " + usersCount + " usuarios asignados");
         }
 
+        permissionVersionService.incrementForRole(id);
+
         auditLogRepository.save(AuditLog.create(
                 null, null, "Role", id,
                 AuditAction.ROLE_DELETED, null, null));
     }
 
     @Override
+    @Transactional
     public void assignPermissions(UUID roleId, List<UUID> permissionIds) {
         roleRepository.findById(roleId)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado: " + roleId));
@@ -90,5 +100,6 @@ public class ManageRoleUseCaseImpl implements ManageRoleUseCase {
             throw new SecurityDomainException("Uno o más permisos no encontrados");
         }
 
+        permissionVersionService.incrementForRole(roleId);
     }
 }
@@ -5,6 +5,7 @@ import com.jcuadrado.erplitebackend.application.command.security.CreateUserComma
 import com.jcuadrado.erplitebackend.application.command.security.UpdateUserCommand;
 import com.jcuadrado.erplitebackend.application.port.security.ManageUserUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateEmailException;
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateUsernameException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
@@ -19,6 +20,7 @@ import com.jcuadrado.erplitebackend.domain.port.security.RoleRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.UserRepository;
 import com.jcuadrado.erplitebackend.domain.service.security.UserDomainService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,6 +33,7 @@ public class ManageUserUseCaseImpl implements ManageUserUseCase {
     private final AuditLogRepository auditLogRepository;
     private final UserDomainService userDomainService;
     private final PasswordEncoder passwordEncoder;
+    private final PermissionVersionService permissionVersionService;
 
     @Override
     public User createUser(CreateUserCommand command) {
@@ -88,12 +91,14 @@ public class ManageUserUseCaseImpl implements ManageUserUseCase {
     }
 
     @Override
+    @Transactional
     public void deleteUser(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado: " + id));
 
         user.softDelete();
         userRepository.save(user);
+        permissionVersionService.incrementForUsers(List.of(id));
 
         auditLogRepository.save(AuditLog.create(
                 null, null, "User", id,
@@ -132,10 +137,13 @@ public class ManageUserUseCaseImpl implements ManageUserUseCase {
     }
 
     @Override
+    @Transactional
     public void assignRoles(UUID userId, List<UUID> roleIds) {
         List<Role> roles = roleRepository.findByIds(roleIds);
         if (roles.size() != roleIds.size()) {
             throw new RoleNotFoundException("Uno o más roles no encontrados");
         }
+
+        permissionVersionService.incrementForUsers(List.of(userId));
     }
 }
@@ -0,0 +1,168 @@
+package com.jcuadrado.erplitebackend.application.usecase.security;
+
+import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
+import com.jcuadrado.erplitebackend.application.command.security.RetentionPolicy;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogArchiver;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager.Partition;
+import com.jcuadrado.erplitebackend.application.port.security.RetentionUseCase;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import com.jcuadrado.erplitebackend.domain.port.security.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Deletes in small batches with a pause in between, so each statement holds locks only briefly
+ * and retention can run alongside regular traffic. Partitioned audit logs are removed a whole quarter at a time
+ * by dropping its partition.
+ */
+@RequiredArgsConstructor
+public class RetentionUseCaseImpl implements RetentionUseCase {
+
+    private static final Sort ARCHIVE_ORDER = Sort.by("timestamp", "id");
+    private static final int MONTHS_PER_QUARTER = 3;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogArchiver auditLogArchiver;
+    private final AuditLogPartitionManager partitionManager;
+    private final RetentionPolicy policy;
+
+    @Override
+    public int purgeRefreshTokens() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(policy.refreshTokenGracePeriod());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredOrRevokedBefore(cutoff, policy.batchSize());
+            total += deleted;
+        } while (deleted == policy.batchSize() && pause());
+        return total;
+    }
+
+    /**
+     * Audit logs are deleted only after they have been written to the archive, so a failure leaves them in the
+     * table for the next run. A partition is dropped once its whole quarter is older than the maximum age.
+     */
+    @Override
+    public int archiveAuditLogs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(policy.auditLogMaxAge());
+        List<Partition> partitions = partitionManager.findAll();
+        return partitions.isEmpty() ? archiveAndDelete(cutoff) : archiveAndDropPartitions(partitions, cutoff);
+    }
+
+    @Override
+    public int prepareAuditLogPartitions() {
+        List<Partition> partitions = partitionManager.findAll();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime currentQuarter = quarterStart(LocalDate.now());
+        LocalDateTime required = currentQuarter.plusMonths(
+                (long) MONTHS_PER_QUARTER * (policy.auditLogPartitionsAhead() + 1));
+        LocalDateTime last = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .reduce((first, second) -> second)
+                .orElse(currentQuarter);
+        List<LocalDateTime> upperBounds = new ArrayList<>();
+        for (LocalDateTime bound = last.plusMonths(MONTHS_PER_QUARTER); !bound.isAfter(required);
+             bound = bound.plusMonths(MONTHS_PER_QUARTER)) {
+            upperBounds.add(bound);
+        }
+        if (!upperBounds.isEmpty()) {
+            partitionManager.addPartitions(upperBounds);
+        }
+        return upperBounds.size();
+    }
+
+    private int archiveAndDropPartitions(List<Partition> partitions, LocalDateTime cutoff) {
+        int total = 0;
+        AuditLogArchiver.Session archive = null;
+        LocalDateTime lowerBound = null;
+        try {
+            for (Partition partition : partitions) {
+                if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                    break;
+                }
+                if (archive == null) {
+                    archive = auditLogArchiver.open();
+                }
+                total += archivePartition(archive, lowerBound, partition.upperBound());
+                partitionManager.drop(partition);
+                lowerBound = partition.upperBound();
+            }
+        } finally {
+            if (archive != null) {
+                archive.close();
+            }
+        }
+        return total;
+    }
+
+    private int archivePartition(AuditLogArchiver.Session archive, LocalDateTime from, LocalDateTime until) {
+        // The filter's end date is inclusive and the partition bound is not
+        AuditLogFilter filter = new AuditLogFilter(null, null, null, from, until.minusNanos(1_000));
+        ScrollPosition position = ScrollPosition.keyset();
+        int total = 0;
+        Window<AuditLog> window;
+        do {
+            window = auditLogRepository.scrollByFilter(filter, ARCHIVE_ORDER, position, policy.batchSize());
+            if (window.isEmpty()) {
+                break;
+            }
+            archive.append(window.getContent());
+            total += window.size();
+            position = window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+        return total;
+    }
+
+    private int archiveAndDelete(LocalDateTime cutoff) {
+        List<AuditLog> batch = auditLogRepository.findOlderThan(cutoff, policy.batchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int total = 0;
+        try (AuditLogArchiver.Session archive = auditLogArchiver.open()) {
+            while (!batch.isEmpty()) {
+                archive.append(batch);
+                List<UUID> ids = batch.stream().map(AuditLog::getId).toList();
+                total += auditLogRepository.deleteOlderThan(ids, cutoff);
+                if (batch.size() < policy.batchSize() || !pause()) {
+                    break;
+                }
+                batch = auditLogRepository.findOlderThan(cutoff, policy.batchSize());
+            }
+        }
+        return total;
+    }
+
+    private static LocalDateTime quarterStart(LocalDate date) {
+        int firstMonth = (date.getMonthValue() - 1) / MONTHS_PER_QUARTER * MONTHS_PER_QUARTER + 1;
+        return LocalDate.of(date.getYear(), firstMonth, 1).atStartOfDay();
+    }
+
+    private boolean pause() {
+        if (policy.batchPause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(policy.batchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
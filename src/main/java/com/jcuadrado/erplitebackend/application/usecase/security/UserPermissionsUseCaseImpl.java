@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.application.usecase.security;
 
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
 import com.jcuadrado.erplitebackend.application.port.security.UserPermissionsUseCase;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import com.jcuadrado.erplitebackend.domain.port.security.PermissionRepository;
@@ -11,18 +12,21 @@ public class UserPermissionsUseCaseImpl implements UserPermissionsUseCase {
 
     private final UserRepository userRepository;
     private final PermissionRepository permissionRepository;
+    private final PermissionCache permissionCache;
 
     public UserPermissionsUseCaseImpl(UserRepository userRepository,
-                                      PermissionRepository permissionRepository) {
+                                      PermissionRepository permissionRepository,
+                                      PermissionCache permissionCache) {
         this.userRepository = userRepository;
         this.permissionRepository = permissionRepository;
+        this.permissionCache = permissionCache;
     }
 
     @Override
     public List<String> getPermissionStrings(String username) {
         return userRepository.findByUsername(username)
                 .map(User::getId)
-                .map(permissionRepository::findByUserId)
+                .map(userId -> permissionCache.getPermissions(userId, permissionRepository::findByUserId))
                 .orElse(List.of())
                 .stream()
                 .map(p -> p.getEntity() + ":" + p.getAction().name())
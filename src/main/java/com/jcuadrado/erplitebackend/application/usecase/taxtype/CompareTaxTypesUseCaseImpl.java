@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.taxtype;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.taxtype.CompareTaxTypesUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.TaxTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
@@ -8,11 +10,13 @@ import com.jcuadrado.erplitebackend.domain.port.taxtype.TaxTypeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class CompareTaxTypesUseCaseImpl implements CompareTaxTypesUseCase {
     
     private final TaxTypeRepository repository;
+    private final ReferenceDataCache referenceDataCache;
     
     @Override
     @Transactional(readOnly = true)
@@ -38,7 +43,15 @@ public class CompareTaxTypesUseCaseImpl implements CompareTaxTypesUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<TaxType> getAllActive() {
-        return repository.findByEnabled(true);
+        return referenceDataCache.getActive(ReferenceCatalog.TAX_TYPES, () -> repository.findByEnabled(true));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaxType> search(String query, int limit) {
+        return referenceDataCache.getSearchIndex(ReferenceCatalog.TAX_TYPES, () -> repository.findByEnabled(true),
+                taxType -> List.of(Objects.toString(taxType.getCode(), ""),
+                        Objects.toString(taxType.getName(), ""))).search(query, limit);
     }
     
     @Override
@@ -46,4 +59,10 @@ public class CompareTaxTypesUseCaseImpl implements CompareTaxTypesUseCase {
     public Page<TaxType> findAll(Map<String, Object> filters, Pageable pageable) {
         return repository.findAll(filters, pageable);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaxType> findSlice(Map<String, Object> filters, Pageable pageable) {
+        return repository.findSlice(filters, pageable);
+    }
 }
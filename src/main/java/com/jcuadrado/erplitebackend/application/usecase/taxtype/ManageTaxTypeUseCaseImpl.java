@@ -1,10 +1,16 @@
 package com.jcuadrado.erplitebackend.application.usecase.taxtype;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.taxtype.ManageTaxTypeUseCase;
+import com.jcuadrado.erplitebackend.application.usecase.imports.BatchImport;
+import com.jcuadrado.erplitebackend.domain.exception.taxtype.InvalidTaxTypeDataException;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.TaxTypeConstraintException;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.TaxTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 import com.jcuadrado.erplitebackend.domain.port.taxtype.TaxTypeRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import com.jcuadrado.erplitebackend.domain.service.taxtype.TaxTypeDomainService;
 import com.jcuadrado.erplitebackend.domain.service.taxtype.TaxTypeValidationService;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -21,18 +28,49 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
     private final TaxTypeRepository repository;
     private final TaxTypeDomainService domainService;
     private final TaxTypeValidationService validationService;
+    private final ReferenceDataCache referenceDataCache;
     
     @Override
     @Transactional
     public TaxType create(TaxType taxType) {
+        prepareForCreation(taxType);
+
+        validationService.ensureCodeIsUnique(taxType.getCode(), null);
+
+        referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
+        return repository.save(taxType);
+    }
+
+    @Override
+    @Transactional
+    public ImportReport importAll(List<TaxType> taxTypes) {
+        ImportReport report = BatchImport.<TaxType, TaxType>of(taxType -> {
+                    prepareForCreation(taxType);
+                    // The batch insert skips the entity and its @PrePersist defaults
+                    if (taxType.getApplicationType() == null) {
+                        throw new InvalidTaxTypeDataException("Tax application type cannot be null");
+                    }
+                    if (taxType.getIsIncluded() == null) {
+                        taxType.setIsIncluded(false);
+                    }
+                    return taxType;
+                })
+                .unique(TaxType::getCode, repository.findAllCodes(), TaxTypeValidationService::duplicateCode)
+                .run(taxTypes, repository::insertAll);
+
+        if (report.imported() > 0) {
+            referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
+        }
+        return report;
+    }
+
+    private void prepareForCreation(TaxType taxType) {
         domainService.validateCode(taxType.getCode());
         domainService.validateName(taxType.getName());
         domainService.validatePercentage(taxType.getPercentage());
 
-        validationService.ensureCodeIsUnique(taxType.getCode(), null);
-
         if (taxType.getUuid() == null) {
-            taxType.setUuid(UUID.randomUUID());
+            taxType.setUuid(Identifiers.next());
         }
 
         if (taxType.getEnabled() == null) {
@@ -40,8 +78,6 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
         }
 
         taxType.setCreatedAt(LocalDateTime.now());
-
-        return repository.save(taxType);
     }
     
     @Override
@@ -78,6 +114,7 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
 
         existing.setUpdatedAt(LocalDateTime.now());
 
+        referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
         return repository.save(existing);
     }
     
@@ -89,6 +126,7 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
         
         taxType.activate();
         taxType.setUpdatedAt(LocalDateTime.now());
+        referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
         repository.save(taxType);
     }
     
@@ -102,6 +140,7 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
         
         taxType.deactivate(userId);
         taxType.setUpdatedAt(LocalDateTime.now());
+        referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
         repository.save(taxType);
     }
     
@@ -120,6 +159,7 @@ public class ManageTaxTypeUseCaseImpl implements ManageTaxTypeUseCase {
             );
         }
         
+        referenceDataCache.invalidate(ReferenceCatalog.TAX_TYPES);
         repository.delete(taxType);
     }
 }
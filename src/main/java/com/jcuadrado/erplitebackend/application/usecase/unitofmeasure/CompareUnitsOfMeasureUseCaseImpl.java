@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.unitofmeasure.CompareUnitsOfMeasureUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.UnitOfMeasureNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
@@ -8,11 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -22,6 +26,7 @@ import java.util.UUID;
 public class CompareUnitsOfMeasureUseCaseImpl implements CompareUnitsOfMeasureUseCase {
 
     private final UnitOfMeasureRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public UnitOfMeasure getByUuid(UUID uuid) {
@@ -31,7 +36,14 @@ public class CompareUnitsOfMeasureUseCaseImpl implements CompareUnitsOfMeasureUs
 
     @Override
     public List<UnitOfMeasure> getAllActive() {
-        return repository.findByEnabled(true);
+        return referenceDataCache.getActive(ReferenceCatalog.UNITS_OF_MEASURE, () -> repository.findByEnabled(true));
+    }
+
+    @Override
+    public List<UnitOfMeasure> search(String query, int limit) {
+        return referenceDataCache.getSearchIndex(ReferenceCatalog.UNITS_OF_MEASURE, () -> repository.findByEnabled(true),
+                unit -> List.of(Objects.toString(unit.getName(), ""),
+                        Objects.toString(unit.getAbbreviation(), ""))).search(query, limit);
     }
 
     @Override
@@ -39,6 +51,11 @@ public class CompareUnitsOfMeasureUseCaseImpl implements CompareUnitsOfMeasureUs
         return repository.findAll(filters, pageable);
     }
 
+    @Override
+    public Slice<UnitOfMeasure> findSlice(Map<String, Object> filters, Pageable pageable) {
+        return repository.findSlice(filters, pageable);
+    }
+
     @Override
     public List<UnitOfMeasure> searchByName(String name, Boolean enabled) {
         return repository.findByNameContaining(name, enabled);
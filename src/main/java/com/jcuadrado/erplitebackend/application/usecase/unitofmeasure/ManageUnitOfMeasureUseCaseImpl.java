@@ -1,15 +1,23 @@
 package com.jcuadrado.erplitebackend.application.usecase.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.unitofmeasure.ManageUnitOfMeasureUseCase;
+import com.jcuadrado.erplitebackend.application.usecase.imports.BatchImport;
+import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.DuplicateUnitOfMeasureAbbreviationException;
+import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.DuplicateUnitOfMeasureNameException;
 import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.UnitOfMeasureNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import com.jcuadrado.erplitebackend.domain.port.unitofmeasure.UnitOfMeasureRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import com.jcuadrado.erplitebackend.domain.service.unitofmeasure.UnitOfMeasureDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -21,23 +29,33 @@ public class ManageUnitOfMeasureUseCaseImpl implements ManageUnitOfMeasureUseCas
 
     private final UnitOfMeasureRepository repository;
     private final UnitOfMeasureDomainService domainService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public UnitOfMeasure create(UnitOfMeasure unitOfMeasure) {
         domainService.prepareForCreation(unitOfMeasure);
+        applyCreationDefaults(unitOfMeasure);
 
-        if (unitOfMeasure.getUuid() == null) {
-            unitOfMeasure.setUuid(UUID.randomUUID());
-        }
+        referenceDataCache.invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
+        return repository.save(unitOfMeasure);
+    }
 
-        if (unitOfMeasure.getEnabled() == null) {
-            unitOfMeasure.setEnabled(true);
+    @Override
+    public ImportReport importAll(List<UnitOfMeasure> unitsOfMeasure) {
+        ImportReport report = BatchImport.<UnitOfMeasure, UnitOfMeasure>of(unitOfMeasure -> {
+                    domainService.prepareForImport(unitOfMeasure);
+                    applyCreationDefaults(unitOfMeasure);
+                    return unitOfMeasure;
+                })
+                .unique(UnitOfMeasure::getName, repository.findAllNames(), DuplicateUnitOfMeasureNameException::new)
+                .unique(UnitOfMeasure::getAbbreviation, repository.findAllAbbreviations(),
+                        DuplicateUnitOfMeasureAbbreviationException::new)
+                .run(unitsOfMeasure, repository::insertAll);
+
+        if (report.imported() > 0) {
+            referenceDataCache.invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
         }
-
-        unitOfMeasure.setCreatedAt(LocalDateTime.now());
-        unitOfMeasure.setCreatedBy(SYSTEM_USER_ID);
-
-        return repository.save(unitOfMeasure);
+        return report;
     }
 
     @Override
@@ -53,6 +71,7 @@ public class ManageUnitOfMeasureUseCaseImpl implements ManageUnitOfMeasureUseCas
         existing.setUpdatedAt(LocalDateTime.now());
         existing.setUpdatedBy(SYSTEM_USER_ID);
 
+        referenceDataCache.invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
         return repository.save(existing);
     }
 
@@ -62,6 +81,7 @@ public class ManageUnitOfMeasureUseCaseImpl implements ManageUnitOfMeasureUseCas
                 .orElseThrow(() -> new UnitOfMeasureNotFoundException(uuid));
 
         existing.activate(SYSTEM_USER_ID);
+        referenceDataCache.invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
         return repository.save(existing);
     }
 
@@ -74,6 +94,7 @@ public class ManageUnitOfMeasureUseCaseImpl implements ManageUnitOfMeasureUseCas
         domainService.ensureCanBeDeactivated(usageCount);
 
         existing.deactivate(SYSTEM_USER_ID);
+        referenceDataCache.invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
         return repository.save(existing);
     }
 
@@ -81,4 +102,17 @@ public class ManageUnitOfMeasureUseCaseImpl implements ManageUnitOfMeasureUseCas
     public void delete(UUID uuid) {
         deactivate(uuid);
     }
+
+    private void applyCreationDefaults(UnitOfMeasure unitOfMeasure) {
+        if (unitOfMeasure.getUuid() == null) {
+            unitOfMeasure.setUuid(Identifiers.next());
+        }
+
+        if (unitOfMeasure.getEnabled() == null) {
+            unitOfMeasure.setEnabled(true);
+        }
+
+        unitOfMeasure.setCreatedAt(LocalDateTime.now());
+        unitOfMeasure.setCreatedBy(SYSTEM_USER_ID);
+    }
 }
@@ -1,11 +1,14 @@
 package com.jcuadrado.erplitebackend.application.usecase.warehouse;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.warehouse.CompareWarehouseUseCase;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -14,9 +17,11 @@ import java.util.UUID;
 public class CompareWarehouseUseCaseImpl implements CompareWarehouseUseCase {
 
     private final WarehouseRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public CompareWarehouseUseCaseImpl(WarehouseRepository repository) {
+    public CompareWarehouseUseCaseImpl(WarehouseRepository repository, ReferenceDataCache referenceDataCache) {
         this.repository = repository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -30,8 +35,13 @@ public class CompareWarehouseUseCaseImpl implements CompareWarehouseUseCase {
         return repository.findAll(filters, pageable);
     }
 
+    @Override
+    public Slice<Warehouse> findSlice(Map<String, Object> filters, Pageable pageable) {
+        return repository.findSlice(filters, pageable);
+    }
+
     @Override
     public List<Warehouse> findAllActive() {
-        return repository.findAllActive();
+        return referenceDataCache.getActive(ReferenceCatalog.WAREHOUSES, repository::findAllActive);
     }
 }
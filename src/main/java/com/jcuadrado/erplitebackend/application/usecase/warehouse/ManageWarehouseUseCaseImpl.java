@@ -1,16 +1,26 @@
 package com.jcuadrado.erplitebackend.application.usecase.warehouse;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehouseCommand;
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.application.port.warehouse.ManageWarehouseUseCase;
+import com.jcuadrado.erplitebackend.application.usecase.imports.BatchImport;
+import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseCodeException;
+import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseNameException;
+import com.jcuadrado.erplitebackend.domain.exception.warehouse.SinglePrincipalWarehouseException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
+import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
 import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import com.jcuadrado.erplitebackend.domain.service.warehouse.WarehouseDomainService;
 import com.jcuadrado.erplitebackend.domain.service.warehouse.WarehouseValidationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -19,28 +29,55 @@ public class ManageWarehouseUseCaseImpl implements ManageWarehouseUseCase {
     private final WarehouseRepository repository;
     private final WarehouseDomainService domainService;
     private final WarehouseValidationService validationService;
+    private final ReferenceDataCache referenceDataCache;
 
     public ManageWarehouseUseCaseImpl(WarehouseRepository repository,
                                       WarehouseDomainService domainService,
-                                      WarehouseValidationService validationService) {
+                                      WarehouseValidationService validationService,
+                                      ReferenceDataCache referenceDataCache) {
         this.repository = repository;
         this.domainService = domainService;
         this.validationService = validationService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
     @Transactional
     public Warehouse create(CreateWarehouseCommand command) {
         Warehouse warehouse = domainService.prepareForCreate(command);
+        referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
         return repository.save(warehouse);
     }
 
+    @Override
+    @Transactional
+    public ImportReport importAll(List<CreateWarehouseCommand> commands) {
+        List<String> principal = repository.existsActivePrincipalWarehouse()
+                ? List.of(WarehouseType.PRINCIPAL.name())
+                : List.of();
+        Set<UUID> municipalities = domainService.findExistingMunicipalities(commands);
+        ImportReport report = BatchImport.<CreateWarehouseCommand, Warehouse>of(
+                        command -> domainService.prepareForImport(command, municipalities))
+                .unique(Warehouse::getCode, repository.findAllCodes(), DuplicateWarehouseCodeException::new)
+                .unique(Warehouse::getName, repository.findAllNames(), DuplicateWarehouseNameException::new)
+                // Only one active PRINCIPAL warehouse may exist, in the table or in the batch
+                .unique(warehouse -> warehouse.getType() == WarehouseType.PRINCIPAL ? warehouse.getType().name() : null,
+                        principal, type -> new SinglePrincipalWarehouseException())
+                .run(commands, repository::insertAll);
+
+        if (report.imported() > 0) {
+            referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
+        }
+        return report;
+    }
+
     @Override
     @Transactional
     public Warehouse update(UUID uuid, UpdateWarehouseCommand command) {
         Warehouse existing = repository.findByUuid(uuid)
                 .orElseThrow(() -> new WarehouseNotFoundException(uuid));
         domainService.applyUpdate(existing, command);
+        referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
         return repository.save(existing);
     }
 
@@ -51,6 +88,7 @@ public class ManageWarehouseUseCaseImpl implements ManageWarehouseUseCase {
                 .orElseThrow(() -> new WarehouseNotFoundException(uuid));
         validationService.validateDeletable(warehouse);
         warehouse.softDelete();
+        referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
         repository.save(warehouse);
     }
 
@@ -61,6 +99,7 @@ public class ManageWarehouseUseCaseImpl implements ManageWarehouseUseCase {
                 .orElseThrow(() -> new WarehouseNotFoundException(uuid));
         domainService.validateForActivation(warehouse);
         warehouse.activate();
+        referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
         return repository.save(warehouse);
     }
 
@@ -71,6 +110,7 @@ public class ManageWarehouseUseCaseImpl implements ManageWarehouseUseCase {
                 .orElseThrow(() -> new WarehouseNotFoundException(uuid));
         validationService.validateDeactivatable(uuid);
         warehouse.deactivate();
+        referenceDataCache.invalidate(ReferenceCatalog.WAREHOUSES);
         return repository.save(warehouse);
     }
 }
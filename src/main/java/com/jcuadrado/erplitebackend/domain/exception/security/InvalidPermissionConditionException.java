@@ -0,0 +1,8 @@
+package com.jcuadrado.erplitebackend.domain.exception.security;
+
+public class InvalidPermissionConditionException extends SecurityDomainException {
+
+    public InvalidPermissionConditionException(String message) {
+        super(message);
+    }
+}
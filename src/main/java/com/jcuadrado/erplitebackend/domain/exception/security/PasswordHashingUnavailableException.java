@@ -0,0 +1,8 @@
+package com.jcuadrado.erplitebackend.domain.exception.security;
+
+public class PasswordHashingUnavailableException extends SecurityDomainException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
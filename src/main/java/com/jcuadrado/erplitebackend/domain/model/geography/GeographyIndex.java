@@ -0,0 +1,156 @@
+package com.jcuadrado.erplitebackend.domain.model.geography;
+
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable in-memory view of departments and municipalities.
+ * <p>
+ * Municipalities are kept sorted by name, grouped per department in the same order, and keyed by UUID and
+ * DANE code. Text search over code and name goes through a {@link TextSearchIndex}, which ignores case and
+ * accents like MySQL's default collation. Instances are never modified: a change is published by building
+ * a new index.
+ */
+public final class GeographyIndex {
+
+    private static final Comparator<Municipality> BY_NAME = Comparator
+            .comparing((Municipality m) -> TextSearchIndex.normalize(m.getName()))
+            .thenComparing(Municipality::getCode, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final GeographyIndex EMPTY = of(List.of(), List.of());
+
+    private final TextSearchIndex<Municipality> municipalities;
+    private final Map<Long, List<Municipality>> byDepartment;
+    private final Map<UUID, Department> departmentsByUuid;
+    private final Map<UUID, Municipality> municipalitiesByUuid;
+    private final Map<String, Municipality> municipalitiesByCode;
+
+    private GeographyIndex(TextSearchIndex<Municipality> municipalities,
+                           Map<Long, List<Municipality>> byDepartment,
+                           Map<UUID, Department> departmentsByUuid,
+                           Map<UUID, Municipality> municipalitiesByUuid,
+                           Map<String, Municipality> municipalitiesByCode) {
+        this.municipalities = municipalities;
+        this.byDepartment = byDepartment;
+        this.departmentsByUuid = departmentsByUuid;
+        this.municipalitiesByUuid = municipalitiesByUuid;
+        this.municipalitiesByCode = municipalitiesByCode;
+    }
+
+    public static GeographyIndex of(Collection<Department> departments, Collection<Municipality> municipalities) {
+        List<Municipality> sorted = municipalities.stream().sorted(BY_NAME).toList();
+
+        Map<Long, List<Municipality>> byDepartment = new HashMap<>();
+        Map<UUID, Municipality> byUuid = new HashMap<>();
+        Map<String, Municipality> byCode = new HashMap<>();
+        for (Municipality municipality : sorted) {
+            if (municipality.getDepartment() != null && municipality.getDepartment().getId() != null) {
+                byDepartment.computeIfAbsent(municipality.getDepartment().getId(), id -> new ArrayList<>()).add(municipality);
+            }
+            if (municipality.getUuid() != null) {
+                byUuid.put(municipality.getUuid(), municipality);
+            }
+            if (municipality.getCode() != null) {
+                byCode.putIfAbsent(municipality.getCode(), municipality);
+            }
+        }
+
+        Map<Long, List<Municipality>> frozenByDepartment = new HashMap<>();
+        byDepartment.forEach((id, list) -> frozenByDepartment.put(id, List.copyOf(list)));
+        Map<UUID, Department> departmentsByUuid = new HashMap<>();
+        for (Department department : departments) {
+            if (department.getUuid() != null) {
+                departmentsByUuid.put(department.getUuid(), department);
+            }
+        }
+
+        TextSearchIndex<Municipality> searchIndex = TextSearchIndex.of(sorted, m -> List.of(
+                Objects.toString(m.getCode(), ""), Objects.toString(m.getName(), "")));
+        return new GeographyIndex(searchIndex, Map.copyOf(frozenByDepartment),
+                Map.copyOf(departmentsByUuid), Map.copyOf(byUuid), Map.copyOf(byCode));
+    }
+
+    public static GeographyIndex empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return municipalities.size();
+    }
+
+    public Optional<Department> findDepartment(UUID uuid) {
+        return Optional.ofNullable(departmentsByUuid.get(uuid));
+    }
+
+    public Optional<Municipality> findMunicipality(UUID uuid) {
+        return Optional.ofNullable(municipalitiesByUuid.get(uuid));
+    }
+
+    /**
+     * Looks up a municipality by its DANE code.
+     */
+    public Optional<Municipality> findByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(municipalitiesByCode.get(code.trim()));
+    }
+
+    /**
+     * Municipalities of a department sorted by name; {@code enabled} null returns all of them.
+     */
+    public List<Municipality> municipalitiesOf(Long departmentId, Boolean enabled) {
+        List<Municipality> all = byDepartment.getOrDefault(departmentId, List.of());
+        if (enabled == null) {
+            return all;
+        }
+        return all.stream().filter(m -> enabled.equals(m.getEnabled())).toList();
+    }
+
+    /**
+     * Municipalities whose code or name contains {@code text}, ignoring case and accents, sorted by name.
+     */
+    public List<Municipality> search(String text) {
+        return municipalities.matching(text);
+    }
+
+    /**
+     * Up to {@code limit} enabled municipalities matching every word of {@code text} for typeahead, best match first.
+     */
+    public List<Municipality> searchEnabled(String text, int limit) {
+        return municipalities.search(text, limit, m -> Boolean.TRUE.equals(m.getEnabled()));
+    }
+
+    /**
+     * Applies the municipality list filters in memory, with the same meaning as the database query:
+     * {@code search} matches code or name, {@code code} is exact and {@code name} is a contains match.
+     * Null or blank arguments are ignored. The result is sorted by name.
+     */
+    public List<Municipality> filter(Boolean enabled, Long departmentId, String search, String code, String name) {
+        List<Municipality> candidates = departmentId != null
+                ? municipalitiesOf(departmentId, null)
+                : search(search);
+        boolean searchPending = departmentId != null && !isBlank(search);
+        String normalizedSearch = TextSearchIndex.normalize(search);
+        String normalizedName = TextSearchIndex.normalize(name);
+        String trimmedCode = isBlank(code) ? null : code.trim();
+
+        return candidates.stream()
+                .filter(m -> enabled == null || enabled.equals(m.getEnabled()))
+                .filter(m -> !searchPending || TextSearchIndex.normalize(m.getCode()).contains(normalizedSearch)
+                        || TextSearchIndex.normalize(m.getName()).contains(normalizedSearch))
+                .filter(m -> trimmedCode == null || trimmedCode.equalsIgnoreCase(m.getCode()))
+                .filter(m -> normalizedName.isEmpty() || TextSearchIndex.normalize(m.getName()).contains(normalizedName))
+                .toList();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
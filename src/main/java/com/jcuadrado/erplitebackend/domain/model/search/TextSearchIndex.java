@@ -0,0 +1,195 @@
+package com.jcuadrado.erplitebackend.domain.model.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable n-gram index over the text fields of a list of catalog items.
+ * <p>
+ * Fields are normalized (trimmed, lower-cased, accents stripped) so "bogota" finds "Bogotá". Each item's
+ * fields are joined into one key and every trigram of the key points at the items containing it; a query
+ * of three or more characters only verifies the items listed under its rarest trigram, shorter queries scan.
+ * {@link #matching} keeps "contains" semantics in item order, {@link #search} ranks results for typeahead.
+ */
+public final class TextSearchIndex<T> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    private static final int EXACT = 4;
+    private static final int PREFIX = 3;
+    private static final int WORD_PREFIX = 2;
+    private static final int CONTAINS = 1;
+
+    private final List<T> items;
+    private final String[][] fields;
+    private final String[] keys;
+    private final Map<String, int[]> trigrams;
+
+    private TextSearchIndex(List<T> items, String[][] fields, String[] keys, Map<String, int[]> trigrams) {
+        this.items = items;
+        this.fields = fields;
+        this.keys = keys;
+        this.trigrams = trigrams;
+    }
+
+    /**
+     * Indexes {@code items} in the given order using the text returned by {@code fieldsOf} for each item.
+     */
+    public static <T> TextSearchIndex<T> of(Collection<T> items, Function<T, List<String>> fieldsOf) {
+        List<T> ordered = List.copyOf(items);
+        String[][] fields = new String[ordered.size()][];
+        String[] keys = new String[ordered.size()];
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            fields[i] = fieldsOf.apply(ordered.get(i)).stream().map(TextSearchIndex::normalize).toArray(String[]::new);
+            keys[i] = String.join(String.valueOf(FIELD_SEPARATOR), fields[i]);
+            for (int start = 0; start + 3 <= keys[i].length(); start++) {
+                List<Integer> positions = postings.computeIfAbsent(keys[i].substring(start, start + 3), t -> new ArrayList<>());
+                if (positions.isEmpty() || positions.getLast() != i) {
+                    positions.add(i);
+                }
+            }
+        }
+        Map<String, int[]> trigrams = new HashMap<>(postings.size() * 2);
+        postings.forEach((trigram, positions) ->
+                trigrams.put(trigram, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return new TextSearchIndex<>(ordered, fields, keys, Map.copyOf(trigrams));
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Items with a field containing {@code text}, in index order. Blank text matches everything.
+     */
+    public List<T> matching(String text) {
+        String query = normalize(text);
+        if (query.isEmpty()) {
+            return items;
+        }
+        List<T> matches = new ArrayList<>();
+        for (int position : candidates(query)) {
+            if (keys[position].contains(query)) {
+                matches.add(items.get(position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Up to {@code limit} items containing every word of {@code text}, best first: an exact field match ranks
+     * above a field prefix, then a word prefix, then any other match; ties go to the shorter field, then to
+     * index order.
+     */
+    public List<T> search(String text, int limit) {
+        return search(text, limit, item -> true);
+    }
+
+    /**
+     * Like {@link #search(String, int)}, over the items accepted by {@code filter} only.
+     */
+    public List<T> search(String text, int limit, Predicate<? super T> filter) {
+        String query = normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] words = WHITESPACE.split(query);
+        String longest = words[0];
+        for (String word : words) {
+            if (word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (int position : candidates(longest)) {
+            if (containsAll(keys[position], words) && filter.test(items.get(position))) {
+                scored.add(score(position, query));
+            }
+        }
+        scored.sort(Comparator.comparingInt(Scored::rank).reversed()
+                .thenComparingInt(Scored::length)
+                .thenComparingInt(Scored::position));
+        return scored.stream().limit(limit).map(s -> items.get(s.position())).toList();
+    }
+
+    /**
+     * Trims, lower-cases and strips accents so "  Bogotá " and "BOGOTA" compare equal.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("");
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() < 3) {
+            int[] all = new int[items.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int[] rarest = null;
+        for (int start = 0; start + 3 <= query.length(); start++) {
+            int[] positions = trigrams.get(query.substring(start, start + 3));
+            if (positions == null) {
+                return new int[0];
+            }
+            if (rarest == null || positions.length < rarest.length) {
+                rarest = positions;
+            }
+        }
+        return rarest;
+    }
+
+    private static boolean containsAll(String key, String[] words) {
+        for (String word : words) {
+            if (!key.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Scored score(int position, String query) {
+        int bestRank = 0;
+        int bestLength = Integer.MAX_VALUE;
+        for (String field : fields[position]) {
+            int rank;
+            if (field.equals(query)) {
+                rank = EXACT;
+            } else if (field.startsWith(query)) {
+                rank = PREFIX;
+            } else if (field.contains(" " + query)) {
+                rank = WORD_PREFIX;
+            } else if (field.contains(query)) {
+                rank = CONTAINS;
+            } else {
+                continue;
+            }
+            if (rank > bestRank || (rank == bestRank && field.length() < bestLength)) {
+                bestRank = rank;
+                bestLength = field.length();
+            }
+        }
+        return new Scored(position, bestRank, bestLength);
+    }
+
+    private record Scored(int position, int rank, int length) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.domain.model.security;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,12 +24,15 @@ public class AuditLog {
     private String ipAddress;
     private String userAgent;
     private LocalDateTime timestamp;
+    @Builder.Default
+    private int occurrences = 1;
+    private LocalDateTime firstTimestamp;
 
     public static AuditLog create(UUID userId, String username, String entity,
                                   UUID entityId, AuditAction action,
                                   String ipAddress, String userAgent) {
         return AuditLog.builder()
-                .id(UUID.randomUUID())
+                .id(Identifiers.next())
                 .userId(userId)
                 .username(username)
                 .entity(entity)
@@ -39,4 +43,23 @@ public class AuditLog {
                 .timestamp(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * Builds a single record summarizing {@code occurrences} identical events seen between
+     * {@code firstTimestamp} and {@code lastTimestamp}.
+     */
+    public static AuditLog createAggregated(UUID userId, String entity, AuditAction action, String newValue,
+                                            int occurrences, LocalDateTime firstTimestamp,
+                                            LocalDateTime lastTimestamp) {
+        return AuditLog.builder()
+                .id(Identifiers.next())
+                .userId(userId)
+                .entity(entity)
+                .action(action)
+                .newValue(newValue)
+                .occurrences(occurrences)
+                .firstTimestamp(firstTimestamp)
+                .timestamp(lastTimestamp)
+                .build();
+    }
 }
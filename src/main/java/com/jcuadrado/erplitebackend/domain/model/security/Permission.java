@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.domain.model.security;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,7 +21,7 @@ public class Permission {
     public static Permission create(String entity, PermissionAction action,
                                     String condition, String description) {
         return Permission.builder()
-                .id(UUID.randomUUID())
+                .id(Identifiers.next())
                 .entity(entity)
                 .action(action)
                 .condition(condition)
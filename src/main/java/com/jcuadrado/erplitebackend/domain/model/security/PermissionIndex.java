@@ -0,0 +1,81 @@
+package com.jcuadrado.erplitebackend.domain.model.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable per-user authorization index built from a user's permissions.
+ * <p>
+ * Unconditional grants are stored as an {@link EnumSet} per entity, so the common case is a single map
+ * lookup. Conditional permissions are kept apart, grouped by entity, and only consulted when no
+ * unconditional grant exists.
+ */
+public final class PermissionIndex {
+
+    private static final PermissionIndex EMPTY = new PermissionIndex(List.of(), Map.of(), Map.of());
+
+    private final List<Permission> permissions;
+    private final Map<String, Set<PermissionAction>> unconditional;
+    private final Map<String, List<Permission>> conditional;
+
+    private PermissionIndex(List<Permission> permissions,
+                            Map<String, Set<PermissionAction>> unconditional,
+                            Map<String, List<Permission>> conditional) {
+        this.permissions = permissions;
+        this.unconditional = unconditional;
+        this.conditional = conditional;
+    }
+
+    public static PermissionIndex of(Collection<Permission> permissions) {
+        if (permissions.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, EnumSet<PermissionAction>> unconditional = new HashMap<>();
+        Map<String, List<Permission>> conditional = new HashMap<>();
+        for (Permission permission : permissions) {
+            if (permission.hasCondition()) {
+                conditional.computeIfAbsent(permission.getEntity(), e -> new ArrayList<>()).add(permission);
+            } else {
+                unconditional.computeIfAbsent(permission.getEntity(), e -> EnumSet.noneOf(PermissionAction.class))
+                        .add(permission.getAction());
+            }
+        }
+        Map<String, List<Permission>> frozenConditional = new HashMap<>();
+        conditional.forEach((entity, list) -> frozenConditional.put(entity, List.copyOf(list)));
+        return new PermissionIndex(List.copyOf(permissions), Map.copyOf(unconditional), Map.copyOf(frozenConditional));
+    }
+
+    public static PermissionIndex empty() {
+        return EMPTY;
+    }
+
+    public List<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public boolean grants(String entity, PermissionAction action) {
+        Set<PermissionAction> actions = unconditional.get(entity);
+        return actions != null && actions.contains(action);
+    }
+
+    /**
+     * Conditional permissions for the entity; callers still need to match the action.
+     */
+    public List<Permission> getConditional(String entity) {
+        return conditional.getOrDefault(entity, List.of());
+    }
+
+    public boolean hasConditional(String entity, PermissionAction action) {
+        for (Permission permission : getConditional(entity)) {
+            if (permission.getAction() == action) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
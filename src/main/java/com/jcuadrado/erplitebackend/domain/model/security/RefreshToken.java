@@ -1,10 +1,15 @@
 package com.jcuadrado.erplitebackend.domain.model.security;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Getter
@@ -14,22 +19,37 @@ public class RefreshToken {
 
     private UUID id;
     private UUID userId;
-    private String token;
+    private String tokenHash;
     private LocalDateTime expiresAt;
     private boolean revoked;
     private LocalDateTime createdAt;
 
-    public static RefreshToken create(UUID userId, String token, int daysValid) {
+    /**
+     * Creates a token record for {@code rawToken}; only its hash is kept, the raw value goes to the client.
+     */
+    public static RefreshToken create(UUID userId, String rawToken, int daysValid) {
         return RefreshToken.builder()
-                .id(UUID.randomUUID())
+                .id(Identifiers.next())
                 .userId(userId)
-                .token(token)
+                .tokenHash(hashToken(rawToken))
                 .expiresAt(LocalDateTime.now().plusDays(daysValid))
                 .revoked(false)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
 
+    /**
+     * Lowercase hex SHA-256 of the raw token, the fixed-length key refresh tokens are stored and looked up by.
+     */
+    public static String hashToken(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+
     public void revoke() {
         this.revoked = true;
     }
@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.domain.model.security;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +22,7 @@ public class Role {
 
     public static Role create(String name, String description) {
         return Role.builder()
-                .id(UUID.randomUUID())
+                .id(Identifiers.next())
                 .name(name)
                 .description(description)
                 .active(true)
@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.domain.model.security;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,7 +39,7 @@ public class User {
                               UUID documentTypeId, String documentNumber,
                               UUID createdBy) {
         return User.builder()
-                .id(UUID.randomUUID())
+                .id(Identifiers.next())
                 .username(username)
                 .email(email)
                 .passwordHash(passwordHash)
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.port.documenttypes;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,13 @@ public interface DocumentTypeRepository {
      */
     Page<DocumentType> findAll(Map<String, Object> filters, Pageable pageable);
 
+    /**
+     * Same as {@link #findAll} but without counting the total number of matches
+     * @param filters Map with filter criteria (enabled, search, etc.)
+     * @param pageable Pagination and sorting information
+     */
+    Slice<DocumentType> findSlice(Map<String, Object> filters, Pageable pageable);
+
     /**
      * Find all active document types
      */
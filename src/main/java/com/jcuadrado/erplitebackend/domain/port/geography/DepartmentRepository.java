@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.port.geography;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,8 @@ public interface DepartmentRepository {
 
     Page<Department> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<Department> findSlice(Map<String, Object> filters, Pageable pageable);
+
     List<Department> findAllEnabled();
 
     boolean existsByCode(String code);
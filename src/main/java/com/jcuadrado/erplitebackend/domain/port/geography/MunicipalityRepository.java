@@ -3,11 +3,16 @@ package com.jcuadrado.erplitebackend.domain.port.geography;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Output port for Municipality persistence operations.
@@ -24,10 +29,24 @@ public interface MunicipalityRepository {
 
     Page<Municipality> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<Municipality> findSlice(Map<String, Object> filters, Pageable pageable);
+
+    /**
+     * Hands every municipality matching {@code filters} to {@code action} in {@code sort} order without holding them all.
+     */
+    void forEach(Map<String, Object> filters, Sort sort, Consumer<Municipality> action);
+
     List<Municipality> findAllEnabled();
 
     List<Municipality> findAllByDepartmentIdAndEnabled(Long departmentId, Boolean enabled);
 
+    boolean existsByUuid(UUID uuid);
+
+    /**
+     * Which of {@code uuids} belong to existing municipalities, in one query.
+     */
+    Set<UUID> findExistingUuids(Collection<UUID> uuids);
+
     boolean existsByCodeAndDepartmentId(String code, Long departmentId);
 
     boolean existsByCodeAndDepartmentIdExcludingUuid(String code, Long departmentId, UUID excludeUuid);
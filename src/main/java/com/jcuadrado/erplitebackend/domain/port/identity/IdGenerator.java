@@ -0,0 +1,13 @@
+package com.jcuadrado.erplitebackend.domain.port.identity;
+
+import java.util.UUID;
+
+/**
+ * Output port for the identifiers given to new domain objects.
+ * Implementations must be thread-safe and never return the same value twice.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID newId();
+}
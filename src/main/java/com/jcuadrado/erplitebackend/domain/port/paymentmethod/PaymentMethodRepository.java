@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.port.paymentmethod;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,13 @@ public interface PaymentMethodRepository {
      */
     Page<PaymentMethod> findAll(Map<String, Object> filters, Pageable pageable);
 
+    /**
+     * Same as {@link #findAll} but without counting the total number of matches
+     * @param filters Map with filter criteria (enabled, search, etc.)
+     * @param pageable Pagination and sorting information
+     */
+    Slice<PaymentMethod> findSlice(Map<String, Object> filters, Pageable pageable);
+
     /**
      * Find all active payment methods
      */
@@ -73,6 +81,16 @@ public interface PaymentMethodRepository {
      */
     boolean existsByCodeAndUuidNot(String code, UUID excludeUuid);
 
+    /**
+     * Codes of all payment methods, to check an import batch against them at once
+     */
+    List<String> findAllCodes();
+
+    /**
+     * Insert already validated payment methods in bulk
+     */
+    void insertAll(List<PaymentMethod> paymentMethods);
+
     /**
      * Count transactions associated with payment method
      * Used to validate if payment method can be deleted
@@ -4,9 +4,16 @@ import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AuditLogRepository {
 
@@ -15,4 +22,18 @@ public interface AuditLogRepository {
     Optional<AuditLog> findById(UUID id);
 
     Page<AuditLog> findByFilter(AuditLogFilter filter, Pageable pageable);
+
+    /**
+     * Keyset page after {@code position}; no count query is run.
+     */
+    Window<AuditLog> scrollByFilter(AuditLogFilter filter, Sort sort, ScrollPosition position, int limit);
+
+    /**
+     * Hands every log matching {@code filter} to {@code action} in {@code sort} order without holding them all.
+     */
+    void forEachByFilter(AuditLogFilter filter, Sort sort, Consumer<AuditLog> action);
+
+    List<AuditLog> findOlderThan(LocalDateTime cutoff, int limit);
+
+    int deleteOlderThan(Collection<UUID> ids, LocalDateTime cutoff);
 }
@@ -2,6 +2,7 @@ package com.jcuadrado.erplitebackend.domain.port.security;
 
 import com.jcuadrado.erplitebackend.domain.model.security.RefreshToken;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,7 +10,19 @@ public interface RefreshTokenRepository {
 
     RefreshToken save(RefreshToken token);
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * Stores a token that has never been saved
+     */
+    RefreshToken insert(RefreshToken token);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     void revokeAllByUserId(UUID userId);
+
+    /**
+     * Deletes up to {@code batchSize} tokens that expired, or were revoked and created, before {@code cutoff}.
+     *
+     * @return number of tokens deleted
+     */
+    int deleteExpiredOrRevokedBefore(LocalDateTime cutoff, int batchSize);
 }
@@ -3,6 +3,9 @@ package com.jcuadrado.erplitebackend.domain.port.security;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +22,11 @@ public interface UserRepository {
 
     Page<User> findAll(Pageable pageable);
 
+    /**
+     * Keyset page of non-deleted users after {@code position}; no count query is run.
+     */
+    Window<User> scrollAll(Sort sort, ScrollPosition position, int limit);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -4,6 +4,7 @@ import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,8 @@ public interface TaxTypeRepository {
     void delete(TaxType taxType);
 
     Page<TaxType> findAll(Map<String, Object> filters, Pageable pageable);
+
+    Slice<TaxType> findSlice(Map<String, Object> filters, Pageable pageable);
     
     List<TaxType> findByEnabled(Boolean enabled);
     
@@ -38,6 +41,10 @@ public interface TaxTypeRepository {
     
     boolean existsByCodeAndUuidNot(String code, UUID uuid);
 
+    List<String> findAllCodes();
+
+    void insertAll(List<TaxType> taxTypes);
+
     long countProductsWithTaxType(UUID taxTypeUuid);
     
     long countTransactionsWithTaxType(UUID taxTypeUuid);
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.port.unitofmeasure;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,8 @@ public interface UnitOfMeasureRepository {
 
     Page<UnitOfMeasure> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<UnitOfMeasure> findSlice(Map<String, Object> filters, Pageable pageable);
+
     List<UnitOfMeasure> findByEnabled(Boolean enabled);
 
     List<UnitOfMeasure> findByNameContaining(String name, Boolean enabled);
@@ -31,5 +34,11 @@ public interface UnitOfMeasureRepository {
 
     boolean existsByAbbreviationIgnoreCaseAndUuidNot(String abbreviation, UUID excludeUuid);
 
+    List<String> findAllNames();
+
+    List<String> findAllAbbreviations();
+
+    void insertAll(List<UnitOfMeasure> unitsOfMeasure);
+
     long countProductsWithUnitOfMeasure(UUID unitOfMeasureUuid);
 }
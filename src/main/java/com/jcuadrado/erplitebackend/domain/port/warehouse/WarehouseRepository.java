@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.port.warehouse;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,8 @@ public interface WarehouseRepository {
 
     Page<Warehouse> findAll(Map<String, Object> filters, Pageable pageable);
 
+    Slice<Warehouse> findSlice(Map<String, Object> filters, Pageable pageable);
+
     List<Warehouse> findAllActive();
 
     boolean existsByCodeIgnoreCase(String code);
@@ -27,7 +30,18 @@ public interface WarehouseRepository {
 
     boolean existsByNameIgnoreCaseAndUuidNot(String name, UUID excludeUuid);
 
+    /**
+     * Whether any warehouse, deleted ones included, still references the municipality
+     */
+    boolean existsByMunicipalityUuid(UUID municipalityUuid);
+
     boolean existsActivePrincipalWarehouse();
 
     boolean existsActivePrincipalWarehouseAndUuidNot(UUID excludeUuid);
+
+    List<String> findAllCodes();
+
+    List<String> findAllNames();
+
+    void insertAll(List<Warehouse> warehouses);
 }
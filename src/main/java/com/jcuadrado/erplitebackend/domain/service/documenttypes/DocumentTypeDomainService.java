@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.service.documenttypes;
 import com.jcuadrado.erplitebackend.domain.exception.documenttypes.DuplicateCodeException;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
 import com.jcuadrado.erplitebackend.domain.port.documenttypes.DocumentTypeRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
@@ -81,7 +82,7 @@ public class DocumentTypeDomainService {
         validateUniqueCode(documentType.getCode());
 
         if (documentType.getUuid() == null) {
-            documentType.setUuid(UUID.randomUUID());
+            documentType.setUuid(Identifiers.next());
         }
         if (documentType.getActive() == null) {
             documentType.setActive(true);
@@ -6,6 +6,7 @@ import com.jcuadrado.erplitebackend.domain.exception.geography.GeographyConstrai
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
@@ -51,7 +52,7 @@ public class GeographyDomainService {
         validator.validateDepartment(department.getCode(), department.getName());
         validateUniqueDepartmentCode(department.getCode());
         if (department.getUuid() == null) {
-            department.setUuid(UUID.randomUUID());
+            department.setUuid(Identifiers.next());
         }
         if (department.getEnabled() == null) {
             department.setEnabled(true);
@@ -81,7 +82,7 @@ public class GeographyDomainService {
         validator.validateMunicipality(municipality.getCode(), municipality.getName());
         validateUniqueMunicipalityCode(municipality.getCode(), municipality.getDepartment().getId());
         if (municipality.getUuid() == null) {
-            municipality.setUuid(UUID.randomUUID());
+            municipality.setUuid(Identifiers.next());
         }
         if (municipality.getEnabled() == null) {
             municipality.setEnabled(true);
@@ -0,0 +1,26 @@
+package com.jcuadrado.erplitebackend.domain.service.identity;
+
+import com.jcuadrado.erplitebackend.domain.port.identity.IdGenerator;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Where domain factory methods, which are static, get new identifiers from.
+ * Uses a {@link TimeOrderedIdGenerator} until the application installs the configured {@link IdGenerator}.
+ */
+public final class Identifiers {
+
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+
+    private Identifiers() {
+    }
+
+    public static UUID next() {
+        return generator.newId();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.service.paymentmethod;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.DuplicatePaymentMethodCodeException;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
 import com.jcuadrado.erplitebackend.domain.port.paymentmethod.PaymentMethodRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
@@ -43,16 +44,23 @@ public class PaymentMethodDomainService {
     }
 
     public void prepareForCreation(PaymentMethod paymentMethod) {
+        prepareForImport(paymentMethod);
+        validateUniqueCode(paymentMethod.getCode());
+    }
+
+    /**
+     * Same as {@link #prepareForCreation} without the uniqueness check, which an import runs for the whole batch.
+     */
+    public void prepareForImport(PaymentMethod paymentMethod) {
         validator.validateAll(
             paymentMethod.getCode(),
             paymentMethod.getName()
         );
 
         paymentMethod.setCode(normalizeCode(paymentMethod.getCode()));
-        validateUniqueCode(paymentMethod.getCode());
 
         if (paymentMethod.getUuid() == null) {
-            paymentMethod.setUuid(UUID.randomUUID());
+            paymentMethod.setUuid(Identifiers.next());
         }
         if (paymentMethod.getEnabled() == null) {
             paymentMethod.setEnabled(true);
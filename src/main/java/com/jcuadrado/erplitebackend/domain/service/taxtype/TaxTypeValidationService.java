@@ -22,9 +22,11 @@ public class TaxTypeValidationService {
         }
         
         if (exists) {
-            throw new DuplicateTaxTypeCodeException(
-                "Tax type with code '" + code + "' already exists"
-            );
+            throw duplicateCode(code);
         }
     }
+
+    public static DuplicateTaxTypeCodeException duplicateCode(String code) {
+        return new DuplicateTaxTypeCodeException("Tax type with code '" + code + "' already exists");
+    }
 }
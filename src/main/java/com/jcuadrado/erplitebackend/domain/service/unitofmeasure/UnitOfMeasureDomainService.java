@@ -17,13 +17,19 @@ public class UnitOfMeasureDomainService {
     }
 
     public void prepareForCreation(UnitOfMeasure unitOfMeasure) {
-        validator.validateAll(unitOfMeasure.getName(), unitOfMeasure.getAbbreviation());
-
-        String normalizedAbbreviation = normalizeAbbreviation(unitOfMeasure.getAbbreviation());
-        unitOfMeasure.setAbbreviation(normalizedAbbreviation);
+        prepareForImport(unitOfMeasure);
 
         validationService.ensureNameIsUnique(unitOfMeasure.getName(), null);
-        validationService.ensureAbbreviationIsUnique(normalizedAbbreviation, null);
+        validationService.ensureAbbreviationIsUnique(unitOfMeasure.getAbbreviation(), null);
+    }
+
+    /**
+     * Same as {@link #prepareForCreation} without the uniqueness checks, which an import runs for the whole batch.
+     */
+    public void prepareForImport(UnitOfMeasure unitOfMeasure) {
+        validator.validateAll(unitOfMeasure.getName(), unitOfMeasure.getAbbreviation());
+
+        unitOfMeasure.setAbbreviation(normalizeAbbreviation(unitOfMeasure.getAbbreviation()));
     }
 
     public void prepareForUpdate(UnitOfMeasure unitOfMeasure, UUID existingUuid) {
@@ -4,32 +4,43 @@ import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehous
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseCodeException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseNameException;
+import com.jcuadrado.erplitebackend.domain.exception.warehouse.InvalidWarehouseDataException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.SinglePrincipalWarehouseException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
+import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
 import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class WarehouseDomainService {
 
     private final WarehouseValidator validator;
     private final WarehouseRepository repository;
+    private final MunicipalityRepository municipalityRepository;
 
-    public WarehouseDomainService(WarehouseValidator validator, WarehouseRepository repository) {
+    public WarehouseDomainService(WarehouseValidator validator, WarehouseRepository repository,
+                                  MunicipalityRepository municipalityRepository) {
         this.validator = validator;
         this.repository = repository;
+        this.municipalityRepository = municipalityRepository;
     }
 
     public Warehouse prepareForCreate(CreateWarehouseCommand command) {
-        String normalizedCode = command.code().toUpperCase().trim();
+        Warehouse warehouse = build(command);
 
-        validator.validateAll(normalizedCode, command.name(), command.type(),
-                command.email(), command.phone());
+        if (command.municipalityId() != null && !municipalityRepository.existsByUuid(command.municipalityId())) {
+            throw municipalityNotFound(command.municipalityId());
+        }
 
-        if (repository.existsByCodeIgnoreCase(normalizedCode)) {
-            throw new DuplicateWarehouseCodeException(normalizedCode);
+        if (repository.existsByCodeIgnoreCase(warehouse.getCode())) {
+            throw new DuplicateWarehouseCodeException(warehouse.getCode());
         }
         if (repository.existsByNameIgnoreCase(command.name())) {
             throw new DuplicateWarehouseNameException(command.name());
@@ -39,8 +50,38 @@ public class WarehouseDomainService {
             throw new SinglePrincipalWarehouseException();
         }
 
+        return warehouse;
+    }
+
+    /**
+     * Same as {@link #prepareForCreate} without the uniqueness checks, which an import runs for the whole batch,
+     * and checking the municipality against {@code existingMunicipalities} from {@link #findExistingMunicipalities}.
+     */
+    public Warehouse prepareForImport(CreateWarehouseCommand command, Set<UUID> existingMunicipalities) {
+        Warehouse warehouse = build(command);
+
+        if (command.municipalityId() != null && !existingMunicipalities.contains(command.municipalityId())) {
+            throw municipalityNotFound(command.municipalityId());
+        }
+        return warehouse;
+    }
+
+    public Set<UUID> findExistingMunicipalities(Collection<CreateWarehouseCommand> commands) {
+        Set<UUID> requested = commands.stream()
+                .map(CreateWarehouseCommand::municipalityId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return municipalityRepository.findExistingUuids(requested);
+    }
+
+    private Warehouse build(CreateWarehouseCommand command) {
+        String normalizedCode = command.code() == null ? null : command.code().toUpperCase().trim();
+
+        validator.validateAll(normalizedCode, command.name(), command.type(),
+                command.email(), command.phone());
+
         return Warehouse.builder()
-                .uuid(UUID.randomUUID())
+                .uuid(Identifiers.next())
                 .code(normalizedCode)
                 .name(command.name())
                 .description(command.description())
@@ -59,6 +100,10 @@ public class WarehouseDomainService {
         validator.validateAll(existing.getCode(), command.name(), command.type(),
                 command.email(), command.phone());
 
+        if (command.municipalityId() != null && !command.municipalityId().equals(existing.getMunicipalityId())
+                && !municipalityRepository.existsByUuid(command.municipalityId())) {
+            throw municipalityNotFound(command.municipalityId());
+        }
         if (repository.existsByNameIgnoreCaseAndUuidNot(command.name(), existing.getUuid())) {
             throw new DuplicateWarehouseNameException(command.name());
         }
@@ -84,4 +129,8 @@ public class WarehouseDomainService {
             throw new SinglePrincipalWarehouseException();
         }
     }
+
+    private static InvalidWarehouseDataException municipalityNotFound(UUID municipalityId) {
+        return new InvalidWarehouseDataException("El municipio no existe: " + municipalityId);
+    }
 }
@@ -0,0 +1,126 @@
+package com.jcuadrado.erplitebackend.infrastructure.cache;
+
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
+import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.geography.GeographyIndex;
+import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
+import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
+import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing.PrimaryReads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Builds the {@link GeographyIndex} on startup and rebuilds it after every committed geography write, and every
+ * {@code geography.index.max-age} so writes made through other instances are picked up.
+ * <p>
+ * Rebuilds are serialized and each one reads committed data, so the last swap always reflects the latest
+ * write. Readers keep using the previous index until the new one is published. If a build fails the previous
+ * index stays in place; if none was ever built, {@link #current()} is empty and callers use the database.
+ */
+@Slf4j
+@Component
+public class InMemoryGeographyIndexProvider implements GeographyIndexProvider, SmartLifecycle {
+
+    private final DepartmentRepository departmentRepository;
+    private final MunicipalityRepository municipalityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile GeographyIndex index;
+    private volatile boolean running;
+
+    public InMemoryGeographyIndexProvider(DepartmentRepository departmentRepository,
+                                          MunicipalityRepository municipalityRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          MeterRegistry meterRegistry) {
+        this.departmentRepository = departmentRepository;
+        this.municipalityRepository = municipalityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // afterCommit callbacks still see the finished transaction's resources, so always start a new one
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("geography.index.municipalities", this, provider -> {
+                    GeographyIndex current = provider.index;
+                    return current == null ? 0 : current.size();
+                })
+                .description("Municipalities in the in-memory geography index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<GeographyIndex> current() {
+        return Optional.ofNullable(index);
+    }
+
+    @Override
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${geography.index.max-age:15m}",
+            initialDelayString = "${geography.index.max-age:15m}")
+    public void rebuildPeriodically() {
+        if (running) {
+            rebuild();
+        }
+    }
+
+    void rebuild() {
+        rebuildLock.lock();
+        try {
+            // Read the primary: a replica may not have the write that triggered the rebuild yet
+            GeographyIndex rebuilt = PrimaryReads.call(() -> transactionTemplate.execute(status -> {
+                List<Department> departments = departmentRepository.findAll(Map.of(), Pageable.unpaged()).getContent();
+                List<Municipality> municipalities = municipalityRepository.findAll(Map.of(), Pageable.unpaged()).getContent();
+                return GeographyIndex.of(departments, municipalities);
+            }));
+            index = rebuilt;
+            log.debug("Índice geográfico reconstruido con {} municipios", rebuilt == null ? 0 : rebuilt.size());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo reconstruir el índice geográfico: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
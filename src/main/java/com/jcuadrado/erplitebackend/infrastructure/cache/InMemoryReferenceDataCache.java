@@ -0,0 +1,228 @@
+package com.jcuadrado.erplitebackend.infrastructure.cache;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalogVersion;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds one immutable snapshot per reference catalog.
+ * <p>
+ * Each catalog has a generation counter that {@link #invalidate} bumps; a load that started under an older
+ * generation is returned to its caller but never published, so a read racing a write cannot cache stale rows.
+ * Snapshots also expire after {@code max-age}, which bounds staleness for writes made on other instances.
+ * A search index, when requested, is built once per snapshot and discarded with it.
+ * <p>
+ * The generation also versions the catalog for HTTP validators. Versions carry a per-instance id, so tags
+ * issued by one instance never validate on another, and a max-age period number, so a tag issued before a
+ * write made elsewhere stops validating within the same bound as the snapshots.
+ */
+@Slf4j
+@Component
+public class InMemoryReferenceDataCache implements ReferenceDataCache {
+
+    private final Map<ReferenceCatalog, Slot> slots = new EnumMap<>(ReferenceCatalog.class);
+    private final long maxAgeNanos;
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final long startedAtNanos = System.nanoTime();
+
+    public InMemoryReferenceDataCache(MeterRegistry meterRegistry,
+                                      @Value("${reference-data.cache.max-age:1h}") Duration maxAge) {
+        this.maxAgeNanos = maxAge.toNanos();
+        for (ReferenceCatalog catalog : ReferenceCatalog.values()) {
+            slots.put(catalog, new Slot(catalog, meterRegistry, startedAt));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getActive(ReferenceCatalog catalog, Supplier<List<T>> loader) {
+        return (List<T>) snapshot(catalog, loader).items();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TextSearchIndex<T> getSearchIndex(ReferenceCatalog catalog, Supplier<List<T>> loader,
+                                                Function<T, List<String>> fields) {
+        Snapshot snapshot = snapshot(catalog, loader);
+        TextSearchIndex<?> index = snapshot.searchIndex;
+        if (index == null) {
+            // Concurrent first searches may both build; the results are identical, so the last write wins
+            index = TextSearchIndex.of((List<T>) snapshot.items(), fields);
+            snapshot.searchIndex = index;
+        }
+        return (TextSearchIndex<T>) index;
+    }
+
+    private Snapshot snapshot(ReferenceCatalog catalog, Supplier<? extends List<?>> loader) {
+        Slot slot = slots.get(catalog);
+        Snapshot snapshot = slot.snapshot;
+        if (isFresh(slot, snapshot)) {
+            slot.hits.increment();
+            return snapshot;
+        }
+
+        slot.loadLock.lock();
+        try {
+            snapshot = slot.snapshot;
+            if (isFresh(slot, snapshot)) {
+                slot.hits.increment();
+                return snapshot;
+            }
+            long generation = slot.generation.get();
+            // A replica may not have the write that invalidated the snapshot yet
+            Snapshot loaded = new Snapshot(List.copyOf(PrimaryReads.call(loader)), generation, System.nanoTime());
+            slot.loads.increment();
+            if (slot.generation.get() == generation) {
+                slot.snapshot = loaded;
+            }
+            log.debug("Catálogo {} cargado en caché con {} registros", catalog, loaded.items().size());
+            return loaded;
+        } finally {
+            slot.loadLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(ReferenceCatalog catalog) {
+        Slot slot = slots.get(catalog);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    slot.discard();
+                }
+            });
+        } else {
+            slot.discard();
+        }
+    }
+
+    @Override
+    public ReferenceCatalogVersion version(Set<ReferenceCatalog> catalogs) {
+        long periodNanos = Math.max(maxAgeNanos, 1);
+        long period = (System.nanoTime() - startedAtNanos) / periodNanos;
+        Instant lastModified = startedAt.plusNanos(period * periodNanos).truncatedTo(ChronoUnit.SECONDS);
+
+        StringBuilder tag = new StringBuilder(instanceId).append('-').append(period);
+        for (ReferenceCatalog catalog : ReferenceCatalog.values()) {
+            if (catalogs.contains(catalog)) {
+                Slot slot = slots.get(catalog);
+                tag.append('-').append(slot.generation.get());
+                Instant changedAt = slot.changedAt.get();
+                if (changedAt.isAfter(lastModified)) {
+                    lastModified = changedAt;
+                }
+            }
+        }
+        return new ReferenceCatalogVersion(tag.toString(), lastModified);
+    }
+
+    private boolean isFresh(Slot slot, Snapshot snapshot) {
+        return snapshot != null
+                && snapshot.generation() == slot.generation.get()
+                && System.nanoTime() - snapshot.loadedAtNanos() < maxAgeNanos;
+    }
+
+    private static final class Slot {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private final AtomicReference<Instant> changedAt;
+        private final Counter hits;
+        private final Counter loads;
+        private volatile Snapshot snapshot;
+
+        private Slot(ReferenceCatalog catalog, MeterRegistry meterRegistry, Instant createdAt) {
+            this.changedAt = new AtomicReference<>(createdAt);
+            String tag = catalog.name().toLowerCase();
+            this.hits = Counter.builder("reference_data.cache.hits")
+                    .description("Active-list reads served from the snapshot")
+                    .tag("catalog", tag)
+                    .register(meterRegistry);
+            this.loads = Counter.builder("reference_data.cache.loads")
+                    .description("Active-list reads that loaded the catalog from the database")
+                    .tag("catalog", tag)
+                    .register(meterRegistry);
+            Gauge.builder("reference_data.cache.size", this, Slot::size)
+                    .description("Entries in the current snapshot")
+                    .tag("catalog", tag)
+                    .register(meterRegistry);
+            Gauge.builder("reference_data.cache.age", this, Slot::ageSeconds)
+                    .description("Age of the current snapshot")
+                    .tag("catalog", tag)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        private void discard() {
+            generation.incrementAndGet();
+            snapshot = null;
+            // Last-Modified has second precision: keep it strictly increasing so If-Modified-Since
+            // cannot validate a response served earlier within the same second
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            changedAt.updateAndGet(previous -> now.isAfter(previous) ? now : previous.plusSeconds(1));
+        }
+
+        private double size() {
+            Snapshot current = snapshot;
+            return current == null ? 0 : current.items().size();
+        }
+
+        private double ageSeconds() {
+            Snapshot current = snapshot;
+            return current == null ? 0 : (double) (System.nanoTime() - current.loadedAtNanos()) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final List<?> items;
+        private final long generation;
+        private final long loadedAtNanos;
+        private volatile TextSearchIndex<?> searchIndex;
+
+        private Snapshot(List<?> items, long generation, long loadedAtNanos) {
+            this.items = items;
+            this.generation = generation;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        private List<?> items() {
+            return items;
+        }
+
+        private long generation() {
+            return generation;
+        }
+
+        private long loadedAtNanos() {
+            return loadedAtNanos;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.jcuadrado.erplitebackend.infrastructure.config;
 
+import com.jcuadrado.erplitebackend.application.command.security.RetentionPolicy;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogArchiver;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager;
 import com.jcuadrado.erplitebackend.application.port.security.AuditLogUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.AuthUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.CompareRoleUseCase;
@@ -9,6 +13,10 @@ import com.jcuadrado.erplitebackend.application.port.security.ManagePermissionUs
 import com.jcuadrado.erplitebackend.application.port.security.ManageRoleUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.ManageUserUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionDenialRecorder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import com.jcuadrado.erplitebackend.application.port.security.RetentionUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.application.port.security.UserPermissionsUseCase;
 import com.jcuadrado.erplitebackend.application.usecase.security.AuditLogUseCaseImpl;
@@ -18,6 +26,7 @@ import com.jcuadrado.erplitebackend.application.usecase.security.CompareUserUseC
 import com.jcuadrado.erplitebackend.application.usecase.security.ManagePermissionUseCaseImpl;
 import com.jcuadrado.erplitebackend.application.usecase.security.ManageRoleUseCaseImpl;
 import com.jcuadrado.erplitebackend.application.usecase.security.ManageUserUseCaseImpl;
+import com.jcuadrado.erplitebackend.application.usecase.security.RetentionUseCaseImpl;
 import com.jcuadrado.erplitebackend.application.usecase.security.UserPermissionsUseCaseImpl;
 import com.jcuadrado.erplitebackend.application.port.warehouse.CompareWarehouseUseCase;
 import com.jcuadrado.erplitebackend.application.port.warehouse.ManageWarehouseUseCase;
@@ -50,8 +59,12 @@ import com.jcuadrado.erplitebackend.domain.service.taxtype.TaxTypeValidationServ
 import com.jcuadrado.erplitebackend.domain.service.unitofmeasure.UnitOfMeasureDomainService;
 import com.jcuadrado.erplitebackend.domain.service.unitofmeasure.UnitOfMeasureValidationService;
 import com.jcuadrado.erplitebackend.domain.service.unitofmeasure.UnitOfMeasureValidator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
 
 @Configuration
 public class BeanConfiguration {
@@ -167,9 +180,12 @@ public class BeanConfiguration {
             RefreshTokenRepository refreshTokenRepository,
             AuditLogRepository auditLogRepository,
             PasswordEncoder passwordEncoder,
-            TokenService tokenService) {
+            TokenService tokenService,
+            PermissionVersionService permissionVersionService,
+            TransactionOperations transactionOperations) {
         return new AuthUseCaseImpl(userRepository, roleRepository, permissionRepository,
-                refreshTokenRepository, auditLogRepository, passwordEncoder, tokenService);
+                refreshTokenRepository, auditLogRepository, passwordEncoder, tokenService,
+                permissionVersionService, transactionOperations);
     }
 
     @Bean
@@ -178,9 +194,10 @@ public class BeanConfiguration {
             RoleRepository roleRepository,
             AuditLogRepository auditLogRepository,
             UserDomainService userDomainService,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            PermissionVersionService permissionVersionService) {
         return new ManageUserUseCaseImpl(userRepository, roleRepository, auditLogRepository,
-                userDomainService, passwordEncoder);
+                userDomainService, passwordEncoder, permissionVersionService);
     }
 
     @Bean
@@ -192,8 +209,10 @@ public class BeanConfiguration {
     public ManageRoleUseCase manageRoleUseCase(
             RoleRepository roleRepository,
             PermissionRepository permissionRepository,
-            AuditLogRepository auditLogRepository) {
-        return new ManageRoleUseCaseImpl(roleRepository, permissionRepository, auditLogRepository);
+            AuditLogRepository auditLogRepository,
+            PermissionVersionService permissionVersionService) {
+        return new ManageRoleUseCaseImpl(roleRepository, permissionRepository, auditLogRepository,
+                permissionVersionService);
     }
 
     @Bean
@@ -204,9 +223,11 @@ public class BeanConfiguration {
     @Bean
     public ManagePermissionUseCase managePermissionUseCase(
             PermissionRepository permissionRepository,
-            AuditLogRepository auditLogRepository,
-            ConditionEvaluator conditionEvaluator) {
-        return new ManagePermissionUseCaseImpl(permissionRepository, auditLogRepository, conditionEvaluator);
+            ConditionEvaluator conditionEvaluator,
+            PermissionCache permissionCache,
+            PermissionDenialRecorder permissionDenialRecorder) {
+        return new ManagePermissionUseCaseImpl(permissionRepository, conditionEvaluator, permissionCache,
+                permissionDenialRecorder);
     }
 
     @Bean
@@ -214,6 +235,22 @@ public class BeanConfiguration {
         return new AuditLogUseCaseImpl(auditLogRepository);
     }
 
+    @Bean
+    public RetentionUseCase retentionUseCase(
+            RefreshTokenRepository refreshTokenRepository,
+            AuditLogRepository auditLogRepository,
+            AuditLogArchiver auditLogArchiver,
+            AuditLogPartitionManager auditLogPartitionManager,
+            @Value("${retention.refresh-tokens.grace-period:1d}") Duration refreshTokenGracePeriod,
+            @Value("${retention.audit-logs.max-age:365d}") Duration auditLogMaxAge,
+            @Value("${retention.batch-size:500}") int batchSize,
+            @Value("${retention.batch-pause:100ms}") Duration batchPause,
+            @Value("${retention.audit-logs.partitions-ahead:2}") int partitionsAhead) {
+        return new RetentionUseCaseImpl(refreshTokenRepository, auditLogRepository, auditLogArchiver,
+                auditLogPartitionManager,
+                new RetentionPolicy(refreshTokenGracePeriod, auditLogMaxAge, batchSize, batchPause, partitionsAhead));
+    }
+
     // ==================== Warehouse Beans ====================
 
     @Bean
@@ -229,28 +266,33 @@ public class BeanConfiguration {
     @Bean
     public WarehouseDomainService warehouseDomainService(
             WarehouseValidator validator,
-            WarehouseRepository repository) {
-        return new WarehouseDomainService(validator, repository);
+            WarehouseRepository repository,
+            MunicipalityRepository municipalityRepository) {
+        return new WarehouseDomainService(validator, repository, municipalityRepository);
     }
 
     @Bean
     public ManageWarehouseUseCase manageWarehouseUseCase(
             WarehouseRepository repository,
             WarehouseDomainService domainService,
-            WarehouseValidationService validationService) {
-        return new ManageWarehouseUseCaseImpl(repository, domainService, validationService);
+            WarehouseValidationService validationService,
+            ReferenceDataCache referenceDataCache) {
+        return new ManageWarehouseUseCaseImpl(repository, domainService, validationService, referenceDataCache);
     }
 
     @Bean
-    public CompareWarehouseUseCase compareWarehouseUseCase(WarehouseRepository repository) {
-        return new CompareWarehouseUseCaseImpl(repository);
+    public CompareWarehouseUseCase compareWarehouseUseCase(
+            WarehouseRepository repository,
+            ReferenceDataCache referenceDataCache) {
+        return new CompareWarehouseUseCaseImpl(repository, referenceDataCache);
     }
 
     @Bean
     public UserPermissionsUseCase userPermissionsUseCase(
             UserRepository userRepository,
-            PermissionRepository permissionRepository) {
-        return new UserPermissionsUseCaseImpl(userRepository, permissionRepository);
+            PermissionRepository permissionRepository,
+            PermissionCache permissionCache) {
+        return new UserPermissionsUseCaseImpl(userRepository, permissionRepository, permissionCache);
     }
 }
 
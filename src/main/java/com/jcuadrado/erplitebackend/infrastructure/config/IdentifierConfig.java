@@ -0,0 +1,32 @@
+package com.jcuadrado.erplitebackend.infrastructure.config;
+
+import com.jcuadrado.erplitebackend.domain.port.identity.IdGenerator;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+import com.jcuadrado.erplitebackend.domain.service.identity.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+public class IdentifierConfig {
+
+    /**
+     * Builds the generator selected by {@code identifiers.generator} and installs it for the domain factories.
+     */
+    @Bean
+    public IdGenerator idGenerator(@Value("${identifiers.generator:time-ordered}") String kind) {
+        IdGenerator generator = switch (kind) {
+            case "time-ordered" -> new TimeOrderedIdGenerator();
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalStateException(
+                    "identifiers.generator desconocido: " + kind + " (valores: time-ordered, random)");
+        };
+        Identifiers.use(generator);
+        log.info("Generador de identificadores: {}", kind);
+        return generator;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jcuadrado.erplitebackend.infrastructure.config;
+
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing.ReplicaLagMonitor;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a replica pool, replacing the auto-configured data source.
+ * <p>
+ * The application data source is a {@link LazyConnectionDataSourceProxy} over the primary pool: writes, Flyway
+ * and read-write transactions use the primary, and read-only transactions get their connection from
+ * {@link ReplicaRoutingDataSource}, which falls back to the primary while the replica lags. Both pools are
+ * Hikari beans named after their route, so their {@code hikaricp.*} metrics carry {@code pool=primary|replica}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jcuadrado.erplitebackend.infrastructure.config;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.interceptor.CatalogConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Spring MVC configuration: conditional GET support for the reference catalogs.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        addCatalog(registry, "/api/v1/document-types", EnumSet.of(ReferenceCatalog.DOCUMENT_TYPES));
+        addCatalog(registry, "/api/v1/tax-types", EnumSet.of(ReferenceCatalog.TAX_TYPES));
+        addCatalog(registry, "/api/v1/payment-methods", EnumSet.of(ReferenceCatalog.PAYMENT_METHODS));
+        addCatalog(registry, "/api/v1/units-of-measure", EnumSet.of(ReferenceCatalog.UNITS_OF_MEASURE));
+        // Department and municipality responses embed each other, so both catalogs version the whole subtree
+        addCatalog(registry, "/api/v1/geography",
+                EnumSet.of(ReferenceCatalog.DEPARTMENTS, ReferenceCatalog.MUNICIPALITIES));
+    }
+
+    private void addCatalog(InterceptorRegistry registry, String basePath, Set<ReferenceCatalog> catalogs) {
+        registry.addInterceptor(new CatalogConditionalGetInterceptor(referenceDataCache, catalogs))
+                .addPathPatterns(basePath, basePath + "/**");
+    }
+}
@@ -5,7 +5,9 @@ import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateEmailExce
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateUsernameException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPasswordException;
+import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidRefreshTokenException;
+import com.jcuadrado.erplitebackend.domain.exception.security.PasswordHashingUnavailableException;
 import com.jcuadrado.erplitebackend.domain.exception.security.PermissionDeniedException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleNotFoundException;
@@ -42,6 +44,7 @@ import com.jcuadrado.erplitebackend.domain.exception.warehouse.SinglePrincipalWa
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -360,6 +363,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(InvalidPermissionConditionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPermissionCondition(InvalidPermissionConditionException ex) {
+        log.warn("Invalid permission condition: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        log.warn("Password hashing pool saturated: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(InvalidRefreshTokenException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
         log.warn("Invalid refresh token: {}", ex.getMessage());
@@ -8,6 +8,7 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.Docu
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.UpdateDocumentTypeRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.documenttypes.DocumentTypeDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,9 +17,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -108,7 +109,9 @@ public class DocumentTypeController {
             @Parameter(description = "Sort field")
             @RequestParam(name = "sort", required = false, defaultValue = "id") String sortField,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Count the total number of matches; false skips the count and leaves totals empty")
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
         if (enabled != null) {
@@ -121,7 +124,9 @@ public class DocumentTypeController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<DocumentType> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<DocumentType> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
 
         List<DocumentTypeResponseDto> dtoList = domainPage.getContent().stream()
             .map(mapper::toResponseDto)
@@ -129,12 +134,13 @@ public class DocumentTypeController {
 
         PagedResponseDto<DocumentTypeResponseDto> response = PagedResponseDto.<DocumentTypeResponseDto>builder()
             .content(dtoList)
-            .totalElements(domainPage.getTotalElements())
-            .totalPages(domainPage.getTotalPages())
+            .totalElements(PageTotals.totalElements(domainPage))
+            .totalPages(PageTotals.totalPages(domainPage))
             .currentPage(domainPage.getNumber())
             .pageSize(domainPage.getSize())
             .first(domainPage.isFirst())
             .last(domainPage.isLast())
+            .hasNext(domainPage.hasNext())
             .build();
 
         return ResponseEntity.ok(response);
@@ -12,6 +12,7 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.UpdateDe
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.geography.DepartmentDtoMapper;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.geography.MunicipalityDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,9 +21,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +42,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Departments", description = "API for managing Colombian departments")
 public class DepartmentController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final ManageDepartmentUseCase manageUseCase;
     private final CompareDepartmentsUseCase compareUseCase;
     private final CompareMunicipalitiesUseCase compareMunicipalitiesUseCase;
@@ -107,7 +110,9 @@ public class DepartmentController {
             @Parameter(description = "Sort field")
             @RequestParam(name = "sort", required = false, defaultValue = "id") String sortField,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Count the total number of matches; false skips the count and leaves totals empty")
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
         if (enabled != null) {
@@ -120,19 +125,22 @@ public class DepartmentController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<Department> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<Department> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
 
         List<DepartmentResponseDto> dtoList = domainPage.getContent().stream()
                 .map(mapper::toResponseDto).collect(Collectors.toList());
 
         PagedResponseDto<DepartmentResponseDto> response = PagedResponseDto.<DepartmentResponseDto>builder()
                 .content(dtoList)
-                .totalElements(domainPage.getTotalElements())
-                .totalPages(domainPage.getTotalPages())
+                .totalElements(PageTotals.totalElements(domainPage))
+                .totalPages(PageTotals.totalPages(domainPage))
                 .currentPage(domainPage.getNumber())
                 .pageSize(domainPage.getSize())
                 .first(domainPage.isFirst())
                 .last(domainPage.isLast())
+                .hasNext(domainPage.hasNext())
                 .build();
 
         return ResponseEntity.ok(response);
@@ -150,6 +158,20 @@ public class DepartmentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Search departments", description = "Typeahead search over active departments by code or name, ignoring case and accents, best matches first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching departments retrieved successfully")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<DepartmentResponseDto>> search(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")")
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        List<Department> found = compareUseCase.search(q, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(found.stream().map(mapper::toResponseDto).collect(Collectors.toList()));
+    }
+
     @Operation(summary = "Update department", description = "Updates an existing department")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Department updated successfully"),
@@ -7,7 +7,11 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.CreateMu
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.MunicipalityResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.UpdateMunicipalityRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.PagedResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.ExportColumn;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.ExportFormat;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.StreamingExporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.geography.MunicipalityDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,12 +20,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.HashMap;
@@ -37,9 +42,21 @@ import java.util.stream.Collectors;
 @Tag(name = "Municipalities", description = "API for managing Colombian municipalities")
 public class MunicipalityController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final List<ExportColumn<MunicipalityResponseDto>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("uuid", MunicipalityResponseDto::getUuid),
+            new ExportColumn<>("code", MunicipalityResponseDto::getCode),
+            new ExportColumn<>("name", MunicipalityResponseDto::getName),
+            new ExportColumn<>("departmentCode", dto -> dto.getDepartment() == null ? null : dto.getDepartment().getCode()),
+            new ExportColumn<>("departmentName", dto -> dto.getDepartment() == null ? null : dto.getDepartment().getName()),
+            new ExportColumn<>("enabled", MunicipalityResponseDto::getEnabled),
+            new ExportColumn<>("createdAt", MunicipalityResponseDto::getCreatedAt),
+            new ExportColumn<>("updatedAt", MunicipalityResponseDto::getUpdatedAt));
+
     private final ManageMunicipalityUseCase manageUseCase;
     private final CompareMunicipalitiesUseCase compareUseCase;
     private final MunicipalityDtoMapper mapper;
+    private final StreamingExporter exporter;
 
     @Operation(summary = "Create municipality", description = "Creates a new Colombian municipality with the provided DANE code, name and department")
     @ApiResponses(value = {
@@ -91,7 +108,9 @@ public class MunicipalityController {
             @Parameter(description = "Sort field")
             @RequestParam(name = "sort", required = false, defaultValue = "id") String sortField,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Count the total number of matches; false skips the count and leaves totals empty")
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
         if (enabled != null) {
@@ -107,24 +126,54 @@ public class MunicipalityController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<Municipality> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<Municipality> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
 
         List<MunicipalityResponseDto> dtoList = domainPage.getContent().stream()
                 .map(mapper::toResponseDto).collect(Collectors.toList());
 
         PagedResponseDto<MunicipalityResponseDto> response = PagedResponseDto.<MunicipalityResponseDto>builder()
                 .content(dtoList)
-                .totalElements(domainPage.getTotalElements())
-                .totalPages(domainPage.getTotalPages())
+                .totalElements(PageTotals.totalElements(domainPage))
+                .totalPages(PageTotals.totalPages(domainPage))
                 .currentPage(domainPage.getNumber())
                 .pageSize(domainPage.getSize())
                 .first(domainPage.isFirst())
                 .last(domainPage.isLast())
+                .hasNext(domainPage.hasNext())
                 .build();
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Export municipalities", description = "Streams every matching municipality as CSV or NDJSON without pagination or counts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Municipalities streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Filter by active status")
+            @RequestParam(required = false) Boolean enabled,
+            @Parameter(description = "Filter by department ID")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Export format (csv/ndjson)")
+            @RequestParam(defaultValue = "csv") String format) {
+
+        Map<String, Object> filters = new HashMap<>();
+        if (enabled != null) {
+            filters.put("enabled", enabled);
+        }
+        if (departmentId != null) {
+            filters.put("departmentId", departmentId);
+        }
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting municipalities as {}", exportFormat);
+        return exporter.export("municipalities", exportFormat, EXPORT_COLUMNS,
+                sink -> compareUseCase.exportAll(filters, Sort.by("code"), municipality -> sink.accept(mapper.toResponseDto(municipality))));
+    }
+
     @Operation(summary = "Get all active municipalities", description = "Retrieves all active municipalities without pagination")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Active municipalities retrieved successfully")
@@ -137,6 +186,20 @@ public class MunicipalityController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Search municipalities", description = "Typeahead search over active municipalities by code or name, ignoring case and accents, best matches first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching municipalities retrieved successfully")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<MunicipalityResponseDto>> search(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")")
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        List<Municipality> found = compareUseCase.search(q, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(found.stream().map(mapper::toResponseDto).collect(Collectors.toList()));
+    }
+
     @Operation(summary = "Update municipality", description = "Updates an existing municipality")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Municipality updated successfully"),
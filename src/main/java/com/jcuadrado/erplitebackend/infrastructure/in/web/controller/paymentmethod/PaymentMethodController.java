@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.controller.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.port.paymentmethod.ComparePaymentMethodsUseCase;
 import com.jcuadrado.erplitebackend.application.port.paymentmethod.ManagePaymentMethodUseCase;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
@@ -7,7 +8,9 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedRespon
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.paymentmethod.CreatePaymentMethodRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.paymentmethod.PaymentMethodResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.paymentmethod.UpdatePaymentMethodRequestDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.imports.CatalogImporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.paymentmethod.PaymentMethodDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,13 +19,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -37,9 +43,12 @@ import java.util.stream.Collectors;
 @Tag(name = "Payment Methods", description = "API for managing payment methods (Cash, Credit Card, Transfer, etc.)")
 public class PaymentMethodController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final ManagePaymentMethodUseCase manageUseCase;
     private final ComparePaymentMethodsUseCase compareUseCase;
     private final PaymentMethodDtoMapper mapper;
+    private final CatalogImporter importer;
 
     @Operation(summary = "Create payment method", description = "Creates a new payment method with the provided information")
     @ApiResponses(value = {
@@ -61,6 +70,20 @@ public class PaymentMethodController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @Operation(summary = "Import payment methods",
+               description = "Creates payment methods in bulk from a JSON array or a CSV file with a header row. "
+                       + "Nothing is created if any row is invalid.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All rows imported"),
+        @ApiResponse(responseCode = "400", description = "Rows rejected, see the per-row errors")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, CatalogImporter.TEXT_CSV_VALUE})
+    public ResponseEntity<ImportReport> importPaymentMethods(InputStream body,
+                                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+        return importer.importFrom("payment-methods", body, contentType, CreatePaymentMethodRequestDto.class,
+                mapper::toDomain, manageUseCase::importAll);
+    }
+
     @Operation(summary = "Get payment method by UUID", description = "Retrieves a payment method by its UUID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Payment method found"),
@@ -108,7 +131,9 @@ public class PaymentMethodController {
             @Parameter(description = "Sort field")
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sortField,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Count the total number of matches; false skips the count and leaves totals empty")
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
         if (enabled != null) {
@@ -121,7 +146,9 @@ public class PaymentMethodController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<PaymentMethod> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<PaymentMethod> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
 
         List<PaymentMethodResponseDto> dtoList = domainPage.getContent().stream()
             .map(mapper::toResponseDto)
@@ -129,10 +156,11 @@ public class PaymentMethodController {
 
         PagedResponseDto<PaymentMethodResponseDto> response = PagedResponseDto.<PaymentMethodResponseDto>builder()
             .content(dtoList)
-            .totalElements(domainPage.getTotalElements())
-            .totalPages(domainPage.getTotalPages())
+            .totalElements(PageTotals.totalElements(domainPage))
+            .totalPages(PageTotals.totalPages(domainPage))
             .currentPage(domainPage.getNumber())
             .pageSize(domainPage.getSize())
+            .hasNext(domainPage.hasNext())
             .build();
 
         return ResponseEntity.ok(response);
@@ -166,6 +194,20 @@ public class PaymentMethodController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Search payment methods", description = "Typeahead search over active payment methods by code or name, ignoring case and accents, best matches first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching payment methods retrieved successfully")
+    })
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<List<PaymentMethodResponseDto>> search(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")")
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        List<PaymentMethod> found = compareUseCase.search(q, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(found.stream().map(mapper::toResponseDto).collect(Collectors.toList()));
+    }
+
     @Operation(summary = "Update payment method", description = "Updates an existing payment method")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Payment method updated successfully"),
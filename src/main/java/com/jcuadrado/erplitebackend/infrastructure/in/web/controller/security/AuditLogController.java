@@ -4,9 +4,14 @@ import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
 import com.jcuadrado.erplitebackend.application.port.security.AuditLogUseCase;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.CursorPageResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.AuditLogResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.ExportColumn;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.ExportFormat;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.StreamingExporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.security.AuditLogDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.ScrollCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -16,7 +21,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,9 +31,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -36,8 +45,27 @@ import java.util.UUID;
 @Tag(name = "Audit Logs", description = "API for audit log consultation")
 public class AuditLogController {
 
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("timestamp", "action");
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final Sort EXPORT_SORT = Sort.by("timestamp");
+    private static final List<ExportColumn<AuditLogResponseDto>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", AuditLogResponseDto::id),
+            new ExportColumn<>("timestamp", AuditLogResponseDto::timestamp),
+            new ExportColumn<>("firstTimestamp", AuditLogResponseDto::firstTimestamp),
+            new ExportColumn<>("occurrences", AuditLogResponseDto::occurrences),
+            new ExportColumn<>("userId", AuditLogResponseDto::userId),
+            new ExportColumn<>("username", AuditLogResponseDto::username),
+            new ExportColumn<>("action", AuditLogResponseDto::action),
+            new ExportColumn<>("entity", AuditLogResponseDto::entity),
+            new ExportColumn<>("entityId", AuditLogResponseDto::entityId),
+            new ExportColumn<>("oldValue", AuditLogResponseDto::oldValue),
+            new ExportColumn<>("newValue", AuditLogResponseDto::newValue),
+            new ExportColumn<>("ipAddress", AuditLogResponseDto::ipAddress),
+            new ExportColumn<>("userAgent", AuditLogResponseDto::userAgent));
+
     private final AuditLogUseCase auditLogUseCase;
     private final AuditLogDtoMapper mapper;
+    private final StreamingExporter exporter;
 
     @Operation(summary = "List audit logs with filters and pagination")
     @ApiResponses(value = {
@@ -55,12 +83,7 @@ public class AuditLogController {
             @RequestParam(name = "sort", defaultValue = "timestamp") String sortField,
             @RequestParam(name = "direction", defaultValue = "desc") String sortDirection) {
 
-        AuditAction auditAction = null;
-        if (action != null && !action.isBlank()) {
-            auditAction = AuditAction.valueOf(action.toUpperCase());
-        }
-
-        AuditLogFilter filter = new AuditLogFilter(userId, entity, auditAction, startDate, endDate);
+        AuditLogFilter filter = buildFilter(userId, entity, action, startDate, endDate);
 
         Sort.Direction direction = sortDirection.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
@@ -79,6 +102,63 @@ public class AuditLogController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Scroll audit logs with a continuation cursor",
+            description = "Keyset pagination without a total count. Send an empty cursor for the first page, then the returned nextCursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit logs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort field")
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<AuditLogResponseDto>> scroll(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String entity,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(name = "sort", defaultValue = "timestamp") String sortField,
+            @RequestParam(name = "direction", defaultValue = "desc") String sortDirection) {
+
+        AuditLogFilter filter = buildFilter(userId, entity, action, startDate, endDate);
+        Sort sort = ScrollCursorCodec.keysetSort(sortField, sortDirection, KEYSET_SORT_FIELDS);
+        ScrollPosition position = ScrollCursorCodec.decode(cursor, sort);
+        int limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+
+        Window<AuditLog> window = auditLogUseCase.scrollAuditLogs(filter, sort, position, limit);
+
+        CursorPageResponseDto<AuditLogResponseDto> response = CursorPageResponseDto.<AuditLogResponseDto>builder()
+                .content(window.getContent().stream().map(mapper::toResponseDto).toList())
+                .nextCursor(ScrollCursorCodec.encode(window, sort))
+                .hasNext(window.hasNext())
+                .pageSize(limit)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Export audit logs",
+            description = "Streams every matching audit log, oldest first, as CSV or NDJSON without pagination or counts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit logs streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String entity,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        AuditLogFilter filter = buildFilter(userId, entity, action, startDate, endDate);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting audit logs as {}", exportFormat);
+        return exporter.export("audit-logs", exportFormat, EXPORT_COLUMNS,
+                sink -> auditLogUseCase.exportAuditLogs(filter, EXPORT_SORT, auditLog -> sink.accept(mapper.toResponseDto(auditLog))));
+    }
+
     @Operation(summary = "Get audit log by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Audit log retrieved successfully"),
@@ -91,4 +171,13 @@ public class AuditLogController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    private AuditLogFilter buildFilter(UUID userId, String entity, String action,
+                                       LocalDateTime startDate, LocalDateTime endDate) {
+        AuditAction auditAction = null;
+        if (action != null && !action.isBlank()) {
+            auditAction = AuditAction.valueOf(action.toUpperCase());
+        }
+        return new AuditLogFilter(userId, entity, auditAction, startDate, endDate);
+    }
 }
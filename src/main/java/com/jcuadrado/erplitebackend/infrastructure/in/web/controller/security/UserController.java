@@ -6,6 +6,7 @@ import com.jcuadrado.erplitebackend.application.command.security.UpdateUserComma
 import com.jcuadrado.erplitebackend.application.port.security.CompareUserUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.ManageUserUseCase;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.CursorPageResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.AssignRolesRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.ChangePasswordRequestDto;
@@ -13,6 +14,7 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.CreateUse
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.UpdateUserRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.UserResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.security.UserDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.ScrollCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -23,7 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -38,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -47,6 +52,9 @@ import java.util.UUID;
 @Tag(name = "Users", description = "API for user management")
 public class UserController {
 
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("username", "email");
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ManageUserUseCase manageUserUseCase;
     private final CompareUserUseCase compareUserUseCase;
     private final UserDtoMapper mapper;
@@ -102,6 +110,31 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Scroll users with a continuation cursor",
+            description = "Keyset pagination without a total count. Send an empty cursor for the first page, then the returned nextCursor")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> scroll(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(name = "sort", defaultValue = "username") String sortField,
+            @RequestParam(name = "direction", defaultValue = "asc") String sortDirection) {
+
+        Sort sort = ScrollCursorCodec.keysetSort(sortField, sortDirection, KEYSET_SORT_FIELDS);
+        ScrollPosition position = ScrollCursorCodec.decode(cursor, sort);
+        int limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+
+        Window<User> window = compareUserUseCase.scroll(sort, position, limit);
+
+        CursorPageResponseDto<UserResponseDto> response = CursorPageResponseDto.<UserResponseDto>builder()
+                .content(window.getContent().stream().map(mapper::toResponseDto).toList())
+                .nextCursor(ScrollCursorCodec.encode(window, sort))
+                .hasNext(window.hasNext())
+                .pageSize(limit)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Update user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully"),
@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.controller.taxtype;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.port.taxtype.CompareTaxTypesUseCase;
 import com.jcuadrado.erplitebackend.application.port.taxtype.ManageTaxTypeUseCase;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
@@ -8,7 +9,9 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedRespon
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.taxtype.CreateTaxTypeRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.taxtype.TaxTypeResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.taxtype.UpdateTaxTypeRequestDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.imports.CatalogImporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.taxtype.TaxTypeDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,13 +20,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -43,9 +49,12 @@ import java.util.stream.Collectors;
 @Tag(name = "Tax Types", description = "API for managing tax types (IVA, ReteFuente, ReteIVA, ICA, etc.)")
 public class TaxTypeController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final ManageTaxTypeUseCase manageUseCase;
     private final CompareTaxTypesUseCase compareUseCase;
     private final TaxTypeDtoMapper mapper;
+    private final CatalogImporter importer;
 
     @Operation(summary = "Create tax type", description = "Creates a new tax type with the provided information")
     @ApiResponses(value = {
@@ -67,6 +76,20 @@ public class TaxTypeController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @Operation(summary = "Import tax types",
+               description = "Creates tax types in bulk from a JSON array or a CSV file with a header row. "
+                       + "Nothing is created if any row is invalid.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All rows imported"),
+        @ApiResponse(responseCode = "400", description = "Rows rejected, see the per-row errors")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, CatalogImporter.TEXT_CSV_VALUE})
+    public ResponseEntity<ImportReport> importTaxTypes(InputStream body,
+                                                       @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+        return importer.importFrom("tax-types", body, contentType, CreateTaxTypeRequestDto.class,
+                mapper::toDomain, manageUseCase::importAll);
+    }
+
     @Operation(summary = "Get tax type by UUID", description = "Retrieves a tax type by its UUID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tax type found"),
@@ -104,7 +127,9 @@ public class TaxTypeController {
             @Parameter(description = "Sort field")
             @RequestParam(name = "sort", required = false, defaultValue = "code") String sortField,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Count the total number of matches; false skips the count and leaves totals empty")
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         log.debug("Listing tax types with filters - enabled: {}, applicationType: {}, name: {}", 
                   enabled, applicationType, name);
@@ -123,7 +148,9 @@ public class TaxTypeController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<TaxType> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<TaxType> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
 
         List<TaxTypeResponseDto> dtoList = domainPage.getContent().stream()
             .map(mapper::toResponseDto)
@@ -131,16 +158,31 @@ public class TaxTypeController {
 
         PagedResponseDto<TaxTypeResponseDto> response = PagedResponseDto.<TaxTypeResponseDto>builder()
             .content(dtoList)
-            .totalElements(domainPage.getTotalElements())
-            .totalPages(domainPage.getTotalPages())
+            .totalElements(PageTotals.totalElements(domainPage))
+            .totalPages(PageTotals.totalPages(domainPage))
             .currentPage(domainPage.getNumber())
             .pageSize(domainPage.getSize())
+            .hasNext(domainPage.hasNext())
             .build();
 
-        log.debug("Found {} tax types", domainPage.getTotalElements());
+        log.debug("Found {} tax types", domainPage.getNumberOfElements());
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Search tax types", description = "Typeahead search over active tax types by code or name, ignoring case and accents, best matches first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching tax types retrieved successfully")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<TaxTypeResponseDto>> search(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")")
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        List<TaxType> found = compareUseCase.search(q, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(found.stream().map(mapper::toResponseDto).collect(Collectors.toList()));
+    }
+
     @Operation(summary = "Update tax type", description = "Updates an existing tax type")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tax type updated successfully"),
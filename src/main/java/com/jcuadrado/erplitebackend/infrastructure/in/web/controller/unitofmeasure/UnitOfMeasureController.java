@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.controller.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.port.unitofmeasure.CompareUnitsOfMeasureUseCase;
 import com.jcuadrado.erplitebackend.application.port.unitofmeasure.ManageUnitOfMeasureUseCase;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
@@ -7,7 +8,9 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedRespon
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.unitofmeasure.CreateUnitOfMeasureRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.unitofmeasure.UnitOfMeasureResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.unitofmeasure.UpdateUnitOfMeasureRequestDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.imports.CatalogImporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.unitofmeasure.UnitOfMeasureDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,10 +19,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,10 +33,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -45,9 +52,12 @@ import java.util.UUID;
 @Tag(name = "Units of Measure", description = "API for managing units of measure")
 public class UnitOfMeasureController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final ManageUnitOfMeasureUseCase manageUseCase;
     private final CompareUnitsOfMeasureUseCase compareUseCase;
     private final UnitOfMeasureDtoMapper mapper;
+    private final CatalogImporter importer;
 
     @Operation(summary = "Create unit of measure")
     @ApiResponses(value = {
@@ -62,6 +72,20 @@ public class UnitOfMeasureController {
         return ResponseEntity.created(location).body(mapper.toResponseDto(created));
     }
 
+    @Operation(summary = "Import units of measure",
+            description = "Creates units of measure in bulk from a JSON array or a CSV file with a header row. "
+                    + "Nothing is created if any row is invalid.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All rows imported"),
+            @ApiResponse(responseCode = "400", description = "Rows rejected, see the per-row errors")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, CatalogImporter.TEXT_CSV_VALUE})
+    public ResponseEntity<ImportReport> importUnitsOfMeasure(InputStream body,
+                                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+        return importer.importFrom("units-of-measure", body, contentType, CreateUnitOfMeasureRequestDto.class,
+                mapper::toDomain, manageUseCase::importAll);
+    }
+
     @Operation(summary = "Get unit of measure by UUID")
     @GetMapping("/{uuid}")
     public ResponseEntity<UnitOfMeasureResponseDto> getByUuid(
@@ -79,7 +103,8 @@ public class UnitOfMeasureController {
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "10") Integer size,
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sortField,
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection) {
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") String sortDirection,
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
 
@@ -95,15 +120,18 @@ public class UnitOfMeasureController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
 
-        Page<UnitOfMeasure> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<UnitOfMeasure> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
         List<UnitOfMeasureResponseDto> content = domainPage.getContent().stream().map(mapper::toResponseDto).toList();
 
         PagedResponseDto<UnitOfMeasureResponseDto> response = PagedResponseDto.<UnitOfMeasureResponseDto>builder()
                 .content(content)
-                .totalElements(domainPage.getTotalElements())
-                .totalPages(domainPage.getTotalPages())
+                .totalElements(PageTotals.totalElements(domainPage))
+                .totalPages(PageTotals.totalPages(domainPage))
                 .currentPage(domainPage.getNumber())
                 .pageSize(domainPage.getSize())
+                .hasNext(domainPage.hasNext())
                 .build();
 
         return ResponseEntity.ok(response);
@@ -130,6 +158,20 @@ public class UnitOfMeasureController {
         return ResponseEntity.ok(results.stream().map(mapper::toResponseDto).toList());
     }
 
+    @Operation(summary = "Typeahead search over active units of measure by name or abbreviation, ignoring case and accents")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching units of measure retrieved successfully")
+    })
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<List<UnitOfMeasureResponseDto>> searchByText(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")")
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        List<UnitOfMeasure> found = compareUseCase.search(q, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(found.stream().map(mapper::toResponseDto).toList());
+    }
+
     @Operation(summary = "Update unit of measure")
     @PutMapping("/{uuid}")
     public ResponseEntity<UnitOfMeasureResponseDto> update(
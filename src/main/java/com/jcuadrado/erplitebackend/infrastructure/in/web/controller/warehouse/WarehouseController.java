@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.controller.warehouse;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.port.warehouse.CompareWarehouseUseCase;
 import com.jcuadrado.erplitebackend.application.port.warehouse.ManageWarehouseUseCase;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
@@ -7,14 +8,18 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedRespon
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.CreateWarehouseRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.UpdateWarehouseRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.WarehouseResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.imports.CatalogImporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.warehouse.WarehouseDtoMapper;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.pagination.PageTotals;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,10 +29,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +50,7 @@ public class WarehouseController {
     private final ManageWarehouseUseCase manageUseCase;
     private final CompareWarehouseUseCase compareUseCase;
     private final WarehouseDtoMapper mapper;
+    private final CatalogImporter importer;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -52,6 +60,14 @@ public class WarehouseController {
         return ResponseEntity.created(location).body(mapper.toResponseDto(created));
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, CatalogImporter.TEXT_CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportReport> importWarehouses(InputStream body,
+                                                         @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+        return importer.importFrom("warehouses", body, contentType, CreateWarehouseRequestDto.class,
+                mapper::toCreateCommand, manageUseCase::importAll);
+    }
+
     @GetMapping("/{uuid}")
     public ResponseEntity<WarehouseResponseDto> findByUuid(@PathVariable UUID uuid) {
         return ResponseEntity.ok(mapper.toResponseDto(compareUseCase.findByUuid(uuid)));
@@ -67,7 +83,8 @@ public class WarehouseController {
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
             @RequestParam(defaultValue = "name") String sort,
-            @RequestParam(defaultValue = "asc") String direction) {
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(name = "count", defaultValue = "true") boolean withCount) {
 
         Map<String, Object> filters = new HashMap<>();
         if (active != null) filters.put("active", active);
@@ -79,17 +96,20 @@ public class WarehouseController {
         Sort.Direction dir = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(dir, sort));
 
-        Page<Warehouse> domainPage = compareUseCase.findAll(filters, pageable);
+        Slice<Warehouse> domainPage = withCount
+                ? compareUseCase.findAll(filters, pageable)
+                : compareUseCase.findSlice(filters, pageable);
         List<WarehouseResponseDto> content = domainPage.getContent().stream()
                 .map(mapper::toResponseDto)
                 .toList();
 
         return ResponseEntity.ok(PagedResponseDto.<WarehouseResponseDto>builder()
                 .content(content)
-                .totalElements(domainPage.getTotalElements())
-                .totalPages(domainPage.getTotalPages())
+                .totalElements(PageTotals.totalElements(domainPage))
+                .totalPages(PageTotals.totalPages(domainPage))
                 .currentPage(domainPage.getNumber())
                 .pageSize(domainPage.getSize())
+                .hasNext(domainPage.hasNext())
                 .build());
     }
 
@@ -0,0 +1,38 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset page response: no totals, just the items and a cursor for the next page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    /**
+     * List of items in the current page.
+     */
+    private List<T> content;
+
+    /**
+     * Opaque cursor to request the next page, or null on the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether more items follow this page.
+     */
+    private boolean hasNext;
+
+    /**
+     * Number of items requested per page.
+     */
+    private Integer pageSize;
+}
@@ -22,12 +22,12 @@ public class PagedResponseDto<T> {
     private List<T> content;
     
     /**
-     * Total number of elements across all pages.
+     * Total number of elements across all pages, null when the list was requested with {@code count=false}.
      */
     private Long totalElements;
     
     /**
-     * Total number of pages.
+     * Total number of pages, null when the list was requested with {@code count=false}.
      */
     private Integer totalPages;
     
@@ -40,4 +40,9 @@ public class PagedResponseDto<T> {
      * Number of items per page.
      */
     private Integer pageSize;
+
+    /**
+     * Whether another page follows this one.
+     */
+    private Boolean hasNext;
 }
@@ -17,11 +17,12 @@ import java.util.List;
 public class PagedResponseDto<T> {
 
     private List<T> content;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private int currentPage;
     private int pageSize;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
 }
 
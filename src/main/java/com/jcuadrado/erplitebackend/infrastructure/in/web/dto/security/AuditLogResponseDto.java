@@ -17,6 +17,8 @@ public record AuditLogResponseDto(
         String newValue,
         String ipAddress,
         String userAgent,
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        int occurrences,
+        LocalDateTime firstTimestamp
 ) {
 }
@@ -0,0 +1,9 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.export;
+
+import java.util.function.Function;
+
+/**
+ * One CSV column: its header and how to read the value from a row; null values are written as empty fields.
+ */
+public record ExportColumn<T>(String header, Function<T, ?> value) {
+}
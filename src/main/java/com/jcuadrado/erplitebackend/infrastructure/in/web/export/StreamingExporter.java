@@ -0,0 +1,133 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes exports row by row to the response as the source produces them.
+ * <p>
+ * Only a small write buffer is held: once it fills, rows go to the servlet output stream, which blocks while
+ * the client is slow to read, and that in turn holds back the source. The source runs on the async request
+ * thread, so it must open its own transaction. Exports get their own async timeout
+ * ({@code persistence.export.timeout}); other async requests keep the default.
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public StreamingExporter(ObjectMapper objectMapper,
+                             @Value("${persistence.export.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param rows feeds every row to the consumer it is given; CSV uses {@code columns}, NDJSON writes each
+     *             row as a JSON object
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format,
+                                                            List<ExportColumn<T>> columns,
+                                                            Consumer<Consumer<T>> rows) {
+        String fileName = name + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.extension();
+        extendAsyncTimeout();
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long[] written = {0};
+            try {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, columns.stream().map(ExportColumn::header).toList());
+                }
+                rows.accept(row -> {
+                    try {
+                        if (format == ExportFormat.CSV) {
+                            writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                        written[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                log.debug("Exportación {} interrumpida tras {} filas: {}", fileName, written[0], e.getMessage());
+                throw e.getCause();
+            }
+            log.debug("Exportación {} completada con {} filas", fileName, written[0]);
+        };
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Sets the timeout of the async processing the returned body starts; the handler adapter has already
+     * prepared it with the default timeout.
+     */
+    private void extendAsyncTimeout() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(attributes.getRequest()).getAsyncWebRequest();
+            if (asyncRequest != null) {
+                asyncRequest.setTimeout(timeout.toMillis());
+            }
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes per RFC 4180 and defuses text a spreadsheet would run as a formula.
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
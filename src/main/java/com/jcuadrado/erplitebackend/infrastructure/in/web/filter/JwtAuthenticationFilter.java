@@ -1,13 +1,15 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.filter;
 
+import com.jcuadrado.erplitebackend.application.command.security.AuthenticatedPrincipal;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.application.port.security.UserPermissionsUseCase;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,17 +19,30 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String PERMISSION_SOURCE_TOKEN = "token";
 
     private final TokenService tokenService;
     private final UserPermissionsUseCase userPermissionsUseCase;
+    private final PermissionVersionService permissionVersionService;
+    private final boolean trustTokenPermissions;
+
+    public JwtAuthenticationFilter(TokenService tokenService,
+                                   UserPermissionsUseCase userPermissionsUseCase,
+                                   PermissionVersionService permissionVersionService,
+                                   @Value("${security.authorization.permission-source:token}") String permissionSource) {
+        this.tokenService = tokenService;
+        this.userPermissionsUseCase = userPermissionsUseCase;
+        this.permissionVersionService = permissionVersionService;
+        this.trustTokenPermissions = PERMISSION_SOURCE_TOKEN.equalsIgnoreCase(permissionSource);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -41,19 +56,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(BEARER_PREFIX.length());
+        Optional<AuthenticatedPrincipal> principal = tokenService.parseToken(token);
 
-        if (!tokenService.validateToken(token)) {
+        if (principal.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            String username = tokenService.extractUsername(token);
-            List<String> roles = tokenService.extractRoles(token);
-            List<String> permissions = userPermissionsUseCase.getPermissionStrings(username);
+            String username = principal.get().subject();
+            List<String> permissions = resolvePermissions(principal.get());
 
             List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-            roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
+            principal.get().roles().forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
             permissions.forEach(perm -> authorities.add(new SimpleGrantedAuthority(perm)));
 
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -65,4 +80,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private List<String> resolvePermissions(AuthenticatedPrincipal principal) {
+        if (trustTokenPermissions && principal.userId() != null
+                && permissionVersionService.isCurrent(principal.userId(), principal.permissionsVersion())) {
+            return principal.permissions();
+        }
+        return userPermissionsUseCase.getPermissionStrings(principal.subject());
+    }
 }
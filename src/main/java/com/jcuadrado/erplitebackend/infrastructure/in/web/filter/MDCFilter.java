@@ -2,14 +2,18 @@ package com.jcuadrado.erplitebackend.infrastructure.in.web.filter;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.slf4j.spi.LoggingEventBuilder;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Filter to populate MDC (Mapped Diagnostic Context) with contextual information
@@ -19,6 +23,10 @@ import java.util.UUID;
  * - requestId: Unique identifier for each request
  * - correlationId: For distributed tracing (if present in header)
  * - userId: User identifier (will be populated when authentication is implemented)
+ *
+ * Each request is logged once, when it completes, with its status and duration; for async requests
+ * (streamed exports) that is when the async processing ends. A request whose filter chain throws is logged
+ * with status 500 and the exception class, since the container only sets the error status afterwards.
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -36,6 +44,9 @@ public class MDCFilter implements Filter {
             throws IOException, ServletException {
 
         HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        long startNanos = System.nanoTime();
+        Exception failure = null;
 
         try {
             String requestId = httpRequest.getHeader(HEADER_REQUEST_ID);
@@ -51,18 +62,18 @@ public class MDCFilter implements Filter {
 
             // TODO: Extract userId from SecurityContext when authentication is implemented
 
-            log.info("Request started: {} {} [requestId={}]",
-                httpRequest.getMethod(),
-                httpRequest.getRequestURI(),
-                requestId);
-
             chain.doFilter(request, response);
 
-            log.info("Request completed: {} {}",
-                httpRequest.getMethod(),
-                httpRequest.getRequestURI());
-
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
         } finally {
+            if (failure == null && httpRequest.isAsyncStarted()) {
+                httpRequest.getAsyncContext().addListener(
+                        new SummaryOnCompletion(httpRequest, httpResponse, startNanos, MDC.getCopyOfContextMap()));
+            } else {
+                logSummary(httpRequest, httpResponse, startNanos, failure);
+            }
             MDC.clear();
         }
     }
@@ -76,5 +87,56 @@ public class MDCFilter implements Filter {
     public void destroy() {
         log.info("MDC Filter destroyed");
     }
-}
 
+    private static void logSummary(HttpServletRequest request, HttpServletResponse response, long startNanos,
+                                   Exception failure) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        int status = failure == null ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        LoggingEventBuilder event = log.atInfo()
+                .addKeyValue("http.method", request.getMethod())
+                .addKeyValue("http.path", request.getRequestURI())
+                .addKeyValue("http.status", status)
+                .addKeyValue("duration_ms", durationMs);
+        if (failure == null) {
+            event.log("{} {} {} {} ms", request.getMethod(), request.getRequestURI(), status, durationMs);
+        } else {
+            event.addKeyValue("exception", failure.getClass().getName())
+                    .log("{} {} {} {} ms ({})", request.getMethod(), request.getRequestURI(), status, durationMs,
+                            failure.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Logs the summary of an async request on the container thread that completes it, with the request's MDC.
+     */
+    private record SummaryOnCompletion(HttpServletRequest request, HttpServletResponse response, long startNanos,
+                                       Map<String, String> context) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                logSummary(request, response, startNanos, null);
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.imports;
+
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a catalog import from a CSV or JSON request body and hands the rows to a batch import use case.
+ * <p>
+ * CSV files need a header with the same field names as the JSON objects of a single create; blank cells are
+ * left out. Every row is bound to the create request DTO and checked against its bean validation constraints;
+ * if any row fails, those errors are reported without calling the use case. Otherwise the use case checks the
+ * business rules for the whole batch. Either way the response carries the per-row errors.
+ */
+@Slf4j
+@Component
+public class CatalogImporter {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxRows;
+
+    public CatalogImporter(ObjectMapper objectMapper,
+                           Validator validator,
+                           @Value("${catalog.import.max-rows:20000}") int maxRows) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * @param toDomain maps a bound request row to what {@code importer} takes
+     * @return 201 with the report when every row was imported, 400 with it otherwise
+     */
+    public <D, T> ResponseEntity<ImportReport> importFrom(String catalog, InputStream body, MediaType contentType,
+                                                          Class<D> rowType, Function<D, T> toDomain,
+                                                          Function<List<T>, ImportReport> importer) {
+        long start = System.nanoTime();
+        List<D> rows = new ArrayList<>();
+        List<ImportRowError> errors = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+                readCsv(reader, rowType, rows, errors);
+            } else {
+                readJson(reader, rowType, rows, errors);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int received = rows.size() + errors.size();
+        ImportReport report = errors.isEmpty()
+                ? importer.apply(rows.stream().map(toDomain).toList())
+                : ImportReport.rejected(received, errors);
+
+        log.info("Importación de {}: {} filas recibidas, {} importadas, {} con errores en {} ms", catalog,
+                report.received(), report.imported(), report.errors().size(), (System.nanoTime() - start) / 1_000_000);
+        return ResponseEntity.status(report.hasErrors() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED).body(report);
+    }
+
+    private <D> void readJson(Reader reader, Class<D> rowType, List<D> rows, List<ImportRowError> errors) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(reader);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("El cuerpo de la importación no es un JSON válido");
+        }
+        if (root == null || !root.isArray()) {
+            throw new IllegalArgumentException("El cuerpo de la importación debe ser un arreglo JSON");
+        }
+        checkSize(root.size());
+        int row = 0;
+        for (JsonNode element : root) {
+            bind(++row, element, rowType, rows, errors);
+        }
+    }
+
+    private <D> void readCsv(BufferedReader reader, Class<D> rowType, List<D> rows, List<ImportRowError> errors)
+            throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("El archivo CSV está vacío");
+        }
+        header.set(0, header.get(0).replace("\uFEFF", ""));
+        header.replaceAll(String::trim);
+
+        int row = 0;
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            checkSize(++row);
+            if (record.size() != header.size()) {
+                errors.add(new ImportRowError(row, "La fila tiene " + record.size()
+                        + " columnas y el encabezado " + header.size()));
+                continue;
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.get(i).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(i), value);
+                }
+            }
+            bind(row, values, rowType, rows, errors);
+        }
+    }
+
+    private <D> void bind(int row, Object source, Class<D> rowType, List<D> rows, List<ImportRowError> errors) {
+        D bound;
+        try {
+            bound = objectMapper.convertValue(source, rowType);
+        } catch (JacksonException e) {
+            String field = e.getPath().stream()
+                    .map(JacksonException.Reference::getPropertyName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("."));
+            errors.add(new ImportRowError(row,
+                    field.isEmpty() ? "Formato de fila inválido" : "Valor inválido para " + field));
+            return;
+        }
+        if (bound == null) {
+            errors.add(new ImportRowError(row, "Fila vacía"));
+            return;
+        }
+        String violations = validator.validate(bound).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (violations.isEmpty()) {
+            rows.add(bound);
+        } else {
+            errors.add(new ImportRowError(row, violations));
+        }
+    }
+
+    private void checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new IllegalArgumentException("La importación supera el máximo de " + maxRows + " filas");
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record; quoted fields may contain commas, doubled quotes and line breaks.
+     *
+     * @return the fields, or {@code null} at end of input
+     */
+    static List<String> readRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    reader.reset();
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("El archivo CSV tiene comillas sin cerrar");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
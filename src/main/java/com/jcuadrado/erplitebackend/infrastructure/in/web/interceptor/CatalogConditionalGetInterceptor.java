@@ -0,0 +1,51 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.interceptor;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalogVersion;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Answers conditional GETs on catalog resources from the catalog version alone.
+ * <p>
+ * Every GET gets a strong {@code ETag} and a {@code Last-Modified} derived from the versions of the catalogs
+ * behind the path. A matching {@code If-None-Match} (or, without it, {@code If-Modified-Since}) ends the
+ * request with 304 before the controller runs, so neither the database nor Jackson is touched. The version
+ * is read before the handler loads any data, so a body is never older than the tag sent with it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final ReferenceDataCache referenceDataCache;
+    private final Set<ReferenceCatalog> catalogs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        ReferenceCatalogVersion version = referenceDataCache.version(catalogs);
+        // Clients may keep the body but must revalidate it; this also keeps the default no-store headers away
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        boolean notModified = new ServletWebRequest(request, response)
+                .checkNotModified('"' + version.tag() + '"', version.lastModified().toEpochMilli());
+        if (notModified) {
+            log.debug("Catálogo sin cambios para {}, se responde 304", request.getRequestURI());
+        }
+        return !notModified;
+    }
+}
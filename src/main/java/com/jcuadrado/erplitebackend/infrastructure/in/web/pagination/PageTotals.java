@@ -0,0 +1,21 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Totals for paged responses; a {@link Slice} read with {@code count=false} has none, so they stay null.
+ */
+public final class PageTotals {
+
+    private PageTotals() {
+    }
+
+    public static Long totalElements(Slice<?> slice) {
+        return slice instanceof Page<?> page ? page.getTotalElements() : null;
+    }
+
+    public static Integer totalPages(Slice<?> slice) {
+        return slice instanceof Page<?> page ? page.getTotalPages() : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe continuation tokens.
+ * <p>
+ * A token carries the sort it was issued for and the last row's sort key and id, each value tagged with its
+ * type so it can be bound back as a query parameter. Tokens are not signed: a forged one only moves the seek
+ * position, the request's own filters still apply.
+ */
+public final class ScrollCursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private ScrollCursorCodec() {
+    }
+
+    /**
+     * Builds the sort for a keyset request, rejecting fields that are not unique enough or may be null.
+     */
+    public static Sort keysetSort(String field, String direction, Set<String> allowedFields) {
+        if (!allowedFields.contains(field)) {
+            throw new IllegalArgumentException("Campo de orden no soportado con cursor: " + field
+                    + ". Valores permitidos: " + allowedFields);
+        }
+        return Sort.by(direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, field);
+    }
+
+    /**
+     * Decodes {@code cursor} into a forward keyset position; a blank cursor starts from the beginning.
+     */
+    public static ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String issuedFor;
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String[] parts = text(cursor).split("\\|", -1);
+            if (parts.length < 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Versión de cursor desconocida");
+            }
+            issuedFor = text(parts[1]);
+            for (int i = 2; i < parts.length; i++) {
+                String[] entry = parts[i].split(":", 3);
+                keys.put(text(entry[0]), value(entry[1], text(entry[2])));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+        if (!sort.toString().equals(issuedFor)) {
+            throw new IllegalArgumentException("El cursor fue emitido para otro orden");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Token pointing after the last item of {@code window}, or null when there is no next page.
+     */
+    public static String encode(Window<?> window, Sort sort) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        StringBuilder token = new StringBuilder(VERSION).append(SEPARATOR).append(base64(sort.toString()));
+        position.getKeys().forEach((key, value) -> token.append(SEPARATOR)
+                .append(base64(key)).append(':').append(type(value)).append(':').append(base64(String.valueOf(value))));
+        return ENCODER.encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static char type(Object value) {
+        return switch (value) {
+            case String ignored -> 's';
+            case UUID ignored -> 'u';
+            case LocalDateTime ignored -> 't';
+            case Long ignored -> 'l';
+            case Integer ignored -> 'i';
+            case Boolean ignored -> 'b';
+            default -> throw new IllegalStateException("Tipo de clave no soportado en cursor: " + value.getClass());
+        };
+    }
+
+    private static Object value(String type, String text) {
+        return switch (type) {
+            case "s" -> text;
+            case "u" -> UUID.fromString(text);
+            case "t" -> LocalDateTime.parse(text);
+            case "l" -> Long.valueOf(text);
+            case "i" -> Integer.valueOf(text);
+            case "b" -> Boolean.valueOf(text);
+            default -> throw new IllegalArgumentException("Tipo de clave desconocido: " + type);
+        };
+    }
+
+    private static String base64(String text) {
+        return ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(String base64) {
+        return new String(DECODER.decode(base64), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.archive.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogArchiver;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archives audit logs as gzip-compressed NDJSON files ({@code audit-logs-<timestamp>.ndjson.gz}),
+ * one JSON object per line, so archives can be streamed with {@code zcat} and standard JSON tooling.
+ */
+@Component
+public class GzipAuditLogArchiver implements AuditLogArchiver {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ObjectMapper objectMapper;
+    private final Path archiveDirectory;
+
+    public GzipAuditLogArchiver(ObjectMapper objectMapper,
+                                @Value("${retention.audit-logs.archive-dir:archive/audit-logs}") Path archiveDirectory) {
+        this.objectMapper = objectMapper;
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    @Override
+    public Session open() {
+        try {
+            Files.createDirectories(archiveDirectory);
+            Path file = archiveDirectory.resolve(
+                    "audit-logs-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".ndjson.gz");
+            return new GzipSession(file, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el archivo de auditoría en " + archiveDirectory, e);
+        }
+    }
+
+    private static final class GzipSession implements Session {
+
+        private final Path file;
+        private final ObjectMapper objectMapper;
+        private final FileOutputStream fileStream;
+        private final BufferedWriter writer;
+
+        private GzipSession(Path file, ObjectMapper objectMapper) throws IOException {
+            this.file = file;
+            this.objectMapper = objectMapper;
+            this.fileStream = new FileOutputStream(file.toFile(), true);
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(fileStream, 64 * 1024, true), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void append(List<AuditLog> auditLogs) {
+            try {
+                for (AuditLog auditLog : auditLogs) {
+                    writer.write(objectMapper.writeValueAsString(auditLog));
+                    writer.newLine();
+                }
+                writer.flush();
+                fileStream.getFD().sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir en el archivo de auditoría " + file, e);
+            }
+        }
+
+        @Override
+        public String location() {
+            return file.toString();
+        }
+
+        @Override
+        public void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo cerrar el archivo de auditoría " + file, e);
+            }
+        }
+    }
+}
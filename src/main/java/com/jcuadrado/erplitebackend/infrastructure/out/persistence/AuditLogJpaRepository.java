@@ -2,10 +2,26 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
 
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.AuditLogEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface AuditLogJpaRepository extends JpaRepository<AuditLogEntity, UUID>,
         JpaSpecificationExecutor<AuditLogEntity> {
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.timestamp < :cutoff ORDER BY a.timestamp, a.id")
+    List<AuditLogEntity> findOlderThan(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuditLogEntity a WHERE a.id IN :ids AND a.timestamp < :cutoff")
+    int deleteOlderThan(@Param("ids") Collection<UUID> ids, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,29 +1,50 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
 
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Every finder returning municipalities loads their department in the same statement, since the entity mapper
+ * always maps it.
+ */
 @Repository
 public interface MunicipalityJpaRepository extends
         JpaRepository<MunicipalityEntity, Long>,
         JpaSpecificationExecutor<MunicipalityEntity> {
 
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Optional<MunicipalityEntity> findById(Long id);
+
+    @EntityGraph(attributePaths = "department")
     Optional<MunicipalityEntity> findByUuid(UUID uuid);
 
+    @EntityGraph(attributePaths = "department")
     Optional<MunicipalityEntity> findByCodeAndDepartmentId(String code, Long departmentId);
 
+    boolean existsByUuid(UUID uuid);
+
+    @Query("SELECT m.uuid FROM MunicipalityEntity m WHERE m.uuid IN :uuids")
+    List<UUID> findUuidsIn(@Param("uuids") Collection<UUID> uuids);
+
     boolean existsByCodeAndDepartmentId(String code, Long departmentId);
 
     boolean existsByCodeAndDepartmentIdAndUuidNot(String code, Long departmentId, UUID uuid);
 
+    @EntityGraph(attributePaths = "department")
     List<MunicipalityEntity> findByEnabledTrue();
 
+    @EntityGraph(attributePaths = "department")
     List<MunicipalityEntity> findByDepartmentIdAndEnabledOrderByNameAsc(Long departmentId, Boolean enabled);
 
     long countByDepartmentId(Long departmentId);
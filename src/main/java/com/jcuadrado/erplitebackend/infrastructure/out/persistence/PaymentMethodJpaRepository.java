@@ -40,6 +40,12 @@ public interface PaymentMethodJpaRepository extends
      */
     boolean existsByCodeAndUuidNot(String code, UUID uuid);
 
+    /**
+     * Codes of all payment methods, read in one query to validate an import batch
+     */
+    @Query("SELECT pm.code FROM PaymentMethodEntity pm")
+    List<String> findAllCodes();
+
     /**
      * Find all enabled payment methods
      */
@@ -0,0 +1,19 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
+
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.PermissionVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PermissionVersionJpaRepository extends JpaRepository<PermissionVersionEntity, Short> {
+
+    @Query("SELECT v.version FROM PermissionVersionEntity v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") short id);
+
+    @Modifying
+    @Query("UPDATE PermissionVersionEntity v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") short id);
+}
@@ -1,18 +1,25 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
 
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RefreshTokenEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, UUID> {
 
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Query("SELECT rt.id FROM RefreshTokenEntity rt "
+            + "WHERE rt.expiresAt < :cutoff OR (rt.revoked = true AND rt.createdAt < :cutoff) ORDER BY rt.id")
+    List<UUID> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
 
     @Modifying
     @Transactional
@@ -4,6 +4,7 @@ import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.taxtype.TaxTypeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -39,6 +40,12 @@ public interface TaxTypeJpaRepository extends
      */
     boolean existsByCodeAndUuidNot(String code, UUID uuid);
 
+    /**
+     * Codes of all tax types, read in one query to validate an import batch
+     */
+    @Query("SELECT t.code FROM TaxTypeEntity t")
+    List<String> findAllCodes();
+
     /**
      * Find all enabled tax types
      */
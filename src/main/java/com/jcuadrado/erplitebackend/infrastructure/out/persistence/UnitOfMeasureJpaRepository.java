@@ -32,6 +32,12 @@ public interface UnitOfMeasureJpaRepository extends
 
     boolean existsByAbbreviationIgnoreCaseAndUuidNot(String abbreviation, UUID uuid);
 
+    @Query("SELECT uom.name FROM UnitOfMeasureEntity uom")
+    List<String> findAllNames();
+
+    @Query("SELECT uom.abbreviation FROM UnitOfMeasureEntity uom")
+    List<String> findAllAbbreviations();
+
     @Query("""
         SELECT 0
         FROM UnitOfMeasureEntity uom
@@ -1,12 +1,19 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
 
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +30,18 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     @Query("SELECT u FROM UserEntity u WHERE u.deletedAt IS NULL")
     Page<UserEntity> findAllActive(Pageable pageable);
 
+    Window<UserEntity> findByDeletedAtIsNull(ScrollPosition position, Sort sort, Limit limit);
+
     @Query("SELECT u FROM UserEntity u WHERE u.id = :id AND u.deletedAt IS NULL")
     Optional<UserEntity> findActiveById(@Param("id") UUID id);
+
+    @Query("SELECT u.id FROM UserEntity u JOIN u.roles r WHERE r.id = :roleId")
+    List<UUID> findIdsByRoleId(@Param("roleId") UUID roleId);
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.permissionsVersion > :version")
+    List<UUID> findIdsWithPermissionsVersionAfter(@Param("version") long version);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.permissionsVersion = :version WHERE u.id IN :ids")
+    int updatePermissionsVersion(@Param("ids") Collection<UUID> ids, @Param("version") long version);
 }
@@ -5,10 +5,12 @@ import com.jcuadrado.erplitebackend.domain.port.documenttypes.DocumentTypeReposi
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.DocumentTypeJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.documenttypes.DocumentTypeEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.documenttypes.DocumentTypeEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.documenttypes.DocumentTypeSpecificationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -25,11 +27,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DocumentTypeRepositoryAdapter implements DocumentTypeRepository {
 
+    private static final String COUNT_QUERY = "document_types";
+
     private final DocumentTypeJpaRepository jpaRepository;
     private final DocumentTypeEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
 
     @Override
     public DocumentType save(DocumentType documentType) {
+        pagedQueries.evict(COUNT_QUERY);
         DocumentTypeEntity entity = mapper.toEntity(documentType);
         DocumentTypeEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -56,8 +62,13 @@ public class DocumentTypeRepositoryAdapter implements DocumentTypeRepository {
     @Override
     public Page<DocumentType> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<DocumentTypeEntity> spec = DocumentTypeSpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(spec, pageable)
-            .map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, spec, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<DocumentType> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<DocumentTypeEntity> spec = DocumentTypeSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, spec, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -79,6 +90,7 @@ public class DocumentTypeRepositoryAdapter implements DocumentTypeRepository {
 
     @Override
     public void deleteByUuid(UUID uuid) {
+        pagedQueries.evict(COUNT_QUERY);
         jpaRepository.findByUuid(uuid)
             .ifPresent(jpaRepository::delete);
     }
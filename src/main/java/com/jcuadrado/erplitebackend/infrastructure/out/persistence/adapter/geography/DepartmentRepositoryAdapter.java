@@ -5,10 +5,12 @@ import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.DepartmentJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.DepartmentEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.geography.DepartmentEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.geography.DepartmentSpecificationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -22,11 +24,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DepartmentRepositoryAdapter implements DepartmentRepository {
 
+    private static final String COUNT_QUERY = "departments";
+
     private final DepartmentJpaRepository jpaRepository;
     private final DepartmentEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
 
     @Override
     public Department save(Department department) {
+        pagedQueries.evict(COUNT_QUERY);
         DepartmentEntity entity = mapper.toEntity(department);
         DepartmentEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -50,7 +56,13 @@ public class DepartmentRepositoryAdapter implements DepartmentRepository {
     @Override
     public Page<Department> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<DepartmentEntity> spec = DepartmentSpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(spec, pageable).map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, spec, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<Department> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<DepartmentEntity> spec = DepartmentSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, spec, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -71,6 +83,7 @@ public class DepartmentRepositoryAdapter implements DepartmentRepository {
 
     @Override
     public void deleteByUuid(UUID uuid) {
+        pagedQueries.evict(COUNT_QUERY);
         jpaRepository.findByUuid(uuid).ifPresent(jpaRepository::delete);
     }
 
@@ -5,28 +5,43 @@ import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.MunicipalityJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.geography.MunicipalityEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.ProjectionReader;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.geography.MunicipalityRowProjection;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.geography.MunicipalitySpecificationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class MunicipalityRepositoryAdapter implements MunicipalityRepository {
 
+    private static final String COUNT_QUERY = "municipalities";
+
     private final MunicipalityJpaRepository jpaRepository;
     private final MunicipalityEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
+    private final ProjectionReader projections;
+    private final MunicipalityRowProjection rowProjection;
 
     @Override
     public Municipality save(Municipality municipality) {
+        pagedQueries.evict(COUNT_QUERY);
         MunicipalityEntity entity = mapper.toEntity(municipality);
         MunicipalityEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -47,10 +62,27 @@ public class MunicipalityRepositoryAdapter implements MunicipalityRepository {
         return jpaRepository.findByCodeAndDepartmentId(code, departmentId).map(mapper::toDomain);
     }
 
+    /**
+     * Reads list rows as a projection joined with their department instead of hydrating entities.
+     */
     @Override
     public Page<Municipality> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<MunicipalityEntity> spec = MunicipalitySpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(spec, pageable).map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, filters, pageable,
+                p -> projections.slice(MunicipalityEntity.class, spec, p, rowProjection),
+                () -> jpaRepository.count(spec));
+    }
+
+    @Override
+    public Slice<Municipality> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<MunicipalityEntity> spec = MunicipalitySpecificationUtil.buildSpecification(filters);
+        return projections.slice(MunicipalityEntity.class, spec, pageable, rowProjection);
+    }
+
+    @Override
+    public void forEach(Map<String, Object> filters, Sort sort, Consumer<Municipality> action) {
+        Specification<MunicipalityEntity> spec = MunicipalitySpecificationUtil.buildSpecification(filters);
+        projections.forEach(MunicipalityEntity.class, spec, sort, rowProjection, action);
     }
 
     @Override
@@ -66,6 +98,19 @@ public class MunicipalityRepositoryAdapter implements MunicipalityRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean existsByUuid(UUID uuid) {
+        return jpaRepository.existsByUuid(uuid);
+    }
+
+    @Override
+    public Set<UUID> findExistingUuids(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findUuidsIn(uuids));
+    }
+
     @Override
     public boolean existsByCodeAndDepartmentId(String code, Long departmentId) {
         return jpaRepository.existsByCodeAndDepartmentId(code, departmentId);
@@ -78,6 +123,7 @@ public class MunicipalityRepositoryAdapter implements MunicipalityRepository {
 
     @Override
     public void deleteByUuid(UUID uuid) {
+        pagedQueries.evict(COUNT_QUERY);
         jpaRepository.findByUuid(uuid).ifPresent(jpaRepository::delete);
     }
 
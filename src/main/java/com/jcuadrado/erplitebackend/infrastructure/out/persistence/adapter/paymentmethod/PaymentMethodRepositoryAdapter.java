@@ -5,13 +5,19 @@ import com.jcuadrado.erplitebackend.domain.port.paymentmethod.PaymentMethodRepos
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.PaymentMethodJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.paymentmethod.PaymentMethodEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.paymentmethod.PaymentMethodEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.paymentmethod.PaymentMethodSpecificationUtil;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.JdbcBatchInserter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,11 +28,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PaymentMethodRepositoryAdapter implements PaymentMethodRepository {
 
+    private static final String COUNT_QUERY = "payment_methods";
+
+    static final String INSERT_SQL = "INSERT INTO payment_methods "
+        + "(uuid, code, name, enabled, created_by, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final PaymentMethodJpaRepository jpaRepository;
     private final PaymentMethodEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
+    private final JdbcBatchInserter batchInserter;
 
     @Override
     public PaymentMethod save(PaymentMethod paymentMethod) {
+        pagedQueries.evict(COUNT_QUERY);
         PaymentMethodEntity entity = mapper.toEntity(paymentMethod);
         PaymentMethodEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -53,8 +67,13 @@ public class PaymentMethodRepositoryAdapter implements PaymentMethodRepository {
     @Override
     public Page<PaymentMethod> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<PaymentMethodEntity> spec = PaymentMethodSpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(spec, pageable)
-            .map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, spec, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<PaymentMethod> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<PaymentMethodEntity> spec = PaymentMethodSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, spec, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -85,6 +104,7 @@ public class PaymentMethodRepositoryAdapter implements PaymentMethodRepository {
 
     @Override
     public void delete(UUID uuid) {
+        pagedQueries.evict(COUNT_QUERY);
         jpaRepository.findByUuid(uuid)
             .ifPresent(jpaRepository::delete);
     }
@@ -99,8 +119,28 @@ public class PaymentMethodRepositoryAdapter implements PaymentMethodRepository {
         return jpaRepository.existsByCodeAndUuidNot(code, excludeUuid);
     }
 
+    @Override
+    public List<String> findAllCodes() {
+        return jpaRepository.findAllCodes();
+    }
+
+    @Override
+    public void insertAll(List<PaymentMethod> paymentMethods) {
+        pagedQueries.evict(COUNT_QUERY);
+        batchInserter.insert(INSERT_SQL, paymentMethods, PaymentMethodRepositoryAdapter::bind);
+    }
+
     @Override
     public long countTransactionsWithPaymentMethod(UUID paymentMethodUuid) {
         return jpaRepository.countTransactionsWithPaymentMethod(paymentMethodUuid);
     }
+
+    private static void bind(PreparedStatement ps, PaymentMethod paymentMethod) throws SQLException {
+        ps.setBytes(1, JdbcBatchInserter.toBytes(paymentMethod.getUuid()));
+        ps.setString(2, paymentMethod.getCode());
+        ps.setString(3, paymentMethod.getName());
+        ps.setBoolean(4, paymentMethod.getEnabled());
+        JdbcBatchInserter.setLong(ps, 5, paymentMethod.getCreatedBy());
+        JdbcBatchInserter.setTimestamp(ps, 6, paymentMethod.getCreatedAt());
+    }
 }
@@ -0,0 +1,83 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL quarterly RANGE COLUMNS partitions of {@code audit_logs} (migration V18): {@code p<year>q<quarter>} per
+ * quarter and {@code p_future} catching everything after the last one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogPartitionAdapter implements AuditLogPartitionManager {
+
+    static final String CATCH_ALL = "p_future";
+
+    private static final String FIND_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION "
+            + "FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Partition> findAll() {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) ->
+                new Partition(rs.getString(1), parseBound(rs.getString(2))));
+    }
+
+    /**
+     * Runs ahead of time, while {@code p_future} is still empty, so the reorganization moves no rows.
+     */
+    @Override
+    public void addPartitions(List<LocalDateTime> upperBounds) {
+        String partitions = upperBounds.stream()
+                .map(bound -> "PARTITION " + nameFor(bound) + " VALUES LESS THAN ('" + BOUND.format(bound) + "')")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE audit_logs REORGANIZE PARTITION " + CATCH_ALL + " INTO ("
+                + partitions + ", PARTITION " + CATCH_ALL + " VALUES LESS THAN (MAXVALUE))");
+        log.info("Particiones de auditoría creadas hasta {}", upperBounds.getLast());
+    }
+
+    @Override
+    public void drop(Partition partition) {
+        jdbcTemplate.execute("ALTER TABLE audit_logs DROP PARTITION `" + partition.name().replace("`", "") + "`");
+        log.info("Partición de auditoría {} eliminada", partition.name());
+    }
+
+    /**
+     * Names the partition after the quarter that ends at {@code upperBound}.
+     */
+    static String nameFor(LocalDateTime upperBound) {
+        LocalDate quarter = upperBound.toLocalDate().minusMonths(3);
+        return "p" + quarter.getYear() + "q" + ((quarter.getMonthValue() - 1) / 3 + 1);
+    }
+
+    /**
+     * Reads a RANGE COLUMNS bound such as {@code '2026-04-01'} or {@code '2026-04-01 00:00:00'};
+     * {@code MAXVALUE} has no bound.
+     */
+    static LocalDateTime parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        int fraction = value.indexOf('.');
+        if (fraction > 0) {
+            value = value.substring(0, fraction);
+        }
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value, BOUND);
+    }
+}
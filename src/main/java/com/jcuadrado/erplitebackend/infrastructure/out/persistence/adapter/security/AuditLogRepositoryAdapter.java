@@ -4,28 +4,50 @@ import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
 import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.AuditLogJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.AuditLogEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.security.AuditLogEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.ProjectionReader;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.security.AuditLogRowProjection;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.security.AuditLogSpecificationUtil;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security.AuditLogBatchWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.AuditLogEntity;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class AuditLogRepositoryAdapter implements AuditLogRepository {
 
+    private static final String COUNT_QUERY = "audit_logs";
+
     private final AuditLogJpaRepository jpaRepository;
     private final AuditLogEntityMapper mapper;
+    private final AuditLogBatchWriter batchWriter;
+    private final PagedQueryExecutor pagedQueries;
+    private final ProjectionReader projections;
+    private final AuditLogRowProjection rowProjection;
 
+    /**
+     * Queues the audit log for a batched insert; the row becomes visible shortly after this returns.
+     */
     @Override
     public AuditLog save(AuditLog auditLog) {
-        return mapper.toDomain(jpaRepository.save(mapper.toEntity(auditLog)));
+        batchWriter.submit(auditLog);
+        return auditLog;
     }
 
     @Override
@@ -33,9 +55,44 @@ public class AuditLogRepositoryAdapter implements AuditLogRepository {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    /**
+     * Reads rows as a projection, not entities. Batched inserts do not evict cached counts, so totals may
+     * trail new audit rows by the count cache TTL.
+     */
     @Override
     public Page<AuditLog> findByFilter(AuditLogFilter filter, Pageable pageable) {
         Specification<AuditLogEntity> spec = AuditLogSpecificationUtil.buildSpecification(filter);
-        return jpaRepository.findAll(spec, pageable).map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, filter, pageable,
+                p -> projections.slice(AuditLogEntity.class, spec, p, rowProjection),
+                () -> jpaRepository.count(spec));
+    }
+
+    @Override
+    public Window<AuditLog> scrollByFilter(AuditLogFilter filter, Sort sort, ScrollPosition position, int limit) {
+        Specification<AuditLogEntity> spec = AuditLogSpecificationUtil.buildSpecification(filter);
+        Window<AuditLogEntity> window = jpaRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).scroll(position));
+        return window.map(mapper::toDomain);
+    }
+
+    @Override
+    public void forEachByFilter(AuditLogFilter filter, Sort sort, Consumer<AuditLog> action) {
+        Specification<AuditLogEntity> spec = AuditLogSpecificationUtil.buildSpecification(filter);
+        projections.forEach(AuditLogEntity.class, spec, sort, rowProjection, action);
+    }
+
+    @Override
+    public List<AuditLog> findOlderThan(LocalDateTime cutoff, int limit) {
+        return jpaRepository.findOlderThan(cutoff, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteOlderThan(Collection<UUID> ids, LocalDateTime cutoff) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        pagedQueries.evict(COUNT_QUERY);
+        return jpaRepository.deleteOlderThan(ids, cutoff);
     }
 }
@@ -3,10 +3,14 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.secu
 import com.jcuadrado.erplitebackend.domain.model.security.RefreshToken;
 import com.jcuadrado.erplitebackend.domain.port.security.RefreshTokenRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.RefreshTokenJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RefreshTokenEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.security.RefreshTokenEntityMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,12 +27,29 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
     }
 
     @Override
-    public Optional<RefreshToken> findByToken(String token) {
-        return jpaRepository.findByToken(token).map(mapper::toDomain);
+    public RefreshToken insert(RefreshToken token) {
+        RefreshTokenEntity entity = mapper.toEntity(token);
+        entity.setInserting(true);
+        return mapper.toDomain(jpaRepository.save(entity));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash).map(mapper::toDomain);
     }
 
     @Override
     public void revokeAllByUserId(UUID userId) {
         jpaRepository.revokeAllByUserId(userId);
     }
+
+    @Override
+    public int deleteExpiredOrRevokedBefore(LocalDateTime cutoff, int batchSize) {
+        List<UUID> ids = jpaRepository.findPurgeableIds(cutoff, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jpaRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
 }
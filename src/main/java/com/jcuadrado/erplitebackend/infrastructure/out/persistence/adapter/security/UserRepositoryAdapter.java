@@ -3,10 +3,15 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.secu
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import com.jcuadrado.erplitebackend.domain.port.security.UserRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UserJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.UserEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.security.UserEntityMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -21,7 +26,11 @@ public class UserRepositoryAdapter implements UserRepository {
 
     @Override
     public User save(User user) {
-        return mapper.toDomain(jpaRepository.save(mapper.toEntity(user)));
+        UserEntity entity = mapper.toEntity(user);
+        // The mapper leaves roles empty and merging that would delete the user's role assignments; the stored
+        // (lazy) collection is left untouched by the merge. Inside a transaction this lookup hits the session.
+        jpaRepository.findById(user.getId()).ifPresent(stored -> entity.setRoles(stored.getRoles()));
+        return mapper.toDomain(jpaRepository.save(entity));
     }
 
     @Override
@@ -44,6 +53,11 @@ public class UserRepositoryAdapter implements UserRepository {
         return jpaRepository.findAllActive(pageable).map(mapper::toDomain);
     }
 
+    @Override
+    public Window<User> scrollAll(Sort sort, ScrollPosition position, int limit) {
+        return jpaRepository.findByDeletedAtIsNull(position, sort, Limit.of(limit)).map(mapper::toDomain);
+    }
+
     @Override
     public boolean existsByUsername(String username) {
         return jpaRepository.existsByUsername(username);
@@ -6,13 +6,19 @@ import com.jcuadrado.erplitebackend.domain.port.taxtype.TaxTypeRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.TaxTypeJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.taxtype.TaxTypeEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.taxtype.TaxTypeEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.taxtype.TaxTypeSpecificationUtil;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.JdbcBatchInserter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,11 +34,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaxTypeRepositoryAdapter implements TaxTypeRepository {
 
+    private static final String COUNT_QUERY = "tax_types";
+
+    static final String INSERT_SQL = "INSERT INTO tax_types "
+        + "(uuid, code, name, percentage, is_included, application_type, enabled, created_by, created_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final TaxTypeJpaRepository jpaRepository;
     private final TaxTypeEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
+    private final JdbcBatchInserter batchInserter;
 
     @Override
     public TaxType save(TaxType taxType) {
+        pagedQueries.evict(COUNT_QUERY);
         TaxTypeEntity entity = mapper.toEntity(taxType);
         TaxTypeEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -52,6 +67,7 @@ public class TaxTypeRepositoryAdapter implements TaxTypeRepository {
 
     @Override
     public void delete(TaxType taxType) {
+        pagedQueries.evict(COUNT_QUERY);
         jpaRepository.findByUuid(taxType.getUuid())
             .ifPresent(jpaRepository::delete);
     }
@@ -59,8 +75,13 @@ public class TaxTypeRepositoryAdapter implements TaxTypeRepository {
     @Override
     public Page<TaxType> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<TaxTypeEntity> spec = TaxTypeSpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(spec, pageable)
-            .map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, spec, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<TaxType> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<TaxTypeEntity> spec = TaxTypeSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, spec, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -120,6 +141,17 @@ public class TaxTypeRepositoryAdapter implements TaxTypeRepository {
         return jpaRepository.existsByCodeAndUuidNot(code, uuid);
     }
 
+    @Override
+    public List<String> findAllCodes() {
+        return jpaRepository.findAllCodes();
+    }
+
+    @Override
+    public void insertAll(List<TaxType> taxTypes) {
+        pagedQueries.evict(COUNT_QUERY);
+        batchInserter.insert(INSERT_SQL, taxTypes, TaxTypeRepositoryAdapter::bind);
+    }
+
     @Override
     public long countProductsWithTaxType(UUID taxTypeUuid) {
         // TODO [ISSUE-123]: Implementar consulta cuando exista el módulo de productos.
@@ -131,4 +163,16 @@ public class TaxTypeRepositoryAdapter implements TaxTypeRepository {
         // TODO [ISSUE-124]: Implementar consulta cuando exista el módulo de transacciones.
         return 0L;
     }
+
+    private static void bind(PreparedStatement ps, TaxType taxType) throws SQLException {
+        ps.setBytes(1, JdbcBatchInserter.toBytes(taxType.getUuid()));
+        ps.setString(2, taxType.getCode());
+        ps.setString(3, taxType.getName());
+        ps.setBigDecimal(4, taxType.getPercentage());
+        ps.setBoolean(5, taxType.getIsIncluded());
+        ps.setString(6, taxType.getApplicationType().name());
+        ps.setBoolean(7, taxType.getEnabled());
+        JdbcBatchInserter.setLong(ps, 8, taxType.getCreatedBy());
+        JdbcBatchInserter.setTimestamp(ps, 9, taxType.getCreatedAt());
+    }
 }
@@ -5,13 +5,19 @@ import com.jcuadrado.erplitebackend.domain.port.unitofmeasure.UnitOfMeasureRepos
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UnitOfMeasureJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.unitofmeasure.UnitOfMeasureEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.unitofmeasure.UnitOfMeasureEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.unitofmeasure.UnitOfMeasureSpecificationUtil;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.JdbcBatchInserter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,11 +27,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UnitOfMeasureRepositoryAdapter implements UnitOfMeasureRepository {
 
+    private static final String COUNT_QUERY = "units_of_measure";
+
+    static final String INSERT_SQL = "INSERT INTO units_of_measure "
+            + "(uuid, name, abbreviation, enabled, created_by, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final UnitOfMeasureJpaRepository jpaRepository;
     private final UnitOfMeasureEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
+    private final JdbcBatchInserter batchInserter;
 
     @Override
     public UnitOfMeasure save(UnitOfMeasure unitOfMeasure) {
+        pagedQueries.evict(COUNT_QUERY);
         UnitOfMeasureEntity entity = mapper.toEntity(unitOfMeasure);
         UnitOfMeasureEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
@@ -39,7 +53,13 @@ public class UnitOfMeasureRepositoryAdapter implements UnitOfMeasureRepository {
     @Override
     public Page<UnitOfMeasure> findAll(Map<String, Object> filters, Pageable pageable) {
         Specification<UnitOfMeasureEntity> specification = UnitOfMeasureSpecificationUtil.buildSpecification(filters);
-        return jpaRepository.findAll(specification, pageable).map(mapper::toDomain);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, specification, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<UnitOfMeasure> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<UnitOfMeasureEntity> specification = UnitOfMeasureSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, specification, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -90,8 +110,33 @@ public class UnitOfMeasureRepositoryAdapter implements UnitOfMeasureRepository {
         return jpaRepository.existsByAbbreviationIgnoreCaseAndUuidNot(abbreviation, excludeUuid);
     }
 
+    @Override
+    public List<String> findAllNames() {
+        return jpaRepository.findAllNames();
+    }
+
+    @Override
+    public List<String> findAllAbbreviations() {
+        return jpaRepository.findAllAbbreviations();
+    }
+
+    @Override
+    public void insertAll(List<UnitOfMeasure> unitsOfMeasure) {
+        pagedQueries.evict(COUNT_QUERY);
+        batchInserter.insert(INSERT_SQL, unitsOfMeasure, UnitOfMeasureRepositoryAdapter::bind);
+    }
+
     @Override
     public long countProductsWithUnitOfMeasure(UUID unitOfMeasureUuid) {
         return jpaRepository.countProductsWithUnitOfMeasure(unitOfMeasureUuid);
     }
+
+    private static void bind(PreparedStatement ps, UnitOfMeasure unitOfMeasure) throws SQLException {
+        ps.setBytes(1, JdbcBatchInserter.toBytes(unitOfMeasure.getUuid()));
+        ps.setString(2, unitOfMeasure.getName());
+        ps.setString(3, unitOfMeasure.getAbbreviation());
+        ps.setBoolean(4, unitOfMeasure.getEnabled());
+        JdbcBatchInserter.setLong(ps, 5, unitOfMeasure.getCreatedBy());
+        JdbcBatchInserter.setTimestamp(ps, 6, unitOfMeasure.getCreatedAt());
+    }
 }
@@ -6,12 +6,19 @@ import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.warehouse.WarehouseEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.jpa.warehouse.WarehouseJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.warehouse.WarehouseEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.util.warehouse.WarehouseSpecificationUtil;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.JdbcBatchInserter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,24 +28,40 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class WarehouseRepositoryAdapter implements WarehouseRepository {
 
+    private static final String COUNT_QUERY = "warehouses";
+
+    // Writes the binary and VARCHAR UUID columns alike until the contract step of V19 drops the VARCHAR ones
+    static final String INSERT_SQL = "INSERT INTO warehouses "
+            + "(uuid, uuid_bin, code, name, description, type, address, municipality_uuid, municipality_uuid_bin, "
+            + "responsible, email, phone, active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final WarehouseJpaRepository jpaRepository;
     private final WarehouseEntityMapper mapper;
+    private final PagedQueryExecutor pagedQueries;
+    private final JdbcBatchInserter batchInserter;
 
     @Override
     public Warehouse save(Warehouse warehouse) {
+        pagedQueries.evict(COUNT_QUERY);
         return mapper.toDomain(jpaRepository.save(mapper.toEntity(warehouse)));
     }
 
     @Override
     public Optional<Warehouse> findByUuid(UUID uuid) {
-        return jpaRepository.findByUuidAndDeletedAtIsNull(uuid.toString())
+        return jpaRepository.findByUuidAndDeletedAtIsNull(uuid)
                 .map(mapper::toDomain);
     }
 
     @Override
     public Page<Warehouse> findAll(Map<String, Object> filters, Pageable pageable) {
-        return jpaRepository.findAll(WarehouseSpecificationUtil.buildSpecification(filters), pageable)
-                .map(mapper::toDomain);
+        Specification<WarehouseEntity> spec = WarehouseSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.page(COUNT_QUERY, jpaRepository, spec, filters, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<Warehouse> findSlice(Map<String, Object> filters, Pageable pageable) {
+        Specification<WarehouseEntity> spec = WarehouseSpecificationUtil.buildSpecification(filters);
+        return pagedQueries.slice(jpaRepository, spec, pageable).map(mapper::toDomain);
     }
 
     @Override
@@ -56,7 +79,7 @@ public class WarehouseRepositoryAdapter implements WarehouseRepository {
 
     @Override
     public boolean existsByCodeIgnoreCaseAndUuidNot(String code, UUID excludeUuid) {
-        return jpaRepository.existsByCodeIgnoreCaseAndUuidNot(code, excludeUuid.toString());
+        return jpaRepository.existsByCodeIgnoreCaseAndUuidNot(code, excludeUuid);
     }
 
     @Override
@@ -66,7 +89,12 @@ public class WarehouseRepositoryAdapter implements WarehouseRepository {
 
     @Override
     public boolean existsByNameIgnoreCaseAndUuidNot(String name, UUID excludeUuid) {
-        return jpaRepository.existsByNameIgnoreCaseAndUuidNot(name, excludeUuid.toString());
+        return jpaRepository.existsByNameIgnoreCaseAndUuidNot(name, excludeUuid);
+    }
+
+    @Override
+    public boolean existsByMunicipalityUuid(UUID municipalityUuid) {
+        return jpaRepository.existsByMunicipalityUuid(municipalityUuid);
     }
 
     @Override
@@ -77,6 +105,40 @@ public class WarehouseRepositoryAdapter implements WarehouseRepository {
     @Override
     public boolean existsActivePrincipalWarehouseAndUuidNot(UUID excludeUuid) {
         return jpaRepository.existsByTypeAndActiveTrueAndDeletedAtIsNullAndUuidNot(
-                WarehouseType.PRINCIPAL, excludeUuid.toString());
+                WarehouseType.PRINCIPAL, excludeUuid);
+    }
+
+    @Override
+    public List<String> findAllCodes() {
+        return jpaRepository.findAllCodes();
+    }
+
+    @Override
+    public List<String> findAllNames() {
+        return jpaRepository.findAllNames();
+    }
+
+    @Override
+    public void insertAll(List<Warehouse> warehouses) {
+        pagedQueries.evict(COUNT_QUERY);
+        batchInserter.insert(INSERT_SQL, warehouses, WarehouseRepositoryAdapter::bind);
+    }
+
+    private static void bind(PreparedStatement ps, Warehouse warehouse) throws SQLException {
+        UUID municipalityId = warehouse.getMunicipalityId();
+        ps.setString(1, warehouse.getUuid().toString());
+        ps.setBytes(2, JdbcBatchInserter.toBytes(warehouse.getUuid()));
+        ps.setString(3, warehouse.getCode());
+        ps.setString(4, warehouse.getName());
+        ps.setString(5, warehouse.getDescription());
+        ps.setString(6, warehouse.getType().name());
+        ps.setString(7, warehouse.getAddress());
+        ps.setString(8, municipalityId != null ? municipalityId.toString() : null);
+        ps.setBytes(9, JdbcBatchInserter.toBytes(municipalityId));
+        ps.setString(10, warehouse.getResponsible());
+        ps.setString(11, warehouse.getEmail());
+        ps.setString(12, warehouse.getPhone());
+        ps.setBoolean(13, warehouse.isActive());
+        JdbcBatchInserter.setTimestamp(ps, 14, warehouse.getCreatedAt());
     }
 }
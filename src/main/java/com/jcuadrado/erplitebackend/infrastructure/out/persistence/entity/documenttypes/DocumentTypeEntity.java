@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.documenttypes;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -63,7 +65,7 @@ public class DocumentTypeEntity {
     @PrePersist
     protected void onCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = Identifiers.next();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
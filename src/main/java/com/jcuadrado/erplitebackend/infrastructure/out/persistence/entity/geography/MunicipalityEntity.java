@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,8 +21,13 @@ import java.util.UUID;
 @AllArgsConstructor
 public class MunicipalityEntity {
 
+    /**
+     * Ids come from {@code municipalities_seq} in blocks of 50, so inserts can be batched; MySQL emulates the
+     * sequence with a one-row table.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "municipalities_seq")
+    @SequenceGenerator(name = "municipalities_seq", sequenceName = "municipalities_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 36)
@@ -55,7 +62,7 @@ public class MunicipalityEntity {
     @PrePersist
     protected void onCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = Identifiers.next();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
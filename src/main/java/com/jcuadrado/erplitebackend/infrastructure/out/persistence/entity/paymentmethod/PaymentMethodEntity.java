@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.paymentmethod;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -58,7 +60,7 @@ public class PaymentMethodEntity {
     @PrePersist
     protected void onCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = Identifiers.next();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
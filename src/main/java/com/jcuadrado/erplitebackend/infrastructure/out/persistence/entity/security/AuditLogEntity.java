@@ -62,4 +62,10 @@ public class AuditLogEntity {
 
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
+
+    @Column(name = "occurrences", nullable = false)
+    private int occurrences;
+
+    @Column(name = "first_timestamp")
+    private LocalDateTime firstTimestamp;
 }
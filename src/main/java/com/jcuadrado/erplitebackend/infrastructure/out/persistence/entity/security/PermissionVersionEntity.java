@@ -0,0 +1,28 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Single row holding the current permission version.
+ */
+@Entity
+@Table(name = "permission_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PermissionVersionEntity {
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private Long version;
+}
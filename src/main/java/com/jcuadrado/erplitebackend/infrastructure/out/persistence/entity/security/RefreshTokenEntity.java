@@ -5,12 +5,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -21,13 +23,13 @@ import java.util.UUID;
                 @Index(name = "idx_rt_user_id", columnList = "user_id"),
                 @Index(name = "idx_rt_expires_at", columnList = "expires_at")
         },
-        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token", columnNames = "token"))
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class RefreshTokenEntity {
+public class RefreshTokenEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
@@ -36,8 +38,8 @@ public class RefreshTokenEntity {
     @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
     private UUID userId;
 
-    @Column(name = "token", nullable = false, length = 36)
-    private String token;
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -47,4 +49,16 @@ public class RefreshTokenEntity {
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Set for tokens that were never stored, so saving them inserts directly instead of merging, which would
+     * first SELECT the assigned id.
+     */
+    @Transient
+    private boolean inserting;
+
+    @Override
+    public boolean isNew() {
+        return inserting;
+    }
 }
@@ -27,7 +27,8 @@ import java.util.UUID;
                 @Index(name = "idx_user_username", columnList = "username"),
                 @Index(name = "idx_user_email", columnList = "email"),
                 @Index(name = "idx_user_active", columnList = "active"),
-                @Index(name = "idx_user_deleted_at", columnList = "deleted_at")
+                @Index(name = "idx_user_deleted_at", columnList = "deleted_at"),
+                @Index(name = "idx_user_permissions_version", columnList = "permissions_version")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_user_username", columnNames = "username"),
@@ -95,7 +96,15 @@ public class UserEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    /**
+     * Permission version of the last change to this user's roles or status. Written only by bulk updates, so
+     * saving a user loaded before such an update does not overwrite it.
+     */
+    @Column(name = "permissions_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long permissionsVersion;
+
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
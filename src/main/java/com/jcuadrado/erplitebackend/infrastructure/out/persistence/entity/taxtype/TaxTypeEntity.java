@@ -1,6 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.taxtype;
 
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -75,7 +76,7 @@ public class TaxTypeEntity {
     @PrePersist
     protected void onCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = Identifiers.next();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -65,7 +67,7 @@ public class UnitOfMeasureEntity {
     @PrePersist
     protected void onCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = Identifiers.next();
         }
         if (enabled == null) {
             enabled = true;
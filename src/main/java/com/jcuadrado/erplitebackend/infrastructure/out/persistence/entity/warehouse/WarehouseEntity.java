@@ -8,15 +8,24 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
+/**
+ * Warehouse row while its UUIDs move to BINARY(16) (migrations V19 to V23): reads and queries use the binary
+ * columns, and every write still copies both UUIDs into the VARCHAR columns for the contract step to drop.
+ */
 @Entity
 @Table(name = "warehouses")
 @Getter
@@ -30,8 +39,12 @@ public class WarehouseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 36)
-    private String uuid;
+    @Column(name = "uuid_bin", unique = true, columnDefinition = "BINARY(16)")
+    private UUID uuid;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "uuid", nullable = false, unique = true, length = 36)
+    private UUID uuidText;
 
     @Column(nullable = false, unique = true, length = 20)
     private String code;
@@ -49,8 +62,12 @@ public class WarehouseEntity {
     @Column(length = 255)
     private String address;
 
+    @Column(name = "municipality_uuid_bin", columnDefinition = "BINARY(16)")
+    private UUID municipalityUuid;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "municipality_uuid", length = 36)
-    private String municipalityUuid;
+    private UUID municipalityUuidText;
 
     @Column(length = 100)
     private String responsible;
@@ -72,4 +89,11 @@ public class WarehouseEntity {
 
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
+
+    @PrePersist
+    @PreUpdate
+    void copyTextUuids() {
+        uuidText = uuid;
+        municipalityUuidText = municipalityUuid;
+    }
 }
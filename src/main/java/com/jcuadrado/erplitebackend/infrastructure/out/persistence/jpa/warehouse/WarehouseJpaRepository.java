@@ -4,26 +4,36 @@ import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.warehouse.WarehouseEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface WarehouseJpaRepository
         extends JpaRepository<WarehouseEntity, Long>, JpaSpecificationExecutor<WarehouseEntity> {
 
-    Optional<WarehouseEntity> findByUuidAndDeletedAtIsNull(String uuid);
+    Optional<WarehouseEntity> findByUuidAndDeletedAtIsNull(UUID uuid);
 
     List<WarehouseEntity> findByActiveTrueAndDeletedAtIsNull();
 
     boolean existsByCodeIgnoreCase(String code);
 
-    boolean existsByCodeIgnoreCaseAndUuidNot(String code, String uuid);
+    boolean existsByCodeIgnoreCaseAndUuidNot(String code, UUID uuid);
 
     boolean existsByNameIgnoreCase(String name);
 
-    boolean existsByNameIgnoreCaseAndUuidNot(String name, String uuid);
+    boolean existsByNameIgnoreCaseAndUuidNot(String name, UUID uuid);
+
+    boolean existsByMunicipalityUuid(UUID municipalityUuid);
 
     boolean existsByTypeAndActiveTrueAndDeletedAtIsNull(WarehouseType type);
 
-    boolean existsByTypeAndActiveTrueAndDeletedAtIsNullAndUuidNot(WarehouseType type, String uuid);
+    boolean existsByTypeAndActiveTrueAndDeletedAtIsNullAndUuidNot(WarehouseType type, UUID uuid);
+
+    @Query("SELECT w.code FROM WarehouseEntity w")
+    List<String> findAllCodes();
+
+    @Query("SELECT w.name FROM WarehouseEntity w")
+    List<String> findAllNames();
 }
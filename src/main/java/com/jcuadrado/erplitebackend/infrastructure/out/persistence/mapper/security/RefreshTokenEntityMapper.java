@@ -3,11 +3,13 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.secur
 import com.jcuadrado.erplitebackend.domain.model.security.RefreshToken;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RefreshTokenEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface RefreshTokenEntityMapper {
 
     RefreshToken toDomain(RefreshTokenEntity entity);
 
+    @Mapping(target = "inserting", ignore = true)
     RefreshTokenEntity toEntity(RefreshToken domain);
 }
@@ -12,5 +12,6 @@ public interface UserEntityMapper {
     User toDomain(UserEntity entity);
 
     @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "permissionsVersion", ignore = true)
     UserEntity toEntity(User domain);
 }
@@ -15,5 +15,7 @@ public interface WarehouseEntityMapper {
 
     @Mapping(source = "uuid", target = "uuid")
     @Mapping(source = "municipalityId", target = "municipalityUuid")
+    @Mapping(target = "uuidText", ignore = true)
+    @Mapping(target = "municipalityUuidText", ignore = true)
     WarehouseEntity toEntity(Warehouse domain);
 }
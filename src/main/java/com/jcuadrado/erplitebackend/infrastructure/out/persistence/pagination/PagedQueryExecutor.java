@@ -0,0 +1,162 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs specification queries a page at a time with as few COUNT queries as possible.
+ * <p>
+ * {@link #slice} never counts: it reads one extra row to learn whether another page follows. {@link #page}
+ * reads the content the same way and only counts when the total cannot be inferred from it, i.e. on a full
+ * page with more rows behind it. Those counts are cached per query name and normalized filter for
+ * {@code ttl}, up to {@code max-size} of them; {@link #evict} drops a query's counts once the writing transaction
+ * commits. A count that runs while a write commits may still be cached from before it; like writes from other
+ * instances, that is corrected within {@code ttl}.
+ */
+@Component
+public class PagedQueryExecutor {
+
+    static final String CACHE_NAME = "pagedCounts";
+
+    private final Cache<CountKey, Long> counts;
+
+    @Autowired
+    public PagedQueryExecutor(MeterRegistry meterRegistry,
+                              @Value("${persistence.count-cache.ttl:30s}") Duration ttl,
+                              @Value("${persistence.count-cache.max-size:1000}") long maxSize) {
+        this(meterRegistry, ttl, maxSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * {@code maintenance} runs evictions, e.g. {@code Runnable::run} to evict on the caller's thread in tests.
+     */
+    PagedQueryExecutor(MeterRegistry meterRegistry, Duration ttl, long maxSize, Executor maintenance) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(maintenance)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, CACHE_NAME);
+    }
+
+    /**
+     * Reads the requested page without a total count.
+     */
+    public <E> Slice<E> slice(JpaSpecificationExecutor<E> repository, Specification<E> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return repository.findAll(spec, pageable);
+        }
+        return repository.findBy(spec, query -> query.slice(pageable));
+    }
+
+    /**
+     * Reads the requested page with its total, inferred from the content when possible and otherwise counted
+     * or taken from the count cache under {@code query} and {@code filter}.
+     */
+    public <E> Page<E> page(String query, JpaSpecificationExecutor<E> repository, Specification<E> spec,
+                            Object filter, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return repository.findAll(spec, pageable);
+        }
+        return page(query, filter, pageable, p -> slice(repository, spec, p), () -> repository.count(spec));
+    }
+
+    /**
+     * Same as {@link #page(String, JpaSpecificationExecutor, Specification, Object, Pageable)} for content read
+     * by {@code reader}, e.g. a projection; {@code countQuery} runs only when the total cannot be inferred or cached.
+     */
+    public <T> Page<T> page(String query, Object filter, Pageable pageable,
+                            Function<Pageable, Slice<T>> reader, LongSupplier countQuery) {
+        Slice<T> slice = reader.apply(pageable);
+        List<T> content = slice.getContent();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content);
+        }
+        long offset = pageable.getOffset();
+        if (!slice.hasNext() && (!content.isEmpty() || offset == 0)) {
+            return new PageImpl<>(content, pageable, offset + content.size());
+        }
+
+        long total = count(query, filter, countQuery);
+        if (slice.hasNext()) {
+            // A cached total may predate inserts; never report fewer rows than this page proves exist
+            total = Math.max(total, offset + content.size() + 1);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Drops the cached counts of {@code query}. Inside a transaction this happens after commit.
+     */
+    public void evict(String query) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(query);
+                }
+            });
+        } else {
+            discard(query);
+        }
+    }
+
+    private long count(String query, Object filter, LongSupplier countQuery) {
+        CountKey key = new CountKey(query, normalize(filter));
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Not loaded through the cache: the COUNT would hold the cache's lock while it runs
+        long count = countQuery.getAsLong();
+        counts.put(key, count);
+        return count;
+    }
+
+    private void discard(String query) {
+        counts.asMap().keySet().removeIf(key -> key.query().equals(query));
+    }
+
+    /**
+     * Filter maps differ in ordering, nulls and padding between requests that select the same rows.
+     */
+    private static Object normalize(Object filter) {
+        if (!(filter instanceof Map<?, ?> map)) {
+            return filter;
+        }
+        Map<String, Object> normalized = new TreeMap<>();
+        map.forEach((key, value) -> {
+            Object cleaned = value instanceof String text ? text.trim() : value;
+            if (cleaned != null && !"".equals(cleaned)) {
+                normalized.put(String.valueOf(key), cleaned);
+            }
+        });
+        return normalized;
+    }
+
+    private record CountKey(String query, Object filter) {
+    }
+}
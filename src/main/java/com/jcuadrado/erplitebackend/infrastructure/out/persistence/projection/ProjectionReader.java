@@ -0,0 +1,90 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs specification queries as tuple queries over the columns of a {@link RowProjection}.
+ * <p>
+ * Rows never become entities: nothing is registered in the persistence context and lazy associations the
+ * projection joins are read in the same statement.
+ */
+@Component
+public class ProjectionReader {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ProjectionReader(EntityManager entityManager,
+                            @Value("${persistence.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Reads the requested page plus one row to learn whether another page follows.
+     */
+    public <E, R> Slice<R> slice(Class<E> type, Specification<E> spec, Pageable pageable,
+                                 RowProjection<E, R> projection) {
+        TypedQuery<Tuple> typedQuery = query(type, spec, pageable.getSort(), projection);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList().stream().map(projection::map).toList());
+        }
+        int size = pageable.getPageSize();
+        List<Tuple> rows = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(size + 1)
+                .getResultList();
+        List<R> content = rows.stream().limit(size).map(projection::map).toList();
+        return new SliceImpl<>(content, pageable, rows.size() > size);
+    }
+
+    /**
+     * Hands every matching row to {@code action} through a forward-only result set read {@code fetchSize} rows
+     * at a time, so memory stays bounded however many rows match. The result set only advances as fast as
+     * {@code action} returns. With MySQL, {@code Integer.MIN_VALUE} makes the driver stream this statement's rows
+     * one by one; other statements keep the driver's default of reading whole result sets.
+     */
+    @Transactional(readOnly = true)
+    public <E, R> void forEach(Class<E> type, Specification<E> spec, Sort sort, RowProjection<E, R> projection,
+                               Consumer<? super R> action) {
+        TypedQuery<Tuple> typedQuery = query(type, spec, sort, projection)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        try (Stream<Tuple> rows = typedQuery.getResultStream()) {
+            rows.map(projection::map).forEach(action);
+        }
+    }
+
+    private <E, R> TypedQuery<Tuple> query(Class<E> type, Specification<E> spec, Sort sort,
+                                           RowProjection<E, R> projection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+        query.multiselect(projection.select(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+/**
+ * Columns to read for a list query and how to build the result from them, without loading entities.
+ */
+public interface RowProjection<E, R> {
+
+    /**
+     * Selections in the order {@link #map} reads them; may add joins to {@code root}.
+     */
+    List<Selection<?>> select(Root<E> root);
+
+    R map(Tuple row);
+}
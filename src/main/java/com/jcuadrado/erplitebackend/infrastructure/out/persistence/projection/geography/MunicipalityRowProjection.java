@@ -0,0 +1,61 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.geography;
+
+import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.DepartmentEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.RowProjection;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Municipality list rows with their department joined in, so no department proxy is ever loaded.
+ */
+@Component
+public class MunicipalityRowProjection implements RowProjection<MunicipalityEntity, Municipality> {
+
+    @Override
+    public List<Selection<?>> select(Root<MunicipalityEntity> root) {
+        Join<MunicipalityEntity, DepartmentEntity> department = root.join("department");
+        return List.of(
+                root.get("id"), root.get("uuid"), root.get("code"), root.get("name"), root.get("enabled"),
+                root.get("createdBy"), root.get("updatedBy"), root.get("createdAt"), root.get("updatedAt"),
+                department.get("id"), department.get("uuid"), department.get("code"), department.get("name"),
+                department.get("enabled"), department.get("createdBy"), department.get("updatedBy"),
+                department.get("createdAt"), department.get("updatedAt"));
+    }
+
+    @Override
+    public Municipality map(Tuple row) {
+        Department department = Department.builder()
+                .id(row.get(9, Long.class))
+                .uuid(row.get(10, UUID.class))
+                .code(row.get(11, String.class))
+                .name(row.get(12, String.class))
+                .enabled(row.get(13, Boolean.class))
+                .createdBy(row.get(14, Long.class))
+                .updatedBy(row.get(15, Long.class))
+                .createdAt(row.get(16, LocalDateTime.class))
+                .updatedAt(row.get(17, LocalDateTime.class))
+                .build();
+        return Municipality.builder()
+                .id(row.get(0, Long.class))
+                .uuid(row.get(1, UUID.class))
+                .code(row.get(2, String.class))
+                .name(row.get(3, String.class))
+                .enabled(row.get(4, Boolean.class))
+                .createdBy(row.get(5, Long.class))
+                .updatedBy(row.get(6, Long.class))
+                .createdAt(row.get(7, LocalDateTime.class))
+                .updatedAt(row.get(8, LocalDateTime.class))
+                .department(department)
+                .build();
+    }
+}
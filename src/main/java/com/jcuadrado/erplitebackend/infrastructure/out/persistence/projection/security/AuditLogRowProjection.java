@@ -0,0 +1,48 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.AuditLogEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.RowProjection;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Audit log list rows read straight into the domain model.
+ */
+@Component
+public class AuditLogRowProjection implements RowProjection<AuditLogEntity, AuditLog> {
+
+    @Override
+    public List<Selection<?>> select(Root<AuditLogEntity> root) {
+        return List.of(
+                root.get("id"), root.get("userId"), root.get("username"), root.get("entity"), root.get("entityId"),
+                root.get("action"), root.get("oldValue"), root.get("newValue"), root.get("ipAddress"),
+                root.get("userAgent"), root.get("timestamp"), root.get("occurrences"), root.get("firstTimestamp"));
+    }
+
+    @Override
+    public AuditLog map(Tuple row) {
+        return AuditLog.builder()
+                .id(row.get(0, UUID.class))
+                .userId(row.get(1, UUID.class))
+                .username(row.get(2, String.class))
+                .entity(row.get(3, String.class))
+                .entityId(row.get(4, UUID.class))
+                .action(AuditAction.valueOf(row.get(5, String.class)))
+                .oldValue(row.get(6, String.class))
+                .newValue(row.get(7, String.class))
+                .ipAddress(row.get(8, String.class))
+                .userAgent(row.get(9, String.class))
+                .timestamp(row.get(10, LocalDateTime.class))
+                .occurrences(row.get(11, Integer.class))
+                .firstTimestamp(row.get(12, LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps read-only transactions on the primary for reads that must see the latest committed writes, such as
+ * rebuilding a cache right after a write. Only connections obtained inside {@link #call} are affected, so the
+ * read should start its own transaction or be the first statement of the current one.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically measures how far the replica is behind the primary and decides whether it may serve reads.
+ * <p>
+ * {@code lagQuery} runs on the replica and must return one row with the lag in seconds, either in a
+ * {@code Seconds_Behind_Source} column (MySQL {@code SHOW REPLICA STATUS}) or in its first column. No row, a
+ * {@code NULL} lag (replication stopped) or a failed query all mark the replica unusable. Until the first check
+ * the replica is not used.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Seconds the read replica is behind the primary, NaN when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 while read-only transactions may use the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        Double lag;
+        try {
+            lag = queryLag();
+        } catch (SQLException e) {
+            update(false, Double.NaN, "no se pudo consultar el retraso: " + e.getMessage());
+            return;
+        }
+        if (lag == null) {
+            update(false, Double.NaN, "la réplica no informa retraso de replicación");
+        } else if (lag > maxLag.toSeconds()) {
+            update(false, lag, "retraso de " + lag.longValue() + " s supera el máximo de " + maxLag.toSeconds() + " s");
+        } else {
+            update(true, lag, null);
+        }
+    }
+
+    /**
+     * Stops using the replica until the next successful check, e.g. after it refused a connection.
+     */
+    void markUnusable(String reason) {
+        update(false, lagSeconds, reason);
+    }
+
+    private Double queryLag() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            double value = rs.getDouble(lagColumn(rs.getMetaData()));
+            return rs.wasNull() ? null : value;
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (MYSQL_LAG_COLUMN.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private void update(boolean nowUsable, double lag, String reason) {
+        boolean wasUsable = usable;
+        lagSeconds = lag;
+        usable = nowUsable;
+        if (wasUsable && !nowUsable) {
+            log.warn("Lecturas de solo lectura desviadas a la base primaria: {}", reason);
+        } else if (!wasUsable && nowUsable) {
+            log.info("Lecturas de solo lectura enviadas a la réplica (retraso {} s)", (long) lag);
+        }
+    }
+}
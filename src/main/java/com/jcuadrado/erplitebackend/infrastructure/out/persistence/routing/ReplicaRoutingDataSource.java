@@ -0,0 +1,63 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Where read-only transactions get their connections: the replica while {@link ReplicaLagMonitor} considers it
+ * usable, the primary otherwise, inside {@link PrimaryReads#call}, or when the replica refuses a connection.
+ * Installed as the read-only target of a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which only asks for the physical connection once the transaction is known to be read-only.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter replicaConnections;
+    private final Counter primaryConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.replicaConnections = connections("replica", meterRegistry);
+        this.primaryConnections = connections("primary", meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!PrimaryReads.isForced() && lagMonitor.isReplicaUsable()) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("La réplica rechazó la conexión, se usa la base primaria: {}", e.getMessage());
+                lagMonitor.markUnusable(e.getMessage());
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Las conexiones de solo lectura usan las credenciales de cada pool");
+    }
+
+    private static Counter connections(String route, MeterRegistry meterRegistry) {
+        return Counter.builder("datasource.read_only.connections")
+                .description("Connections handed to read-only transactions, by route")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public class WarehouseSpecificationUtil {
 
@@ -45,7 +46,10 @@ public class WarehouseSpecificationUtil {
             if (filters.containsKey("municipalityId")) {
                 Object municipalityValue = filters.get("municipalityId");
                 if (municipalityValue != null) {
-                    predicates.add(cb.equal(root.get("municipalityUuid"), municipalityValue.toString()));
+                    UUID municipalityId = municipalityValue instanceof UUID uuid
+                            ? uuid
+                            : UUID.fromString(municipalityValue.toString());
+                    predicates.add(cb.equal(root.get("municipalityUuid"), municipalityId));
                 }
             }
 
@@ -0,0 +1,75 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts many rows with JDBC batches of {@code batch-size} statements, bypassing the persistence context.
+ * <p>
+ * Meant for bulk imports of rows the caller has already validated: entity callbacks such as {@code @PrePersist}
+ * do not run, so every column the table needs must be bound explicitly. Runs in the caller's transaction.
+ */
+@Slf4j
+@Component
+public class JdbcBatchInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public JdbcBatchInserter(JdbcTemplate jdbcTemplate,
+                             @Value("${persistence.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public <T> void insert(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> binder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, binder);
+        log.debug("Insertadas {} filas en lotes de {} en {} ms", rows.size(), batchSize,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    public static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Binary form of a {@code BINARY(16)} UUID column.
+     */
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
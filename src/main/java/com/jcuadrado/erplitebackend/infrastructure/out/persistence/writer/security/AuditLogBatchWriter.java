@@ -0,0 +1,268 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes audit logs off the request thread.
+ * <p>
+ * Entries go into a bounded queue drained by a single background thread, which inserts them with JDBC
+ * batches of up to {@code batch-size} rows at least every {@code flush-interval}. When the queue is full,
+ * the overflow policy decides whether the caller writes the entry itself ({@code CALLER_RUNS}) or the
+ * entry is dropped and counted ({@code DROP}). On shutdown the queue is drained before the datasource closes.
+ * <p>
+ * A failed batch is retried up to {@code retry-attempts} times with a doubling backoff; if it still fails, its rows
+ * are inserted one by one so a single bad row does not take the others with it. Rows that cannot be written are
+ * logged and counted ({@code audit.writer.failed}).
+ */
+@Slf4j
+@Component
+public class AuditLogBatchWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        DROP
+    }
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs "
+            + "(id, user_id, username, entity, entity_id, action, old_value, new_value, ip_address, user_agent, "
+            + "timestamp, occurrences, first_timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final OverflowPolicy overflowPolicy;
+    private final int retryAttempts;
+    private final Duration retryBackoff;
+    private final Counter droppedCounter;
+    private final Counter retriesCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogBatchWriter(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${security.audit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${security.audit.batch-size:200}") int batchSize,
+                               @Value("${security.audit.flush-interval:500ms}") Duration flushInterval,
+                               @Value("${security.audit.shutdown-timeout:10s}") Duration shutdownTimeout,
+                               @Value("${security.audit.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+                               @Value("${security.audit.retry-attempts:3}") int retryAttempts,
+                               @Value("${security.audit.retry-backoff:200ms}") Duration retryBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.overflowPolicy = overflowPolicy;
+        this.retryAttempts = retryAttempts;
+        this.retryBackoff = retryBackoff;
+        this.droppedCounter = Counter.builder("audit.writer.dropped")
+                .description("Audit logs discarded because the queue was full")
+                .register(meterRegistry);
+        this.retriesCounter = Counter.builder("audit.writer.retries")
+                .description("Audit log batches retried after a failed insert")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.writer.failed")
+                .description("Audit logs that could not be written after retries and row-by-row inserts")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.queue.size", queue, BlockingQueue::size)
+                .description("Audit logs waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void submit(AuditLog auditLog) {
+        if (!running) {
+            write(List.of(auditLog));
+            return;
+        }
+        if (queue.offer(auditLog)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(auditLog));
+        } else {
+            droppedCounter.increment();
+            log.warn("Cola de auditoría llena, se descarta el registro {} ({})", auditLog.getId(), auditLog.getAction());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("audit-log-writer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server (lower phase), so requests still in flight can enqueue their audit logs.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditLog> batch) {
+        Duration backoff = retryBackoff;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuditLogBatchWriter::bind);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= retryAttempts || !sleep(backoff)) {
+                    log.warn("No se pudo guardar el lote de {} registros de auditoría, se insertan uno a uno: {}",
+                            batch.size(), e.getMessage());
+                    break;
+                }
+                retriesCounter.increment();
+                log.warn("Error guardando {} registros de auditoría, reintento {} de {}: {}",
+                        batch.size(), attempt + 1, retryAttempts, e.getMessage());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+        batch.forEach(this::writeOne);
+    }
+
+    private void writeOne(AuditLog auditLog) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, auditLog));
+        } catch (DuplicateKeyException e) {
+            // Already stored by a batch attempt that failed after committing part of its rows
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("No se pudo guardar el registro de auditoría {} ({}, {} {} {}, {}): {}", auditLog.getId(),
+                    auditLog.getAction(), auditLog.getUsername(), auditLog.getEntity(), auditLog.getEntityId(),
+                    auditLog.getTimestamp(), e.getMessage(), e);
+        }
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static void bind(PreparedStatement ps, AuditLog auditLog) throws SQLException {
+        ps.setBytes(1, toBytes(auditLog.getId()));
+        ps.setBytes(2, toBytes(auditLog.getUserId()));
+        ps.setString(3, auditLog.getUsername());
+        ps.setString(4, auditLog.getEntity());
+        ps.setBytes(5, toBytes(auditLog.getEntityId()));
+        ps.setString(6, auditLog.getAction().name());
+        ps.setString(7, auditLog.getOldValue());
+        ps.setString(8, auditLog.getNewValue());
+        ps.setString(9, auditLog.getIpAddress());
+        ps.setString(10, auditLog.getUserAgent());
+        setTimestamp(ps, 11, auditLog.getTimestamp());
+        ps.setInt(12, auditLog.getOccurrences());
+        setTimestamp(ps, 13, auditLog.getFirstTimestamp());
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,43 @@
+package com.jcuadrado.erplitebackend.infrastructure.scheduling;
+
+import com.jcuadrado.erplitebackend.application.port.security.RetentionUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the retention policies on a cron schedule. Off unless {@code retention.enabled=true}: enable it on a single
+ * instance per database, otherwise several instances archive the same audit logs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "retention.enabled", havingValue = "true", matchIfMissing = false)
+public class RetentionScheduler {
+
+    private final RetentionUseCase retentionUseCase;
+
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void applyRetention() {
+        try {
+            int partitions = retentionUseCase.prepareAuditLogPartitions();
+            log.info("Retención: {} particiones de auditoría creadas", partitions);
+        } catch (RuntimeException e) {
+            log.error("Error creando particiones de auditoría: {}", e.getMessage(), e);
+        }
+        try {
+            int tokens = retentionUseCase.purgeRefreshTokens();
+            log.info("Retención: {} refresh tokens eliminados", tokens);
+        } catch (RuntimeException e) {
+            log.error("Error eliminando refresh tokens vencidos: {}", e.getMessage(), e);
+        }
+        try {
+            int auditLogs = retentionUseCase.archiveAuditLogs();
+            log.info("Retención: {} registros de auditoría archivados", auditLogs);
+        } catch (RuntimeException e) {
+            log.error("Error archivando registros de auditoría: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,23 +1,101 @@
 package com.jcuadrado.erplitebackend.infrastructure.security;
 
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.domain.exception.security.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs BCrypt on a dedicated, bounded pool so a login burst cannot occupy every request thread.
+ * <p>
+ * Work beyond {@code pool-size} running plus {@code queue-capacity} waiting hashes is rejected at once
+ * with {@link PasswordHashingUnavailableException} (503). Hash latency is published as
+ * {@code security.password.hash} and the backlog as {@code security.password.hash.queue.size}.
+ */
 @Component
 public class BCryptPasswordEncoderAdapter implements PasswordEncoder {
 
-    private static final int BCRYPT_STRENGTH = 12;
+    private static final String BUSY_MESSAGE = "El servicio de autenticación está ocupado, intente nuevamente";
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+    public BCryptPasswordEncoderAdapter(MeterRegistry meterRegistry,
+                                        @Value("${security.password-hashing.strength:12}") int strength,
+                                        @Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                        @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("bcrypt-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        Gauge.builder("security.password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a BCrypt worker")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+    }
 
     @Override
     public String encode(String rawPassword) {
-        return encoder.encode(rawPassword);
+        return execute(() -> encodeTimer.record(() -> encoder.encode(rawPassword)));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return encoder.matches(rawPassword, encodedPassword);
+        return execute(() -> matchesTimer.record(() -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingUnavailableException(BUSY_MESSAGE);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("security.password.hash")
+                .description("Time spent computing BCrypt hashes")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
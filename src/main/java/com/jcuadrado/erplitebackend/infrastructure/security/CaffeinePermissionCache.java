@@ -0,0 +1,81 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import com.jcuadrado.erplitebackend.domain.model.security.Permission;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches each user's resolved permissions, compiled into a {@link PermissionIndex}. When the permission version moves,
+ * only the entries of the users whose roles or status changed are discarded; when those changes can no longer be
+ * told, all of them are. Writes take effect here within the version's refresh interval.
+ */
+@Slf4j
+@Component
+public class CaffeinePermissionCache implements PermissionCache {
+
+    static final String CACHE_NAME = "userPermissions";
+
+    private final Cache<UUID, PermissionIndex> cache;
+    private final PermissionVersionService permissionVersionService;
+    private final AtomicLong observedVersion;
+
+    public CaffeinePermissionCache(PermissionVersionService permissionVersionService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${security.permission-cache.max-size:10000}") long maxSize,
+                                   @Value("${security.permission-cache.ttl:10m}") Duration ttl) {
+        this.permissionVersionService = permissionVersionService;
+        // Not read here: the version comes from the database, which may not be reachable at startup
+        this.observedVersion = new AtomicLong(Long.MIN_VALUE);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public List<Permission> getPermissions(UUID userId, Function<UUID, List<Permission>> loader) {
+        return getIndex(userId, loader).getPermissions();
+    }
+
+    @Override
+    public PermissionIndex getIndex(UUID userId, Function<UUID, List<Permission>> loader) {
+        discardChangedEntries();
+        return cache.get(userId, id -> PermissionIndex.of(loader.apply(id)));
+    }
+
+    private void discardChangedEntries() {
+        long version = permissionVersionService.currentVersion();
+        long previous = observedVersion.get();
+        if (previous == version) {
+            return;
+        }
+        PermissionVersionService.Changes changes = permissionVersionService.changesSince(previous);
+        if (!observedVersion.compareAndSet(previous, version)) {
+            return;
+        }
+        if (changes.allUsers()) {
+            log.debug("Cambios de permisos desconocidos (versión {} a {}), limpiando caché", previous, version);
+            cache.invalidateAll();
+        } else if (!changes.userIds().isEmpty()) {
+            log.debug("Permisos de {} usuarios cambiaron (versión {} a {})",
+                    changes.userIds().size(), previous, version);
+            cache.invalidateAll(changes.userIds());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.PermissionVersionJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UserJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.PermissionVersionEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing.PrimaryReads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the permission version stamped into access tokens in the {@code permission_versions} table, so every
+ * instance agrees on it. A change stamps the affected users with the new version ({@code users.permissions_version})
+ * in the caller's transaction, so it commits or rolls back with the change it reports.
+ * <p>
+ * Reads are served from a local copy refreshed from the primary every {@code refresh-interval}, and right
+ * after a local commit. Each
+ * refresh that sees the version move also reads which users were stamped since the previous one and remembers them
+ * for as long as a token or cached entry from before the change can live. Versions older than the first refresh
+ * are unknown history: tokens stamped with them are not trusted and {@link #changesSince(long)} reports every user.
+ */
+@Slf4j
+@Component
+public class DatabasePermissionVersionService implements PermissionVersionService {
+
+    static final short ROW_ID = 1;
+
+    private final PermissionVersionJpaRepository repository;
+    private final UserJpaRepository userRepository;
+    private final long refreshIntervalNanos;
+    private final Cache<UUID, Long> changedUsers;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale;
+
+    public DatabasePermissionVersionService(
+            PermissionVersionJpaRepository repository,
+            UserJpaRepository userRepository,
+            @Value("${security.permission-version.refresh-interval:1s}") Duration refreshInterval,
+            @Value("${jwt.access-token-expiration:1800}") long accessTokenExpirationSeconds,
+            @Value("${security.permission-cache.ttl:10m}") Duration permissionCacheTtl) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        Duration retention = Duration.ofSeconds(accessTokenExpirationSeconds);
+        this.changedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(retention.compareTo(permissionCacheTtl) >= 0 ? retention : permissionCacheTtl)
+                .build();
+    }
+
+    @Override
+    public long currentVersion() {
+        return current().version();
+    }
+
+    @Override
+    @Transactional
+    public void incrementForUsers(Collection<UUID> userIds) {
+        long version = nextVersion();
+        if (!userIds.isEmpty()) {
+            userRepository.updatePermissionsVersion(userIds, version);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+        log.debug("Versión de permisos incrementada a {} para {} usuarios", version, userIds.size());
+    }
+
+    @Override
+    @Transactional
+    public void incrementForRole(UUID roleId) {
+        incrementForUsers(userRepository.findIdsByRoleId(roleId));
+    }
+
+    @Override
+    public boolean isCurrent(UUID userId, long version) {
+        Snapshot current = current();
+        if (version < current.trackedSince() || version > current.version()) {
+            return false;
+        }
+        Long changedAt = changedUsers.getIfPresent(userId);
+        return changedAt == null || changedAt <= version;
+    }
+
+    @Override
+    public Changes changesSince(long version) {
+        Snapshot current = current();
+        if (version >= current.version()) {
+            return Changes.NONE;
+        }
+        if (version < current.trackedSince()) {
+            return Changes.ALL;
+        }
+        return new Changes(false, changedUsers.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue() > version)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    private long nextVersion() {
+        if (repository.increment(ROW_ID) == 0) {
+            // Databases created without the V21 seed row (H2 test schema)
+            repository.save(new PermissionVersionEntity(ROW_ID, 1L));
+            return 1L;
+        }
+        return repository.findVersion(ROW_ID).orElseThrow();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        refreshLock.lock();
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            stale = false;
+            Snapshot previous = current;
+            // A replica may not have the change yet, and the refresh would then miss the users it stamped
+            current = PrimaryReads.call(() -> refresh(previous));
+            snapshot = current;
+            return current;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot refresh(Snapshot previous) {
+        long version = repository.findVersion(ROW_ID).orElse(0L);
+        if (previous == null) {
+            return new Snapshot(version, version, System.nanoTime());
+        }
+        if (version > previous.version()) {
+            // Stamped with the version seen now, which is at least the one they were changed under
+            userRepository.findIdsWithPermissionsVersionAfter(previous.version())
+                    .forEach(userId -> changedUsers.put(userId, version));
+        }
+        return new Snapshot(Math.max(version, previous.version()), previous.trackedSince(), System.nanoTime());
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && !stale && System.nanoTime() - current.readAt() < refreshIntervalNanos;
+    }
+
+    private record Snapshot(long version, long trackedSince, long readAt) {
+    }
+}
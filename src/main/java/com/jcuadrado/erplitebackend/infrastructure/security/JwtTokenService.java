@@ -1,44 +1,57 @@
 package com.jcuadrado.erplitebackend.infrastructure.security;
 
+import com.jcuadrado.erplitebackend.application.command.security.AuthenticatedPrincipal;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.jsonwebtoken.Claims;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenService implements TokenService {
 
+    private static final String CLAIM_USER_ID = "uid";
     private static final String CLAIM_ROLES = "roles";
     private static final String CLAIM_PERMISSIONS = "permissions";
+    private static final String CLAIM_PERMISSIONS_VERSION = "pver";
     private static final String ISSUER = "erp-lite";
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long accessTokenExpirationSeconds;
 
-    @Value("${jwt.access-token-expiration:1800}")
-    private long accessTokenExpirationSeconds;
+    public JwtTokenService(@Value("${jwt.secret}") String secret,
+                           @Value("${jwt.access-token-expiration:1800}") long accessTokenExpirationSeconds) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
+    }
 
     @Override
-    public String generateAccessToken(User user, List<String> roles, List<String> permissions) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public String generateAccessToken(User user, List<String> roles, List<String> permissions,
+                                      long permissionsVersion) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessTokenExpirationSeconds * 1000);
 
         return Jwts.builder()
                 .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId() != null ? user.getId().toString() : null)
                 .claim(CLAIM_ROLES, roles)
                 .claim(CLAIM_PERMISSIONS, permissions)
+                .claim(CLAIM_PERMISSIONS_VERSION, permissionsVersion)
                 .issuedAt(now)
                 .expiration(expiration)
                 .issuer(ISSUER)
@@ -63,23 +76,29 @@ public class JwtTokenService implements TokenService {
 
     @Override
     public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    @Override
+    public Optional<AuthenticatedPrincipal> parseToken(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            Date expiration = claims.getExpiration();
+            return Optional.of(new AuthenticatedPrincipal(
+                    claims.getSubject(),
+                    extractUuid(claims, CLAIM_USER_ID),
+                    extractStringList(claims, CLAIM_ROLES),
+                    extractStringList(claims, CLAIM_PERMISSIONS),
+                    extractLong(claims, CLAIM_PERMISSIONS_VERSION),
+                    expiration != null ? expiration.toInstant() : null));
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("Token JWT inválido: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
     private Claims parseClaims(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     private List<String> extractStringList(Claims claims, String claimKey) {
@@ -92,4 +111,24 @@ public class JwtTokenService implements TokenService {
         }
         return List.of();
     }
+
+    private UUID extractUuid(Claims claims, String claimKey) {
+        Object value = claims.get(claimKey);
+        if (value instanceof String text) {
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private long extractLong(Claims claims, String claimKey) {
+        Object value = claims.get(claimKey);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return 0L;
+    }
 }
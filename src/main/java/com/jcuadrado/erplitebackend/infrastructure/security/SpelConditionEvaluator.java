@@ -1,19 +1,58 @@
 package com.jcuadrado.erplitebackend.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.jcuadrado.erplitebackend.application.port.security.ConditionEvaluator;
+import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.MapAccessor;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Evaluates permission conditions against a request context.
+ * <p>
+ * Each condition is parsed once and cached; SpEL compiles hot expressions to bytecode (MIXED mode).
+ * Context entries are exposed both as root properties ({@code amount > 100}) and as variables
+ * ({@code #amount > 100}) through a shared, read-only evaluation context.
+ */
 @Slf4j
 @Component
 public class SpelConditionEvaluator implements ConditionEvaluator {
 
-    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final int MAX_CACHED_EXPRESSIONS = 1_000;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelConditionEvaluator.class.getClassLoader()));
+
+    private final EvaluationContext sharedContext = SimpleEvaluationContext
+            .forPropertyAccessors(new MapAccessor(false))
+            .withInstanceMethods()
+            .withAssignmentDisabled()
+            .build();
+
+    private final Cache<String, Expression> expressions = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_EXPRESSIONS)
+            .build();
 
     @Override
     public boolean evaluate(String condition, Map<String, Object> context) {
@@ -21,14 +60,96 @@ public class SpelConditionEvaluator implements ConditionEvaluator {
             return true;
         }
         try {
-            Expression expression = parser.parseExpression(condition);
-            StandardEvaluationContext evalContext = new StandardEvaluationContext();
-            context.forEach(evalContext::setVariable);
-            Boolean result = expression.getValue(evalContext, Boolean.class);
+            Expression expression = expressions.get(condition, parser::parseExpression);
+            Boolean result = expression.getValue(new VariableScope(sharedContext, context), context, Boolean.class);
             return result != null && result;
         } catch (Exception e) {
             log.warn("Error evaluando condición SpEL '{}': {}", condition, e.getMessage());
             return false;
         }
     }
+
+    @Override
+    public void validate(String condition) {
+        if (condition == null || condition.isBlank()) {
+            return;
+        }
+        try {
+            expressions.get(condition, parser::parseExpression);
+        } catch (ParseException e) {
+            throw new InvalidPermissionConditionException(
+                    "Condición de permiso inválida '" + condition + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Per-call view over the shared context that resolves {@code #name} references from the request context.
+     */
+    private record VariableScope(EvaluationContext delegate, Map<String, Object> variables) implements EvaluationContext {
+
+        @Override
+        public TypedValue getRootObject() {
+            return delegate.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return delegate.getPropertyAccessors();
+        }
+
+        @Override
+        public List<IndexAccessor> getIndexAccessors() {
+            return delegate.getIndexAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return delegate.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return delegate.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return delegate.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return delegate.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return delegate.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return delegate.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return delegate.getOperatorOverloader();
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("El contexto de condiciones es de solo lectura");
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            return variables.get(name);
+        }
+
+        @Override
+        public boolean isAssignmentEnabled() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.PermissionDenialRecorder;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
+import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces identical (user, entity, action) denials into one PERMISSION_DENIED audit record per window.
+ * <p>
+ * The first denial opens a window; later denials only bump its counter. Once the window has elapsed the
+ * aggregate is written with the occurrence count and the first and last timestamps. When more than
+ * {@code max-keys} windows are open, new keys are written straight away so memory stays bounded.
+ */
+@Slf4j
+@Component
+public class WindowedPermissionDenialRecorder implements PermissionDenialRecorder, SmartLifecycle {
+
+    private static final Duration MAX_TICK = Duration.ofSeconds(1);
+
+    private final AuditLogRepository auditLogRepository;
+    private final Duration window;
+    private final int maxKeys;
+    private final Map<DenialKey, DenialWindow> windows = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public WindowedPermissionDenialRecorder(AuditLogRepository auditLogRepository,
+                                            @Value("${security.audit.denial-window:60s}") Duration window,
+                                            @Value("${security.audit.denial-max-keys:10000}") int maxKeys) {
+        this.auditLogRepository = auditLogRepository;
+        this.window = window;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public void recordDenial(UUID userId, String entity, PermissionAction action) {
+        LocalDateTime now = LocalDateTime.now();
+        DenialKey key = new DenialKey(userId, entity, action);
+        if (windows.size() >= maxKeys && !windows.containsKey(key)) {
+            write(key, new DenialWindow(now));
+            return;
+        }
+        windows.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return new DenialWindow(now);
+            }
+            existing.increment(now);
+            return existing;
+        });
+    }
+
+    /**
+     * Writes and removes every window opened at or before {@code now - window}.
+     */
+    void flushExpired(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(window);
+        windows.forEach((key, denial) -> {
+            if (!denial.first.isAfter(cutoff) && windows.remove(key, denial)) {
+                write(key, denial);
+            }
+        });
+    }
+
+    void flushAll() {
+        windows.forEach((key, denial) -> {
+            if (windows.remove(key, denial)) {
+                write(key, denial);
+            }
+        });
+    }
+
+    private void write(DenialKey key, DenialWindow denial) {
+        try {
+            auditLogRepository.save(AuditLog.createAggregated(
+                    key.userId(), key.entity(), AuditAction.PERMISSION_DENIED, key.action().name(),
+                    denial.count, denial.first, denial.last));
+        } catch (RuntimeException e) {
+            log.error("No se pudo registrar la denegación de permiso para {}: {}", key, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        long tickMillis = Math.max(1, Math.min(window.toMillis(), MAX_TICK.toMillis()));
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("permission-denial-flusher").daemon().factory());
+        scheduler.scheduleWithFixedDelay(() -> flushExpired(LocalDateTime.now()),
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        flushAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Stops after the web server but before the audit log writer, so pending aggregates still get persisted.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    private record DenialKey(UUID userId, String entity, PermissionAction action) {
+    }
+
+    /**
+     * Mutated only inside {@link ConcurrentHashMap#compute}, which serializes updates per key.
+     */
+    private static final class DenialWindow {
+
+        private final LocalDateTime first;
+        private volatile LocalDateTime last;
+        private volatile int count;
+
+        private DenialWindow(LocalDateTime first) {
+            this.first = first;
+            this.last = first;
+            this.count = 1;
+        }
+
+        private void increment(LocalDateTime at) {
+            count++;
+            last = at;
+        }
+    }
+}
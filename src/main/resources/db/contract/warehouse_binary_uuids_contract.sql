@@ -0,0 +1,30 @@
+-- Contract step of the warehouse UUID move started in V19. It is kept off the Flyway path on purpose: it drops
+-- the VARCHAR columns that the current release still writes, so it may only run once no instance uses them.
+-- Rollout, one release per step:
+--   1. V19 to V23: read the binary columns, write both; triggers cover the previous release (current release);
+--   2. stop writing the VARCHAR columns (make uuid nullable in that release's migration);
+--   3. once step 2 runs on every instance, add this file to db/migration under the next free version.
+-- The binary columns keep their names, renaming them would break instances still running during that rollout.
+
+-- Every writer sets the binary columns from step 2 on, and the triggers reference the columns dropped below
+DROP TRIGGER warehouses_binary_uuids_insert;
+DROP TRIGGER warehouses_binary_uuids_update;
+
+ALTER TABLE warehouses
+    MODIFY COLUMN uuid_bin BINARY(16) NOT NULL,
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Fails while a warehouse still references a missing municipality (recorded by V19_1 in
+-- warehouse_missing_municipalities): fix those rows first
+ALTER TABLE warehouses
+    ADD CONSTRAINT fk_warehouse_municipality
+        FOREIGN KEY (municipality_uuid_bin) REFERENCES municipalities (uuid)
+        ON DELETE RESTRICT;
+
+DROP TABLE warehouse_missing_municipalities;
+
+-- Dropping the old columns also drops their indexes (uuid, idx_warehouse_uuid, idx_warehouse_municipality)
+ALTER TABLE warehouses
+    DROP COLUMN uuid,
+    DROP COLUMN municipality_uuid,
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,11 @@
+-- Refresh tokens are stored and looked up by the SHA-256 (lowercase hex) of the raw value;
+-- the raw token is only ever held by the client.
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64) NULL AFTER user_id;
+
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256);
+
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN token_hash CHAR(64) NOT NULL,
+    DROP INDEX uk_refresh_token,
+    DROP COLUMN token,
+    ADD CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash);
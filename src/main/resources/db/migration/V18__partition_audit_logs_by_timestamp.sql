@@ -0,0 +1,23 @@
+-- Range-partition audit_logs by quarter so time-bounded queries prune partitions and old quarters
+-- can be dropped or archived cheaply. MySQL requires the partitioning column in every unique key,
+-- so the primary key becomes (id, timestamp).
+-- Before p_future receives rows, split it with:
+--   ALTER TABLE audit_logs REORGANIZE PARTITION p_future INTO (
+--       PARTITION p2028q1 VALUES LESS THAN ('2028-04-01'), PARTITION p_future VALUES LESS THAN (MAXVALUE));
+ALTER TABLE audit_logs
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, timestamp);
+
+ALTER TABLE audit_logs
+    PARTITION BY RANGE COLUMNS (timestamp) (
+        PARTITION p_before_2026 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026q1 VALUES LESS THAN ('2026-04-01'),
+        PARTITION p2026q2 VALUES LESS THAN ('2026-07-01'),
+        PARTITION p2026q3 VALUES LESS THAN ('2026-10-01'),
+        PARTITION p2026q4 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p2027q1 VALUES LESS THAN ('2027-04-01'),
+        PARTITION p2027q2 VALUES LESS THAN ('2027-07-01'),
+        PARTITION p2027q3 VALUES LESS THAN ('2027-10-01'),
+        PARTITION p2027q4 VALUES LESS THAN ('2028-01-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
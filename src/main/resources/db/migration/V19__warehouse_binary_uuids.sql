@@ -0,0 +1,11 @@
+-- Expand step of moving warehouse UUIDs from VARCHAR(36) utf8mb4 (up to 144 bytes per key) to BINARY(16), like
+-- every other catalog. The binary columns are added next to the old ones:
+--   * V19_1 backfills existing rows in batches and records dangling municipality references;
+--   * this release reads the binary columns and writes both (WarehouseEntity, WarehouseRepositoryAdapter.INSERT_SQL);
+--   * V23 keeps both in sync for instances of the previous release, which write only the VARCHAR columns, and
+--     indexes the binary columns;
+--   * db/contract/warehouse_binary_uuids_contract.sql drops the VARCHAR columns in a later release.
+ALTER TABLE warehouses
+    ADD COLUMN uuid_bin              BINARY(16) NULL,
+    ADD COLUMN municipality_uuid_bin BINARY(16) NULL,
+    ALGORITHM=INSTANT;
@@ -0,0 +1,10 @@
+-- Municipality ids come from a pooled Hibernate generator instead of AUTO_INCREMENT, so their INSERTs can be
+-- sent in JDBC batches. MySQL has no sequences: Hibernate reads and advances next_val in this one-row table and
+-- hands out the 50 ids below it (allocationSize on MunicipalityEntity). Rows inserted outside Hibernate must
+-- take their ids from here as well.
+CREATE TABLE municipalities_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO municipalities_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM municipalities;
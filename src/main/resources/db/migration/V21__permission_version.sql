@@ -0,0 +1,8 @@
+-- Permission version stamped into access tokens and checked by the permission cache. It lives in the database so
+-- every instance sees the same value, and it is bumped in the same transaction as the role or permission change.
+CREATE TABLE permission_versions (
+    id      TINYINT NOT NULL PRIMARY KEY,
+    version BIGINT  NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO permission_versions (id, version) VALUES (1, 1);
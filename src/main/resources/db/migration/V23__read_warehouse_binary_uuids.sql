@@ -0,0 +1,39 @@
+-- Second step of the warehouse UUID move started in V19: this release reads and looks warehouses up by the binary
+-- columns. Instances of the previous release, still running during the rollout, write only the VARCHAR columns;
+-- these triggers fill in the binary ones so their rows stay visible to this release. The contract step drops them.
+DELIMITER //
+CREATE TRIGGER warehouses_binary_uuids_insert
+    BEFORE INSERT ON warehouses
+    FOR EACH ROW
+BEGIN
+    IF NEW.uuid_bin IS NULL THEN
+        SET NEW.uuid_bin = UUID_TO_BIN(NEW.uuid);
+    END IF;
+    IF NEW.municipality_uuid_bin IS NULL THEN
+        SET NEW.municipality_uuid_bin = UUID_TO_BIN(NEW.municipality_uuid);
+    END IF;
+END //
+
+CREATE TRIGGER warehouses_binary_uuids_update
+    BEFORE UPDATE ON warehouses
+    FOR EACH ROW
+BEGIN
+    -- Only the previous release changes the VARCHAR municipality without the binary one
+    IF NOT (NEW.municipality_uuid <=> OLD.municipality_uuid)
+        AND NEW.municipality_uuid_bin <=> OLD.municipality_uuid_bin THEN
+        SET NEW.municipality_uuid_bin = UUID_TO_BIN(NEW.municipality_uuid);
+    END IF;
+END //
+DELIMITER ;
+
+-- Rows the previous release wrote between V19_1 and the triggers above
+UPDATE warehouses
+SET uuid_bin              = UUID_TO_BIN(uuid),
+    municipality_uuid_bin = UUID_TO_BIN(municipality_uuid)
+WHERE uuid_bin IS NULL;
+
+-- Lookups by UUID and the municipality delete check now use these columns
+ALTER TABLE warehouses
+    ADD CONSTRAINT uk_warehouse_uuid_bin UNIQUE (uuid_bin),
+    ADD INDEX idx_warehouse_municipality_bin (municipality_uuid_bin),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.documenttypes;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.documenttypes.DocumentTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
 import com.jcuadrado.erplitebackend.domain.port.documenttypes.DocumentTypeRepository;
@@ -15,9 +17,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,6 +34,9 @@ class CompareDocumentTypesUseCaseImplTest {
     @Mock
     private DocumentTypeRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CompareDocumentTypesUseCaseImpl useCase;
 
@@ -39,6 +47,9 @@ class CompareDocumentTypesUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+
         sampleUuid1 = UUID.randomUUID();
         sampleUuid2 = UUID.randomUUID();
 
@@ -242,4 +253,13 @@ class CompareDocumentTypesUseCaseImplTest {
         assertThat(result.hasNext()).isTrue();
         verify(repository).findAll(filters, pageable);
     }
+
+    @Test
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.DOCUMENT_TYPES), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findAllActive();
+    }
 }
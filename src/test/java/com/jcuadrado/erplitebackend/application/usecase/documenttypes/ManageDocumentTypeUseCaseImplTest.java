@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.documenttypes;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.documenttypes.DocumentTypeNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.documenttypes.DocumentType;
 import com.jcuadrado.erplitebackend.domain.port.documenttypes.DocumentTypeRepository;
@@ -34,6 +36,9 @@ class ManageDocumentTypeUseCaseImplTest {
     @Mock
     private DocumentTypeDomainService domainService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ManageDocumentTypeUseCaseImpl useCase;
 
@@ -294,6 +299,7 @@ class ManageDocumentTypeUseCaseImplTest {
         DocumentType captured = documentTypeCaptor.getValue();
         assertThat(captured.getActive()).isTrue();
         assertThat(captured.getUpdatedAt()).isNotNull();
+        verify(referenceDataCache).invalidate(ReferenceCatalog.DOCUMENT_TYPES);
     }
 
     @Test
@@ -1,7 +1,10 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +32,9 @@ class CompareDepartmentsUseCaseImplTest {
     @Mock
     private DepartmentRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CompareDepartmentsUseCaseImpl useCase;
 
@@ -36,6 +45,9 @@ class CompareDepartmentsUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+
         sampleUuid1 = UUID.randomUUID();
         sampleUuid2 = UUID.randomUUID();
 
@@ -159,4 +171,23 @@ class CompareDepartmentsUseCaseImplTest {
         assertThat(result.getContent()).hasSize(1);
         verify(repository).findAll(filters, pageable);
     }
+
+    @Test
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.DEPARTMENTS), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findAllEnabled();
+    }
+
+    @Test
+    void search_shouldRankActiveItemsFromCachedIndex() {
+        when(referenceDataCache.getSearchIndex(eq(ReferenceCatalog.DEPARTMENTS), any(), any()))
+                .thenAnswer(inv -> TextSearchIndex.of(inv.<Supplier<List<Object>>>getArgument(1).get(), inv.getArgument(2)));
+        when(repository.findAllEnabled()).thenReturn(List.of(sampleDepartment1, sampleDepartment2));
+
+        assertThat(useCase.search("atlantico", 10)).containsExactly(sampleDepartment2);
+        assertThat(useCase.search("0", 1)).hasSize(1);
+    }
 }
@@ -1,8 +1,12 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.exception.geography.MunicipalityNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.geography.GeographyIndex;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
@@ -16,11 +20,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CompareMunicipalitiesUseCaseImplTest {
@@ -31,6 +42,12 @@ class CompareMunicipalitiesUseCaseImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private GeographyIndexProvider geographyIndexProvider;
+
     @InjectMocks
     private CompareMunicipalitiesUseCaseImpl useCase;
 
@@ -42,6 +59,9 @@ class CompareMunicipalitiesUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+
         sampleDepartment = Department.builder()
                 .id(1L).uuid(UUID.randomUUID()).code("05").name("Antioquia").enabled(true).build();
 
@@ -184,4 +204,135 @@ class CompareMunicipalitiesUseCaseImplTest {
         assertThat(result).isEmpty();
         verify(repository).findAllByDepartmentIdAndEnabled(1L, true);
     }
+
+    @Test
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.MUNICIPALITIES), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findAllEnabled();
+    }
+
+    // ==================== geography index ====================
+
+    private GeographyIndex sampleIndex() {
+        Municipality disabled = Municipality.builder()
+                .id(3L).uuid(UUID.randomUUID()).code("05002")
+                .name("Abejorral").department(sampleMunicipality1.getDepartment()).enabled(false).build();
+        return GeographyIndex.of(List.of(sampleDepartment), List.of(sampleMunicipality1, sampleMunicipality2, disabled));
+    }
+
+    @Test
+    void getByUuid_shouldUseIndex_whenLoaded() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+
+        assertThat(useCase.getByUuid(sampleUuid1)).isSameAs(sampleMunicipality1);
+        verify(repository, never()).findByUuid(any());
+    }
+
+    @Test
+    void getAllByDepartment_shouldUseIndex_whenDepartmentIndexed() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+
+        List<Municipality> result = useCase.getAllByDepartment(sampleDepartment.getUuid());
+
+        assertThat(result).containsExactly(sampleMunicipality2, sampleMunicipality1);
+        verifyNoInteractions(departmentRepository);
+        verify(repository, never()).findAllByDepartmentIdAndEnabled(any(), any());
+    }
+
+    @Test
+    void findAll_shouldFilterSortAndPageInIndex_whenSupported() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+        Map<String, Object> filters = Map.of("enabled", true, "search", "MEDELLIN");
+
+        Page<Municipality> result = useCase.findAll(filters, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(result.getContent()).containsExactly(sampleMunicipality1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(repository, never()).findAll(any(), any());
+    }
+
+    @Test
+    void findAll_shouldPageIndexResults() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+
+        Page<Municipality> result = useCase.findAll(Map.of(), PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "code")));
+
+        assertThat(result.getContent()).extracting(Municipality::getCode).containsExactly("05001");
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void findAll_shouldUseRepository_whenSortNotIndexed() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt"));
+        when(repository.findAll(Map.of(), pageable)).thenReturn(Page.empty());
+
+        useCase.findAll(Map.of(), pageable);
+
+        verify(repository).findAll(Map.of(), pageable);
+    }
+
+    @Test
+    void findSlice_shouldPageInIndex_whenSupported() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+
+        Slice<Municipality> result = useCase.findSlice(Map.of("enabled", true), PageRequest.of(0, 1, Sort.by("name")));
+
+        assertThat(result.getContent()).containsExactly(sampleMunicipality2);
+        assertThat(result.hasNext()).isTrue();
+        verify(repository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    void findSlice_shouldUseRepository_whenIndexNotLoaded() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.empty());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findSlice(Map.of(), pageable)).thenReturn(new SliceImpl<>(List.of(sampleMunicipality1)));
+
+        assertThat(useCase.findSlice(Map.of(), pageable).getContent()).containsExactly(sampleMunicipality1);
+        verify(repository, never()).findAll(any(), any());
+    }
+
+    @Test
+    void exportAll_shouldStreamFromIndex_whenSupported() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+        List<Municipality> exported = new ArrayList<>();
+
+        useCase.exportAll(Map.of("enabled", true), Sort.by("name"), exported::add);
+
+        assertThat(exported).containsExactly(sampleMunicipality2, sampleMunicipality1);
+        verify(repository, never()).forEach(any(), any(), any());
+    }
+
+    @Test
+    void exportAll_shouldStreamFromRepository_whenIndexNotLoaded() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.empty());
+        Consumer<Municipality> sink = municipality -> { };
+
+        useCase.exportAll(Map.of(), Sort.by("code"), sink);
+
+        verify(repository).forEach(Map.of(), Sort.by("code"), sink);
+    }
+
+    @Test
+    void search_shouldRankEnabledItemsFromGeographyIndex() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.of(sampleIndex()));
+
+        assertThat(useCase.search("MEDELLIN", 10)).containsExactly(sampleMunicipality1);
+        assertThat(useCase.search("050", 10)).containsExactly(sampleMunicipality2, sampleMunicipality1);
+        verify(repository, never()).findAllEnabled();
+        verify(referenceDataCache, never()).getSearchIndex(any(), any(), any());
+    }
+
+    @Test
+    void search_shouldRankEnabledItemsFromRepository_whenIndexNotLoaded() {
+        when(geographyIndexProvider.current()).thenReturn(Optional.empty());
+        when(repository.findAllEnabled()).thenReturn(List.of(sampleMunicipality1, sampleMunicipality2));
+
+        assertThat(useCase.search("bello", 10)).containsExactly(sampleMunicipality2);
+    }
 }
@@ -1,5 +1,8 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
@@ -30,6 +33,12 @@ class ManageDepartmentUseCaseImplTest {
     @Mock
     private GeographyDomainService domainService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private GeographyIndexProvider geographyIndexProvider;
+
     @InjectMocks
     private ManageDepartmentUseCaseImpl useCase;
 
@@ -145,6 +154,9 @@ class ManageDepartmentUseCaseImplTest {
         verify(repository).save(departmentCaptor.capture());
         assertThat(departmentCaptor.getValue().getEnabled()).isTrue();
         assertThat(departmentCaptor.getValue().getUpdatedAt()).isNotNull();
+        verify(referenceDataCache).invalidate(ReferenceCatalog.DEPARTMENTS);
+        verify(referenceDataCache).invalidate(ReferenceCatalog.MUNICIPALITIES);
+        verify(geographyIndexProvider).refresh();
     }
 
     @Test
@@ -1,11 +1,16 @@
 package com.jcuadrado.erplitebackend.application.usecase.geography;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
 import com.jcuadrado.erplitebackend.domain.exception.geography.DepartmentNotFoundException;
+import com.jcuadrado.erplitebackend.domain.exception.geography.GeographyConstraintException;
 import com.jcuadrado.erplitebackend.domain.exception.geography.MunicipalityNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
 import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
+import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import com.jcuadrado.erplitebackend.domain.service.geography.GeographyDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +41,15 @@ class ManageMunicipalityUseCaseImplTest {
     @Mock
     private GeographyDomainService domainService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private GeographyIndexProvider geographyIndexProvider;
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
     @InjectMocks
     private ManageMunicipalityUseCaseImpl useCase;
 
@@ -139,6 +153,18 @@ class ManageMunicipalityUseCaseImplTest {
         verify(municipalityRepository).deleteByUuid(sampleUuid);
     }
 
+    @Test
+    void delete_shouldThrowWhenWarehousesReferenceMunicipality() {
+        Municipality existing = Municipality.builder()
+                .id(1L).uuid(sampleUuid).code("05001").name("Medellín").build();
+        when(municipalityRepository.findByUuid(sampleUuid)).thenReturn(Optional.of(existing));
+        when(warehouseRepository.existsByMunicipalityUuid(sampleUuid)).thenReturn(true);
+
+        assertThatThrownBy(() -> useCase.delete(sampleUuid))
+                .isInstanceOf(GeographyConstraintException.class);
+        verify(municipalityRepository, never()).deleteByUuid(any());
+    }
+
     @Test
     void delete_shouldThrowWhenMunicipalityNotFound() {
         UUID uuid = UUID.randomUUID();
@@ -163,6 +189,8 @@ class ManageMunicipalityUseCaseImplTest {
         verify(municipalityRepository).save(municipalityCaptor.capture());
         assertThat(municipalityCaptor.getValue().getEnabled()).isTrue();
         assertThat(municipalityCaptor.getValue().getUpdatedAt()).isNotNull();
+        verify(referenceDataCache).invalidate(ReferenceCatalog.MUNICIPALITIES);
+        verify(geographyIndexProvider).refresh();
     }
 
     @Test
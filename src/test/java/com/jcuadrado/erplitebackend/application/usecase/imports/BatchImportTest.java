@@ -0,0 +1,81 @@
+package com.jcuadrado.erplitebackend.application.usecase.imports;
+
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchImportTest {
+
+    private final List<List<String>> written = new ArrayList<>();
+
+    private static String prepare(String value) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("El código no puede estar vacío");
+        }
+        return value.trim().toUpperCase();
+    }
+
+    private static BatchImport<String, String> codes(List<String> existing) {
+        return BatchImport.<String, String>of(BatchImportTest::prepare)
+                .unique(Function.identity(), existing, code -> new IllegalStateException("Ya existe el código " + code));
+    }
+
+    @Test
+    void run_shouldWriteAllPreparedRowsAtOnce() {
+        ImportReport report = codes(List.of("IVA")).run(List.of("cash", " card "), written::add);
+
+        assertThat(report).isEqualTo(new ImportReport(2, 2, List.of()));
+        assertThat(written).containsExactly(List.of("CASH", "CARD"));
+    }
+
+    @Test
+    void run_shouldReportEveryFailedRowAndWriteNothing() {
+        ImportReport report = codes(List.of("iva")).run(List.of("CASH", " ", "IVA", "cash"), written::add);
+
+        assertThat(report.received()).isEqualTo(4);
+        assertThat(report.imported()).isZero();
+        assertThat(report.errors()).containsExactly(
+                new ImportRowError(2, "El código no puede estar vacío"),
+                new ImportRowError(3, "Ya existe el código IVA"),
+                new ImportRowError(4, "Ya existe el código CASH (repetido de la fila 1)"));
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void run_shouldTreatAccentedKeysAsDuplicates() {
+        BatchImport<String, String> batch = BatchImport.<String, String>of(String::trim)
+                .unique(Function.identity(), List.of("Bogotá"), name -> new IllegalStateException("Ya existe " + name));
+
+        ImportReport report = batch.run(List.of("BOGOTA", "Medellín", "medellin"), written::add);
+
+        assertThat(report.errors()).containsExactly(
+                new ImportRowError(1, "Ya existe BOGOTA"),
+                new ImportRowError(3, "Ya existe medellin (repetido de la fila 2)"));
+    }
+
+    @Test
+    void run_shouldCheckEveryKeyAndSkipNullKeys() {
+        BatchImport<String, String> batch = codes(List.of())
+                .unique(code -> code.startsWith("P") ? "principal" : null, List.of(),
+                        key -> new IllegalStateException("Solo puede haber una principal"));
+
+        ImportReport report = batch.run(List.of("A", "P1", "B", "P2"), written::add);
+
+        assertThat(report.errors()).containsExactly(
+                new ImportRowError(4, "Solo puede haber una principal (repetido de la fila 2)"));
+    }
+
+    @Test
+    void run_shouldNotCallWriterForEmptyBatch() {
+        ImportReport report = codes(List.of()).run(List.of(), written::add);
+
+        assertThat(report).isEqualTo(new ImportReport(0, 0, List.of()));
+        assertThat(written).isEmpty();
+    }
+}
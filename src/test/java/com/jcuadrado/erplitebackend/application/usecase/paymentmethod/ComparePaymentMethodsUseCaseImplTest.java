@@ -1,7 +1,10 @@
 package com.jcuadrado.erplitebackend.application.usecase.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
 import com.jcuadrado.erplitebackend.domain.port.paymentmethod.PaymentMethodRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,6 +35,9 @@ class ComparePaymentMethodsUseCaseImplTest {
     @Mock
     private PaymentMethodRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ComparePaymentMethodsUseCaseImpl useCase;
 
@@ -39,6 +48,9 @@ class ComparePaymentMethodsUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+
         sampleUuid1 = UUID.randomUUID();
         sampleUuid2 = UUID.randomUUID();
 
@@ -268,4 +280,23 @@ class ComparePaymentMethodsUseCaseImplTest {
         assertThat(result).hasSize(2);
         verify(repository).findByNameContaining(searchTerm);
     }
+
+    @Test
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.PAYMENT_METHODS), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findAllActive();
+    }
+
+    @Test
+    void search_shouldRankActiveItemsFromCachedIndex() {
+        when(referenceDataCache.getSearchIndex(eq(ReferenceCatalog.PAYMENT_METHODS), any(), any()))
+                .thenAnswer(inv -> TextSearchIndex.of(inv.<Supplier<List<Object>>>getArgument(1).get(), inv.getArgument(2)));
+        when(repository.findAllActive()).thenReturn(List.of(samplePaymentMethod1, samplePaymentMethod2));
+
+        assertThat(useCase.search("credito", 10)).containsExactly(samplePaymentMethod2);
+        assertThat(useCase.search("c", 10)).containsExactly(samplePaymentMethod2, samplePaymentMethod1);
+    }
 }
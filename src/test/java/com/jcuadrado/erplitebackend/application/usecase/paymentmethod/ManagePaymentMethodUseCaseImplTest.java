@@ -1,5 +1,8 @@
 package com.jcuadrado.erplitebackend.application.usecase.paymentmethod;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodConstraintException;
 import com.jcuadrado.erplitebackend.domain.exception.paymentmethod.PaymentMethodNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
@@ -15,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +40,9 @@ class ManagePaymentMethodUseCaseImplTest {
     @Mock
     private PaymentMethodDomainService domainService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ManagePaymentMethodUseCaseImpl useCase;
 
@@ -292,6 +299,7 @@ class ManagePaymentMethodUseCaseImplTest {
         assertThat(captured.getEnabled()).isTrue();
         assertThat(captured.getUpdatedAt()).isNotNull();
         assertThat(captured.getUpdatedBy()).isEqualTo(0L);
+        verify(referenceDataCache).invalidate(ReferenceCatalog.PAYMENT_METHODS);
     }
 
     @Test
@@ -377,4 +385,25 @@ class ManagePaymentMethodUseCaseImplTest {
         verify(domainService).canDeactivate(10L);
         verify(repository, never()).save(any());
     }
+
+    @Test
+    void importAll_shouldPrepareEveryRowAndInsertBatch() {
+        // Given
+        PaymentMethod nequi = PaymentMethod.builder().code("NEQUI").name("Nequi").build();
+        PaymentMethod pse = PaymentMethod.builder().code("PSE").name("PSE").build();
+        when(repository.findAllCodes()).thenReturn(List.of("CASH"));
+
+        // When
+        ImportReport report = useCase.importAll(List.of(nequi, pse));
+
+        // Then
+        assertThat(report.imported()).isEqualTo(2);
+        verify(domainService).prepareForImport(nequi);
+        verify(domainService).prepareForImport(pse);
+        verify(domainService, never()).validateUniqueCode(any());
+        verify(repository).insertAll(List.of(nequi, pse));
+        verify(referenceDataCache).invalidate(ReferenceCatalog.PAYMENT_METHODS);
+        assertThat(nequi.getCreatedBy()).isEqualTo(0L);
+        assertThat(nequi.getCreatedAt()).isNotNull();
+    }
 }
@@ -14,10 +14,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -79,4 +83,28 @@ class AuditLogUseCaseImplTest {
         assertThat(result).isEmpty();
         verify(auditLogRepository).findById(logId);
     }
+
+    @Test
+    @DisplayName("scrollAuditLogs should return the keyset window from the repository")
+    void scrollAuditLogs_shouldDelegateToRepository() {
+        AuditLogFilter filter = new AuditLogFilter(null, null, null, null, null);
+        Sort sort = Sort.by(Sort.Direction.DESC, "timestamp");
+        Window<AuditLog> window = Window.from(List.of(), index -> ScrollPosition.keyset());
+
+        when(auditLogRepository.scrollByFilter(filter, sort, ScrollPosition.keyset(), 20)).thenReturn(window);
+
+        assertThat(useCase.scrollAuditLogs(filter, sort, ScrollPosition.keyset(), 20)).isSameAs(window);
+    }
+
+    @Test
+    @DisplayName("exportAuditLogs should stream the repository rows to the sink")
+    void exportAuditLogs_shouldDelegateToRepository() {
+        AuditLogFilter filter = new AuditLogFilter(null, "User", null, null, null);
+        Sort sort = Sort.by("timestamp");
+        Consumer<AuditLog> sink = auditLog -> { };
+
+        useCase.exportAuditLogs(filter, sort, sink);
+
+        verify(auditLogRepository).forEachByFilter(filter, sort, sink);
+    }
 }
@@ -5,6 +5,7 @@ import com.jcuadrado.erplitebackend.application.command.security.LoginResponse;
 import com.jcuadrado.erplitebackend.application.command.security.LogoutCommand;
 import com.jcuadrado.erplitebackend.application.command.security.RefreshTokenCommand;
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.domain.exception.security.AccountLockedException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
@@ -23,6 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.jcuadrado.erplitebackend.domain.model.security.Permission;
 import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
@@ -37,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -66,6 +71,9 @@ class AuthUseCaseImplTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private PermissionVersionService permissionVersionService;
+
     private AuthUseCaseImpl useCase;
 
     @BeforeEach
@@ -77,7 +85,9 @@ class AuthUseCaseImplTest {
                 refreshTokenRepository,
                 auditLogRepository,
                 passwordEncoder,
-                tokenService);
+                tokenService,
+                permissionVersionService,
+                TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -98,8 +108,8 @@ class AuthUseCaseImplTest {
         when(passwordEncoder.matches("plain", "hashed")).thenReturn(true);
         when(roleRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
         when(permissionRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
-        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList())).thenReturn("jwt-token");
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList(), anyLong())).thenReturn("jwt-token");
+        when(refreshTokenRepository.insert(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -110,10 +120,60 @@ class AuthUseCaseImplTest {
         assertThat(response.refreshToken()).isNotBlank();
         assertThat(response.expiresIn()).isEqualTo(1800L);
         verify(userRepository).save(user);
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenRepository).insert(any(RefreshToken.class));
         verify(auditLogRepository).save(any(AuditLog.class));
     }
 
+    @Test
+    @DisplayName("login should check the password outside the transaction and only write inside it")
+    void login_shouldHashOutsideTransaction() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .username("admin")
+                .passwordHash("hashed")
+                .active(true)
+                .failedAttempts(0)
+                .build();
+        boolean[] inTransaction = {false};
+        TransactionOperations recording = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                inTransaction[0] = true;
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    inTransaction[0] = false;
+                }
+            }
+        };
+        useCase = new AuthUseCaseImpl(userRepository, roleRepository, permissionRepository, refreshTokenRepository,
+                auditLogRepository, passwordEncoder, tokenService, permissionVersionService, recording);
+
+        when(userRepository.findByUsername("admin")).thenAnswer(inv -> {
+            assertThat(inTransaction[0]).isFalse();
+            return Optional.of(user);
+        });
+        when(passwordEncoder.matches("plain", "hashed")).thenAnswer(inv -> {
+            assertThat(inTransaction[0]).isFalse();
+            return true;
+        });
+        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList(), anyLong())).thenReturn("jwt-token");
+        when(userRepository.save(any(User.class))).thenAnswer(inv -> {
+            assertThat(inTransaction[0]).isTrue();
+            return inv.getArgument(0);
+        });
+        when(refreshTokenRepository.insert(any(RefreshToken.class))).thenAnswer(inv -> {
+            assertThat(inTransaction[0]).isTrue();
+            return inv.getArgument(0);
+        });
+
+        useCase.login(new LoginCommand("admin", "plain", "127.0.0.1", "TestAgent"));
+
+        verify(userRepository).save(user);
+        verify(refreshTokenRepository).insert(any(RefreshToken.class));
+    }
+
     @Test
     @DisplayName("login should build role names and permission strings when user has roles and permissions")
     void login_shouldBuildRoleNamesAndPermissionStrings_whenUserHasRolesAndPermissions() {
@@ -135,8 +195,8 @@ class AuthUseCaseImplTest {
         when(passwordEncoder.matches("plain", "hashed")).thenReturn(true);
         when(roleRepository.findByUserId(userId)).thenReturn(List.of(role));
         when(permissionRepository.findByUserId(userId)).thenReturn(List.of(permission));
-        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList())).thenReturn("jwt-token");
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList(), anyLong())).thenReturn("jwt-token");
+        when(refreshTokenRepository.insert(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -221,12 +281,12 @@ class AuthUseCaseImplTest {
 
         RefreshTokenCommand command = new RefreshTokenCommand(tokenValue);
 
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(tokenValue))).thenReturn(Optional.of(storedToken));
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(roleRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
         when(permissionRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
-        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList())).thenReturn("new-jwt");
+        when(tokenService.generateAccessToken(any(User.class), anyList(), anyList(), anyLong())).thenReturn("new-jwt");
 
         LoginResponse response = useCase.refreshToken(command);
 
@@ -235,6 +295,7 @@ class AuthUseCaseImplTest {
         assertThat(response.refreshToken()).isNotBlank();
         assertThat(storedToken.isRevoked()).isTrue();
         verify(refreshTokenRepository).save(storedToken);
+        verify(refreshTokenRepository).insert(any(RefreshToken.class));
     }
 
     @Test
@@ -242,7 +303,7 @@ class AuthUseCaseImplTest {
     void refreshToken_shouldThrowInvalidRefreshToken_whenTokenNotFound() {
         RefreshTokenCommand command = new RefreshTokenCommand("nonexistent-token");
 
-        when(refreshTokenRepository.findByToken("nonexistent-token")).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken("nonexistent-token"))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> useCase.refreshToken(command))
                 .isInstanceOf(InvalidRefreshTokenException.class);
@@ -259,7 +320,7 @@ class AuthUseCaseImplTest {
 
         RefreshTokenCommand command = new RefreshTokenCommand(tokenValue);
 
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(tokenValue))).thenReturn(Optional.of(storedToken));
 
         assertThatThrownBy(() -> useCase.refreshToken(command))
                 .isInstanceOf(InvalidRefreshTokenException.class);
@@ -282,7 +343,7 @@ class AuthUseCaseImplTest {
 
         LogoutCommand command = new LogoutCommand(tokenValue);
 
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(tokenValue))).thenReturn(Optional.of(storedToken));
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -299,7 +360,7 @@ class AuthUseCaseImplTest {
     void logout_shouldCompleteWithoutError_whenTokenNotFound() {
         LogoutCommand command = new LogoutCommand("nonexistent-token");
 
-        when(refreshTokenRepository.findByToken("nonexistent-token")).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken("nonexistent-token"))).thenReturn(Optional.empty());
 
         useCase.logout(command);
 
@@ -376,6 +437,7 @@ class AuthUseCaseImplTest {
 
         assertThat(user.getFailedAttempts()).isEqualTo(5);
         assertThat(user.isLocked()).isTrue();
+        verify(permissionVersionService).incrementForUsers(List.of(userId));
     }
 
     @Test
@@ -387,7 +449,7 @@ class AuthUseCaseImplTest {
         RefreshToken storedToken = RefreshToken.create(userId, tokenValue, 7);
         LogoutCommand command = new LogoutCommand(tokenValue);
 
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(tokenValue))).thenReturn(Optional.of(storedToken));
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
@@ -407,7 +469,7 @@ class AuthUseCaseImplTest {
         RefreshToken storedToken = RefreshToken.create(userId, tokenValue, 7);
         RefreshTokenCommand command = new RefreshTokenCommand(tokenValue);
 
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(RefreshToken.hashToken(tokenValue))).thenReturn(Optional.of(storedToken));
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
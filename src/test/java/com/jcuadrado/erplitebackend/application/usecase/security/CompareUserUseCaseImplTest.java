@@ -13,6 +13,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Optional;
@@ -101,4 +104,15 @@ class CompareUserUseCaseImplTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         assertThat(result.getContent()).isEmpty();
     }
+
+    @Test
+    @DisplayName("scroll should return the keyset window from the repository")
+    void scroll_shouldDelegateToRepository() {
+        Sort sort = Sort.by("username");
+        Window<User> window = Window.from(List.of(), index -> ScrollPosition.keyset());
+
+        when(userRepository.scrollAll(sort, ScrollPosition.keyset(), 10)).thenReturn(window);
+
+        assertThat(useCase.scroll(sort, ScrollPosition.keyset(), 10)).isSameAs(window);
+    }
 }
@@ -2,10 +2,12 @@ package com.jcuadrado.erplitebackend.application.usecase.security;
 
 import com.jcuadrado.erplitebackend.application.command.security.CreatePermissionCommand;
 import com.jcuadrado.erplitebackend.application.port.security.ConditionEvaluator;
-import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionDenialRecorder;
+import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException;
 import com.jcuadrado.erplitebackend.domain.model.security.Permission;
 import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
-import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionIndex;
 import com.jcuadrado.erplitebackend.domain.port.security.PermissionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +19,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,16 +37,24 @@ class ManagePermissionUseCaseImplTest {
     private PermissionRepository permissionRepository;
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private ConditionEvaluator conditionEvaluator;
 
     @Mock
-    private ConditionEvaluator conditionEvaluator;
+    private PermissionCache permissionCache;
+
+    @Mock
+    private PermissionDenialRecorder permissionDenialRecorder;
 
     private ManagePermissionUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new ManagePermissionUseCaseImpl(permissionRepository, auditLogRepository, conditionEvaluator);
+        useCase = new ManagePermissionUseCaseImpl(permissionRepository, conditionEvaluator, permissionCache,
+                permissionDenialRecorder);
+        lenient().when(permissionCache.getPermissions(any(), any())).thenAnswer(inv ->
+                inv.<Function<UUID, List<Permission>>>getArgument(1).apply(inv.getArgument(0)));
+        lenient().when(permissionCache.getIndex(any(), any())).thenAnswer(inv -> PermissionIndex.of(
+                inv.<Function<UUID, List<Permission>>>getArgument(1).apply(inv.getArgument(0))));
     }
 
     @Test
@@ -59,6 +73,32 @@ class ManagePermissionUseCaseImplTest {
         verify(permissionRepository).save(any(Permission.class));
     }
 
+    @Test
+    @DisplayName("createPermission should validate the condition before saving")
+    void createPermission_shouldValidateCondition() {
+        CreatePermissionCommand command = new CreatePermissionCommand("Invoice", "UPDATE", "amount < 1000", "Update small invoices");
+        Permission saved = Permission.create("Invoice", PermissionAction.UPDATE, "amount < 1000", "Update small invoices");
+
+        when(permissionRepository.save(any(Permission.class))).thenReturn(saved);
+
+        useCase.createPermission(command);
+
+        verify(conditionEvaluator).validate("amount < 1000");
+    }
+
+    @Test
+    @DisplayName("createPermission should throw InvalidPermissionConditionException when condition is malformed")
+    void createPermission_shouldThrow_whenConditionIsInvalid() {
+        CreatePermissionCommand command = new CreatePermissionCommand("Invoice", "UPDATE", "amount <", "Broken");
+
+        doThrow(new InvalidPermissionConditionException("Condición inválida"))
+                .when(conditionEvaluator).validate("amount <");
+
+        assertThatThrownBy(() -> useCase.createPermission(command))
+                .isInstanceOf(InvalidPermissionConditionException.class);
+        verify(permissionRepository, never()).save(any(Permission.class));
+    }
+
     @Test
     @DisplayName("listAll should return all permissions from the repository")
     void listAll_shouldReturnAllPermissions() {
@@ -84,7 +124,7 @@ class ManagePermissionUseCaseImplTest {
         boolean result = useCase.checkPermission(userId, "Invoice", "READ", Map.of());
 
         assertThat(result).isTrue();
-        verify(auditLogRepository, never()).save(any());
+        verify(permissionDenialRecorder, never()).recordDenial(any(), any(), any());
     }
 
     @Test
@@ -101,21 +141,20 @@ class ManagePermissionUseCaseImplTest {
 
         assertThat(result).isTrue();
         verify(conditionEvaluator).evaluate("#dept == 'SALES'", context);
-        verify(auditLogRepository, never()).save(any());
+        verify(permissionDenialRecorder, never()).recordDenial(any(), any(), any());
     }
 
     @Test
-    @DisplayName("checkPermission should return false and save audit log when user has no matching permission")
-    void checkPermission_shouldReturnFalse_andSaveAuditLog_whenNoPermission() {
+    @DisplayName("checkPermission should return false and record the denial when user has no matching permission")
+    void checkPermission_shouldReturnFalse_andRecordDenial_whenNoPermission() {
         UUID userId = UUID.randomUUID();
 
         when(permissionRepository.findByUserId(userId)).thenReturn(List.of());
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
 
         boolean result = useCase.checkPermission(userId, "Invoice", "DELETE", Map.of());
 
         assertThat(result).isFalse();
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(permissionDenialRecorder).recordDenial(userId, "Invoice", PermissionAction.DELETE);
     }
 
     @Test
@@ -127,12 +166,11 @@ class ManagePermissionUseCaseImplTest {
 
         when(permissionRepository.findByUserId(userId)).thenReturn(List.of(permission));
         when(conditionEvaluator.evaluate("#dept == 'SALES'", context)).thenReturn(false);
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
 
         boolean result = useCase.checkPermission(userId, "Invoice", "READ", context);
 
         assertThat(result).isFalse();
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(permissionDenialRecorder).recordDenial(userId, "Invoice", PermissionAction.READ);
     }
 
     @Test
@@ -141,11 +179,79 @@ class ManagePermissionUseCaseImplTest {
         UUID userId = UUID.randomUUID();
         Permission permission = Permission.create("Invoice", PermissionAction.READ, null, "Read invoices");
         when(permissionRepository.findByUserId(userId)).thenReturn(List.of(permission));
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(inv -> inv.getArgument(0));
 
         boolean result = useCase.checkPermission(userId, "Invoice", "DELETE", Map.of());
 
         assertThat(result).isFalse();
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(permissionDenialRecorder).recordDenial(userId, "Invoice", PermissionAction.DELETE);
+    }
+
+    @Test
+    @DisplayName("checkPermission should not evaluate conditions when an unconditional grant exists")
+    void checkPermission_shouldSkipConditions_whenUnconditionalGrantExists() {
+        UUID userId = UUID.randomUUID();
+        when(permissionRepository.findByUserId(userId)).thenReturn(List.of(
+                Permission.create("Invoice", PermissionAction.READ, "#dept == 'SALES'", "Read sales invoices"),
+                Permission.create("Invoice", PermissionAction.READ, null, "Read invoices")));
+
+        boolean result = useCase.checkPermission(userId, "Invoice", "READ", Map.of("dept", "HR"));
+
+        assertThat(result).isTrue();
+        verify(conditionEvaluator, never()).evaluate(any(), any());
+    }
+
+    @Test
+    @DisplayName("checkPermissions should return an empty list when there are no contexts")
+    void checkPermissions_shouldReturnEmpty_whenNoContexts() {
+        List<Boolean> result = useCase.checkPermissions(UUID.randomUUID(), "Invoice", "READ", List.of());
+
+        assertThat(result).isEmpty();
+        verify(permissionRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("checkPermissions should allow every row when an unconditional grant exists")
+    void checkPermissions_shouldAllowAll_whenUnconditionalGrantExists() {
+        UUID userId = UUID.randomUUID();
+        when(permissionRepository.findByUserId(userId)).thenReturn(List.of(
+                Permission.create("Invoice", PermissionAction.READ, null, "Read invoices")));
+
+        List<Boolean> result = useCase.checkPermissions(userId, "Invoice", "READ",
+                List.of(Map.of("dept", "SALES"), Map.of("dept", "HR")));
+
+        assertThat(result).containsExactly(true, true);
+        verify(conditionEvaluator, never()).evaluate(any(), any());
+        verify(permissionDenialRecorder, never()).recordDenial(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("checkPermissions should deny every row and record one denial when no permission matches")
+    void checkPermissions_shouldDenyAll_whenNoPermissionMatches() {
+        UUID userId = UUID.randomUUID();
+        when(permissionRepository.findByUserId(userId)).thenReturn(List.of());
+
+        List<Boolean> result = useCase.checkPermissions(userId, "Invoice", "DELETE",
+                List.of(Map.of(), Map.of(), Map.of()));
+
+        assertThat(result).containsExactly(false, false, false);
+        verify(permissionDenialRecorder).recordDenial(userId, "Invoice", PermissionAction.DELETE);
+    }
+
+    @Test
+    @DisplayName("checkPermissions should evaluate conditions per row and record one denial when any row is denied")
+    void checkPermissions_shouldEvaluateConditionsPerRow() {
+        UUID userId = UUID.randomUUID();
+        Map<String, Object> sales = Map.of("dept", "SALES");
+        Map<String, Object> hr = Map.of("dept", "HR");
+        when(permissionRepository.findByUserId(userId)).thenReturn(List.of(
+                Permission.create("Invoice", PermissionAction.READ, "#dept == 'SALES'", "Read sales invoices")));
+        when(conditionEvaluator.evaluate("#dept == 'SALES'", sales)).thenReturn(true);
+        when(conditionEvaluator.evaluate("#dept == 'SALES'", hr)).thenReturn(false);
+
+        List<Boolean> result = useCase.checkPermissions(userId, "Invoice", "READ", List.of(sales, hr, sales));
+
+        assertThat(result).containsExactly(true, false, true);
+        verify(permissionRepository).findByUserId(userId);
+        verify(permissionDenialRecorder).recordDenial(userId, "Invoice", PermissionAction.READ);
     }
 }
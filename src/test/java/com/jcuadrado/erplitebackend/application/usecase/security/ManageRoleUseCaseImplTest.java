@@ -2,6 +2,7 @@ package com.jcuadrado.erplitebackend.application.usecase.security;
 
 import com.jcuadrado.erplitebackend.application.command.security.CreateRoleCommand;
 import com.jcuadrado.erplitebackend.application.command.security.UpdateRoleCommand;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleNotFoundException;
 import com.jcuadrado.erplitebackend.domain.exception.security.SecurityDomainException;
@@ -42,11 +43,15 @@ class ManageRoleUseCaseImplTest {
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Mock
+    private PermissionVersionService permissionVersionService;
+
     private ManageRoleUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new ManageRoleUseCaseImpl(roleRepository, permissionRepository, auditLogRepository);
+        useCase = new ManageRoleUseCaseImpl(roleRepository, permissionRepository, auditLogRepository,
+                permissionVersionService);
     }
 
     @Test
@@ -200,6 +205,7 @@ class ManageRoleUseCaseImplTest {
 
         verify(roleRepository).countUsersByRoleId(roleId);
         verify(auditLogRepository).save(any(AuditLog.class));
+        verify(permissionVersionService).incrementForRole(roleId);
     }
 
     @Test
@@ -256,6 +262,7 @@ class ManageRoleUseCaseImplTest {
         useCase.assignPermissions(roleId, permissionIds);
 
         verify(permissionRepository).findByIds(permissionIds);
+        verify(permissionVersionService).incrementForRole(roleId);
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.jcuadrado.erplitebackend.application.command.security.ChangePasswordC
 import com.jcuadrado.erplitebackend.application.command.security.CreateUserCommand;
 import com.jcuadrado.erplitebackend.application.command.security.UpdateUserCommand;
 import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateEmailException;
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateUsernameException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
@@ -53,6 +54,9 @@ class ManageUserUseCaseImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PermissionVersionService permissionVersionService;
+
     private ManageUserUseCaseImpl useCase;
 
     @BeforeEach
@@ -62,7 +66,8 @@ class ManageUserUseCaseImplTest {
                 roleRepository,
                 auditLogRepository,
                 userDomainService,
-                passwordEncoder);
+                passwordEncoder,
+                permissionVersionService);
     }
 
     @Test
@@ -182,6 +187,7 @@ class ManageUserUseCaseImplTest {
         assertThat(user.getDeletedAt()).isNotNull();
         assertThat(user.isDeleted()).isTrue();
         verify(userRepository).save(user);
+        verify(permissionVersionService).incrementForUsers(List.of(userId));
         verify(auditLogRepository).save(any(AuditLog.class));
     }
 
@@ -225,6 +231,7 @@ class ManageUserUseCaseImplTest {
         useCase.assignRoles(userId, roleIds);
 
         verify(roleRepository).findByIds(roleIds);
+        verify(permissionVersionService).incrementForUsers(List.of(userId));
     }
 
     @Test
@@ -0,0 +1,222 @@
+package com.jcuadrado.erplitebackend.application.usecase.security;
+
+import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
+import com.jcuadrado.erplitebackend.application.command.security.RetentionPolicy;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogArchiver;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager;
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager.Partition;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import com.jcuadrado.erplitebackend.domain.port.security.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionUseCaseImplTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private AuditLogArchiver auditLogArchiver;
+
+    @Mock
+    private AuditLogArchiver.Session archiveSession;
+
+    @Mock
+    private AuditLogPartitionManager partitionManager;
+
+    private RetentionUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        RetentionPolicy policy = new RetentionPolicy(
+                Duration.ofDays(1), Duration.ofDays(365), BATCH_SIZE, Duration.ZERO, 2);
+        useCase = new RetentionUseCaseImpl(
+                refreshTokenRepository, auditLogRepository, auditLogArchiver, partitionManager, policy);
+    }
+
+    private static List<AuditLog> auditLogs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.create(UUID.randomUUID(), "admin", "User", null, AuditAction.LOGIN, null, null))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("purgeRefreshTokens should delete in batches until a batch comes back short")
+    void purgeRefreshTokens_shouldDeleteInBatches() {
+        when(refreshTokenRepository.deleteExpiredOrRevokedBefore(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(3, 3, 1);
+
+        int deleted = useCase.purgeRefreshTokens();
+
+        assertThat(deleted).isEqualTo(7);
+        verify(refreshTokenRepository, times(3)).deleteExpiredOrRevokedBefore(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("purgeRefreshTokens should use a cutoff one grace period in the past")
+    void purgeRefreshTokens_shouldUseGracePeriodCutoff() {
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        when(refreshTokenRepository.deleteExpiredOrRevokedBefore(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenAnswer(inv -> {
+                    LocalDateTime cutoff = inv.getArgument(0);
+                    assertThat(cutoff).isBetween(before, LocalDateTime.now().minusDays(1));
+                    return 0;
+                });
+
+        assertThat(useCase.purgeRefreshTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("archiveAuditLogs should not open an archive when nothing is old enough")
+    void archiveAuditLogs_shouldDoNothing_whenNoOldLogs() {
+        when(auditLogRepository.findOlderThan(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(List.of());
+
+        int archived = useCase.archiveAuditLogs();
+
+        assertThat(archived).isZero();
+        verify(auditLogArchiver, never()).open();
+    }
+
+    @Test
+    @DisplayName("archiveAuditLogs should archive each batch before deleting it")
+    void archiveAuditLogs_shouldArchiveBeforeDeleting() {
+        List<AuditLog> first = auditLogs(3);
+        List<AuditLog> second = auditLogs(2);
+        when(auditLogRepository.findOlderThan(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(first, second);
+        when(auditLogArchiver.open()).thenReturn(archiveSession);
+        when(auditLogRepository.deleteOlderThan(anyList(), any(LocalDateTime.class))).thenReturn(3, 2);
+
+        int archived = useCase.archiveAuditLogs();
+
+        assertThat(archived).isEqualTo(5);
+        InOrder order = inOrder(archiveSession, auditLogRepository);
+        order.verify(archiveSession).append(first);
+        order.verify(auditLogRepository).deleteOlderThan(eq(first.stream().map(AuditLog::getId).toList()), any());
+        order.verify(archiveSession).append(second);
+        order.verify(auditLogRepository).deleteOlderThan(eq(second.stream().map(AuditLog::getId).toList()), any());
+        order.verify(archiveSession).close();
+    }
+
+    @Test
+    @DisplayName("archiveAuditLogs should keep the batch in the table when the archive write fails")
+    void archiveAuditLogs_shouldNotDelete_whenArchiveFails() {
+        List<AuditLog> batch = auditLogs(3);
+        when(auditLogRepository.findOlderThan(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(batch);
+        when(auditLogArchiver.open()).thenReturn(archiveSession);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(archiveSession).append(batch);
+
+        assertThatThrownBy(() -> useCase.archiveAuditLogs()).isInstanceOf(UncheckedIOException.class);
+        verify(auditLogRepository, never()).deleteOlderThan(anyList(), any());
+        verify(archiveSession).close();
+    }
+
+    @Test
+    @DisplayName("archiveAuditLogs should archive and drop only the partitions whose quarter is past the maximum age")
+    void archiveAuditLogs_shouldDropExpiredPartitions() {
+        LocalDateTime expiredBound = LocalDateTime.now().minusDays(400);
+        Partition expired = new Partition("p_old", expiredBound);
+        Partition current = new Partition("p_current", LocalDateTime.now().plusDays(30));
+        when(partitionManager.findAll()).thenReturn(List.of(expired, current, new Partition("p_future", null)));
+        when(auditLogArchiver.open()).thenReturn(archiveSession);
+        List<AuditLog> first = auditLogs(3);
+        List<AuditLog> second = auditLogs(1);
+        ScrollPosition afterFirst = ScrollPosition.offset(2);
+        when(auditLogRepository.scrollByFilter(any(), any(), eq(ScrollPosition.keyset()), eq(BATCH_SIZE)))
+                .thenAnswer(inv -> {
+                    assertThat(inv.getArgument(0, AuditLogFilter.class).endDate()).isBefore(expiredBound);
+                    return Window.from(first, index -> afterFirst, true);
+                });
+        when(auditLogRepository.scrollByFilter(any(), any(), eq(afterFirst), eq(BATCH_SIZE)))
+                .thenReturn(Window.from(second, index -> ScrollPosition.offset(3), false));
+
+        int archived = useCase.archiveAuditLogs();
+
+        assertThat(archived).isEqualTo(4);
+        InOrder order = inOrder(archiveSession, partitionManager);
+        order.verify(archiveSession).append(first);
+        order.verify(archiveSession).append(second);
+        order.verify(partitionManager).drop(expired);
+        order.verify(archiveSession).close();
+        verify(partitionManager, never()).drop(current);
+        verify(auditLogRepository, never()).deleteOlderThan(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("archiveAuditLogs should keep the partition when the archive write fails")
+    void archiveAuditLogs_shouldNotDropPartition_whenArchiveFails() {
+        Partition expired = new Partition("p_old", LocalDateTime.now().minusDays(400));
+        when(partitionManager.findAll()).thenReturn(List.of(expired, new Partition("p_future", null)));
+        when(auditLogArchiver.open()).thenReturn(archiveSession);
+        List<AuditLog> batch = auditLogs(2);
+        when(auditLogRepository.scrollByFilter(any(), any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(Window.from(batch, index -> ScrollPosition.offset(index), false));
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(archiveSession).append(batch);
+
+        assertThatThrownBy(() -> useCase.archiveAuditLogs()).isInstanceOf(UncheckedIOException.class);
+        verify(partitionManager, never()).drop(any());
+        verify(archiveSession).close();
+    }
+
+    @Test
+    @DisplayName("prepareAuditLogPartitions should add the quarters missing up to the configured number ahead")
+    void prepareAuditLogPartitions_shouldAddMissingQuarters() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime currentQuarter = LocalDate.of(today.getYear(), (today.getMonthValue() - 1) / 3 * 3 + 1, 1)
+                .atStartOfDay();
+        when(partitionManager.findAll()).thenReturn(List.of(
+                new Partition("p_current", currentQuarter.plusMonths(3)), new Partition("p_future", null)));
+
+        int added = useCase.prepareAuditLogPartitions();
+
+        assertThat(added).isEqualTo(2);
+        verify(partitionManager).addPartitions(List.of(currentQuarter.plusMonths(6), currentQuarter.plusMonths(9)));
+    }
+
+    @Test
+    @DisplayName("prepareAuditLogPartitions should do nothing when enough quarters exist or the table is not partitioned")
+    void prepareAuditLogPartitions_shouldDoNothing_whenCovered() {
+        when(partitionManager.findAll()).thenReturn(
+                List.of(new Partition("p_far", LocalDateTime.now().plusYears(2)), new Partition("p_future", null)),
+                List.of());
+
+        assertThat(useCase.prepareAuditLogPartitions()).isZero();
+        assertThat(useCase.prepareAuditLogPartitions()).isZero();
+        verify(partitionManager, never()).addPartitions(anyList());
+    }
+}
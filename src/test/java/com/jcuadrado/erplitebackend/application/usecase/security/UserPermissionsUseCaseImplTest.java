@@ -1,10 +1,12 @@
 package com.jcuadrado.erplitebackend.application.usecase.security;
 
+import com.jcuadrado.erplitebackend.application.port.security.PermissionCache;
 import com.jcuadrado.erplitebackend.domain.model.security.Permission;
 import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import com.jcuadrado.erplitebackend.domain.port.security.PermissionRepository;
 import com.jcuadrado.erplitebackend.domain.port.security.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +34,18 @@ class UserPermissionsUseCaseImplTest {
     @Mock
     private PermissionRepository permissionRepository;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @InjectMocks
     private UserPermissionsUseCaseImpl useCase;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(permissionCache.getPermissions(any(), any())).thenAnswer(inv ->
+                inv.<Function<UUID, List<Permission>>>getArgument(1).apply(inv.getArgument(0)));
+    }
+
     @Test
     @DisplayName("getPermissionStrings should return formatted ENTITY:ACTION strings for the user")
     void getPermissionStrings_shouldReturnFormattedStrings_whenUserHasPermissions() {
@@ -48,6 +62,7 @@ class UserPermissionsUseCaseImplTest {
         List<String> result = useCase.getPermissionStrings("alice");
 
         assertThat(result).containsExactlyInAnyOrder("WAREHOUSE:READ", "WAREHOUSE:CREATE");
+        verify(permissionCache).getPermissions(org.mockito.ArgumentMatchers.eq(userId), any());
         verify(permissionRepository).findByUserId(userId);
     }
 
@@ -1,6 +1,9 @@
 package com.jcuadrado.erplitebackend.application.usecase.taxtype;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.TaxTypeNotFoundException;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
 import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 import com.jcuadrado.erplitebackend.domain.port.taxtype.TaxTypeRepository;
@@ -16,12 +19,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +42,9 @@ class CompareTaxTypesUseCaseImplTest {
     @Mock
     private TaxTypeRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CompareTaxTypesUseCaseImpl useCase;
 
@@ -44,6 +55,9 @@ class CompareTaxTypesUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+
         sampleUuid1 = UUID.randomUUID();
         sampleUuid2 = UUID.randomUUID();
 
@@ -190,6 +204,24 @@ class CompareTaxTypesUseCaseImplTest {
         verify(repository).findAll(filters, pageable);
     }
 
+    @Test
+    @DisplayName("findSlice should return tax types without a total count")
+    void findSlice_shouldDelegateToRepository() {
+        // Given
+        Map<String, Object> filters = Map.of("enabled", true);
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<TaxType> slice = new SliceImpl<>(List.of(sampleTaxType1), pageable, true);
+        when(repository.findSlice(filters, pageable)).thenReturn(slice);
+
+        // When
+        Slice<TaxType> result = useCase.findSlice(filters, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(sampleTaxType1);
+        assertThat(result.hasNext()).isTrue();
+        verify(repository, never()).findAll(any(), any());
+    }
+
     @Test
     @DisplayName("findAll should return empty page when no tax types")
     void findAll_shouldReturnEmptyPageWhenNoTaxTypes() {
@@ -257,4 +289,25 @@ class CompareTaxTypesUseCaseImplTest {
         assertThat(result.getTotalPages()).isEqualTo(3);
         verify(repository).findAll(filters, pageable);
     }
+
+    @Test
+    @DisplayName("getAllActive should read through the reference data cache")
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.TAX_TYPES), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findByEnabled(true);
+    }
+
+    @Test
+    @DisplayName("search should rank active tax types by code or name")
+    void search_shouldRankActiveItemsFromCachedIndex() {
+        when(referenceDataCache.getSearchIndex(eq(ReferenceCatalog.TAX_TYPES), any(), any()))
+                .thenAnswer(inv -> TextSearchIndex.of(inv.<Supplier<List<Object>>>getArgument(1).get(), inv.getArgument(2)));
+        when(repository.findByEnabled(true)).thenReturn(List.of(sampleTaxType1, sampleTaxType2));
+
+        assertThat(useCase.search("iva5", 10)).containsExactly(sampleTaxType2);
+        assertThat(useCase.search("iva", 10)).containsExactly(sampleTaxType2, sampleTaxType1);
+    }
 }
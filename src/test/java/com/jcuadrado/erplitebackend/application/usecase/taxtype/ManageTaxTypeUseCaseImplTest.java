@@ -1,5 +1,9 @@
 package com.jcuadrado.erplitebackend.application.usecase.taxtype;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.DuplicateTaxTypeCodeException;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.InvalidTaxPercentageException;
 import com.jcuadrado.erplitebackend.domain.exception.taxtype.InvalidTaxTypeCodeException;
@@ -23,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -49,6 +54,9 @@ class ManageTaxTypeUseCaseImplTest {
     @Mock
     private TaxTypeValidationService validationService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ManageTaxTypeUseCaseImpl useCase;
 
@@ -479,6 +487,7 @@ class ManageTaxTypeUseCaseImplTest {
         assertThat(captured.getDeletedAt()).isNull();
         assertThat(captured.getUpdatedAt()).isNotNull();
         assertThat(captured.getUpdatedAt()).isAfterOrEqualTo(beforeActivate);
+        verify(referenceDataCache).invalidate(ReferenceCatalog.TAX_TYPES);
     }
 
     @Test
@@ -625,4 +634,55 @@ class ManageTaxTypeUseCaseImplTest {
         verify(repository, never()).countTransactionsWithTaxType(any());
         verify(repository, never()).delete(any());
     }
+
+    private static TaxType taxTypeToImport(String code) {
+        return TaxType.builder()
+                .code(code)
+                .name("Impuesto " + code)
+                .percentage(new BigDecimal("1.0000"))
+                .applicationType(TaxApplicationType.SALE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("importAll should check codes against one preloaded list and insert the whole batch")
+    void importAll_shouldInsertBatchWhenEveryRowIsValid() {
+        // Given
+        TaxType rete = taxTypeToImport("RETE25");
+        TaxType ica = taxTypeToImport("ICA");
+        when(repository.findAllCodes()).thenReturn(List.of("IVA19"));
+
+        // When
+        ImportReport report = useCase.importAll(List.of(rete, ica));
+
+        // Then
+        assertThat(report).isEqualTo(new ImportReport(2, 2, List.of()));
+        verify(repository).insertAll(List.of(rete, ica));
+        verify(validationService, never()).ensureCodeIsUnique(any(), any());
+        verify(referenceDataCache).invalidate(ReferenceCatalog.TAX_TYPES);
+        assertThat(rete.getUuid()).isNotNull();
+        assertThat(rete.getEnabled()).isTrue();
+        assertThat(rete.getIsIncluded()).isFalse();
+        assertThat(rete.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("importAll should report invalid and duplicate rows and insert nothing")
+    void importAll_shouldRejectBatchWithInvalidRows() {
+        // Given
+        TaxType missingType = taxTypeToImport("ICA");
+        missingType.setApplicationType(null);
+        when(repository.findAllCodes()).thenReturn(List.of("IVA19"));
+
+        // When
+        ImportReport report = useCase.importAll(List.of(
+                taxTypeToImport("IVA19"), taxTypeToImport("RETE25"), missingType, taxTypeToImport("RETE25")));
+
+        // Then
+        assertThat(report.imported()).isZero();
+        assertThat(report.errors()).extracting(ImportRowError::row).containsExactly(1, 3, 4);
+        assertThat(report.errors().get(0).message()).isEqualTo("Tax type with code 'IVA19' already exists");
+        verify(repository, never()).insertAll(any());
+        verify(referenceDataCache, never()).invalidate(any());
+    }
 }
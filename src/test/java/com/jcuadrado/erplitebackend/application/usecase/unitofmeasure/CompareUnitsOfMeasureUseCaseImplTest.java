@@ -1,8 +1,12 @@
 package com.jcuadrado.erplitebackend.application.usecase.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.UnitOfMeasureNotFoundException;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import com.jcuadrado.erplitebackend.domain.port.unitofmeasure.UnitOfMeasureRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,9 +21,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +38,18 @@ class CompareUnitsOfMeasureUseCaseImplTest {
     @Mock
     private UnitOfMeasureRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CompareUnitsOfMeasureUseCaseImpl useCase;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void getByUuid_shouldReturnWhenExists() {
         UUID uuid = UUID.randomUUID();
@@ -98,4 +116,25 @@ class CompareUnitsOfMeasureUseCaseImplTest {
         assertThat(result).hasSize(1);
         verify(repository).findByAbbreviationContaining("K", true);
     }
+
+    @Test
+    void getAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.UNITS_OF_MEASURE), any())).thenReturn(List.of());
+
+        assertThat(useCase.getAllActive()).isEmpty();
+
+        verify(repository, never()).findByEnabled(true);
+    }
+
+    @Test
+    void search_shouldRankActiveItemsFromCachedIndex() {
+        when(referenceDataCache.getSearchIndex(eq(ReferenceCatalog.UNITS_OF_MEASURE), any(), any()))
+                .thenAnswer(inv -> TextSearchIndex.of(inv.<Supplier<List<Object>>>getArgument(1).get(), inv.getArgument(2)));
+        UnitOfMeasure kilo = UnitOfMeasure.builder().name("Kilogramo").abbreviation("kg").build();
+        UnitOfMeasure metro = UnitOfMeasure.builder().name("Metro cúbico").abbreviation("m3").build();
+        when(repository.findByEnabled(true)).thenReturn(List.of(kilo, metro));
+
+        assertThat(useCase.search("KG", 10)).containsExactly(kilo);
+        assertThat(useCase.search("cubico", 10)).containsExactly(metro);
+    }
 }
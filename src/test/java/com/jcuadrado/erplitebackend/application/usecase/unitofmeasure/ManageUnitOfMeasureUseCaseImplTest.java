@@ -1,5 +1,9 @@
 package com.jcuadrado.erplitebackend.application.usecase.unitofmeasure;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.unitofmeasure.UnitOfMeasureNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import com.jcuadrado.erplitebackend.domain.port.unitofmeasure.UnitOfMeasureRepository;
@@ -11,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +32,9 @@ class ManageUnitOfMeasureUseCaseImplTest {
     @Mock
     private UnitOfMeasureDomainService domainService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ManageUnitOfMeasureUseCaseImpl useCase;
 
@@ -113,6 +121,7 @@ class ManageUnitOfMeasureUseCaseImplTest {
 
         assertThat(result.getEnabled()).isTrue();
         verify(repository).save(existing);
+        verify(referenceDataCache).invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
     }
 
     @Test
@@ -161,4 +170,38 @@ class ManageUnitOfMeasureUseCaseImplTest {
         verify(domainService).ensureCanBeDeactivated(0L);
         verify(repository).save(existing);
     }
+
+    @Test
+    void importAll_shouldRejectNamesAndAbbreviationsAlreadyTakenIgnoringCase() {
+        when(repository.findAllNames()).thenReturn(List.of("Caja"));
+        when(repository.findAllAbbreviations()).thenReturn(List.of("KG"));
+        List<UnitOfMeasure> rows = List.of(
+                UnitOfMeasure.builder().name("caja").abbreviation("CJ").build(),
+                UnitOfMeasure.builder().name("Kilo").abbreviation("kg").build(),
+                UnitOfMeasure.builder().name("Litro").abbreviation("L").build());
+
+        ImportReport report = useCase.importAll(rows);
+
+        assertThat(report.errors()).containsExactly(
+                new ImportRowError(1, "Ya existe una unidad de medida con el nombre 'caja'"),
+                new ImportRowError(2, "Ya existe una unidad de medida con la abreviatura 'kg'"));
+        verify(domainService, times(3)).prepareForImport(any(UnitOfMeasure.class));
+        verify(domainService, never()).prepareForCreation(any());
+        verify(repository, never()).insertAll(any());
+    }
+
+    @Test
+    void importAll_shouldInsertWithCreationDefaults() {
+        when(repository.findAllNames()).thenReturn(List.of());
+        when(repository.findAllAbbreviations()).thenReturn(List.of());
+        UnitOfMeasure litro = UnitOfMeasure.builder().name("Litro").abbreviation("L").build();
+
+        ImportReport report = useCase.importAll(List.of(litro));
+
+        assertThat(report.imported()).isEqualTo(1);
+        verify(repository).insertAll(List.of(litro));
+        verify(referenceDataCache).invalidate(ReferenceCatalog.UNITS_OF_MEASURE);
+        assertThat(litro.getUuid()).isNotNull();
+        assertThat(litro.getCreatedBy()).isEqualTo(0L);
+    }
 }
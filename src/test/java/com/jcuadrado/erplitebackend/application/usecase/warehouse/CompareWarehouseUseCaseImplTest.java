@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.application.usecase.warehouse;
 
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
@@ -21,9 +23,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,9 +40,18 @@ class CompareWarehouseUseCaseImplTest {
     @Mock
     private WarehouseRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CompareWarehouseUseCaseImpl useCase;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(referenceDataCache.getActive(any(ReferenceCatalog.class), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     private Warehouse sampleWarehouse(UUID uuid) {
         return Warehouse.builder()
                 .uuid(uuid).code("BOD-001").name("Bodega").type(WarehouseType.SUCURSAL)
@@ -85,4 +102,14 @@ class CompareWarehouseUseCaseImplTest {
 
         assertThat(useCase.findAllActive()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("findAllActive should read through the reference data cache")
+    void findAllActive_shouldReadThroughReferenceDataCache() {
+        when(referenceDataCache.getActive(eq(ReferenceCatalog.WAREHOUSES), any())).thenReturn(List.of());
+
+        assertThat(useCase.findAllActive()).isEmpty();
+
+        verify(repository, never()).findAllActive();
+    }
 }
@@ -1,7 +1,11 @@
 package com.jcuadrado.erplitebackend.application.usecase.warehouse;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
 import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehouseCommand;
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.WarehouseNotFoundException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
@@ -17,14 +21,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,11 +46,14 @@ class ManageWarehouseUseCaseImplTest {
     @Mock
     private WarehouseValidationService validationService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     private ManageWarehouseUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new ManageWarehouseUseCaseImpl(repository, domainService, validationService);
+        useCase = new ManageWarehouseUseCaseImpl(repository, domainService, validationService, referenceDataCache);
     }
 
     private Warehouse sampleWarehouse(UUID uuid) {
@@ -144,6 +155,7 @@ class ManageWarehouseUseCaseImplTest {
         Warehouse result = useCase.activate(uuid);
 
         assertThat(result.isActive()).isTrue();
+        verify(referenceDataCache).invalidate(ReferenceCatalog.WAREHOUSES);
     }
 
     @Test
@@ -190,4 +202,49 @@ class ManageWarehouseUseCaseImplTest {
         assertThatThrownBy(() -> useCase.deactivate(uuid))
                 .isInstanceOf(WarehouseNotFoundException.class);
     }
+
+    private CreateWarehouseCommand stubImport(String code, String name, WarehouseType type) {
+        CreateWarehouseCommand command = new CreateWarehouseCommand(code, name, null, type, null, null, null, null, null);
+        when(domainService.prepareForImport(eq(command), any())).thenReturn(Warehouse.builder()
+                .uuid(UUID.randomUUID()).code(code).name(name).type(type)
+                .active(true).createdAt(LocalDateTime.now()).build());
+        return command;
+    }
+
+    @Test
+    @DisplayName("importAll should insert the batch when codes, names and the principal are free")
+    void importAll_shouldInsertBatch() {
+        when(repository.existsActivePrincipalWarehouse()).thenReturn(false);
+        when(repository.findAllCodes()).thenReturn(List.of("BOD-001"));
+        when(repository.findAllNames()).thenReturn(List.of("Bodega Principal"));
+        CreateWarehouseCommand principal = stubImport("BOD-010", "Bodega Central", WarehouseType.PRINCIPAL);
+        CreateWarehouseCommand branch = stubImport("BOD-011", "Bodega Sur", WarehouseType.SUCURSAL);
+
+        ImportReport report = useCase.importAll(List.of(principal, branch));
+
+        assertThat(report.imported()).isEqualTo(2);
+        verify(repository).insertAll(argThat(list -> list.size() == 2));
+        verify(referenceDataCache).invalidate(ReferenceCatalog.WAREHOUSES);
+    }
+
+    @Test
+    @DisplayName("importAll should reject duplicates and a second principal warehouse")
+    void importAll_shouldRejectDuplicatesAndSecondPrincipal() {
+        when(repository.existsActivePrincipalWarehouse()).thenReturn(true);
+        when(repository.findAllCodes()).thenReturn(List.of("BOD-001"));
+        when(repository.findAllNames()).thenReturn(List.of("Bodega Principal"));
+        List<CreateWarehouseCommand> commands = List.of(
+                stubImport("BOD-001", "Otra", WarehouseType.SUCURSAL),
+                stubImport("BOD-010", "bodega principal", WarehouseType.SUCURSAL),
+                stubImport("BOD-011", "Central", WarehouseType.PRINCIPAL),
+                stubImport("BOD-012", "Sur", WarehouseType.SUCURSAL));
+
+        ImportReport report = useCase.importAll(commands);
+
+        assertThat(report.errors()).containsExactly(
+                new ImportRowError(1, "Ya existe una bodega con el código BOD-001"),
+                new ImportRowError(2, "Ya existe una bodega con el nombre bodega principal"),
+                new ImportRowError(3, "Ya existe una bodega PRINCIPAL activa. Solo puede haber una a la vez."));
+        verify(repository, never()).insertAll(any());
+    }
 }
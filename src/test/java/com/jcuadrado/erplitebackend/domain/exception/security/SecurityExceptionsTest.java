@@ -93,6 +93,28 @@ class SecurityExceptionsTest {
         assertThat(ex).isInstanceOf(SecurityDomainException.class);
     }
 
+    // ==================== InvalidPermissionConditionException ====================
+
+    @Test
+    @DisplayName("InvalidPermissionConditionException should propagate the provided message and extend SecurityDomainException")
+    void invalidPermissionConditionException_shouldPropagateMessage() {
+        InvalidPermissionConditionException ex = new InvalidPermissionConditionException("Invalid condition");
+
+        assertThat(ex.getMessage()).isEqualTo("Invalid condition");
+        assertThat(ex).isInstanceOf(SecurityDomainException.class);
+    }
+
+    // ==================== PasswordHashingUnavailableException ====================
+
+    @Test
+    @DisplayName("PasswordHashingUnavailableException should propagate the provided message and extend SecurityDomainException")
+    void passwordHashingUnavailableException_shouldPropagateMessage() {
+        PasswordHashingUnavailableException ex = new PasswordHashingUnavailableException("Busy");
+
+        assertThat(ex.getMessage()).isEqualTo("Busy");
+        assertThat(ex).isInstanceOf(SecurityDomainException.class);
+    }
+
     // ==================== InvalidRefreshTokenException ====================
 
     @Test
@@ -0,0 +1,96 @@
+package com.jcuadrado.erplitebackend.domain.model.geography;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeographyIndexTest {
+
+    private Department antioquia;
+    private Department atlantico;
+    private Municipality medellin;
+    private Municipality bello;
+    private Municipality abejorral;
+    private Municipality barranquilla;
+    private GeographyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        antioquia = Department.builder().id(1L).uuid(UUID.randomUUID()).code("05").name("Antioquia").enabled(true).build();
+        atlantico = Department.builder().id(8L).uuid(UUID.randomUUID()).code("08").name("Atlántico").enabled(true).build();
+        medellin = municipality(1L, "05001", "Medellín", antioquia, true);
+        bello = municipality(2L, "05088", "Bello", antioquia, true);
+        abejorral = municipality(3L, "05002", "Abejorral", antioquia, false);
+        barranquilla = municipality(4L, "08001", "Barranquilla", atlantico, true);
+        index = GeographyIndex.of(List.of(antioquia, atlantico), List.of(medellin, bello, abejorral, barranquilla));
+    }
+
+    private static Municipality municipality(Long id, String code, String name, Department department, boolean enabled) {
+        return Municipality.builder()
+                .id(id).uuid(UUID.randomUUID()).code(code).name(name).department(department).enabled(enabled).build();
+    }
+
+    @Test
+    @DisplayName("municipalitiesOf should return the department's municipalities sorted by name")
+    void municipalitiesOf_shouldReturnSortedByName() {
+        assertThat(index.municipalitiesOf(1L, null)).containsExactly(abejorral, bello, medellin);
+        assertThat(index.municipalitiesOf(1L, true)).containsExactly(bello, medellin);
+        assertThat(index.municipalitiesOf(99L, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByCode, findMunicipality and findDepartment should resolve by key")
+    void lookups_shouldResolveByKey() {
+        assertThat(index.findByCode("08001")).contains(barranquilla);
+        assertThat(index.findByCode("99999")).isEmpty();
+        assertThat(index.findMunicipality(medellin.getUuid())).contains(medellin);
+        assertThat(index.findDepartment(atlantico.getUuid())).contains(atlantico);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("search should match name or code ignoring case and accents")
+    void search_shouldIgnoreCaseAndAccents() {
+        assertThat(index.search("MEDELLIN")).containsExactly(medellin);
+        assertThat(index.search("medellín")).containsExactly(medellin);
+        assertThat(index.search("0500")).containsExactly(abejorral, medellin);
+        assertThat(index.search("rr")).containsExactly(abejorral, barranquilla);
+        assertThat(index.search("xyz")).isEmpty();
+        assertThat(index.search(" ")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("searchEnabled should rank enabled municipalities only and respect the limit")
+    void searchEnabled_shouldSkipDisabledAndLimit() {
+        assertThat(index.searchEnabled("05", 10)).containsExactly(bello, medellin);
+        assertThat(index.searchEnabled("abejorral", 10)).isEmpty();
+        assertThat(index.searchEnabled("b", 1)).containsExactly(bello);
+    }
+
+    @Test
+    @DisplayName("search should not match across code and name")
+    void search_shouldNotMatchAcrossFields() {
+        assertThat(index.search("1med")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("filter should combine department, status, search, code and name criteria")
+    void filter_shouldCombineCriteria() {
+        assertThat(index.filter(true, 1L, "e", null, null)).containsExactly(bello, medellin);
+        assertThat(index.filter(null, null, null, "05002", null)).containsExactly(abejorral);
+        assertThat(index.filter(true, null, null, null, "ba")).containsExactly(barranquilla);
+        assertThat(index.filter(false, 8L, null, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("empty should contain nothing")
+    void empty_shouldContainNothing() {
+        assertThat(GeographyIndex.empty().size()).isZero();
+        assertThat(GeographyIndex.empty().search("med")).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.jcuadrado.erplitebackend.domain.model.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextSearchIndexTest {
+
+    private record Item(String code, String name) {
+    }
+
+    private static final Item BOGOTA = new Item("11001", "Bogotá D.C.");
+    private static final Item SAN_JOSE = new Item("11002", "San José del Guaviare");
+    private static final Item JOSE = new Item("11003", "José");
+    private static final Item JOSELITO = new Item("11004", "Joselito");
+    private static final Item CUCUTA = new Item("54001", "San José de Cúcuta");
+
+    private final TextSearchIndex<Item> index = TextSearchIndex.of(
+            List.of(BOGOTA, SAN_JOSE, JOSE, JOSELITO, CUCUTA), item -> List.of(item.code(), item.name()));
+
+    @Test
+    @DisplayName("normalize should trim, lower-case and strip accents")
+    void normalize_shouldStripAccentsAndCase() {
+        assertThat(TextSearchIndex.normalize("  Bogotá ")).isEqualTo("bogota");
+        assertThat(TextSearchIndex.normalize("CÚCUTA")).isEqualTo("cucuta");
+        assertThat(TextSearchIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("matching should keep index order and ignore case and accents")
+    void matching_shouldKeepIndexOrder() {
+        assertThat(index.matching("JOSE")).containsExactly(SAN_JOSE, JOSE, JOSELITO, CUCUTA);
+        assertThat(index.matching("bogota")).containsExactly(BOGOTA);
+        assertThat(index.matching("1100")).containsExactly(BOGOTA, SAN_JOSE, JOSE, JOSELITO);
+        assertThat(index.matching("zzz")).isEmpty();
+        assertThat(index.matching("")).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("search should rank exact, prefix, word prefix and then contains matches, shorter fields first")
+    void search_shouldRankMatches() {
+        assertThat(index.search("jose", 10)).containsExactly(JOSE, JOSELITO, CUCUTA, SAN_JOSE);
+        assertThat(index.search("osé", 10)).containsExactly(JOSE, JOSELITO, CUCUTA, SAN_JOSE);
+    }
+
+    @Test
+    @DisplayName("search should require every word and respect the limit")
+    void search_shouldRequireAllWordsAndLimit() {
+        assertThat(index.search("san cucuta", 10)).containsExactly(CUCUTA);
+        assertThat(index.search("jose", 2)).containsExactly(JOSE, JOSELITO);
+        assertThat(index.search("jose", 0)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search should skip items rejected by the filter before applying the limit")
+    void search_shouldFilterBeforeLimit() {
+        assertThat(index.search("jose", 2, item -> !item.name().startsWith("José"))).containsExactly(JOSELITO, CUCUTA);
+    }
+
+    @Test
+    @DisplayName("search should scan when the query is shorter than a trigram")
+    void search_shouldHandleShortQueries() {
+        assertThat(index.search("bo", 10)).containsExactly(BOGOTA);
+        assertThat(index.search("54", 10)).containsExactly(CUCUTA);
+    }
+
+    @Test
+    @DisplayName("search should not match across field boundaries")
+    void search_shouldNotMatchAcrossFields() {
+        assertThat(index.search("1jose", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+}
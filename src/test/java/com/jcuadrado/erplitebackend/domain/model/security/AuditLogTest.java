@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.domain.model.security;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +34,8 @@ class AuditLogTest {
         assertThat(log.getTimestamp()).isNotNull();
         assertThat(log.getOldValue()).isNull();
         assertThat(log.getNewValue()).isNull();
+        assertThat(log.getOccurrences()).isEqualTo(1);
+        assertThat(log.getFirstTimestamp()).isNull();
     }
 
     @Test
@@ -47,4 +50,24 @@ class AuditLogTest {
         assertThat(log.getIpAddress()).isNull();
         assertThat(log.getUserAgent()).isNull();
     }
+
+    @Test
+    @DisplayName("createAggregated should carry the occurrence count and the first and last timestamps")
+    void createAggregated_shouldCarryCountAndTimestamps() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime first = LocalDateTime.of(2026, 1, 1, 10, 0);
+        LocalDateTime last = first.plusSeconds(42);
+
+        AuditLog log = AuditLog.createAggregated(userId, "Invoice", AuditAction.PERMISSION_DENIED, "DELETE",
+                17, first, last);
+
+        assertThat(log.getId()).isNotNull();
+        assertThat(log.getUserId()).isEqualTo(userId);
+        assertThat(log.getEntity()).isEqualTo("Invoice");
+        assertThat(log.getAction()).isEqualTo(AuditAction.PERMISSION_DENIED);
+        assertThat(log.getNewValue()).isEqualTo("DELETE");
+        assertThat(log.getOccurrences()).isEqualTo(17);
+        assertThat(log.getFirstTimestamp()).isEqualTo(first);
+        assertThat(log.getTimestamp()).isEqualTo(last);
+    }
 }
@@ -0,0 +1,52 @@
+package com.jcuadrado.erplitebackend.domain.model.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionIndexTest {
+
+    @Test
+    @DisplayName("of should return the shared empty index when there are no permissions")
+    void of_shouldReturnEmptyIndex_whenNoPermissions() {
+        PermissionIndex index = PermissionIndex.of(List.of());
+
+        assertThat(index).isSameAs(PermissionIndex.empty());
+        assertThat(index.getPermissions()).isEmpty();
+        assertThat(index.grants("Invoice", PermissionAction.READ)).isFalse();
+    }
+
+    @Test
+    @DisplayName("grants should return true only for unconditional entity and action pairs")
+    void grants_shouldMatchUnconditionalPermissions() {
+        PermissionIndex index = PermissionIndex.of(List.of(
+                Permission.create("Invoice", PermissionAction.READ, null, "Read"),
+                Permission.create("Invoice", PermissionAction.UPDATE, null, "Update"),
+                Permission.create("Role", PermissionAction.DELETE, null, "Delete")));
+
+        assertThat(index.grants("Invoice", PermissionAction.READ)).isTrue();
+        assertThat(index.grants("Invoice", PermissionAction.UPDATE)).isTrue();
+        assertThat(index.grants("Invoice", PermissionAction.DELETE)).isFalse();
+        assertThat(index.grants("Role", PermissionAction.DELETE)).isTrue();
+        assertThat(index.grants("User", PermissionAction.READ)).isFalse();
+    }
+
+    @Test
+    @DisplayName("of should keep conditional permissions out of the unconditional grants")
+    void of_shouldSeparateConditionalPermissions() {
+        Permission conditional = Permission.create("Invoice", PermissionAction.APPROVE, "amount < 1000", "Approve");
+        PermissionIndex index = PermissionIndex.of(List.of(
+                Permission.create("Invoice", PermissionAction.READ, null, "Read"),
+                conditional));
+
+        assertThat(index.grants("Invoice", PermissionAction.APPROVE)).isFalse();
+        assertThat(index.getConditional("Invoice")).containsExactly(conditional);
+        assertThat(index.hasConditional("Invoice", PermissionAction.APPROVE)).isTrue();
+        assertThat(index.hasConditional("Invoice", PermissionAction.READ)).isFalse();
+        assertThat(index.getConditional("Role")).isEmpty();
+        assertThat(index.getPermissions()).hasSize(2);
+    }
+}
@@ -20,7 +20,8 @@ class RefreshTokenTest {
 
         assertThat(token.getId()).isNotNull();
         assertThat(token.getUserId()).isEqualTo(userId);
-        assertThat(token.getToken()).isEqualTo(tokenValue);
+        assertThat(token.getTokenHash()).isEqualTo(RefreshToken.hashToken(tokenValue));
+        assertThat(token.getTokenHash()).isNotEqualTo(tokenValue);
         assertThat(token.isRevoked()).isFalse();
         assertThat(token.getCreatedAt()).isNotNull();
         assertThat(token.getExpiresAt()).isAfter(LocalDateTime.now());
@@ -50,7 +51,7 @@ class RefreshTokenTest {
         RefreshToken token = RefreshToken.builder()
                 .id(UUID.randomUUID())
                 .userId(UUID.randomUUID())
-                .token("token")
+                .tokenHash(RefreshToken.hashToken("token"))
                 .expiresAt(LocalDateTime.now().minusSeconds(1))
                 .revoked(false)
                 .createdAt(LocalDateTime.now().minusDays(8))
@@ -82,7 +83,7 @@ class RefreshTokenTest {
         RefreshToken token = RefreshToken.builder()
                 .id(UUID.randomUUID())
                 .userId(UUID.randomUUID())
-                .token("token")
+                .tokenHash(RefreshToken.hashToken("token"))
                 .expiresAt(LocalDateTime.now().minusSeconds(1))
                 .revoked(false)
                 .createdAt(LocalDateTime.now().minusDays(8))
@@ -90,4 +91,12 @@ class RefreshTokenTest {
 
         assertThat(token.isValid()).isFalse();
     }
+
+    @Test
+    @DisplayName("hashToken should return the 64-character lowercase hex SHA-256 of the raw token")
+    void hashToken_shouldReturnSha256Hex() {
+        assertThat(RefreshToken.hashToken("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(RefreshToken.hashToken(UUID.randomUUID().toString())).hasSize(64);
+    }
 }
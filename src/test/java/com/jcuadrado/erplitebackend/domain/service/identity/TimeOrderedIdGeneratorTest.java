@@ -0,0 +1,100 @@
+package com.jcuadrado.erplitebackend.domain.service.identity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get, new Random(42));
+
+    private static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    @Test
+    @DisplayName("newId should produce version 7, IETF variant UUIDs carrying the current millisecond")
+    void newId_shouldFollowVersion7Layout() {
+        UUID id = generator.newId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(timestamp(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("newId should keep increasing within the same millisecond")
+    void newId_shouldIncreaseWithinSameMillisecond() {
+        List<UUID> ids = IntStream.range(0, 1_000).mapToObj(i -> generator.newId()).toList();
+
+        assertThat(ids).isSortedAccordingTo(TimeOrderedIdGeneratorTest::compareUnsigned);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("newId should borrow the next millisecond when the counter runs out")
+    void newId_shouldAdvanceTimestampWhenCounterOverflows() {
+        List<UUID> ids = IntStream.range(0, 5_000).mapToObj(i -> generator.newId()).toList();
+
+        assertThat(ids).isSortedAccordingTo(TimeOrderedIdGeneratorTest::compareUnsigned);
+        assertThat(timestamp(ids.getLast())).isGreaterThan(NOW);
+    }
+
+    @Test
+    @DisplayName("newId should not go back when the clock does")
+    void newId_shouldNotGoBackWithClock() {
+        UUID before = generator.newId();
+        clock.set(NOW - 10_000);
+
+        UUID after = generator.newId();
+
+        assertThat(compareUnsigned(before, after)).isNegative();
+        assertThat(timestamp(after)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("newId should not repeat across threads")
+    void newId_shouldBeUniqueAcrossThreads() {
+        TimeOrderedIdGenerator systemClock = new TimeOrderedIdGenerator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(systemClock.newId());
+                }
+            }));
+        }
+        threads.forEach(thread -> {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    /**
+     * Byte order of the {@code BINARY(16)} column, which {@link UUID#compareTo} does not follow (it is signed).
+     */
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -4,9 +4,11 @@ import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehous
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseCodeException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.DuplicateWarehouseNameException;
+import com.jcuadrado.erplitebackend.domain.exception.warehouse.InvalidWarehouseDataException;
 import com.jcuadrado.erplitebackend.domain.exception.warehouse.SinglePrincipalWarehouseException;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
 import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
+import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
 import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +18,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +36,14 @@ class WarehouseDomainServiceTest {
     @Mock
     private WarehouseRepository repository;
 
+    @Mock
+    private MunicipalityRepository municipalityRepository;
+
     private WarehouseDomainService domainService;
 
     @BeforeEach
     void setUp() {
-        domainService = new WarehouseDomainService(new WarehouseValidator(), repository);
+        domainService = new WarehouseDomainService(new WarehouseValidator(), repository, municipalityRepository);
     }
 
     // ── prepareForCreate ──────────────────────────────────────────
@@ -114,6 +123,42 @@ class WarehouseDomainServiceTest {
         assertThat(result.getType()).isEqualTo(WarehouseType.TEMPORAL);
     }
 
+    @Test
+    @DisplayName("prepareForCreate should throw InvalidWarehouseDataException when the municipality does not exist")
+    void prepareForCreate_shouldThrow_whenMunicipalityDoesNotExist() {
+        UUID municipalityId = UUID.randomUUID();
+        when(municipalityRepository.existsByUuid(municipalityId)).thenReturn(false);
+
+        CreateWarehouseCommand command = new CreateWarehouseCommand(
+                "BOD-005", "Bodega Norte", null, WarehouseType.SUCURSAL,
+                null, municipalityId, null, null, null);
+
+        assertThatThrownBy(() -> domainService.prepareForCreate(command))
+                .isInstanceOf(InvalidWarehouseDataException.class)
+                .hasMessageContaining(municipalityId.toString());
+    }
+
+    // ── prepareForImport ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("prepareForImport should check the municipality against the preloaded set only")
+    void prepareForImport_shouldCheckMunicipalityAgainstPreloadedSet() {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        CreateWarehouseCommand valid = new CreateWarehouseCommand(
+                "bod-006", "Bodega Este", null, WarehouseType.SUCURSAL, null, known, null, null, null);
+        CreateWarehouseCommand invalid = new CreateWarehouseCommand(
+                "BOD-007", "Bodega Oeste", null, WarehouseType.SUCURSAL, null, unknown, null, null, null);
+        when(municipalityRepository.findExistingUuids(Set.of(known, unknown))).thenReturn(Set.of(known));
+
+        Set<UUID> existing = domainService.findExistingMunicipalities(List.of(valid, invalid));
+
+        assertThat(domainService.prepareForImport(valid, existing).getMunicipalityId()).isEqualTo(known);
+        assertThatThrownBy(() -> domainService.prepareForImport(invalid, existing))
+                .isInstanceOf(InvalidWarehouseDataException.class);
+        verify(municipalityRepository, never()).existsByUuid(any());
+    }
+
     // ── applyUpdate ───────────────────────────────────────────────
 
     @Test
@@ -174,6 +219,24 @@ class WarehouseDomainServiceTest {
                 .isInstanceOf(SinglePrincipalWarehouseException.class);
     }
 
+    @Test
+    @DisplayName("applyUpdate should not look up the municipality when it does not change")
+    void applyUpdate_shouldNotLookUpUnchangedMunicipality() {
+        UUID uuid = UUID.randomUUID();
+        UUID municipalityId = UUID.randomUUID();
+        Warehouse existing = Warehouse.builder()
+                .uuid(uuid).code("BOD-003").name("Sucursal").type(WarehouseType.SUCURSAL)
+                .municipalityId(municipalityId).active(true).createdAt(LocalDateTime.now()).build();
+
+        UpdateWarehouseCommand command = new UpdateWarehouseCommand(
+                "Sucursal", null, WarehouseType.SUCURSAL,
+                null, municipalityId, null, null, null);
+
+        domainService.applyUpdate(existing, command);
+
+        verify(municipalityRepository, never()).existsByUuid(any());
+    }
+
     // ── validateForActivation ─────────────────────────────────────
 
     @Test
@@ -0,0 +1,122 @@
+package com.jcuadrado.erplitebackend.infrastructure.cache;
+
+import com.jcuadrado.erplitebackend.domain.model.geography.Department;
+import com.jcuadrado.erplitebackend.domain.model.geography.GeographyIndex;
+import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
+import com.jcuadrado.erplitebackend.domain.port.geography.DepartmentRepository;
+import com.jcuadrado.erplitebackend.domain.port.geography.MunicipalityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryGeographyIndexProviderTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private MunicipalityRepository municipalityRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryGeographyIndexProvider provider;
+    private Municipality medellin;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Department antioquia = Department.builder().id(1L).uuid(UUID.randomUUID()).code("05").name("Antioquia").build();
+        medellin = Municipality.builder()
+                .id(1L).uuid(UUID.randomUUID()).code("05001").name("Medellín").department(antioquia).enabled(true).build();
+        lenient().when(departmentRepository.findAll(any(), any())).thenReturn(new PageImpl<>(List.of(antioquia)));
+        lenient().when(municipalityRepository.findAll(any(), any())).thenReturn(new PageImpl<>(List.of(medellin)));
+        provider = new InMemoryGeographyIndexProvider(departmentRepository, municipalityRepository,
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("current should be empty until the index is built on start")
+    void start_shouldBuildIndex() {
+        assertThat(provider.current()).isEmpty();
+
+        provider.start();
+
+        assertThat(provider.isRunning()).isTrue();
+        assertThat(provider.current()).get().extracting(GeographyIndex::size).isEqualTo(1);
+        assertThat(provider.current().get().findByCode("05001")).contains(medellin);
+    }
+
+    @Test
+    @DisplayName("refresh should keep the previous index when the rebuild fails")
+    void refresh_shouldKeepPreviousIndex_whenRebuildFails() {
+        provider.start();
+        GeographyIndex previous = provider.current().orElseThrow();
+        when(municipalityRepository.findAll(any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        provider.refresh();
+
+        assertThat(provider.current()).containsSame(previous);
+    }
+
+    @Test
+    @DisplayName("refresh should rebuild only after the surrounding transaction commits")
+    void refresh_shouldRebuildAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        provider.refresh();
+        assertThat(provider.current()).isEmpty();
+        verify(municipalityRepository, never()).findAll(any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(provider.current()).isPresent();
+    }
+
+    @Test
+    @DisplayName("rebuildPeriodically should replace the index with current data once started")
+    void rebuildPeriodically_shouldRebuild_whenRunning() {
+        provider.start();
+        GeographyIndex previous = provider.current().orElseThrow();
+
+        provider.rebuildPeriodically();
+
+        assertThat(provider.current()).get().isNotSameAs(previous);
+    }
+
+    @Test
+    @DisplayName("rebuildPeriodically should do nothing before start")
+    void rebuildPeriodically_shouldSkip_whenNotRunning() {
+        provider.rebuildPeriodically();
+
+        assertThat(provider.current()).isEmpty();
+        verify(municipalityRepository, never()).findAll(any(), any());
+    }
+}
@@ -0,0 +1,186 @@
+package com.jcuadrado.erplitebackend.infrastructure.cache;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalogVersion;
+import com.jcuadrado.erplitebackend.domain.model.search.TextSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryReferenceDataCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryReferenceDataCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InMemoryReferenceDataCache(meterRegistry, Duration.ofHours(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<String> load() {
+        loads.incrementAndGet();
+        return new ArrayList<>(List.of("CC", "NIT"));
+    }
+
+    @Test
+    @DisplayName("getActive should load once and serve later reads from the snapshot")
+    void getActive_shouldServeSnapshot_afterFirstLoad() {
+        List<String> first = cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+        List<String> second = cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+
+        assertThat(second).isSameAs(first).containsExactly("CC", "NIT");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("reference_data.cache.hits").tag("catalog", "document_types").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("reference_data.cache.size").tag("catalog", "document_types").gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getActive should return an immutable snapshot")
+    void getActive_shouldReturnImmutableList() {
+        List<String> result = cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+
+        assertThatThrownBy(() -> result.add("TI")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("getActive should keep catalogs independent")
+    void getActive_shouldKeepCatalogsSeparate() {
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+        List<String> units = cache.getActive(ReferenceCatalog.UNITS_OF_MEASURE, () -> List.of("KG"));
+
+        assertThat(units).containsExactly("KG");
+    }
+
+    @Test
+    @DisplayName("invalidate should force the next read to reload when no transaction is active")
+    void invalidate_shouldReload_whenNoTransaction() {
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+
+        cache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("invalidate should wait for the transaction to commit")
+    void invalidate_shouldApplyAfterCommit_whenTransactionActive() {
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+        assertThat(loads).hasValue(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        cache.getActive(ReferenceCatalog.DOCUMENT_TYPES, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("getActive should not publish a load that raced an invalidation")
+    void getActive_shouldNotCacheLoad_whenInvalidatedDuringLoad() {
+        List<String> stale = cache.getActive(ReferenceCatalog.WAREHOUSES, () -> {
+            cache.invalidate(ReferenceCatalog.WAREHOUSES);
+            return List.of("stale");
+        });
+        List<String> fresh = cache.getActive(ReferenceCatalog.WAREHOUSES, () -> List.of("fresh"));
+
+        assertThat(stale).containsExactly("stale");
+        assertThat(fresh).containsExactly("fresh");
+    }
+
+    @Test
+    @DisplayName("getActive should reload snapshots older than max-age")
+    void getActive_shouldReload_whenSnapshotExpired() {
+        cache = new InMemoryReferenceDataCache(meterRegistry, Duration.ZERO);
+
+        cache.getActive(ReferenceCatalog.TAX_TYPES, this::load);
+        cache.getActive(ReferenceCatalog.TAX_TYPES, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("getSearchIndex should build once per snapshot over the active items")
+    void getSearchIndex_shouldReuseIndex_untilInvalidated() {
+        TextSearchIndex<String> first = cache.getSearchIndex(ReferenceCatalog.DOCUMENT_TYPES, this::load, List::of);
+        TextSearchIndex<String> second = cache.getSearchIndex(ReferenceCatalog.DOCUMENT_TYPES, this::load, List::of);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.search("ni", 5)).containsExactly("NIT");
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(ReferenceCatalog.DOCUMENT_TYPES);
+        TextSearchIndex<String> third = cache.getSearchIndex(ReferenceCatalog.DOCUMENT_TYPES, this::load, List::of);
+
+        assertThat(third).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("version should advance once the invalidation is applied")
+    void version_shouldAdvance_onInvalidate() {
+        Set<ReferenceCatalog> catalogs = EnumSet.of(ReferenceCatalog.DEPARTMENTS, ReferenceCatalog.MUNICIPALITIES);
+        ReferenceCatalogVersion before = cache.version(catalogs);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(ReferenceCatalog.MUNICIPALITIES);
+        assertThat(cache.version(catalogs)).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        ReferenceCatalogVersion after = cache.version(catalogs);
+
+        assertThat(after.tag()).isNotEqualTo(before.tag());
+        assertThat(after.lastModified()).isAfter(before.lastModified());
+    }
+
+    @Test
+    @DisplayName("version should keep Last-Modified strictly increasing within the same second")
+    void version_shouldKeepLastModifiedIncreasing() {
+        Set<ReferenceCatalog> catalogs = EnumSet.of(ReferenceCatalog.TAX_TYPES);
+
+        cache.invalidate(ReferenceCatalog.TAX_TYPES);
+        ReferenceCatalogVersion first = cache.version(catalogs);
+        cache.invalidate(ReferenceCatalog.TAX_TYPES);
+        ReferenceCatalogVersion second = cache.version(catalogs);
+
+        assertThat(second.lastModified()).isAfter(first.lastModified());
+    }
+
+    @Test
+    @DisplayName("version should not be shared across instances")
+    void version_shouldDifferBetweenInstances() {
+        Set<ReferenceCatalog> catalogs = EnumSet.of(ReferenceCatalog.TAX_TYPES);
+        InMemoryReferenceDataCache other = new InMemoryReferenceDataCache(new SimpleMeterRegistry(), Duration.ofHours(1));
+
+        assertThat(other.version(catalogs).tag()).isNotEqualTo(cache.version(catalogs).tag());
+    }
+}
@@ -0,0 +1,171 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import com.jcuadrado.erplitebackend.application.port.geography.GeographyIndexProvider;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.DepartmentJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.MunicipalityJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.PermissionJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.RoleJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UserJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.DepartmentEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.PermissionEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RoleEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.UserEntity;
+import com.jcuadrado.erplitebackend.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Holds read endpoints that map associations, and exports, to a fixed number of queries, whatever the number of rows.
+ * The geography index is mocked away so municipality endpoints always reach the database.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+    private static final int DEPARTMENTS = 3;
+    private static final int MUNICIPALITIES_PER_DEPARTMENT = 4;
+    private static final int USERS = 4;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentJpaRepository departmentRepository;
+
+    @Autowired
+    private MunicipalityJpaRepository municipalityRepository;
+
+    @Autowired
+    private PermissionJpaRepository permissionRepository;
+
+    @Autowired
+    private RoleJpaRepository roleRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @MockitoBean
+    private GeographyIndexProvider geographyIndexProvider;
+
+    private MockMvc mockMvc;
+    private QueryCounter queries;
+    private UUID departmentUuid;
+    private UUID municipalityUuid;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        queries = new QueryCounter(entityManagerFactory);
+        referenceDataCache.invalidate(ReferenceCatalog.MUNICIPALITIES);
+
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+        permissionRepository.deleteAll();
+        municipalityRepository.deleteAll();
+        departmentRepository.deleteAll();
+        seedGeography();
+        seedUsers();
+    }
+
+    private void seedGeography() {
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            DepartmentEntity department = departmentRepository.save(DepartmentEntity.builder()
+                    .code("D" + d).name("Departamento " + d).enabled(true).build());
+            departmentUuid = department.getUuid();
+            for (int m = 0; m < MUNICIPALITIES_PER_DEPARTMENT; m++) {
+                MunicipalityEntity municipality = municipalityRepository.save(MunicipalityEntity.builder()
+                        .code("M" + d + m).name("Municipio " + d + m).department(department).enabled(true).build());
+                municipalityUuid = municipality.getUuid();
+            }
+        }
+    }
+
+    private void seedUsers() {
+        PermissionEntity permission = permissionRepository.save(PermissionEntity.builder()
+                .id(UUID.randomUUID()).entity("User").action("READ").build());
+        List<RoleEntity> roles = new ArrayList<>();
+        for (int r = 0; r < USERS; r++) {
+            roles.add(roleRepository.save(RoleEntity.builder()
+                    .id(UUID.randomUUID()).name("ROLE_" + r).active(true).createdAt(LocalDateTime.now())
+                    .permissions(Set.of(permission)).build()));
+        }
+        for (int u = 0; u < USERS; u++) {
+            userRepository.save(UserEntity.builder()
+                    .id(UUID.randomUUID()).username("user" + u).email("user" + u + "@erp.test").passwordHash("x")
+                    .active(true).failedAttempts(0).createdAt(LocalDateTime.now())
+                    .roles(Set.of(roles.get(u))).build());
+        }
+    }
+
+    private void assertBudget(long budget, String path) throws Exception {
+        queries.assertAtMost(budget, "GET " + path,
+                () -> mockMvc.perform(get(path).with(user("admin"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("municipality reads should load departments in the same query")
+    void municipalityEndpoints_shouldStayWithinBudget() throws Exception {
+        assertBudget(1, "/api/v1/geography/municipalities/active");
+        assertBudget(1, "/api/v1/geography/municipalities/" + municipalityUuid);
+        assertBudget(2, "/api/v1/geography/municipalities?page=0&size=5");
+        assertBudget(2, "/api/v1/geography/departments/" + departmentUuid + "/municipalities");
+    }
+
+    @Test
+    @DisplayName("user and role lists should not load roles or permissions per row")
+    void securityListEndpoints_shouldStayWithinBudget() throws Exception {
+        assertBudget(2, "/api/v1/users?page=0&size=10");
+        assertBudget(1, "/api/v1/roles");
+    }
+
+    @Test
+    @DisplayName("exports should stream every row through a single cursor query")
+    void exportEndpoints_shouldStayWithinBudget() throws Exception {
+        String path = "/api/v1/geography/municipalities/export?format=csv";
+        MvcResult[] result = new MvcResult[1];
+
+        queries.assertAtMost(1, "GET " + path, () -> {
+            MvcResult started = mockMvc.perform(get(path).with(user("admin")))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            result[0] = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+        });
+
+        String body = result[0].getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("\r\n")).hasSize(1 + DEPARTMENTS * MUNICIPALITIES_PER_DEPARTMENT);
+    }
+}
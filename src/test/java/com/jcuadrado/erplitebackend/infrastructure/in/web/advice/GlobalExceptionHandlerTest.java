@@ -9,7 +9,9 @@ import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateEmailExce
 import com.jcuadrado.erplitebackend.domain.exception.security.DuplicateUsernameException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidCredentialsException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPasswordException;
+import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException;
 import com.jcuadrado.erplitebackend.domain.exception.security.InvalidRefreshTokenException;
+import com.jcuadrado.erplitebackend.domain.exception.security.PasswordHashingUnavailableException;
 import com.jcuadrado.erplitebackend.domain.exception.security.PermissionDeniedException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleInUseException;
 import com.jcuadrado.erplitebackend.domain.exception.security.RoleNotFoundException;
@@ -605,6 +607,34 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError()).isEqualTo("Bad Request");
     }
 
+    @Test
+    @DisplayName("handleInvalidPermissionCondition should return 400 Bad Request")
+    void handleInvalidPermissionCondition_shouldReturnBadRequest() {
+        InvalidPermissionConditionException ex = new InvalidPermissionConditionException("Invalid condition");
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleInvalidPermissionCondition(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(org.springframework.http.HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getMessage()).isEqualTo("Invalid condition");
+    }
+
+    @Test
+    @DisplayName("handlePasswordHashingUnavailable should return 503 Service Unavailable with Retry-After")
+    void handlePasswordHashingUnavailable_shouldReturnServiceUnavailable() {
+        PasswordHashingUnavailableException ex = new PasswordHashingUnavailableException("Busy");
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handlePasswordHashingUnavailable(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+    }
+
     @Test
     @DisplayName("handleInvalidRefreshToken should return 401 Unauthorized")
     void handleInvalidRefreshToken_shouldReturnUnauthorized() {
@@ -267,7 +267,7 @@ public class DocumentTypeControllerTest {
             createResponseDto(invocation.getArgument(0)));
 
         // When & Then
-        ResponseEntity<?> response = controller.list(null, null, 0, 10, "id", "asc");
+        ResponseEntity<?> response = controller.list(null, null, 0, 10, "id", "asc", true);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
@@ -282,7 +282,7 @@ public class DocumentTypeControllerTest {
         when(compareUseCase.findAll(anyMap(), any(Pageable.class))).thenReturn(emptyPage);
 
         // When & Then
-        ResponseEntity<?> response = controller.list(null, null, 2, 20, "name", "desc");
+        ResponseEntity<?> response = controller.list(null, null, 2, 20, "name", "desc", true);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
@@ -297,7 +297,7 @@ public class DocumentTypeControllerTest {
         when(compareUseCase.findAll(anyMap(), any(Pageable.class))).thenReturn(emptyPage);
 
         // When & Then
-        ResponseEntity<?> response = controller.list(true, "search term", 0, 10, "id", "asc");
+        ResponseEntity<?> response = controller.list(true, "search term", 0, 10, "id", "asc", true);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
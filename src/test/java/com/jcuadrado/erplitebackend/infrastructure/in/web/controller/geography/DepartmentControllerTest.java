@@ -22,6 +22,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
@@ -165,7 +167,7 @@ public class DepartmentControllerTest {
         when(mapper.toResponseDto(dept)).thenReturn(dto);
 
         ResponseEntity<PagedResponseDto<DepartmentResponseDto>> result =
-                controller.list(null, null, 0, 10, "id", "asc");
+                controller.list(null, null, 0, 10, "id", "asc", true);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -178,17 +180,39 @@ public class DepartmentControllerTest {
         Page<Department> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(true, "Anti", 0, 10, "name", "desc");
+        controller.list(true, "Anti", 0, 10, "name", "desc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
 
+    @Test
+    void list_withoutCount_shouldReturnSliceWithoutTotals() {
+        Department dept = Department.builder()
+                .id(1L).uuid(UUID.randomUUID()).code("05").name("Antioquia").enabled(true).build();
+        DepartmentResponseDto dto = createResponseDto(dept);
+        Slice<Department> slice = new SliceImpl<>(List.of(dept));
+
+        when(compareUseCase.findSlice(any(), any(Pageable.class))).thenReturn(slice);
+        when(mapper.toResponseDto(dept)).thenReturn(dto);
+
+        ResponseEntity<PagedResponseDto<DepartmentResponseDto>> result =
+                controller.list(null, null, 0, 10, "id", "asc", false);
+
+        assertNotNull(result.getBody());
+        assertEquals(1, result.getBody().getContent().size());
+        assertNull(result.getBody().getTotalElements());
+        assertNull(result.getBody().getTotalPages());
+        assertTrue(result.getBody().isLast());
+        assertFalse(result.getBody().isHasNext());
+        verify(compareUseCase, never()).findAll(any(), any(Pageable.class));
+    }
+
     @Test
     void list_shouldIgnoreEmptySearch() {
         Page<Department> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(null, "   ", 0, 10, "id", "asc");
+        controller.list(null, "   ", 0, 10, "id", "asc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
@@ -381,4 +405,19 @@ public class DepartmentControllerTest {
         assertThrows(DepartmentNotFoundException.class,
                 () -> controller.getAllMunicipalitiesByDepartment(departmentUuid));
     }
+
+    @Test
+    void search_shouldClampLimitAndMapMatches() {
+        Department match = Department.builder().name("match").build();
+        DepartmentResponseDto response = DepartmentResponseDto.builder().name("match").build();
+        when(compareUseCase.search("mat", 50)).thenReturn(List.of(match));
+        when(mapper.toResponseDto(match)).thenReturn(response);
+
+        ResponseEntity<List<DepartmentResponseDto>> result = controller.search("mat", 500);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(1, result.getBody().size());
+        assertSame(response, result.getBody().getFirst());
+        verify(compareUseCase).search("mat", 50);
+    }
 }
@@ -11,19 +11,28 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.Departme
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.MunicipalityResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.geography.UpdateMunicipalityRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.documenttypes.PagedResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.StreamingExporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.geography.MunicipalityDtoMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +51,9 @@ public class MunicipalityControllerTest {
     @Mock
     private MunicipalityDtoMapper mapper;
 
+    @Spy
+    private StreamingExporter exporter = new StreamingExporter(JsonMapper.builder().build(), Duration.ofMinutes(30));
+
     @InjectMocks
     private MunicipalityController controller;
 
@@ -156,7 +168,7 @@ public class MunicipalityControllerTest {
         when(mapper.toResponseDto(mun)).thenReturn(dto);
 
         ResponseEntity<PagedResponseDto<MunicipalityResponseDto>> result =
-                controller.list(null, null, null, 0, 10, "id", "asc");
+                controller.list(null, null, null, 0, 10, "id", "asc", true);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -168,7 +180,7 @@ public class MunicipalityControllerTest {
         Page<Municipality> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(null, 1L, null, 0, 10, "id", "asc");
+        controller.list(null, 1L, null, 0, 10, "id", "asc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
@@ -178,7 +190,7 @@ public class MunicipalityControllerTest {
         Page<Municipality> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(true, null, null, 0, 10, "id", "asc");
+        controller.list(true, null, null, 0, 10, "id", "asc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
@@ -188,7 +200,7 @@ public class MunicipalityControllerTest {
         Page<Municipality> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(null, null, "Medellin", 0, 10, "id", "asc");
+        controller.list(null, null, "Medellin", 0, 10, "id", "asc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
@@ -198,7 +210,7 @@ public class MunicipalityControllerTest {
         Page<Municipality> emptyPage = new PageImpl<>(Collections.emptyList());
         when(compareUseCase.findAll(any(), any(Pageable.class))).thenReturn(emptyPage);
 
-        controller.list(null, null, null, 0, 10, "id", "desc");
+        controller.list(null, null, null, 0, 10, "id", "desc", true);
 
         verify(compareUseCase).findAll(any(), any(Pageable.class));
     }
@@ -331,4 +343,48 @@ public class MunicipalityControllerTest {
 
         assertThrows(MunicipalityNotFoundException.class, () -> controller.deactivate(uuid));
     }
+
+    @Test
+    void search_shouldClampLimitAndMapMatches() {
+        Municipality match = Municipality.builder().name("match").build();
+        MunicipalityResponseDto response = MunicipalityResponseDto.builder().name("match").build();
+        when(compareUseCase.search("mat", 50)).thenReturn(List.of(match));
+        when(mapper.toResponseDto(match)).thenReturn(response);
+
+        ResponseEntity<List<MunicipalityResponseDto>> result = controller.search("mat", 500);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(1, result.getBody().size());
+        assertSame(response, result.getBody().getFirst());
+        verify(compareUseCase).search("mat", 50);
+    }
+
+    // ==================== export ====================
+
+    @Test
+    void export_shouldStreamCsvSortedByCode() throws Exception {
+        Municipality medellin = Municipality.builder()
+                .id(1L).uuid(UUID.randomUUID()).code("05001").name("Medellín")
+                .department(createSampleDepartment()).enabled(true).build();
+        when(mapper.toResponseDto(medellin)).thenReturn(createResponseDto(medellin));
+        doAnswer(inv -> {
+            inv.<Consumer<Municipality>>getArgument(2).accept(medellin);
+            return null;
+        }).when(compareUseCase).exportAll(eq(Map.of("departmentId", 1L)), eq(Sort.by("code")), any());
+
+        ResponseEntity<StreamingResponseBody> result = controller.export(null, 1L, "csv");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("uuid,code,name,departmentCode,departmentName,enabled,createdAt,updatedAt", lines[0]);
+        assertEquals(medellin.getUuid() + ",05001,Medellín,05,Antioquia,true,,", lines[1]);
+        assertEquals(2, lines.length);
+    }
+
+    @Test
+    void export_shouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> controller.export(null, null, "xlsx"));
+        verifyNoInteractions(compareUseCase);
+    }
 }
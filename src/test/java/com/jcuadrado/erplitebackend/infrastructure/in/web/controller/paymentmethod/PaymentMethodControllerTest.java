@@ -214,7 +214,7 @@ class PaymentMethodControllerTest {
             createResponseDto(invocation.getArgument(0)));
 
         // When
-        ResponseEntity<?> response = controller.list(null, null, 0, 10, "code", "asc");
+        ResponseEntity<?> response = controller.list(null, null, 0, 10, "code", "asc", true);
 
         // Then
         assertNotNull(response);
@@ -238,7 +238,7 @@ class PaymentMethodControllerTest {
             createResponseDto(invocation.getArgument(0)));
 
         // When
-        ResponseEntity<?> response = controller.list(Boolean.TRUE, null, 0, 10, "code", "asc");
+        ResponseEntity<?> response = controller.list(Boolean.TRUE, null, 0, 10, "code", "asc", true);
 
         // Then
         assertNotNull(response);
@@ -264,7 +264,7 @@ class PaymentMethodControllerTest {
             createResponseDto(invocation.getArgument(0)));
 
         // When
-        ResponseEntity<?> response = controller.list(null, "efectivo", 0, 10, "code", "asc");
+        ResponseEntity<?> response = controller.list(null, "efectivo", 0, 10, "code", "asc", true);
 
         // Then
         assertNotNull(response);
@@ -282,7 +282,7 @@ class PaymentMethodControllerTest {
         when(compareUseCase.findAll(anyMap(), any(Pageable.class))).thenReturn(page);
 
         // When
-        ResponseEntity<?> response = controller.list(null, "  ", 0, 10, "code", "asc");
+        ResponseEntity<?> response = controller.list(null, "  ", 0, 10, "code", "asc", true);
 
         // Then
         assertNotNull(response);
@@ -299,7 +299,7 @@ class PaymentMethodControllerTest {
         when(compareUseCase.findAll(anyMap(), any(Pageable.class))).thenReturn(page);
 
         // When
-        ResponseEntity<?> response = controller.list(null, null, 0, 10, "name", "desc");
+        ResponseEntity<?> response = controller.list(null, null, 0, 10, "name", "desc", true);
 
         // Then
         assertNotNull(response);
@@ -471,4 +471,19 @@ class PaymentMethodControllerTest {
         assertFalse(response.getBody().enabled());
         verify(manageUseCase).deactivate(uuid);
     }
+
+    @Test
+    void search_shouldClampLimitAndMapMatches() {
+        PaymentMethod match = PaymentMethod.builder().name("match").build();
+        PaymentMethodResponseDto response = PaymentMethodResponseDto.builder().name("match").build();
+        when(compareUseCase.search("mat", 50)).thenReturn(List.of(match));
+        when(mapper.toResponseDto(match)).thenReturn(response);
+
+        ResponseEntity<List<PaymentMethodResponseDto>> result = controller.search("mat", 500);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(1, result.getBody().size());
+        assertSame(response, result.getBody().getFirst());
+        verify(compareUseCase).search("mat", 50);
+    }
 }
@@ -4,8 +4,10 @@ import com.jcuadrado.erplitebackend.application.command.security.AuditLogFilter;
 import com.jcuadrado.erplitebackend.application.port.security.AuditLogUseCase;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
 import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.CursorPageResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.AuditLogResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.export.StreamingExporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.security.AuditLogDtoMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,16 +18,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +57,7 @@ class AuditLogControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new AuditLogController(auditLogUseCase, mapper);
+        controller = new AuditLogController(auditLogUseCase, mapper, new StreamingExporter(JsonMapper.builder().build(), Duration.ofMinutes(30)));
     }
 
     @Test
@@ -125,4 +140,61 @@ class AuditLogControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
     }
+
+    @Test
+    @DisplayName("scroll should return a keyset page with a cursor that resumes after the last row")
+    void scroll_shouldReturnCursorPage_withoutCounting() {
+        AuditLog log = AuditLog.create(UUID.randomUUID(), "admin", "User", UUID.randomUUID(),
+                AuditAction.USER_CREATED, "127.0.0.1", "Agent");
+        AuditLogResponseDto dto = AuditLogResponseDto.builder().id(log.getId()).action("USER_CREATED").build();
+        Sort sort = Sort.by(Sort.Direction.DESC, "timestamp");
+        Map<String, Object> lastKeys = Map.of("timestamp", log.getTimestamp(), "id", log.getId());
+        Window<AuditLog> window = Window.from(List.of(log), index -> ScrollPosition.forward(lastKeys), true);
+
+        when(auditLogUseCase.scrollAuditLogs(any(AuditLogFilter.class), eq(sort), eq(ScrollPosition.keyset()), eq(100)))
+                .thenReturn(window);
+        when(mapper.toResponseDto(log)).thenReturn(dto);
+
+        ResponseEntity<CursorPageResponseDto<AuditLogResponseDto>> first =
+                controller.scroll(null, null, null, null, null, "", 500, "timestamp", "desc");
+
+        assertThat(first.getBody()).isNotNull();
+        assertThat(first.getBody().getContent()).containsExactly(dto);
+        assertThat(first.getBody().isHasNext()).isTrue();
+        assertThat(first.getBody().getPageSize()).isEqualTo(100);
+
+        when(auditLogUseCase.scrollAuditLogs(any(AuditLogFilter.class), eq(sort), eq(ScrollPosition.forward(lastKeys)), eq(20)))
+                .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        ResponseEntity<CursorPageResponseDto<AuditLogResponseDto>> second =
+                controller.scroll(null, null, null, null, null, first.getBody().getNextCursor(), 20, "timestamp", "desc");
+
+        assertThat(second.getBody().getContent()).isEmpty();
+        assertThat(second.getBody().getNextCursor()).isNull();
+        verify(auditLogUseCase, never()).getAuditLogs(any(), any());
+    }
+
+    @Test
+    @DisplayName("export should stream the filtered audit logs oldest first, one JSON object per line")
+    void export_shouldStreamNdjsonOldestFirst() throws Exception {
+        AuditLog log = AuditLog.create(UUID.randomUUID(), "admin", "User", UUID.randomUUID(),
+                AuditAction.LOGIN, "127.0.0.1", "Agent");
+        AuditLogResponseDto dto = AuditLogResponseDto.builder().id(log.getId()).username("admin").action("LOGIN").build();
+        when(mapper.toResponseDto(log)).thenReturn(dto);
+        doAnswer(inv -> {
+            inv.<Consumer<AuditLog>>getArgument(2).accept(log);
+            return null;
+        }).when(auditLogUseCase).exportAuditLogs(any(AuditLogFilter.class), eq(Sort.by("timestamp")), any());
+
+        ResponseEntity<StreamingResponseBody> response = controller.export(null, "User", "login", null, null, "ndjson");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .startsWith("{\"id\":\"" + log.getId() + "\"")
+                .contains("\"action\":\"LOGIN\"")
+                .endsWith("}\n");
+        verify(auditLogUseCase).exportAuditLogs(
+                eq(new AuditLogFilter(null, "User", AuditAction.LOGIN, null, null)), eq(Sort.by("timestamp")), any());
+    }
 }
@@ -6,6 +6,7 @@ import com.jcuadrado.erplitebackend.application.command.security.UpdateUserComma
 import com.jcuadrado.erplitebackend.application.port.security.CompareUserUseCase;
 import com.jcuadrado.erplitebackend.application.port.security.ManageUserUseCase;
 import com.jcuadrado.erplitebackend.domain.model.security.User;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.CursorPageResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedResponseDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.AssignRolesRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.security.ChangePasswordRequestDto;
@@ -22,14 +23,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -293,4 +299,24 @@ class UserControllerTest {
         assertThat(response.getBody()).isNull();
         verify(manageUserUseCase).assignRoles(userId, List.of(roleId));
     }
+
+    @Test
+    @DisplayName("scroll should return a keyset page of users with the next cursor")
+    void scroll_shouldReturnCursorPage() {
+        User user = User.builder().id(UUID.randomUUID()).username("alice").active(true).failedAttempts(0).build();
+        UserResponseDto responseDto = UserResponseDto.builder().id(user.getId()).username("alice").active(true).build();
+        Sort sort = Sort.by(Sort.Direction.ASC, "username");
+        Window<User> window = Window.from(List.of(user),
+                index -> ScrollPosition.forward(Map.of("username", "alice", "id", user.getId())), true);
+
+        when(compareUserUseCase.scroll(eq(sort), eq(ScrollPosition.keyset()), eq(10))).thenReturn(window);
+        when(mapper.toResponseDto(user)).thenReturn(responseDto);
+
+        ResponseEntity<CursorPageResponseDto<UserResponseDto>> response = controller.scroll("", 10, "username", "asc");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getContent()).containsExactly(responseDto);
+        assertThat(response.getBody().getNextCursor()).isNotBlank();
+        assertThat(response.getBody().isHasNext()).isTrue();
+    }
 }
@@ -187,7 +187,7 @@ class TaxTypeControllerTest {
 
         ResponseEntity<PagedResponseDto<TaxTypeResponseDto>> response = controller.list(
                 true, TaxApplicationType.BOTH, "IVA",
-                0, 10, "code", "asc"
+                0, 10, "code", "asc", true
         );
 
         assertNotNull(response);
@@ -206,7 +206,7 @@ class TaxTypeControllerTest {
 
                 ResponseEntity<PagedResponseDto<TaxTypeResponseDto>> response = controller.list(
                                 true, null, "   ",
-                                2, 5, "name", "DESC"
+                                2, 5, "name", "DESC", true
                 );
 
                 assertNotNull(response);
@@ -320,4 +320,20 @@ class TaxTypeControllerTest {
         assertEquals(204, response.getStatusCode().value());
         verify(manageUseCase).delete(uuid);
     }
+
+    @Test
+    @DisplayName("search should clamp the limit and map the ranked matches")
+    void search_shouldClampLimitAndMapMatches() {
+        TaxType match = TaxType.builder().name("match").build();
+        TaxTypeResponseDto response = TaxTypeResponseDto.builder().name("match").build();
+        when(compareUseCase.search("mat", 50)).thenReturn(List.of(match));
+        when(mapper.toResponseDto(match)).thenReturn(response);
+
+        ResponseEntity<List<TaxTypeResponseDto>> result = controller.search("mat", 500);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(1, result.getBody().size());
+        assertSame(response, result.getBody().getFirst());
+        verify(compareUseCase).search("mat", 50);
+    }
 }
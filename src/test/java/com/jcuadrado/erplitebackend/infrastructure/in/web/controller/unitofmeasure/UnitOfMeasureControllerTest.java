@@ -43,7 +43,7 @@ class UnitOfMeasureControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new UnitOfMeasureController(manageUseCase, compareUseCase, mapper);
+        controller = new UnitOfMeasureController(manageUseCase, compareUseCase, mapper, null);
     }
 
     @Test
@@ -54,7 +54,7 @@ class UnitOfMeasureControllerTest {
         when(compareUseCase.findAll(eq(Map.of("enabled", true)), any(PageRequest.class))).thenReturn(page);
         when(mapper.toResponseDto(unit)).thenReturn(responseDto);
 
-        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(true, null, null, 0, 10, "name", "asc");
+        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(true, null, null, 0, 10, "name", "asc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -70,7 +70,7 @@ class UnitOfMeasureControllerTest {
         when(compareUseCase.findAll(eq(Map.of("enabled", true, "name", "ca")), any(PageRequest.class))).thenReturn(page);
         when(mapper.toResponseDto(unit)).thenReturn(responseDto);
 
-        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(null, " ca ", "CJ", 1, 5, "name", "desc");
+        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(null, " ca ", "CJ", 1, 5, "name", "desc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -86,7 +86,7 @@ class UnitOfMeasureControllerTest {
         when(compareUseCase.findAll(eq(Map.of("enabled", true, "abbreviation", "kg")), any(PageRequest.class))).thenReturn(page);
         when(mapper.toResponseDto(unit)).thenReturn(responseDto);
 
-        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(true, " ", " kg ", 0, 10, "name", "asc");
+        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(true, " ", " kg ", 0, 10, "name", "asc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -101,7 +101,7 @@ class UnitOfMeasureControllerTest {
         when(compareUseCase.findAll(eq(Map.of("enabled", true)), any(PageRequest.class))).thenReturn(page);
         when(mapper.toResponseDto(unit)).thenReturn(responseDto);
 
-        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(null, null, " ", 0, 10, "name", "asc");
+        ResponseEntity<PagedResponseDto<UnitOfMeasureResponseDto>> response = controller.list(null, null, " ", 0, 10, "name", "asc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -265,4 +265,18 @@ class UnitOfMeasureControllerTest {
                 null
         );
     }
+
+    @Test
+    void searchByText_shouldClampLimitAndMapMatches() {
+        UnitOfMeasure match = UnitOfMeasure.builder().name("match").build();
+        UnitOfMeasureResponseDto response = UnitOfMeasureResponseDto.builder().name("match").build();
+        when(compareUseCase.search("mat", 50)).thenReturn(List.of(match));
+        when(mapper.toResponseDto(match)).thenReturn(response);
+
+        ResponseEntity<List<UnitOfMeasureResponseDto>> result = controller.searchByText("mat", 500);
+
+        assertThat(result.getStatusCode().value()).isEqualTo(200);
+        assertThat(result.getBody()).containsExactly(response);
+        verify(compareUseCase).search("mat", 50);
+    }
 }
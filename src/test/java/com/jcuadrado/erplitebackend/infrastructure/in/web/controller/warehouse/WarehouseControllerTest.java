@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.controller.warehouse;
 
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
 import com.jcuadrado.erplitebackend.application.command.warehouse.CreateWarehouseCommand;
 import com.jcuadrado.erplitebackend.application.command.warehouse.UpdateWarehouseCommand;
 import com.jcuadrado.erplitebackend.application.port.warehouse.CompareWarehouseUseCase;
@@ -10,7 +11,9 @@ import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.common.PagedRespon
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.CreateWarehouseRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.UpdateWarehouseRequestDto;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.warehouse.WarehouseResponseDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.imports.CatalogImporter;
 import com.jcuadrado.erplitebackend.infrastructure.in.web.mapper.warehouse.WarehouseDtoMapper;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -30,8 +39,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,7 +57,9 @@ class WarehouseControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new WarehouseController(manageUseCase, compareUseCase, mapper);
+        CatalogImporter importer = new CatalogImporter(JsonMapper.builder().build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 100);
+        controller = new WarehouseController(manageUseCase, compareUseCase, mapper, importer);
     }
 
     private Warehouse sampleWarehouse() {
@@ -107,7 +120,7 @@ class WarehouseControllerTest {
         when(mapper.toResponseDto(warehouse)).thenReturn(dto);
 
         ResponseEntity<PagedResponseDto<WarehouseResponseDto>> response =
-                controller.list(true, null, null, null, null, 0, 20, "name", "asc");
+                controller.list(true, null, null, null, null, 0, 20, "name", "asc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -122,11 +135,32 @@ class WarehouseControllerTest {
 
         when(compareUseCase.findAll(any(Map.class), any())).thenReturn(emptyPage);
 
-        controller.list(false, "SUCURSAL", municipalityId, "bodega", "BOD", 0, 20, "name", "asc");
+        controller.list(false, "SUCURSAL", municipalityId, "bodega", "BOD", 0, 20, "name", "asc", true);
 
         verify(compareUseCase).findAll(any(Map.class), any());
     }
 
+    @Test
+    @DisplayName("list with count=false should read a slice and leave totals empty")
+    void list_withoutCount_shouldReturnSliceWithoutTotals() {
+        Warehouse warehouse = sampleWarehouse();
+        WarehouseResponseDto dto = sampleResponseDto(warehouse);
+        Slice<Warehouse> slice = new SliceImpl<>(List.of(warehouse), PageRequest.of(0, 1), true);
+
+        when(compareUseCase.findSlice(any(Map.class), any())).thenReturn(slice);
+        when(mapper.toResponseDto(warehouse)).thenReturn(dto);
+
+        ResponseEntity<PagedResponseDto<WarehouseResponseDto>> response =
+                controller.list(null, null, null, null, null, 0, 1, "name", "asc", false);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).containsExactly(dto);
+        assertThat(response.getBody().getTotalElements()).isNull();
+        assertThat(response.getBody().getTotalPages()).isNull();
+        assertThat(response.getBody().getHasNext()).isTrue();
+        verify(compareUseCase, never()).findAll(any(Map.class), any());
+    }
+
     @Test
     @DisplayName("update should return 200 with updated warehouse")
     void update_shouldReturn200() {
@@ -195,8 +229,43 @@ class WarehouseControllerTest {
         when(compareUseCase.findAll(any(Map.class), any())).thenReturn(emptyPage);
 
         ResponseEntity<PagedResponseDto<WarehouseResponseDto>> response =
-                controller.list(null, null, null, null, null, 0, 20, "name", "desc");
+                controller.list(null, null, null, null, null, 0, 20, "name", "desc", true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
+
+    @Test
+    @DisplayName("importWarehouses should map CSV rows to commands and return 201")
+    void importWarehouses_shouldReturn201() {
+        String csv = "code,name,type,email\r\nBOD-010,Bodega Sur,SUCURSAL,\r\nBOD-011,\"Bodega, Norte\",TEMPORAL,n@x.co\r\n";
+        when(mapper.toCreateCommand(any())).thenAnswer(inv -> {
+            CreateWarehouseRequestDto dto = inv.getArgument(0);
+            return new CreateWarehouseCommand(dto.code(), dto.name(), null, dto.type(), null, null, null, dto.email(), null);
+        });
+        when(manageUseCase.importAll(anyList())).thenReturn(ImportReport.imported(2));
+
+        ResponseEntity<ImportReport> response = controller.importWarehouses(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MediaType.parseMediaType("text/csv"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        verify(manageUseCase).importAll(List.of(
+                new CreateWarehouseCommand("BOD-010", "Bodega Sur", null, WarehouseType.SUCURSAL, null, null, null, null, null),
+                new CreateWarehouseCommand("BOD-011", "Bodega, Norte", null, WarehouseType.TEMPORAL, null, null, null, "n@x.co", null)));
+    }
+
+    @Test
+    @DisplayName("importWarehouses should return 400 without importing when a row does not bind")
+    void importWarehouses_shouldReturn400_whenRowIsInvalid() {
+        String json = "[{\"code\":\"BOD-010\",\"name\":\"Bodega Sur\",\"type\":\"SUCURSAL\"},"
+                + "{\"code\":\"BOD-011\",\"name\":\"Bodega Norte\",\"type\":\"GALPON\"}]";
+
+        ResponseEntity<ImportReport> response = controller.importWarehouses(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_JSON);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().received()).isEqualTo(2);
+        assertThat(response.getBody().errors()).singleElement()
+                .satisfies(error -> assertThat(error.row()).isEqualTo(2));
+        verify(manageUseCase, never()).importAll(anyList());
+    }
 }
@@ -0,0 +1,124 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.export;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StreamingExporterTest {
+
+    private record Row(String code, String name, Integer total) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            new ExportColumn<>("code", Row::code),
+            new ExportColumn<>("name", Row::name),
+            new ExportColumn<>("total", Row::total));
+
+    private final StreamingExporter exporter = new StreamingExporter(JsonMapper.builder().build(), Duration.ofMinutes(30));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static Consumer<Consumer<Row>> rows(Row... rows) {
+        return sink -> List.of(rows).forEach(sink);
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void export_shouldWriteCsvWithHeaderAndQuotedFields() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = exporter.export("items", ExportFormat.CSV, COLUMNS,
+                rows(new Row("01", "Bogotá, D.C.", 3), new Row("02", "Dice \"hola\"", null)));
+
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .startsWith("attachment; filename=\"items-").endsWith(".csv\"");
+        assertThat(write(response)).isEqualTo(
+                "code,name,total\r\n01,\"Bogotá, D.C.\",3\r\n02,\"Dice \"\"hola\"\"\",\r\n");
+    }
+
+    @Test
+    void export_shouldSetTheExportTimeoutOnTheAsyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AsyncWebRequest asyncRequest = mock(AsyncWebRequest.class);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        exporter.export("items", ExportFormat.CSV, COLUMNS, rows());
+
+        verify(asyncRequest).setTimeout(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    void export_shouldWriteOneJsonObjectPerLineForNdjson() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = exporter.export("items", ExportFormat.NDJSON, COLUMNS,
+                rows(new Row("01", "Uno", 1), new Row("02", "Dos", 2)));
+
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(write(response).split("\n")).containsExactly(
+                "{\"code\":\"01\",\"name\":\"Uno\",\"total\":1}",
+                "{\"code\":\"02\",\"name\":\"Dos\",\"total\":2}");
+    }
+
+    @Test
+    void export_shouldStopReadingRowsWhenTheClientGoesAway() {
+        AtomicInteger produced = new AtomicInteger();
+        ResponseEntity<StreamingResponseBody> response = exporter.export("items", ExportFormat.CSV, COLUMNS, sink -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                produced.incrementAndGet();
+                sink.accept(new Row(String.valueOf(i), "Municipio con un nombre largo", i));
+            }
+        });
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> response.getBody().writeTo(closed)).isInstanceOf(IOException.class);
+        assertThat(produced.get()).isLessThan(1_000);
+    }
+
+    @Test
+    void csvField_shouldDefuseSpreadsheetFormulas() {
+        assertThat(StreamingExporter.csvField("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(StreamingExporter.csvField("@SUM")).isEqualTo("'@SUM");
+        assertThat(StreamingExporter.csvField(-5)).isEqualTo("-5");
+        assertThat(StreamingExporter.csvField(null)).isEmpty();
+    }
+
+    @Test
+    void from_shouldRejectUnknownFormats() {
+        assertThat(ExportFormat.from(" NDJSON ")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.from("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
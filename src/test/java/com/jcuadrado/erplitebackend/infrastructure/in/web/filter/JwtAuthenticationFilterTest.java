@@ -1,5 +1,7 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.filter;
 
+import com.jcuadrado.erplitebackend.application.command.security.AuthenticatedPrincipal;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
 import com.jcuadrado.erplitebackend.application.port.security.TokenService;
 import com.jcuadrado.erplitebackend.application.port.security.UserPermissionsUseCase;
 import jakarta.servlet.FilterChain;
@@ -13,22 +15,31 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
+    private static final UUID ALICE_ID = UUID.randomUUID();
+
     @Mock
     private TokenService tokenService;
 
     @Mock
     private UserPermissionsUseCase userPermissionsUseCase;
 
+    @Mock
+    private PermissionVersionService permissionVersionService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -42,7 +53,7 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new JwtAuthenticationFilter(tokenService, userPermissionsUseCase);
+        filter = new JwtAuthenticationFilter(tokenService, userPermissionsUseCase, permissionVersionService, "database");
         SecurityContextHolder.clearContext();
     }
 
@@ -54,7 +65,7 @@ class JwtAuthenticationFilterTest {
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(tokenService, never()).validateToken(org.mockito.ArgumentMatchers.any());
+        verify(tokenService, never()).parseToken(org.mockito.ArgumentMatchers.any());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -66,19 +77,19 @@ class JwtAuthenticationFilterTest {
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(tokenService, never()).validateToken(org.mockito.ArgumentMatchers.any());
+        verify(tokenService, never()).parseToken(org.mockito.ArgumentMatchers.any());
     }
 
     @Test
     @DisplayName("doFilterInternal should pass through when token is invalid")
     void doFilterInternal_shouldPassThrough_whenTokenIsInvalid() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-token");
-        when(tokenService.validateToken("invalid-token")).thenReturn(false);
+        when(tokenService.parseToken("invalid-token")).thenReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(tokenService, never()).extractUsername(org.mockito.ArgumentMatchers.any());
+        verify(userPermissionsUseCase, never()).getPermissionStrings(org.mockito.ArgumentMatchers.any());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -86,9 +97,7 @@ class JwtAuthenticationFilterTest {
     @DisplayName("doFilterInternal should set authentication with roles from JWT and permissions from DB when token is valid")
     void doFilterInternal_shouldSetAuthentication_whenTokenIsValid() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenService.validateToken("valid-token")).thenReturn(true);
-        when(tokenService.extractUsername("valid-token")).thenReturn("alice");
-        when(tokenService.extractRoles("valid-token")).thenReturn(List.of("ADMIN"));
+        when(tokenService.parseToken("valid-token")).thenReturn(Optional.of(principal("alice", List.of("ADMIN"))));
         when(userPermissionsUseCase.getPermissionStrings("alice")).thenReturn(List.of("WAREHOUSE:READ", "WAREHOUSE:CREATE"));
 
         filter.doFilterInternal(request, response, filterChain);
@@ -106,9 +115,7 @@ class JwtAuthenticationFilterTest {
     @DisplayName("doFilterInternal should set authentication with empty authorities when token has no roles and user has no permissions")
     void doFilterInternal_shouldSetAuthentication_withNoAuthorities_whenTokenHasNone() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer minimal-token");
-        when(tokenService.validateToken("minimal-token")).thenReturn(true);
-        when(tokenService.extractUsername("minimal-token")).thenReturn("bob");
-        when(tokenService.extractRoles("minimal-token")).thenReturn(List.of());
+        when(tokenService.parseToken("minimal-token")).thenReturn(Optional.of(principal("bob", List.of())));
         when(userPermissionsUseCase.getPermissionStrings("bob")).thenReturn(List.of());
 
         filter.doFilterInternal(request, response, filterChain);
@@ -120,15 +127,70 @@ class JwtAuthenticationFilterTest {
     }
 
     @Test
-    @DisplayName("doFilterInternal should continue filter chain when extractUsername throws an exception")
-    void doFilterInternal_shouldContinueFilterChain_whenExtractUsernameThrows() throws Exception {
+    @DisplayName("doFilterInternal should continue filter chain when permission lookup throws an exception")
+    void doFilterInternal_shouldContinueFilterChain_whenPermissionLookupThrows() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer problem-token");
-        when(tokenService.validateToken("problem-token")).thenReturn(true);
-        when(tokenService.extractUsername("problem-token")).thenThrow(new RuntimeException("Parse error"));
+        when(tokenService.parseToken("problem-token")).thenReturn(Optional.of(principal("carol", List.of("USER"))));
+        when(userPermissionsUseCase.getPermissionStrings("carol")).thenThrow(new RuntimeException("Lookup error"));
 
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
+
+    @Test
+    @DisplayName("doFilterInternal should parse the token only once per request")
+    void doFilterInternal_shouldParseTokenOnce() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(tokenService.parseToken("valid-token")).thenReturn(Optional.of(principal("alice", List.of("ADMIN"))));
+        when(userPermissionsUseCase.getPermissionStrings("alice")).thenReturn(List.of());
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(tokenService, times(1)).parseToken("valid-token");
+        verify(tokenService, never()).validateToken(org.mockito.ArgumentMatchers.any());
+        verify(tokenService, never()).extractUsername(org.mockito.ArgumentMatchers.any());
+        verify(tokenService, never()).extractRoles(org.mockito.ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should use token permissions without DB lookup when the user's permissions are unchanged")
+    void doFilterInternal_shouldUseTokenPermissions_whenVersionIsCurrent() throws Exception {
+        filter = new JwtAuthenticationFilter(tokenService, userPermissionsUseCase, permissionVersionService, "token");
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal("alice", ALICE_ID,
+                List.of("ADMIN"), List.of("WAREHOUSE:READ"), 7L, Instant.now().plusSeconds(1800));
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(tokenService.parseToken("valid-token")).thenReturn(Optional.of(principal));
+        when(permissionVersionService.isCurrent(ALICE_ID, 7L)).thenReturn(true);
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(userPermissionsUseCase, never()).getPermissionStrings(org.mockito.ArgumentMatchers.any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting("authority")
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "WAREHOUSE:READ");
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should fall back to DB permissions when the user's permissions changed since the token")
+    void doFilterInternal_shouldFallBackToDb_whenVersionIsStale() throws Exception {
+        filter = new JwtAuthenticationFilter(tokenService, userPermissionsUseCase, permissionVersionService, "token");
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal("alice", ALICE_ID,
+                List.of("ADMIN"), List.of("WAREHOUSE:READ"), 7L, Instant.now().plusSeconds(1800));
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(tokenService.parseToken("valid-token")).thenReturn(Optional.of(principal));
+        when(permissionVersionService.isCurrent(ALICE_ID, 7L)).thenReturn(false);
+        when(userPermissionsUseCase.getPermissionStrings("alice")).thenReturn(List.of("WAREHOUSE:CREATE"));
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting("authority")
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "WAREHOUSE:CREATE");
+    }
+
+    private AuthenticatedPrincipal principal(String username, List<String> roles) {
+        return new AuthenticatedPrincipal(username, UUID.randomUUID(), roles, List.of(), 0L, Instant.now().plusSeconds(1800));
+    }
 }
@@ -1,5 +1,11 @@
 package com.jcuadrado.erplitebackend.infrastructure.in.web.filter;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.ServletException;
@@ -9,15 +15,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.io.IOException;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,14 +47,20 @@ class MDCFilterTest {
     @InjectMocks
     private MDCFilter mdcFilter;
 
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(MDCFilter.class);
+    private final ListAppender<ILoggingEvent> logged = new ListAppender<>();
+
     @BeforeEach
     void setUp() {
         MDC.clear();
+        logged.start();
+        filterLogger.addAppender(logged);
     }
 
     @AfterEach
     void tearDown() {
         MDC.clear();
+        filterLogger.detachAppender(logged);
     }
 
     @Test
@@ -221,4 +236,72 @@ class MDCFilterTest {
         verify(request, atLeastOnce()).getMethod();
         verify(request, atLeastOnce()).getRequestURI();
     }
+
+    @Test
+    void doFilter_shouldLogOneSummaryLineWithStatusAndRequestId() throws ServletException, IOException {
+        // Given
+        when(request.getHeader("X-Request-ID")).thenReturn("summary-id");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/test");
+        when(response.getStatus()).thenReturn(200);
+
+        // When
+        mdcFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(logged.list).hasSize(1);
+        ILoggingEvent summary = logged.list.get(0);
+        assertThat(summary.getFormattedMessage()).startsWith("GET /api/test 200 ").endsWith(" ms");
+        assertThat(summary.getMDCPropertyMap()).containsEntry("requestId", "summary-id");
+        assertThat(summary.getKeyValuePairs()).extracting(pair -> pair.key)
+                .containsExactly("http.method", "http.path", "http.status", "duration_ms");
+    }
+
+    @Test
+    void doFilter_whenChainThrows_shouldLogStatus500AndRethrow() throws ServletException, IOException {
+        // Given
+        when(request.getHeader("X-Request-ID")).thenReturn("failed-id");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/test");
+        IllegalStateException failure = new IllegalStateException("boom");
+        doThrow(failure).when(filterChain).doFilter(request, response);
+
+        // When
+        assertThatThrownBy(() -> mdcFilter.doFilter(request, response, filterChain)).isSameAs(failure);
+
+        // Then
+        assertThat(logged.list).hasSize(1);
+        ILoggingEvent summary = logged.list.get(0);
+        assertThat(summary.getFormattedMessage()).startsWith("GET /api/test 500 ").endsWith(" ms (IllegalStateException)");
+        assertThat(summary.getKeyValuePairs()).extracting(pair -> pair.key)
+                .containsExactly("http.method", "http.path", "http.status", "duration_ms", "exception");
+        verify(response, never()).getStatus();
+    }
+
+    @Test
+    void doFilter_whenAsyncStarted_shouldLogSummaryOnCompletion() throws Exception {
+        // Given
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        when(request.getHeader("X-Request-ID")).thenReturn("async-id");
+        when(request.isAsyncStarted()).thenReturn(true);
+        when(request.getAsyncContext()).thenReturn(asyncContext);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/export");
+        when(response.getStatus()).thenReturn(200);
+
+        // When
+        mdcFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(logged.list).isEmpty();
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+
+        listener.getValue().onComplete(new AsyncEvent(asyncContext));
+
+        assertThat(logged.list).hasSize(1);
+        assertThat(logged.list.get(0).getFormattedMessage()).startsWith("GET /api/export 200 ");
+        assertThat(logged.list.get(0).getMDCPropertyMap()).containsEntry("requestId", "async-id");
+        assertThat(MDC.get("requestId")).isNull();
+    }
 }
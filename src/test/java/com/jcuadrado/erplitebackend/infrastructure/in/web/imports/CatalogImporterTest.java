@@ -0,0 +1,117 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.imports;
+
+import com.jcuadrado.erplitebackend.application.command.imports.ImportReport;
+import com.jcuadrado.erplitebackend.application.command.imports.ImportRowError;
+import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.paymentmethod.CreatePaymentMethodRequestDto;
+import com.jcuadrado.erplitebackend.infrastructure.in.web.dto.taxtype.CreateTaxTypeRequestDto;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogImporterTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final CatalogImporter importer = new CatalogImporter(JsonMapper.builder().build(),
+            Validation.buildDefaultValidatorFactory().getValidator(), 3);
+
+    private final List<Object> imported = new ArrayList<>();
+
+    private <D> ResponseEntity<ImportReport> run(String body, MediaType contentType, Class<D> rowType) {
+        Function<List<D>, ImportReport> importerUseCase = rows -> {
+            imported.addAll(rows);
+            return ImportReport.imported(rows.size());
+        };
+        return importer.importFrom("test", new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                contentType, rowType, Function.identity(), importerUseCase);
+    }
+
+    @Test
+    void importFrom_shouldBindCsvRowsByHeader() {
+        String csv = "\uFEFFcode,name,percentage,isIncluded,applicationType\r\n"
+                + "IVA19,IVA 19%,19.0000,false,SALE\r\n"
+                + "\r\n"
+                + "RETE,\"Retención, \"\"especial\"\"\nlínea 2\",2.5,true,PURCHASE";
+
+        ResponseEntity<ImportReport> response = run(csv, CSV, CreateTaxTypeRequestDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(new ImportReport(2, 2, List.of()));
+        assertThat(imported).hasSize(2);
+        CreateTaxTypeRequestDto second = (CreateTaxTypeRequestDto) imported.get(1);
+        assertThat(second.getName()).isEqualTo("Retención, \"especial\"\nlínea 2");
+        assertThat(second.getPercentage()).isEqualByComparingTo(new BigDecimal("2.5"));
+        assertThat(second.getIsIncluded()).isTrue();
+        assertThat(second.getApplicationType()).isEqualTo(TaxApplicationType.PURCHASE);
+    }
+
+    @Test
+    void importFrom_shouldReportEveryInvalidRowWithoutImporting() {
+        String csv = "code,name\n"
+                + "CASH,Efectivo\n"
+                + "cash,\n"
+                + "CARD,Tarjeta,extra\n";
+
+        ResponseEntity<ImportReport> response = run(csv, CSV, CreatePaymentMethodRequestDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().received()).isEqualTo(3);
+        assertThat(response.getBody().imported()).isZero();
+        assertThat(response.getBody().errors()).extracting(ImportRowError::row).containsExactly(2, 3);
+        assertThat(response.getBody().errors().get(0).message())
+                .contains("code: Code must contain only uppercase letters", "name: Name is required");
+        assertThat(imported).isEmpty();
+    }
+
+    @Test
+    void importFrom_shouldNameTheFieldThatDoesNotBind() {
+        String json = "[{\"code\":\"IVA19\",\"name\":\"IVA\",\"percentage\":19,\"isIncluded\":false,"
+                + "\"applicationType\":\"ALWAYS\"}]";
+
+        ResponseEntity<ImportReport> response = run(json, MediaType.APPLICATION_JSON, CreateTaxTypeRequestDto.class);
+
+        assertThat(response.getBody().errors())
+                .containsExactly(new ImportRowError(1, "Valor inválido para applicationType"));
+    }
+
+    @Test
+    void importFrom_shouldRejectJsonThatIsNotAnArray() {
+        assertThatThrownBy(() -> run("{\"code\":\"CASH\"}", MediaType.APPLICATION_JSON,
+                CreatePaymentMethodRequestDto.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void importFrom_shouldRejectMoreRowsThanTheLimit() {
+        String csv = "code,name\nA,a\nB,b\nC,c\nD,d\n";
+
+        assertThatThrownBy(() -> run(csv, CSV, CreatePaymentMethodRequestDto.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3");
+        assertThat(imported).isEmpty();
+    }
+
+    @Test
+    void readRecord_shouldRejectUnterminatedQuotes() {
+        BufferedReader reader = new BufferedReader(new StringReader("A,\"sin cerrar\n"));
+
+        assertThatThrownBy(() -> CatalogImporter.readRecord(reader))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.interceptor;
+
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalog;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceCatalogVersion;
+import com.jcuadrado.erplitebackend.application.port.cache.ReferenceDataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogConditionalGetInterceptorTest {
+
+    private static final Set<ReferenceCatalog> CATALOGS = EnumSet.of(ReferenceCatalog.TAX_TYPES);
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    private CatalogConditionalGetInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new CatalogConditionalGetInterceptor(referenceDataCache, CATALOGS);
+        response = new MockHttpServletResponse();
+        lenient().when(referenceDataCache.version(CATALOGS)).thenReturn(new ReferenceCatalogVersion("a1-0-3", LAST_MODIFIED));
+    }
+
+    @Test
+    void preHandle_shouldAddValidatorsAndContinue_whenNoConditionalHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tax-types");
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"a1-0-3\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(LAST_MODIFIED.toEpochMilli());
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+    }
+
+    @Test
+    void preHandle_shouldAnswer304_whenIfNoneMatchMatches() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tax-types/active");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"a1-0-3\"");
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"a1-0-3\"");
+    }
+
+    @Test
+    void preHandle_shouldContinue_whenIfNoneMatchIsStale() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tax-types");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"a1-0-2\"");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED.toEpochMilli());
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void preHandle_shouldAnswer304_whenNotModifiedSince() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tax-types");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED.toEpochMilli());
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void preHandle_shouldIgnoreWrites() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/tax-types/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"a1-0-3\"");
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        verifyNoInteractions(referenceDataCache);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jcuadrado.erplitebackend.infrastructure.in.web.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScrollCursorCodecTest {
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "timestamp");
+
+    private static Window<String> windowEndingAt(Map<String, Object> keys, boolean hasNext) {
+        return Window.from(List.of("a", "b"), index -> ScrollPosition.forward(keys), hasNext);
+    }
+
+    @Test
+    void encodeAndDecode_shouldRoundTripTypedKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("timestamp", LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000_000));
+        keys.put("id", UUID.randomUUID());
+        keys.put("action", "USER_CREATED|with:separators");
+
+        String cursor = ScrollCursorCodec.encode(windowEndingAt(keys, true), SORT);
+        ScrollPosition position = ScrollCursorCodec.decode(cursor, SORT);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        assertThat(keyset.scrollsForward()).isTrue();
+        assertThat(keyset.getKeys()).containsExactlyEntriesOf(keys);
+    }
+
+    @Test
+    void encode_shouldReturnNull_onLastPage() {
+        assertThat(ScrollCursorCodec.encode(windowEndingAt(Map.of("id", UUID.randomUUID()), false), SORT)).isNull();
+    }
+
+    @Test
+    void decode_shouldStartFromBeginning_whenCursorIsBlank() {
+        assertThat(ScrollCursorCodec.decode("", SORT).isInitial()).isTrue();
+        assertThat(ScrollCursorCodec.decode(null, SORT).isInitial()).isTrue();
+    }
+
+    @Test
+    void decode_shouldReject_whenCursorWasIssuedForAnotherSort() {
+        String cursor = ScrollCursorCodec.encode(windowEndingAt(Map.of("id", UUID.randomUUID()), true), SORT);
+
+        assertThatThrownBy(() -> ScrollCursorCodec.decode(cursor, Sort.by(Sort.Direction.ASC, "timestamp")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("otro orden");
+    }
+
+    @Test
+    void decode_shouldReject_whenCursorIsMalformed() {
+        assertThatThrownBy(() -> ScrollCursorCodec.decode("not-a-cursor!", SORT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+    }
+
+    @Test
+    void keysetSort_shouldRejectFieldsOutsideTheAllowedSet() {
+        assertThat(ScrollCursorCodec.keysetSort("timestamp", "asc", Set.of("timestamp")))
+                .isEqualTo(Sort.by(Sort.Direction.ASC, "timestamp"));
+        assertThatThrownBy(() -> ScrollCursorCodec.keysetSort("entity", "desc", Set.of("timestamp")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.archive.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogArchiver;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipAuditLogArchiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("open and append should write one JSON line per audit log into a gzip file")
+    void append_shouldWriteGzipNdjson() throws Exception {
+        GzipAuditLogArchiver archiver = new GzipAuditLogArchiver(jsonMapper, tempDir.resolve("audit"));
+        AuditLog first = AuditLog.create(UUID.randomUUID(), "admin", "User", null, AuditAction.LOGIN, "127.0.0.1", "Agent");
+        AuditLog second = AuditLog.create(UUID.randomUUID(), "cajero", "User", null, AuditAction.LOGOUT, null, null);
+
+        String location;
+        try (AuditLogArchiver.Session session = archiver.open()) {
+            session.append(List.of(first));
+            session.append(List.of(second));
+            location = session.location();
+        }
+
+        Path file = Path.of(location);
+        assertThat(file.getFileName().toString()).startsWith("audit-logs-").endsWith(".ndjson.gz");
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        assertThat(lines).hasSize(2);
+        JsonNode node = jsonMapper.readTree(lines.get(0));
+        assertThat(node.get("id").asString()).isEqualTo(first.getId().toString());
+        assertThat(node.get("action").asString()).isEqualTo("LOGIN");
+        assertThat(node.get("username").asString()).isEqualTo("admin");
+        assertThat(jsonMapper.readTree(lines.get(1)).get("action").asString()).isEqualTo("LOGOUT");
+    }
+}
@@ -0,0 +1,169 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence;
+
+import com.jcuadrado.erplitebackend.application.command.security.LoginCommand;
+import com.jcuadrado.erplitebackend.application.port.security.AuthUseCase;
+import com.jcuadrado.erplitebackend.application.port.security.PasswordEncoder;
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.DepartmentEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RoleEntity;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.UserEntity;
+import com.jcuadrado.erplitebackend.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds write flows to a number of JDBC statements per business operation, with the configured batching compared
+ * against one statement per row.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class WriteStatementBudgetTest {
+
+    private static final int MUNICIPALITIES = 120;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuthUseCase authUseCase;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PermissionVersionService permissionVersionService;
+
+    @Autowired
+    private DepartmentJpaRepository departmentRepository;
+
+    @Autowired
+    private MunicipalityJpaRepository municipalityRepository;
+
+    @Autowired
+    private RefreshTokenJpaRepository refreshTokenRepository;
+
+    @Autowired
+    private RoleJpaRepository roleRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    private QueryCounter queries;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        queries = new QueryCounter(entityManagerFactory);
+        transaction = new TransactionTemplate(transactionManager);
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+        municipalityRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("bulk municipality inserts should share JDBC batches and sequence round trips")
+    void municipalityInserts_shouldBeBatched() throws Exception {
+        DepartmentEntity department = departmentRepository.save(DepartmentEntity.builder()
+                .code("05").name("Antioquia").enabled(true).build());
+
+        long unbatched = queries.count(() -> insertMunicipalities(department, "A", 1));
+        long batched = queries.count(() -> insertMunicipalities(department, "B", null));
+
+        log.info("{} municipios: {} sentencias sin lotes, {} con lotes", MUNICIPALITIES, unbatched, batched);
+        assertThat(unbatched).isGreaterThanOrEqualTo(MUNICIPALITIES);
+        // 3 batches of 50 rows and 3 blocks of 50 ids
+        assertThat(batched).isLessThanOrEqualTo(6);
+        assertThat(municipalityRepository.count()).isEqualTo(2L * MUNICIPALITIES);
+    }
+
+    @Test
+    @DisplayName("login should write the user and refresh token without extra lookups")
+    void login_shouldStayWithinBudget() throws Exception {
+        RoleEntity role = roleRepository.save(RoleEntity.builder()
+                .id(UUID.randomUUID()).name("ROLE_CASHIER").active(true).createdAt(LocalDateTime.now()).build());
+        userRepository.save(UserEntity.builder()
+                .id(UUID.randomUUID()).username("cashier").email("cashier@erp.test")
+                .passwordHash(passwordEncoder.encode("secret")).active(true).failedAttempts(0)
+                .createdAt(LocalDateTime.now()).roles(Set.of(role)).build());
+        LoginCommand command = new LoginCommand("cashier", "secret", "127.0.0.1", "JUnit");
+
+        // user, roles, permissions and the permission version (re-read at most once per refresh interval) outside
+        // the transaction; user reload, user update, refresh token insert in it
+        queries.assertAtMost(7, "login", () -> authUseCase.login(command));
+
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(roleRepository.findByUserId(userRepository.findByUsername("cashier").orElseThrow().getId()))
+                .extracting(RoleEntity::getName)
+                .containsExactly("ROLE_CASHIER");
+    }
+
+    @Test
+    @DisplayName("a role change should stamp only the role's users, in one update")
+    void roleChange_shouldStampOnlyRoleUsers() throws Exception {
+        RoleEntity cashier = roleRepository.save(RoleEntity.builder()
+                .id(UUID.randomUUID()).name("ROLE_CASHIER").active(true).createdAt(LocalDateTime.now()).build());
+        UserEntity first = saveUser("cashier1", Set.of(cashier));
+        UserEntity second = saveUser("cashier2", Set.of(cashier));
+        UserEntity other = saveUser("auditor", Set.of());
+        // The H2 schema has no V21 seed row; create it so only the steady-state statements are counted
+        permissionVersionService.incrementForUsers(List.of());
+        long before = permissionVersionService.currentVersion();
+
+        // version increment and re-read, role users lookup, users update
+        queries.assertAtMost(4, "role change",
+                () -> permissionVersionService.incrementForRole(cashier.getId()));
+
+        assertThat(userRepository.findById(first.getId()).orElseThrow().getPermissionsVersion()).isGreaterThan(before);
+        assertThat(userRepository.findById(other.getId()).orElseThrow().getPermissionsVersion()).isZero();
+        assertThat(permissionVersionService.changesSince(before).userIds())
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    private UserEntity saveUser(String username, Set<RoleEntity> roles) {
+        return userRepository.save(UserEntity.builder()
+                .id(UUID.randomUUID()).username(username).email(username + "@erp.test")
+                .passwordHash("hash").active(true).failedAttempts(0)
+                .createdAt(LocalDateTime.now()).roles(roles).build());
+    }
+
+    private void insertMunicipalities(DepartmentEntity department, String prefix, Integer batchSize) {
+        transaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<MunicipalityEntity> municipalities = new ArrayList<>();
+            for (int i = 0; i < MUNICIPALITIES; i++) {
+                municipalities.add(MunicipalityEntity.builder()
+                        .code(prefix + i).name("Municipio " + prefix + i).department(department).build());
+            }
+            municipalityRepository.saveAll(municipalities);
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.jcuadrado.erplitebackend.domain.model.geography.Department;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.DepartmentJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.DepartmentEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.geography.DepartmentEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,12 +16,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +38,9 @@ class DepartmentRepositoryAdapterTest {
     @Mock
     private DepartmentEntityMapper mapper;
 
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
     @InjectMocks
     private DepartmentRepositoryAdapter adapter;
 
@@ -161,7 +169,7 @@ class DepartmentRepositoryAdapterTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<DepartmentEntity> entityPage = new PageImpl<>(List.of(entity));
         
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<DepartmentEntity>>any(), eq(pageable))).thenReturn(entityPage);
+        when(pagedQueries.page(eq("departments"), eq(jpaRepository), ArgumentMatchers.<Specification<DepartmentEntity>>any(), any(), eq(pageable))).thenReturn(entityPage);
         when(mapper.toDomain(entity)).thenReturn(domainObject);
 
         // When
@@ -171,7 +179,24 @@ class DepartmentRepositoryAdapterTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0)).isEqualTo(domainObject);
-        verify(jpaRepository).findAll(ArgumentMatchers.<Specification<DepartmentEntity>>any(), eq(pageable));
+        verify(pagedQueries).page(eq("departments"), eq(jpaRepository), ArgumentMatchers.<Specification<DepartmentEntity>>any(), any(), eq(pageable));
+    }
+
+    @Test
+    void findSlice_shouldReadPageWithoutCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<DepartmentEntity> entitySlice = new SliceImpl<>(List.of(entity), pageable, true);
+        when(pagedQueries.slice(eq(jpaRepository), ArgumentMatchers.<Specification<DepartmentEntity>>any(), eq(pageable))).thenReturn(entitySlice);
+        when(mapper.toDomain(entity)).thenReturn(domainObject);
+
+        // When
+        Slice<Department> result = adapter.findSlice(Map.of("enabled", true), pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(domainObject);
+        assertThat(result.hasNext()).isTrue();
+        verify(pagedQueries, never()).page(any(), any(), any(), any(), any(Pageable.class));
     }
 
     @Test
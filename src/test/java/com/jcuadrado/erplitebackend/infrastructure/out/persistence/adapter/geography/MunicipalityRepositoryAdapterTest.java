@@ -5,6 +5,9 @@ import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.MunicipalityJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.geography.MunicipalityEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.geography.MunicipalityEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.ProjectionReader;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.geography.MunicipalityRowProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,13 +19,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +45,15 @@ class MunicipalityRepositoryAdapterTest {
     @Mock
     private MunicipalityEntityMapper mapper;
 
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
+    @Mock
+    private ProjectionReader projections;
+
+    @Mock
+    private MunicipalityRowProjection rowProjection;
+
     @InjectMocks
     private MunicipalityRepositoryAdapter adapter;
 
@@ -157,24 +177,53 @@ class MunicipalityRepositoryAdapterTest {
     }
 
     @Test
-    void findAll_shouldReturnPageOfDomainObjects() {
+    void findAll_shouldReadProjectionWithoutEntityMapping() {
         // Given
         Map<String, Object> filters = new HashMap<>();
         filters.put("enabled", true);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<MunicipalityEntity> entityPage = new PageImpl<>(List.of(entity));
-        
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<MunicipalityEntity>>any(), eq(pageable))).thenReturn(entityPage);
-        when(mapper.toDomain(entity)).thenReturn(domainObject);
+        when(projections.slice(eq(MunicipalityEntity.class), ArgumentMatchers.<Specification<MunicipalityEntity>>any(), eq(pageable), eq(rowProjection)))
+                .thenReturn(new SliceImpl<>(List.of(domainObject), pageable, false));
+        when(pagedQueries.page(eq("municipalities"), eq(filters), eq(pageable), any(), any())).thenAnswer(inv ->
+                new PageImpl<>(inv.<Function<Pageable, Slice<Municipality>>>getArgument(3).apply(pageable).getContent()));
 
         // When
         Page<Municipality> result = adapter.findAll(filters, pageable);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0)).isEqualTo(domainObject);
-        verify(jpaRepository).findAll(ArgumentMatchers.<Specification<MunicipalityEntity>>any(), eq(pageable));
+        assertThat(result.getContent()).containsExactly(domainObject);
+        verify(mapper, never()).toDomain(any());
+    }
+
+    @Test
+    void findSlice_shouldReadProjectionWithoutCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(projections.slice(eq(MunicipalityEntity.class), ArgumentMatchers.<Specification<MunicipalityEntity>>any(), eq(pageable), eq(rowProjection)))
+                .thenReturn(new SliceImpl<>(List.of(domainObject), pageable, true));
+
+        // When
+        Slice<Municipality> result = adapter.findSlice(Map.of("enabled", true), pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(domainObject);
+        assertThat(result.hasNext()).isTrue();
+        verify(jpaRepository, never()).count(ArgumentMatchers.<Specification<MunicipalityEntity>>any());
+    }
+
+    @Test
+    void forEach_shouldStreamProjectionRows() {
+        // Given
+        Sort sort = Sort.by("code");
+        Consumer<Municipality> action = municipality -> { };
+
+        // When
+        adapter.forEach(Map.of("enabled", true), sort, action);
+
+        // Then
+        verify(projections).forEach(eq(MunicipalityEntity.class), ArgumentMatchers.<Specification<MunicipalityEntity>>any(),
+                eq(sort), eq(rowProjection), eq(action));
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.paym
 import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.paymentmethod.PaymentMethodEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.paymentmethod.PaymentMethodEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.PaymentMethodJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +16,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,6 +41,9 @@ class PaymentMethodRepositoryAdapterTest {
     @Mock
     private PaymentMethodEntityMapper mapper;
 
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
     @InjectMocks
     private PaymentMethodRepositoryAdapter adapter;
 
@@ -156,7 +163,7 @@ class PaymentMethodRepositoryAdapterTest {
         List<PaymentMethodEntity> entities = Arrays.asList(entity);
         Page<PaymentMethodEntity> entityPage = new PageImpl<>(entities, pageable, 1);
 
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(Pageable.class))).thenReturn(entityPage);
+        when(pagedQueries.page(eq("payment_methods"), eq(jpaRepository), ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(), any(Pageable.class))).thenReturn(entityPage);
         when(mapper.toDomain(entity)).thenReturn(domainObject);
 
         // When
@@ -166,7 +173,24 @@ class PaymentMethodRepositoryAdapterTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0)).isEqualTo(domainObject);
-        verify(jpaRepository).findAll(ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(Pageable.class));
+        verify(pagedQueries).page(eq("payment_methods"), eq(jpaRepository), ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void findSlice_shouldReadPageWithoutCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<PaymentMethodEntity> entitySlice = new SliceImpl<>(List.of(entity), pageable, true);
+        when(pagedQueries.slice(eq(jpaRepository), ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), eq(pageable))).thenReturn(entitySlice);
+        when(mapper.toDomain(entity)).thenReturn(domainObject);
+
+        // When
+        Slice<PaymentMethod> result = adapter.findSlice(Map.of("enabled", true), pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(domainObject);
+        assertThat(result.hasNext()).isTrue();
+        verify(pagedQueries, never()).page(any(), any(), any(), any(), any(Pageable.class));
     }
 
     @Test
@@ -176,7 +200,7 @@ class PaymentMethodRepositoryAdapterTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<PaymentMethodEntity> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(Pageable.class))).thenReturn(emptyPage);
+        when(pagedQueries.page(eq("payment_methods"), eq(jpaRepository), ArgumentMatchers.<Specification<PaymentMethodEntity>>any(), any(), any(Pageable.class))).thenReturn(emptyPage);
 
         // When
         Page<PaymentMethod> result = adapter.findAll(filters, pageable);
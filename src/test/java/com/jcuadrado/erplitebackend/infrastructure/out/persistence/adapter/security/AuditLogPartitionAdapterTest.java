@@ -0,0 +1,65 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.AuditLogPartitionManager.Partition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogPartitionAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditLogPartitionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new AuditLogPartitionAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("addPartitions should split p_future into one partition per quarter")
+    void addPartitions_shouldReorganizeCatchAll() {
+        adapter.addPartitions(List.of(LocalDateTime.of(2028, 4, 1, 0, 0), LocalDateTime.of(2028, 7, 1, 0, 0)));
+
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p2028q1 VALUES LESS THAN ('2028-04-01 00:00:00'), "
+                + "PARTITION p2028q2 VALUES LESS THAN ('2028-07-01 00:00:00'), "
+                + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("drop should drop the partition by name")
+    void drop_shouldDropPartition() {
+        adapter.drop(new Partition("p2026q1", LocalDateTime.of(2026, 4, 1, 0, 0)));
+
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION `p2026q1`");
+    }
+
+    @Test
+    @DisplayName("nameFor should name the partition after the quarter its bound closes")
+    void nameFor_shouldUseClosedQuarter() {
+        assertThat(AuditLogPartitionAdapter.nameFor(LocalDateTime.of(2027, 1, 1, 0, 0))).isEqualTo("p2026q4");
+        assertThat(AuditLogPartitionAdapter.nameFor(LocalDateTime.of(2027, 10, 1, 0, 0))).isEqualTo("p2027q3");
+    }
+
+    @Test
+    @DisplayName("parseBound should read date and datetime bounds and treat MAXVALUE as unbounded")
+    void parseBound_shouldReadRangeColumnsDescriptions() {
+        assertThat(AuditLogPartitionAdapter.parseBound("'2026-04-01'")).isEqualTo(LocalDateTime.of(2026, 4, 1, 0, 0));
+        assertThat(AuditLogPartitionAdapter.parseBound("'2026-04-01 00:00:00.000000'"))
+                .isEqualTo(LocalDateTime.of(2026, 4, 1, 0, 0));
+        assertThat(AuditLogPartitionAdapter.parseBound("MAXVALUE")).isNull();
+    }
+}
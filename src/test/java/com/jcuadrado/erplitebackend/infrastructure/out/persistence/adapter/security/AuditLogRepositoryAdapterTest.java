@@ -6,25 +6,39 @@ import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.AuditLogJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.AuditLogEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.security.AuditLogEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.ProjectionReader;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.security.AuditLogRowProjection;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security.AuditLogBatchWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,33 +50,36 @@ class AuditLogRepositoryAdapterTest {
     @Mock
     private AuditLogEntityMapper mapper;
 
+    @Mock
+    private AuditLogBatchWriter batchWriter;
+
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
+    @Mock
+    private ProjectionReader projections;
+
+    @Mock
+    private AuditLogRowProjection rowProjection;
+
     private AuditLogRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new AuditLogRepositoryAdapter(jpaRepository, mapper);
+        adapter = new AuditLogRepositoryAdapter(jpaRepository, mapper, batchWriter, pagedQueries, projections, rowProjection);
     }
 
     @Test
-    @DisplayName("save should map to entity, delegate to JPA, and map back to domain")
-    void save_shouldMapAndDelegate() {
+    @DisplayName("save should hand the audit log to the batch writer without touching JPA")
+    void save_shouldSubmitToBatchWriter() {
         AuditLog log = AuditLog.create(UUID.randomUUID(), "admin", "User", UUID.randomUUID(),
                 AuditAction.USER_CREATED, "127.0.0.1", "Agent");
-        AuditLogEntity entity = new AuditLogEntity();
-        AuditLogEntity savedEntity = new AuditLogEntity();
-        AuditLog savedLog = AuditLog.create(UUID.randomUUID(), "admin", "User", UUID.randomUUID(),
-                AuditAction.USER_CREATED, "127.0.0.1", "Agent");
-
-        when(mapper.toEntity(log)).thenReturn(entity);
-        when(jpaRepository.save(entity)).thenReturn(savedEntity);
-        when(mapper.toDomain(savedEntity)).thenReturn(savedLog);
 
         AuditLog result = adapter.save(log);
 
-        assertThat(result).isNotNull();
-        verify(mapper).toEntity(log);
-        verify(jpaRepository).save(entity);
-        verify(mapper).toDomain(savedEntity);
+        assertThat(result).isSameAs(log);
+        verify(batchWriter).submit(log);
+        verifyNoInteractions(jpaRepository, mapper);
     }
 
     @Test
@@ -95,22 +112,67 @@ class AuditLogRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("findByFilter should build specification and return paged audit logs")
-    void findByFilter_shouldBuildSpecAndReturnPage() {
+    @DisplayName("findByFilter should read the page as a projection through the paged query executor")
+    void findByFilter_shouldReadProjectionPage() {
         AuditLogFilter filter = new AuditLogFilter(null, "User", AuditAction.LOGIN, null, null);
         Pageable pageable = PageRequest.of(0, 20);
-        AuditLogEntity entity = new AuditLogEntity();
         AuditLog log = AuditLog.create(UUID.randomUUID(), "admin", "User", UUID.randomUUID(),
                 AuditAction.LOGIN, "127.0.0.1", "Agent");
-        Page<AuditLogEntity> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
 
-        when(jpaRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(entityPage);
-        when(mapper.toDomain(entity)).thenReturn(log);
+        when(projections.slice(eq(AuditLogEntity.class), any(), eq(pageable), eq(rowProjection)))
+                .thenReturn(new SliceImpl<>(List.of(log), pageable, false));
+        when(pagedQueries.page(eq("audit_logs"), eq(filter), eq(pageable), any(), any())).thenAnswer(inv ->
+                new PageImpl<>(inv.<Function<Pageable, Slice<AuditLog>>>getArgument(3).apply(pageable).getContent()));
 
         Page<AuditLog> result = adapter.findByFilter(filter, pageable);
 
         assertThat(result.getTotalElements()).isEqualTo(1);
         assertThat(result.getContent()).containsExactly(log);
-        verify(jpaRepository).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("findOlderThan should map the limited JPA result to domain")
+    void findOlderThan_shouldMapResult() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        AuditLogEntity entity = new AuditLogEntity();
+        AuditLog log = AuditLog.create(UUID.randomUUID(), "admin", "User", null, AuditAction.LOGIN, null, null);
+        when(jpaRepository.findOlderThan(cutoff, Limit.of(50))).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(log);
+
+        List<AuditLog> result = adapter.findOlderThan(cutoff, 50);
+
+        assertThat(result).containsExactly(log);
+    }
+
+    @Test
+    @DisplayName("deleteOlderThan should delegate to JPA and skip empty id lists")
+    void deleteOlderThan_shouldDelegate() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<UUID> ids = List.of(UUID.randomUUID());
+        when(jpaRepository.deleteOlderThan(ids, cutoff)).thenReturn(1);
+
+        assertThat(adapter.deleteOlderThan(ids, cutoff)).isEqualTo(1);
+        assertThat(adapter.deleteOlderThan(List.of(), cutoff)).isZero();
+        verify(jpaRepository).deleteOlderThan(ids, cutoff);
+        verify(pagedQueries).evict("audit_logs");
+    }
+
+    @Test
+    @DisplayName("scrollByFilter should run a keyset query and map the window")
+    @SuppressWarnings("unchecked")
+    void scrollByFilter_shouldMapWindow() {
+        AuditLogFilter filter = new AuditLogFilter(null, null, null, null, null);
+        AuditLogEntity entity = AuditLogEntity.builder().id(UUID.randomUUID()).action("LOGIN").build();
+        AuditLog domain = AuditLog.create(null, "admin", null, null, AuditAction.LOGIN, null, null);
+
+        when(jpaRepository.findBy(any(Specification.class), any()))
+                .thenReturn(Window.from(List.of(entity), index -> ScrollPosition.keyset(), false));
+        when(mapper.toDomain(entity)).thenReturn(domain);
+
+        Window<AuditLog> result = adapter.scrollByFilter(filter, Sort.by("timestamp"), ScrollPosition.keyset(), 20);
+
+        assertThat(result.getContent()).containsExactly(domain);
+        assertThat(result.hasNext()).isFalse();
     }
 }
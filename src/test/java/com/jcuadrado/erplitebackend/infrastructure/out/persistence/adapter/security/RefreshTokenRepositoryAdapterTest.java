@@ -10,12 +10,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,27 +62,44 @@ class RefreshTokenRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("findByToken should return token when found")
-    void findByToken_shouldReturnToken_whenFound() {
-        String tokenValue = "some-token-value";
+    @DisplayName("insert should mark the entity as new so JPA persists it without a lookup")
+    void insert_shouldMarkEntityAsNew() {
+        RefreshToken token = RefreshToken.create(UUID.randomUUID(), "some-token", 7);
         RefreshTokenEntity entity = new RefreshTokenEntity();
-        RefreshToken token = RefreshToken.create(UUID.randomUUID(), tokenValue, 7);
 
-        when(jpaRepository.findByToken(tokenValue)).thenReturn(Optional.of(entity));
+        when(mapper.toEntity(token)).thenReturn(entity);
+        when(jpaRepository.save(entity)).thenReturn(entity);
+        when(mapper.toDomain(entity)).thenReturn(token);
+
+        RefreshToken result = adapter.insert(token);
+
+        assertThat(result).isSameAs(token);
+        assertThat(entity.isNew()).isTrue();
+        verify(jpaRepository).save(entity);
+    }
+
+    @Test
+    @DisplayName("findByTokenHash should return token when found")
+    void findByTokenHash_shouldReturnToken_whenFound() {
+        RefreshToken token = RefreshToken.create(UUID.randomUUID(), "some-token-value", 7);
+        String tokenHash = token.getTokenHash();
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+
+        when(jpaRepository.findByTokenHash(tokenHash)).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity)).thenReturn(token);
 
-        Optional<RefreshToken> result = adapter.findByToken(tokenValue);
+        Optional<RefreshToken> result = adapter.findByTokenHash(tokenHash);
 
         assertThat(result).isPresent();
-        verify(jpaRepository).findByToken(tokenValue);
+        verify(jpaRepository).findByTokenHash(tokenHash);
     }
 
     @Test
-    @DisplayName("findByToken should return empty when token is not found")
-    void findByToken_shouldReturnEmpty_whenNotFound() {
-        when(jpaRepository.findByToken("unknown")).thenReturn(Optional.empty());
+    @DisplayName("findByTokenHash should return empty when token is not found")
+    void findByTokenHash_shouldReturnEmpty_whenNotFound() {
+        when(jpaRepository.findByTokenHash("unknown")).thenReturn(Optional.empty());
 
-        Optional<RefreshToken> result = adapter.findByToken("unknown");
+        Optional<RefreshToken> result = adapter.findByTokenHash("unknown");
 
         assertThat(result).isEmpty();
     }
@@ -93,4 +115,29 @@ class RefreshTokenRepositoryAdapterTest {
 
         verify(jpaRepository).revokeAllByUserId(userId);
     }
+
+    @Test
+    @DisplayName("deleteExpiredOrRevokedBefore should delete the selected batch of ids")
+    void deleteExpiredOrRevokedBefore_shouldDeleteSelectedIds() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jpaRepository.findPurgeableIds(cutoff, Limit.of(100))).thenReturn(ids);
+
+        int deleted = adapter.deleteExpiredOrRevokedBefore(cutoff, 100);
+
+        assertThat(deleted).isEqualTo(2);
+        verify(jpaRepository).deleteAllByIdInBatch(ids);
+    }
+
+    @Test
+    @DisplayName("deleteExpiredOrRevokedBefore should skip the delete when nothing is purgeable")
+    void deleteExpiredOrRevokedBefore_shouldSkipDelete_whenNothingPurgeable() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaRepository.findPurgeableIds(cutoff, Limit.of(100))).thenReturn(List.of());
+
+        int deleted = adapter.deleteExpiredOrRevokedBefore(cutoff, 100);
+
+        assertThat(deleted).isZero();
+        verify(jpaRepository, never()).deleteAllByIdInBatch(any());
+    }
 }
@@ -2,6 +2,7 @@ package com.jcuadrado.erplitebackend.infrastructure.out.persistence.adapter.secu
 
 import com.jcuadrado.erplitebackend.domain.model.security.User;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UserJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.RoleEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.UserEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.security.UserEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,13 +11,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +67,24 @@ class UserRepositoryAdapterTest {
         verify(mapper).toDomain(savedEntity);
     }
 
+    @Test
+    @DisplayName("save should keep the stored roles of an existing user")
+    void save_shouldKeepStoredRoles() {
+        User user = User.builder().id(UUID.randomUUID()).username("alice").active(true).failedAttempts(0).build();
+        RoleEntity role = RoleEntity.builder().id(UUID.randomUUID()).name("ADMIN").build();
+        UserEntity stored = UserEntity.builder().id(user.getId()).roles(Set.of(role)).build();
+        UserEntity entity = new UserEntity();
+
+        when(mapper.toEntity(user)).thenReturn(entity);
+        when(jpaRepository.findById(user.getId())).thenReturn(Optional.of(stored));
+        when(jpaRepository.save(entity)).thenReturn(entity);
+        when(mapper.toDomain(entity)).thenReturn(user);
+
+        adapter.save(user);
+
+        assertThat(entity.getRoles()).containsExactly(role);
+    }
+
     @Test
     @DisplayName("findById should return user when active user is found")
     void findById_shouldReturnUser_whenFound() {
@@ -152,4 +177,23 @@ class UserRepositoryAdapterTest {
         assertThat(adapter.existsByEmail("alice@example.com")).isFalse();
         verify(jpaRepository).existsByEmail("alice@example.com");
     }
+
+    @Test
+    @DisplayName("scrollAll should map the keyset window and keep its positions")
+    void scrollAll_shouldMapWindow() {
+        UserEntity entity = UserEntity.builder().id(UUID.randomUUID()).username("alice").build();
+        User user = User.builder().id(entity.getId()).username("alice").build();
+        Sort sort = Sort.by("username");
+        ScrollPosition last = ScrollPosition.forward(Map.of("username", "alice", "id", entity.getId()));
+
+        when(jpaRepository.findByDeletedAtIsNull(ScrollPosition.keyset(), sort, Limit.of(10)))
+                .thenReturn(Window.from(List.of(entity), index -> last, true));
+        when(mapper.toDomain(entity)).thenReturn(user);
+
+        Window<User> result = adapter.scrollAll(sort, ScrollPosition.keyset(), 10);
+
+        assertThat(result.getContent()).containsExactly(user);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.positionAt(0)).isEqualTo(last);
+    }
 }
@@ -5,6 +5,7 @@ import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.TaxTypeJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.taxtype.TaxTypeEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.taxtype.TaxTypeEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -36,6 +39,9 @@ class TaxTypeRepositoryAdapterTest {
     @Mock
     private TaxTypeEntityMapper mapper;
 
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
     @InjectMocks
     private TaxTypeRepositoryAdapter adapter;
 
@@ -165,7 +171,7 @@ class TaxTypeRepositoryAdapterTest {
         List<TaxTypeEntity> entities = List.of(entity);
         Page<TaxTypeEntity> entityPage = new PageImpl<>(entities, pageable, 1);
 
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<TaxTypeEntity>>any(), eq(pageable))).thenReturn(entityPage);
+        when(pagedQueries.page(eq("tax_types"), eq(jpaRepository), ArgumentMatchers.<Specification<TaxTypeEntity>>any(), any(), eq(pageable))).thenReturn(entityPage);
         when(mapper.toDomain(entity)).thenReturn(domainObject);
 
         Page<TaxType> result = adapter.findAll(filters, pageable);
@@ -173,10 +179,25 @@ class TaxTypeRepositoryAdapterTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1).contains(domainObject);
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(jpaRepository).findAll(ArgumentMatchers.<Specification<TaxTypeEntity>>any(), eq(pageable));
+        verify(pagedQueries).page(eq("tax_types"), eq(jpaRepository), ArgumentMatchers.<Specification<TaxTypeEntity>>any(), any(), eq(pageable));
         verify(mapper).toDomain(entity);
     }
 
+    @Test
+    @DisplayName("findSlice should read the page without counting")
+    void findSlice_shouldReadPageWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<TaxTypeEntity> entitySlice = new SliceImpl<>(List.of(entity), pageable, true);
+        when(pagedQueries.slice(eq(jpaRepository), ArgumentMatchers.<Specification<TaxTypeEntity>>any(), eq(pageable))).thenReturn(entitySlice);
+        when(mapper.toDomain(entity)).thenReturn(domainObject);
+
+        Slice<TaxType> result = adapter.findSlice(Map.of("enabled", true), pageable);
+
+        assertThat(result.getContent()).containsExactly(domainObject);
+        assertThat(result.hasNext()).isTrue();
+        verify(pagedQueries, never()).page(any(), any(), any(), any(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("findByEnabled should return all tax types when enabled is null")
     void findByEnabled_whenNull_shouldReturnAll() {
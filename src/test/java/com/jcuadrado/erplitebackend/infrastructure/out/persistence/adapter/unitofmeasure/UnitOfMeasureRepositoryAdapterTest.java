@@ -4,6 +4,7 @@ import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UnitOfMeasureJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.unitofmeasure.UnitOfMeasureEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.unitofmeasure.UnitOfMeasureEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +16,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -34,6 +37,9 @@ class UnitOfMeasureRepositoryAdapterTest {
     @Mock
     private UnitOfMeasureEntityMapper mapper;
 
+    @Mock
+    private PagedQueryExecutor pagedQueries;
+
     @InjectMocks
     private UnitOfMeasureRepositoryAdapter adapter;
 
@@ -73,7 +79,7 @@ class UnitOfMeasureRepositoryAdapterTest {
     void findAll_shouldReturnMappedPage() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<UnitOfMeasureEntity> page = new PageImpl<>(List.of(entity), pageable, 1);
-        when(jpaRepository.findAll(ArgumentMatchers.<Specification<UnitOfMeasureEntity>>any(), eq(pageable))).thenReturn(page);
+        when(pagedQueries.page(eq("units_of_measure"), eq(jpaRepository), ArgumentMatchers.<Specification<UnitOfMeasureEntity>>any(), any(), eq(pageable))).thenReturn(page);
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         Page<UnitOfMeasure> result = adapter.findAll(Map.of("enabled", true), pageable);
@@ -81,6 +87,20 @@ class UnitOfMeasureRepositoryAdapterTest {
         assertThat(result.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    void findSlice_shouldReadPageWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<UnitOfMeasureEntity> entitySlice = new SliceImpl<>(List.of(entity), pageable, true);
+        when(pagedQueries.slice(eq(jpaRepository), ArgumentMatchers.<Specification<UnitOfMeasureEntity>>any(), eq(pageable))).thenReturn(entitySlice);
+        when(mapper.toDomain(entity)).thenReturn(domain);
+
+        Slice<UnitOfMeasure> result = adapter.findSlice(Map.of("enabled", true), pageable);
+
+        assertThat(result.getContent()).containsExactly(domain);
+        assertThat(result.hasNext()).isTrue();
+        verify(pagedQueries, never()).page(any(), any(), any(), any(), any(Pageable.class));
+    }
+
     @Test
     void findByEnabled_shouldHandleTrue() {
         when(jpaRepository.findByEnabledTrue()).thenReturn(List.of(entity));
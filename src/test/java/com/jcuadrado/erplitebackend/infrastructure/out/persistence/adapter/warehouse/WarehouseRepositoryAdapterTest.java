@@ -5,6 +5,7 @@ import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.warehouse.WarehouseEntity;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.jpa.warehouse.WarehouseJpaRepository;
 import com.jcuadrado.erplitebackend.infrastructure.out.persistence.mapper.warehouse.WarehouseEntityMapper;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination.PagedQueryExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,13 +35,15 @@ class WarehouseRepositoryAdapterTest {
     private WarehouseJpaRepository jpaRepository;
     @Mock
     private WarehouseEntityMapper mapper;
+    @Mock
+    private PagedQueryExecutor pagedQueries;
 
     @InjectMocks
     private WarehouseRepositoryAdapter adapter;
 
-    private WarehouseEntity sampleEntity(String uuidStr) {
+    private WarehouseEntity sampleEntity(UUID uuid) {
         return WarehouseEntity.builder()
-                .uuid(uuidStr).code("BOD-001").name("Bodega")
+                .uuid(uuid).code("BOD-001").name("Bodega")
                 .type(WarehouseType.SUCURSAL).active(true).createdAt(LocalDateTime.now()).build();
     }
 
@@ -54,7 +58,7 @@ class WarehouseRepositoryAdapterTest {
     void save_shouldPersistAndReturnDomain() {
         UUID uuid = UUID.randomUUID();
         Warehouse domain = sampleDomain(uuid);
-        WarehouseEntity entity = sampleEntity(uuid.toString());
+        WarehouseEntity entity = sampleEntity(uuid);
 
         when(mapper.toEntity(domain)).thenReturn(entity);
         when(jpaRepository.save(entity)).thenReturn(entity);
@@ -67,10 +71,10 @@ class WarehouseRepositoryAdapterTest {
     @DisplayName("findByUuid should return Optional with domain when found")
     void findByUuid_shouldReturnDomain_whenFound() {
         UUID uuid = UUID.randomUUID();
-        WarehouseEntity entity = sampleEntity(uuid.toString());
+        WarehouseEntity entity = sampleEntity(uuid);
         Warehouse domain = sampleDomain(uuid);
 
-        when(jpaRepository.findByUuidAndDeletedAtIsNull(uuid.toString())).thenReturn(Optional.of(entity));
+        when(jpaRepository.findByUuidAndDeletedAtIsNull(uuid)).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         assertThat(adapter.findByUuid(uuid)).contains(domain);
@@ -80,7 +84,7 @@ class WarehouseRepositoryAdapterTest {
     @DisplayName("findByUuid should return empty Optional when not found")
     void findByUuid_shouldReturnEmpty_whenNotFound() {
         UUID uuid = UUID.randomUUID();
-        when(jpaRepository.findByUuidAndDeletedAtIsNull(uuid.toString())).thenReturn(Optional.empty());
+        when(jpaRepository.findByUuidAndDeletedAtIsNull(uuid)).thenReturn(Optional.empty());
 
         assertThat(adapter.findByUuid(uuid)).isEmpty();
     }
@@ -89,11 +93,11 @@ class WarehouseRepositoryAdapterTest {
     @DisplayName("findAll should return paged domain objects")
     void findAll_shouldReturnPagedDomain() {
         UUID uuid = UUID.randomUUID();
-        WarehouseEntity entity = sampleEntity(uuid.toString());
+        WarehouseEntity entity = sampleEntity(uuid);
         Warehouse domain = sampleDomain(uuid);
         Page<WarehouseEntity> entityPage = new PageImpl<>(List.of(entity));
 
-        when(jpaRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(entityPage);
+        when(pagedQueries.page(eq("warehouses"), eq(jpaRepository), any(Specification.class), any(), any(PageRequest.class))).thenReturn(entityPage);
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         Page<Warehouse> result = adapter.findAll(Map.of(), PageRequest.of(0, 10));
@@ -105,7 +109,7 @@ class WarehouseRepositoryAdapterTest {
     @DisplayName("findAllActive should return active non-deleted warehouses")
     void findAllActive_shouldReturnActiveDomain() {
         UUID uuid = UUID.randomUUID();
-        WarehouseEntity entity = sampleEntity(uuid.toString());
+        WarehouseEntity entity = sampleEntity(uuid);
         Warehouse domain = sampleDomain(uuid);
 
         when(jpaRepository.findByActiveTrueAndDeletedAtIsNull()).thenReturn(List.of(entity));
@@ -122,10 +126,10 @@ class WarehouseRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("existsByCodeIgnoreCaseAndUuidNot should convert UUID to String")
+    @DisplayName("existsByCodeIgnoreCaseAndUuidNot should pass the UUID through")
     void existsByCodeIgnoreCaseAndUuidNot_shouldConvertUuid() {
         UUID uuid = UUID.randomUUID();
-        when(jpaRepository.existsByCodeIgnoreCaseAndUuidNot("BOD-001", uuid.toString())).thenReturn(false);
+        when(jpaRepository.existsByCodeIgnoreCaseAndUuidNot("BOD-001", uuid)).thenReturn(false);
         assertThat(adapter.existsByCodeIgnoreCaseAndUuidNot("BOD-001", uuid)).isFalse();
     }
 
@@ -137,11 +141,11 @@ class WarehouseRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("existsActivePrincipalWarehouseAndUuidNot should convert UUID to String")
+    @DisplayName("existsActivePrincipalWarehouseAndUuidNot should pass the UUID through")
     void existsActivePrincipalWarehouseAndUuidNot_shouldConvertUuid() {
         UUID uuid = UUID.randomUUID();
         when(jpaRepository.existsByTypeAndActiveTrueAndDeletedAtIsNullAndUuidNot(
-                WarehouseType.PRINCIPAL, uuid.toString())).thenReturn(false);
+                WarehouseType.PRINCIPAL, uuid)).thenReturn(false);
         assertThat(adapter.existsActivePrincipalWarehouseAndUuidNot(uuid)).isFalse();
     }
 
@@ -153,10 +157,10 @@ class WarehouseRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("existsByNameIgnoreCaseAndUuidNot should convert UUID to String")
+    @DisplayName("existsByNameIgnoreCaseAndUuidNot should pass the UUID through")
     void existsByNameIgnoreCaseAndUuidNot_shouldConvertUuid() {
         UUID uuid = UUID.randomUUID();
-        when(jpaRepository.existsByNameIgnoreCaseAndUuidNot("Bodega Central", uuid.toString())).thenReturn(false);
+        when(jpaRepository.existsByNameIgnoreCaseAndUuidNot("Bodega Central", uuid)).thenReturn(false);
         assertThat(adapter.existsByNameIgnoreCaseAndUuidNot("Bodega Central", uuid)).isFalse();
     }
 }
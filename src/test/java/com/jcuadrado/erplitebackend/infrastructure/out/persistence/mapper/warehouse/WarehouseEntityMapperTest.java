@@ -19,12 +19,12 @@ class WarehouseEntityMapperTest {
     @Test
     @DisplayName("toDomain should map all fields including municipalityUuid to municipalityId")
     void toDomain_shouldMapAllFields() {
-        String uuidStr = UUID.randomUUID().toString();
-        String municipalityUuid = UUID.randomUUID().toString();
+        UUID uuid = UUID.randomUUID();
+        UUID municipalityUuid = UUID.randomUUID();
 
         WarehouseEntity entity = WarehouseEntity.builder()
                 .id(1L)
-                .uuid(uuidStr)
+                .uuid(uuid)
                 .code("BOD-001")
                 .name("Bodega Principal")
                 .description("Desc")
@@ -40,11 +40,11 @@ class WarehouseEntityMapperTest {
 
         Warehouse domain = mapper.toDomain(entity);
 
-        assertThat(domain.getUuid()).hasToString(uuidStr);
+        assertThat(domain.getUuid()).isEqualTo(uuid);
         assertThat(domain.getCode()).isEqualTo("BOD-001");
         assertThat(domain.getName()).isEqualTo("Bodega Principal");
         assertThat(domain.getType()).isEqualTo(WarehouseType.PRINCIPAL);
-        assertThat(domain.getMunicipalityId()).hasToString(municipalityUuid);
+        assertThat(domain.getMunicipalityId()).isEqualTo(municipalityUuid);
         assertThat(domain.isActive()).isTrue();
     }
 
@@ -52,7 +52,7 @@ class WarehouseEntityMapperTest {
     @DisplayName("toDomain should handle null municipalityUuid")
     void toDomain_shouldHandleNullMunicipalityUuid() {
         WarehouseEntity entity = WarehouseEntity.builder()
-                .uuid(UUID.randomUUID().toString())
+                .uuid(UUID.randomUUID())
                 .code("BOD-002")
                 .name("Sucursal")
                 .type(WarehouseType.SUCURSAL)
@@ -89,9 +89,9 @@ class WarehouseEntityMapperTest {
 
         WarehouseEntity entity = mapper.toEntity(domain);
 
-        assertThat(entity.getUuid()).isEqualTo(uuid.toString());
+        assertThat(entity.getUuid()).isEqualTo(uuid);
         assertThat(entity.getCode()).isEqualTo("BOD-001");
-        assertThat(entity.getMunicipalityUuid()).isEqualTo(municipalityId.toString());
+        assertThat(entity.getMunicipalityUuid()).isEqualTo(municipalityId);
         assertThat(entity.getType()).isEqualTo(WarehouseType.PRINCIPAL);
     }
 
@@ -0,0 +1,180 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.pagination;
+
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.taxtype.TaxTypeEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PagedQueryExecutorTest {
+
+    private static final String QUERY = "tax_types";
+
+    @Mock
+    private JpaSpecificationExecutor<TaxTypeEntity> repository;
+
+    private final Specification<TaxTypeEntity> spec = (root, query, cb) -> null;
+    private SimpleMeterRegistry meterRegistry;
+    private PagedQueryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PagedQueryExecutor(meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    private void returnSlice(Pageable pageable, int size, boolean hasNext) {
+        List<TaxTypeEntity> content = Collections.nCopies(size, new TaxTypeEntity());
+        when(repository.findBy(eq(spec), any())).thenReturn(new SliceImpl<>(content, pageable, hasNext));
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", PagedQueryExecutor.CACHE_NAME).tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("slice should read one page without counting")
+    void slice_shouldNotCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        returnSlice(pageable, 10, true);
+
+        Slice<TaxTypeEntity> result = executor.slice(repository, spec, pageable);
+
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.hasNext()).isTrue();
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("page should infer the total from the last page without counting")
+    void page_shouldInferTotalOnLastPage() {
+        Pageable pageable = PageRequest.of(2, 10);
+        returnSlice(pageable, 3, false);
+
+        Page<TaxTypeEntity> result = executor.page(QUERY, repository, spec, Map.of(), pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(23);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("page should count once and reuse the cached total for the same normalized filter")
+    void page_shouldCacheCountPerNormalizedFilter() {
+        Pageable pageable = PageRequest.of(0, 10);
+        returnSlice(pageable, 10, true);
+        when(repository.count(spec)).thenReturn(42L);
+        Map<String, Object> padded = new HashMap<>();
+        padded.put("name", "  iva ");
+        padded.put("enabled", null);
+
+        Page<TaxTypeEntity> first = executor.page(QUERY, repository, spec, padded, pageable);
+        Page<TaxTypeEntity> second = executor.page(QUERY, repository, spec, Map.of("name", "iva"), pageable);
+
+        assertThat(first.getTotalElements()).isEqualTo(42);
+        assertThat(second.getTotalElements()).isEqualTo(42);
+        verify(repository, times(1)).count(spec);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict should drop cached counts so the next page recounts")
+    void evict_shouldForceRecount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        returnSlice(pageable, 10, true);
+        when(repository.count(spec)).thenReturn(42L, 43L);
+
+        executor.page(QUERY, repository, spec, Map.of(), pageable);
+        executor.evict(QUERY);
+        Page<TaxTypeEntity> result = executor.page(QUERY, repository, spec, Map.of(), pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(43);
+        verify(repository, times(2)).count(spec);
+    }
+
+    @Test
+    @DisplayName("evict should keep the cached counts of other queries")
+    void evict_shouldKeepOtherQueries() {
+        Pageable pageable = PageRequest.of(0, 10);
+        returnSlice(pageable, 10, true);
+        when(repository.count(spec)).thenReturn(42L);
+
+        executor.page(QUERY, repository, spec, Map.of(), pageable);
+        executor.evict("units_of_measure");
+        executor.page(QUERY, repository, spec, Map.of(), pageable);
+
+        verify(repository, times(1)).count(spec);
+    }
+
+    @Test
+    @DisplayName("page should keep at most max-size counts and report evictions")
+    void page_shouldBoundCachedCounts() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PagedQueryExecutor(meterRegistry, Duration.ofMinutes(1), 1, Runnable::run);
+        Pageable pageable = PageRequest.of(0, 10);
+        returnSlice(pageable, 10, true);
+        when(repository.count(spec)).thenReturn(42L);
+
+        for (int i = 0; i < 10; i++) {
+            executor.page(QUERY, repository, spec, Map.of("name", "iva" + i), pageable);
+        }
+
+        assertThat(meterRegistry.get("cache.size").tag("cache", PagedQueryExecutor.CACHE_NAME).gauge().value())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", PagedQueryExecutor.CACHE_NAME)
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("page should never report fewer elements than the page proves exist")
+    void page_shouldNotReportTotalBelowLoadedRows() {
+        Pageable pageable = PageRequest.of(3, 10);
+        returnSlice(pageable, 10, true);
+        when(repository.count(spec)).thenReturn(12L);
+
+        Page<TaxTypeEntity> result = executor.page(QUERY, repository, spec, Map.of(), pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(41);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("page should count when a page past the end comes back empty")
+    void page_shouldCountWhenPagePastEndIsEmpty() {
+        Pageable pageable = PageRequest.of(5, 10);
+        returnSlice(pageable, 0, false);
+        when(repository.count(spec)).thenReturn(7L);
+
+        Page<TaxTypeEntity> result = executor.page(QUERY, repository, spec, Map.of(), pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(7);
+    }
+}
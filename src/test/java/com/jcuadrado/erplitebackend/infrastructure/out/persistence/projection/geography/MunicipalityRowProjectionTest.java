@@ -0,0 +1,44 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.geography;
+
+import com.jcuadrado.erplitebackend.domain.model.geography.Municipality;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MunicipalityRowProjectionTest {
+
+    private final MunicipalityRowProjection projection = new MunicipalityRowProjection();
+
+    @Test
+    void map_shouldBuildMunicipalityWithItsDepartment() {
+        UUID municipalityUuid = UUID.randomUUID();
+        UUID departmentUuid = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Object[] values = {
+                1L, municipalityUuid, "05001", "Medellín", true, 7L, null, createdAt, null,
+                5L, departmentUuid, "05", "Antioquia", true, 7L, null, createdAt, null
+        };
+        Tuple row = mock(Tuple.class);
+        when(row.get(anyInt(), any())).thenAnswer(inv -> values[inv.<Integer>getArgument(0)]);
+
+        Municipality result = projection.map(row);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getUuid()).isEqualTo(municipalityUuid);
+        assertThat(result.getCode()).isEqualTo("05001");
+        assertThat(result.getName()).isEqualTo("Medellín");
+        assertThat(result.getEnabled()).isTrue();
+        assertThat(result.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(result.getDepartment().getId()).isEqualTo(5L);
+        assertThat(result.getDepartment().getUuid()).isEqualTo(departmentUuid);
+        assertThat(result.getDepartment().getName()).isEqualTo("Antioquia");
+    }
+}
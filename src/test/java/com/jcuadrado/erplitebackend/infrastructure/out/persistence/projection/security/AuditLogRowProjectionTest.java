@@ -0,0 +1,43 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.projection.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogRowProjectionTest {
+
+    private final AuditLogRowProjection projection = new AuditLogRowProjection();
+
+    @Test
+    void map_shouldBuildAuditLogFromColumns() {
+        UUID id = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Object[] values = {
+                id, userId, "admin", "User", null, "LOGIN", null, null, "127.0.0.1", "Agent",
+                timestamp, 3, timestamp.minusMinutes(5)
+        };
+        Tuple row = mock(Tuple.class);
+        when(row.get(anyInt(), any())).thenAnswer(inv -> values[inv.<Integer>getArgument(0)]);
+
+        AuditLog result = projection.map(row);
+
+        assertThat(result.getId()).isEqualTo(id);
+        assertThat(result.getUserId()).isEqualTo(userId);
+        assertThat(result.getAction()).isEqualTo(AuditAction.LOGIN);
+        assertThat(result.getEntityId()).isNull();
+        assertThat(result.getTimestamp()).isEqualTo(timestamp);
+        assertThat(result.getOccurrences()).isEqualTo(3);
+        assertThat(result.getFirstTimestamp()).isEqualTo(timestamp.minusMinutes(5));
+    }
+}
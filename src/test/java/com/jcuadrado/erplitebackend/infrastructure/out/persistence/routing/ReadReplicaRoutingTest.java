@@ -0,0 +1,128 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing;
+
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes against two H2 databases standing in for the primary and the replica; the replica reports its lag
+ * from a {@code replica_lag} table.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "datasource.replica.max-lag=5s",
+        "datasource.replica.lag-check-interval=1h",
+        "security.permission-version.refresh-interval=0s"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PermissionVersionService permissionVersionService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        setReplicaLag(0);
+        lagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should use the replica and read-write ones the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routing_replica");
+        assertThat(databaseIn(false)).isEqualToIgnoringCase("routing_primary");
+        assertThat(meterRegistry.get("datasource.read_only.connections").tag("route", "replica").counter().count())
+                .isPositive();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should fall back to the primary while the replica lags too much")
+    void shouldFallBackToPrimaryWhenReplicaLags() throws SQLException {
+        setReplicaLag(60);
+        lagMonitor.check();
+
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routing_primary");
+        assertThat(meterRegistry.get("datasource.replica.usable").gauge().value()).isZero();
+        assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isEqualTo(60);
+
+        setReplicaLag(2);
+        lagMonitor.check();
+
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routing_replica");
+    }
+
+    @Test
+    @DisplayName("PrimaryReads should keep a read-only transaction on the primary")
+    void shouldUsePrimaryInsidePrimaryReads() {
+        assertThat(PrimaryReads.call(() -> databaseIn(true))).isEqualToIgnoringCase("routing_primary");
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routing_replica");
+    }
+
+    @Test
+    @DisplayName("The permission version should be read from the primary even inside a read-only transaction")
+    void shouldReadPermissionVersionFromPrimary() throws SQLException {
+        jdbcTemplate.update("MERGE INTO permission_versions (id, version) KEY (id) VALUES (1, 3)");
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS permission_versions (id SMALLINT PRIMARY KEY, version BIGINT)");
+            statement.execute("MERGE INTO permission_versions (id, version) KEY (id) VALUES (1, 1)");
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Long version = readOnly.execute(status -> permissionVersionService.currentVersion());
+
+        assertThat(version).isEqualTo(3L);
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void setReplicaLag(int seconds) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+            statement.execute("DELETE FROM replica_lag");
+            statement.execute("INSERT INTO replica_lag VALUES (" + seconds + ")");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should hand out a replica connection while the replica is usable")
+    void shouldUseReplicaWhenUsable() throws SQLException {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routed("replica")).isEqualTo(1);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should use the primary while the replica is not usable")
+    void shouldUsePrimaryWhenReplicaNotUsable() throws SQLException {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary")).isEqualTo(1);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary and mark the replica unusable when it refuses a connection")
+    void shouldFallBackWhenReplicaRefuses() throws SQLException {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(lagMonitor).markUnusable("Connection refused");
+        assertThat(routed("replica")).isZero();
+        assertThat(routed("primary")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not ask the replica inside PrimaryReads")
+    void shouldUsePrimaryWhenForced() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        Connection connection = PrimaryReads.call(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    private double routed(String route) {
+        return meterRegistry.get("datasource.read_only.connections").tag("route", route).counter().count();
+    }
+}
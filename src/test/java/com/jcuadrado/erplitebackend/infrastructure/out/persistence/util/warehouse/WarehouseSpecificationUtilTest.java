@@ -89,19 +89,19 @@ class WarehouseSpecificationUtilTest {
     }
 
     @Test
-    @DisplayName("buildSpecification should filter by municipalityId as String")
+    @DisplayName("buildSpecification should filter by municipalityId as UUID")
     void buildSpecification_shouldFilterByMunicipalityId() {
         UUID municipalityId = UUID.randomUUID();
         setupRootPath("deletedAt");
         setupRootPath("municipalityUuid");
         when(cb.isNull(any())).thenReturn(mockPredicate());
-        when(cb.equal(any(), eq(municipalityId.toString()))).thenReturn(mockPredicate());
+        when(cb.equal(any(), eq(municipalityId))).thenReturn(mockPredicate());
         when(cb.and(any(Predicate[].class))).thenReturn(mockPredicate());
 
         WarehouseSpecificationUtil.buildSpecification(Map.of("municipalityId", municipalityId))
                 .toPredicate(root, query, cb);
 
-        verify(cb).equal(root.get("municipalityUuid"), municipalityId.toString());
+        verify(cb).equal(root.get("municipalityUuid"), municipalityId);
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer;
+
+import com.jcuadrado.erplitebackend.domain.model.paymentmethod.PaymentMethod;
+import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxApplicationType;
+import com.jcuadrado.erplitebackend.domain.model.taxtype.TaxType;
+import com.jcuadrado.erplitebackend.domain.model.unitofmeasure.UnitOfMeasure;
+import com.jcuadrado.erplitebackend.domain.model.warehouse.Warehouse;
+import com.jcuadrado.erplitebackend.domain.model.warehouse.WarehouseType;
+import com.jcuadrado.erplitebackend.domain.port.paymentmethod.PaymentMethodRepository;
+import com.jcuadrado.erplitebackend.domain.port.taxtype.TaxTypeRepository;
+import com.jcuadrado.erplitebackend.domain.port.unitofmeasure.UnitOfMeasureRepository;
+import com.jcuadrado.erplitebackend.domain.port.warehouse.WarehouseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trips the JDBC batch inserts of the catalog imports through the entity mappings, so a column bound in the
+ * wrong position or with the wrong type shows up when the row is read back.
+ */
+@SpringBootTest(properties = "persistence.import.batch-size=2")
+@ActiveProfiles("test")
+@Transactional
+class CatalogBatchInsertTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 10, 30);
+
+    @Autowired
+    private TaxTypeRepository taxTypeRepository;
+
+    @Autowired
+    private UnitOfMeasureRepository unitOfMeasureRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("insertAll should store tax types readable through the entity mapping")
+    void insertAll_taxTypes() {
+        UUID uuid = UUID.randomUUID();
+        taxTypeRepository.insertAll(List.of(
+                TaxType.builder().uuid(uuid).code("IMP1").name("Impuesto 1").percentage(new BigDecimal("19.0000"))
+                        .isIncluded(true).applicationType(TaxApplicationType.SALE).enabled(true).createdBy(7L)
+                        .createdAt(NOW).build(),
+                TaxType.builder().uuid(UUID.randomUUID()).code("IMP2").name("Impuesto 2").percentage(BigDecimal.ONE)
+                        .isIncluded(false).applicationType(TaxApplicationType.BOTH).enabled(true).createdAt(NOW)
+                        .build(),
+                TaxType.builder().uuid(UUID.randomUUID()).code("IMP3").name("Impuesto 3").percentage(BigDecimal.TEN)
+                        .isIncluded(false).applicationType(TaxApplicationType.PURCHASE).enabled(true).createdAt(NOW)
+                        .build()));
+
+        TaxType stored = taxTypeRepository.findByUuid(uuid).orElseThrow();
+        assertThat(stored.getCode()).isEqualTo("IMP1");
+        assertThat(stored.getPercentage()).isEqualByComparingTo("19");
+        assertThat(stored.getIsIncluded()).isTrue();
+        assertThat(stored.getApplicationType()).isEqualTo(TaxApplicationType.SALE);
+        assertThat(stored.getCreatedBy()).isEqualTo(7L);
+        assertThat(stored.getCreatedAt()).isEqualTo(NOW);
+        assertThat(taxTypeRepository.findAllCodes()).contains("IMP1", "IMP2", "IMP3");
+    }
+
+    @Test
+    @DisplayName("insertAll should store units of measure readable through the entity mapping")
+    void insertAll_unitsOfMeasure() {
+        UUID uuid = UUID.randomUUID();
+        unitOfMeasureRepository.insertAll(List.of(
+                UnitOfMeasure.builder().uuid(uuid).name("Kilogramo de prueba").abbreviation("KGP").enabled(true)
+                        .createdAt(NOW).build()));
+
+        UnitOfMeasure stored = unitOfMeasureRepository.findByUuid(uuid).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Kilogramo de prueba");
+        assertThat(stored.getAbbreviation()).isEqualTo("KGP");
+        assertThat(stored.getEnabled()).isTrue();
+        assertThat(stored.getCreatedBy()).isNull();
+    }
+
+    @Test
+    @DisplayName("insertAll should store payment methods readable through the entity mapping")
+    void insertAll_paymentMethods() {
+        UUID uuid = UUID.randomUUID();
+        paymentMethodRepository.insertAll(List.of(
+                PaymentMethod.builder().uuid(uuid).code("PRUEBA").name("Pago de prueba").enabled(true).createdBy(3L)
+                        .createdAt(NOW).build()));
+
+        PaymentMethod stored = paymentMethodRepository.findByCode("PRUEBA").orElseThrow();
+        assertThat(stored.getUuid()).isEqualTo(uuid);
+        assertThat(stored.getName()).isEqualTo("Pago de prueba");
+        assertThat(stored.getCreatedBy()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("insertAll should store warehouses readable through the entity mapping")
+    void insertAll_warehouses() {
+        UUID uuid = UUID.randomUUID();
+        UUID municipality = UUID.randomUUID();
+        warehouseRepository.insertAll(List.of(
+                Warehouse.builder().uuid(uuid).code("BOD-T1").name("Bodega de prueba").description("Temporal")
+                        .type(WarehouseType.TEMPORAL).address("Calle 1").municipalityId(municipality)
+                        .responsible("Ana").email("ana@example.com").phone("3001234567").active(true)
+                        .createdAt(NOW).build()));
+
+        Warehouse stored = warehouseRepository.findByUuid(uuid).orElseThrow();
+        assertThat(stored.getCode()).isEqualTo("BOD-T1");
+        assertThat(stored.getType()).isEqualTo(WarehouseType.TEMPORAL);
+        assertThat(stored.getMunicipalityId()).isEqualTo(municipality);
+        assertThat(stored.getPhone()).isEqualTo("3001234567");
+        assertThat(stored.isActive()).isTrue();
+        assertThat(warehouseRepository.findAllNames()).contains("Bodega de prueba");
+        assertBothUuidColumns("BOD-T1", uuid, municipality);
+    }
+
+    @Test
+    @DisplayName("saving a warehouse through JPA should write both its binary and VARCHAR UUID columns")
+    void save_warehouseWritesBinaryUuids() {
+        UUID uuid = UUID.randomUUID();
+        UUID municipality = UUID.randomUUID();
+        warehouseRepository.save(Warehouse.builder().uuid(uuid).code("BOD-T2").name("Bodega JPA")
+                .type(WarehouseType.TEMPORAL).municipalityId(municipality).active(true).createdAt(NOW).build());
+        entityManager.flush();
+
+        assertBothUuidColumns("BOD-T2", uuid, municipality);
+    }
+
+    private void assertBothUuidColumns(String code, UUID uuid, UUID municipality) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT uuid, uuid_bin, municipality_uuid, municipality_uuid_bin FROM warehouses WHERE code = ?", code);
+        assertThat(row.get("uuid_bin")).isEqualTo(JdbcBatchInserter.toBytes(uuid));
+        assertThat(row.get("municipality_uuid_bin")).isEqualTo(JdbcBatchInserter.toBytes(municipality));
+        assertThat(row.get("uuid")).isEqualTo(uuid.toString());
+        assertThat(row.get("municipality_uuid")).isEqualTo(municipality.toString());
+    }
+}
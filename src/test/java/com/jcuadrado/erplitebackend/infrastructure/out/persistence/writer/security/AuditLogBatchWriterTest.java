@@ -0,0 +1,243 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security.AuditLogBatchWriter.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogBatchWriter writer;
+    private final List<AuditLog> written = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(jdbcTemplate.batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(inv -> {
+                    written.addAll(inv.<Collection<AuditLog>>getArgument(1));
+                    return new int[0][];
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    private AuditLogBatchWriter newWriter(int capacity, OverflowPolicy policy) {
+        return new AuditLogBatchWriter(jdbcTemplate, meterRegistry, capacity, 50,
+                Duration.ofMillis(20), Duration.ofSeconds(5), policy, 2, Duration.ofMillis(1));
+    }
+
+    private static AuditLog auditLog() {
+        return AuditLog.create(UUID.randomUUID(), "admin", "User", null, AuditAction.LOGIN_FAILED, "127.0.0.1", "Agent");
+    }
+
+    @Test
+    @DisplayName("submit should write queued audit logs in batches from the background thread")
+    void submit_shouldWriteInBatches_whenRunning() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+        writer.start();
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(auditLog());
+        }
+
+        verify(jdbcTemplate, timeout(2000).atLeastOnce()).batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL),
+                any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        writer.stop();
+        assertThat(written).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("submit should write synchronously when the writer is not running")
+    void submit_shouldWriteSynchronously_whenNotRunning() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+        AuditLog log = auditLog();
+
+        writer.submit(log);
+
+        assertThat(written).containsExactly(log);
+    }
+
+    @Test
+    @DisplayName("submit should write on the caller thread when the queue is full and policy is CALLER_RUNS")
+    void submit_shouldRunOnCaller_whenQueueFullAndCallerRuns() throws Exception {
+        writer = newWriter(1, OverflowPolicy.CALLER_RUNS);
+        CountDownLatch release = blockBackgroundWrites();
+        writer.start();
+        AuditLog overflow = auditLog();
+
+        fillQueue();
+        writer.submit(overflow);
+
+        assertThat(written).containsExactly(overflow);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("submit should drop and count the audit log when the queue is full and policy is DROP")
+    void submit_shouldDrop_whenQueueFullAndDropPolicy() throws Exception {
+        writer = newWriter(1, OverflowPolicy.DROP);
+        CountDownLatch release = blockBackgroundWrites();
+        writer.start();
+
+        fillQueue();
+        writer.submit(auditLog());
+
+        assertThat(written).isEmpty();
+        assertThat(meterRegistry.get("audit.writer.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("audit.writer.queue.size").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("stop should flush every queued audit log before returning")
+    void stop_shouldFlushQueuedLogs() {
+        writer = newWriter(1000, OverflowPolicy.CALLER_RUNS);
+        writer.start();
+        List<AuditLog> logs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            AuditLog log = auditLog();
+            logs.add(log);
+            writer.submit(log);
+        }
+
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(written).containsExactlyInAnyOrderElementsOf(logs);
+    }
+
+    @Test
+    @DisplayName("submit should swallow database errors so callers are not affected")
+    void submit_shouldSwallowDatabaseErrors() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+        lenient().when(jdbcTemplate.batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenThrow(new IllegalStateException("db down"));
+
+        writer.submit(auditLog());
+
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    @DisplayName("submit should retry a failed batch with backoff")
+    void submit_shouldRetryFailedBatch() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+        AuditLog auditLog = auditLog();
+        when(jdbcTemplate.batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new IllegalStateException("deadlock"))
+                .thenAnswer(inv -> {
+                    written.addAll(inv.<Collection<AuditLog>>getArgument(1));
+                    return new int[0][];
+                });
+
+        writer.submit(auditLog);
+
+        assertThat(written).containsExactly(auditLog);
+        assertThat(meterRegistry.get("audit.writer.retries").counter().count()).isEqualTo(1.0);
+        verify(jdbcTemplate, never()).update(eq(AuditLogBatchWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("a batch that keeps failing should be inserted row by row, counting the rows that still fail")
+    void write_shouldFallBackToRowInserts_whenRetriesExhausted() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+        when(jdbcTemplate.batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenThrow(new IllegalStateException("bad row"));
+        when(jdbcTemplate.update(eq(AuditLogBatchWriter.INSERT_SQL), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DuplicateKeyException("already stored"))
+                .thenThrow(new IllegalStateException("data too long"));
+        for (int i = 0; i < 3; i++) {
+            writer.submit(auditLog());
+        }
+
+        // one attempt and two retries per entry
+        verify(jdbcTemplate, times(9)).batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(3)).update(eq(AuditLogBatchWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+        assertThat(meterRegistry.get("audit.writer.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("stop should not fail when the writer was never started")
+    void stop_shouldNotFail_whenNeverStarted() {
+        writer = newWriter(100, OverflowPolicy.CALLER_RUNS);
+
+        writer.stop();
+
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private final CountDownLatch workerBusy = new CountDownLatch(1);
+
+    /**
+     * Makes the background thread block inside its first write; caller-thread writes are recorded as usual.
+     */
+    private CountDownLatch blockBackgroundWrites() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(eq(AuditLogBatchWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(inv -> {
+                    if (Thread.currentThread().getName().equals("audit-log-writer")) {
+                        workerBusy.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    } else {
+                        written.addAll(inv.<Collection<AuditLog>>getArgument(1));
+                    }
+                    return new int[0][];
+                });
+        return release;
+    }
+
+    /**
+     * Hands one entry to the blocked worker, then fills the single queue slot.
+     */
+    private void fillQueue() throws InterruptedException {
+        writer.submit(auditLog());
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.submit(auditLog());
+    }
+}
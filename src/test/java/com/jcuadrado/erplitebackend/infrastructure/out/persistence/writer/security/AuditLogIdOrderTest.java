@@ -0,0 +1,107 @@
+package com.jcuadrado.erplitebackend.infrastructure.out.persistence.writer.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.domain.port.identity.IdGenerator;
+import com.jcuadrado.erplitebackend.domain.service.identity.Identifiers;
+import com.jcuadrado.erplitebackend.domain.service.identity.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Audit log ids as stored in {@code audit_logs.id}. The benchmark is skipped unless run with
+ * {@code -Dbenchmark=true}; point it at MySQL with {@code -Dspring.datasource.url=...} to measure InnoDB.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditLogIdOrderTest {
+
+    private static final String ENTITY = "AuditLogIdOrderTest";
+    private static final int BENCHMARK_ROWS = 200_000;
+    private static final int BENCHMARK_BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGenerator configuredGenerator;
+
+    @AfterEach
+    void tearDown() {
+        Identifiers.use(configuredGenerator);
+        jdbcTemplate.update("DELETE FROM audit_logs WHERE entity = ?", ENTITY);
+    }
+
+    @Test
+    @DisplayName("Audit log ids should sort in the index in the order they were created")
+    void ids_shouldSortInCreationOrder() {
+        List<AuditLog> created = createLogs(1_000);
+        List<AuditLog> shuffled = new ArrayList<>(created);
+        Collections.shuffle(shuffled);
+        insert(shuffled);
+
+        List<UUID> stored = jdbcTemplate.query("SELECT id FROM audit_logs WHERE entity = ? ORDER BY id",
+                (rs, rowNum) -> toUuid(rs.getBytes(1)), ENTITY);
+
+        assertThat(stored).containsExactlyElementsOf(created.stream().map(AuditLog::getId).toList());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: audit log insert rate with random vs time-ordered ids")
+    void benchmark_insertRate() {
+        // First round warms up the JIT and the connection pool; only the second one is reported
+        insertRate(UUID::randomUUID);
+        insertRate(new TimeOrderedIdGenerator());
+        double random = insertRate(UUID::randomUUID);
+        double timeOrdered = insertRate(new TimeOrderedIdGenerator());
+
+        log.info("audit_logs: {} filas en lotes de {}; UUIDv4 {} filas/s, UUIDv7 {} filas/s ({}x)",
+                BENCHMARK_ROWS, BENCHMARK_BATCH_SIZE, Math.round(random), Math.round(timeOrdered),
+                String.format("%.2f", timeOrdered / random));
+    }
+
+    private double insertRate(IdGenerator generator) {
+        Identifiers.use(generator);
+        List<AuditLog> logs = createLogs(BENCHMARK_ROWS);
+        long start = System.nanoTime();
+        for (int from = 0; from < logs.size(); from += BENCHMARK_BATCH_SIZE) {
+            insert(logs.subList(from, Math.min(from + BENCHMARK_BATCH_SIZE, logs.size())));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        jdbcTemplate.update("DELETE FROM audit_logs WHERE entity = ?", ENTITY);
+        return logs.size() / seconds;
+    }
+
+    private static List<AuditLog> createLogs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.create(null, "admin", ENTITY, null, AuditAction.LOGIN, "127.0.0.1", "Agent"))
+                .toList();
+    }
+
+    private void insert(List<AuditLog> logs) {
+        jdbcTemplate.batchUpdate(AuditLogBatchWriter.INSERT_SQL, logs, logs.size(), AuditLogBatchWriter::bind);
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
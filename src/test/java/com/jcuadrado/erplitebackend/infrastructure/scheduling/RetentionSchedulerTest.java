@@ -0,0 +1,43 @@
+package com.jcuadrado.erplitebackend.infrastructure.scheduling;
+
+import com.jcuadrado.erplitebackend.application.port.security.RetentionUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionSchedulerTest {
+
+    @Mock
+    private RetentionUseCase retentionUseCase;
+
+    @InjectMocks
+    private RetentionScheduler scheduler;
+
+    @Test
+    @DisplayName("applyRetention should still archive audit logs when the refresh token purge fails")
+    void applyRetention_shouldContinue_whenPurgeFails() {
+        when(retentionUseCase.purgeRefreshTokens()).thenThrow(new IllegalStateException("db down"));
+
+        scheduler.applyRetention();
+
+        verify(retentionUseCase).archiveAuditLogs();
+    }
+
+    @Test
+    @DisplayName("applyRetention should still archive audit logs when preparing partitions fails")
+    void applyRetention_shouldContinue_whenPartitionPreparationFails() {
+        when(retentionUseCase.prepareAuditLogPartitions()).thenThrow(new IllegalStateException("no privilege"));
+
+        scheduler.applyRetention();
+
+        verify(retentionUseCase).purgeRefreshTokens();
+        verify(retentionUseCase).archiveAuditLogs();
+    }
+}
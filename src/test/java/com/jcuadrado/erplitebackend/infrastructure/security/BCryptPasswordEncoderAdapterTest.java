@@ -1,18 +1,37 @@
 package com.jcuadrado.erplitebackend.infrastructure.security;
 
+import com.jcuadrado.erplitebackend.domain.exception.security.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class BCryptPasswordEncoderAdapterTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private BCryptPasswordEncoderAdapter encoder;
 
     @BeforeEach
     void setUp() {
-        encoder = new BCryptPasswordEncoderAdapter();
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BCryptPasswordEncoderAdapter(meterRegistry, 4, 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
     }
 
     @Test
@@ -55,4 +74,50 @@ class BCryptPasswordEncoderAdapterTest {
 
         assertThat(encoder.matches("WrongPassword!", encoded)).isFalse();
     }
+
+    @Test
+    @DisplayName("matches should record hash latency and expose queue depth metrics")
+    void matches_shouldRecordMetrics() {
+        String hash = encoder.encode("Secure@1");
+
+        encoder.matches("Secure@1", hash);
+
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hash.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("matches should reject with PasswordHashingUnavailableException when pool and queue are full")
+    void matches_shouldReject_whenPoolIsSaturated() throws Exception {
+        encoder.shutdown();
+        encoder = new BCryptPasswordEncoderAdapter(meterRegistry, 10, 1, 1);
+        String hash = encoder.encode("Secure@1");
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(callerPool.submit(() -> {
+                start.await();
+                return encoder.matches("Secure@1", hash);
+            }));
+        }
+
+        start.countDown();
+        int rejected = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(PasswordHashingUnavailableException.class);
+                rejected++;
+            }
+        }
+        callerPool.shutdown();
+
+        assertThat(rejected).isPositive();
+    }
 }
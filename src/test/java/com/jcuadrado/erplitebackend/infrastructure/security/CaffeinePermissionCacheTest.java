@@ -0,0 +1,175 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService;
+import com.jcuadrado.erplitebackend.domain.model.security.Permission;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeinePermissionCacheTest {
+
+    private final FakeVersions versions = new FakeVersions();
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeinePermissionCache cache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, List<Permission>> loader = userId -> {
+        loads.incrementAndGet();
+        return List.of(Permission.create("WAREHOUSE", PermissionAction.READ, null, "Read"));
+    };
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeinePermissionCache(versions, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("getPermissions should load once and serve later calls from the cache")
+    void getPermissions_shouldLoadOnce_forRepeatedCalls() {
+        UUID userId = UUID.randomUUID();
+
+        List<Permission> first = cache.getPermissions(userId, loader);
+        List<Permission> second = cache.getPermissions(userId, loader);
+
+        assertThat(first).hasSize(1);
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("getPermissions should reload every user when the changes since the cached version are unknown")
+    void getPermissions_shouldReloadAll_whenChangesAreUnknown() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        cache.getPermissions(userId, loader);
+        cache.getPermissions(otherUserId, loader);
+
+        versions.forgetHistory();
+        cache.getPermissions(userId, loader);
+        cache.getPermissions(otherUserId, loader);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("getPermissions should reload only the users whose permissions changed")
+    void getPermissions_shouldReloadOnlyChangedUsers() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        cache.getPermissions(userId, loader);
+        cache.getPermissions(otherUserId, loader);
+
+        versions.incrementForUsers(List.of(userId));
+        cache.getPermissions(userId, loader);
+        cache.getPermissions(otherUserId, loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("getIndex should share the cached entry with getPermissions")
+    void getIndex_shouldShareEntryWithGetPermissions() {
+        UUID userId = UUID.randomUUID();
+
+        List<Permission> permissions = cache.getPermissions(userId, loader);
+        PermissionIndex index = cache.getIndex(userId, loader);
+
+        assertThat(index.getPermissions()).isSameAs(permissions);
+        assertThat(index.grants("WAREHOUSE", PermissionAction.READ)).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("getPermissions should keep users isolated by id")
+    void getPermissions_shouldKeyByUserId() {
+        cache.getPermissions(UUID.randomUUID(), loader);
+        cache.getPermissions(UUID.randomUUID(), loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("cache metrics should expose hits and misses through the meter registry")
+    void metrics_shouldExposeHitsAndMisses() {
+        UUID userId = UUID.randomUUID();
+        cache.getPermissions(userId, loader);
+        cache.getPermissions(userId, loader);
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", "userPermissions").tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tag("cache", "userPermissions").tag("result", "miss")
+                .functionCounter().count();
+
+        assertThat(hits).isEqualTo(1.0);
+        assertThat(misses).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "userPermissions").functionCounter())
+                .isNotNull();
+    }
+
+    /**
+     * Mirrors the database service: a global counter, the version each user was last stamped with and the oldest
+     * version whose changes are still known.
+     */
+    private static final class FakeVersions implements PermissionVersionService {
+
+        private long version = 1;
+        private long trackedSince = 1;
+        private final Map<UUID, Long> userVersions = new HashMap<>();
+
+        @Override
+        public long currentVersion() {
+            return version;
+        }
+
+        void forgetHistory() {
+            trackedSince = ++version;
+        }
+
+        @Override
+        public void incrementForUsers(Collection<UUID> userIds) {
+            version++;
+            userIds.forEach(userId -> userVersions.put(userId, version));
+        }
+
+        @Override
+        public void incrementForRole(UUID roleId) {
+            version++;
+        }
+
+        @Override
+        public boolean isCurrent(UUID userId, long tokenVersion) {
+            return tokenVersion >= trackedSince && userVersions.getOrDefault(userId, 0L) <= tokenVersion;
+        }
+
+        @Override
+        public Changes changesSince(long since) {
+            if (since < trackedSince) {
+                return Changes.ALL;
+            }
+            Set<UUID> changed = new HashSet<>();
+            userVersions.forEach((userId, userVersion) -> {
+                if (userVersion > since) {
+                    changed.add(userId);
+                }
+            });
+            return new Changes(false, changed);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.jcuadrado.erplitebackend.application.port.security.PermissionVersionService.Changes;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.PermissionVersionJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.UserJpaRepository;
+import com.jcuadrado.erplitebackend.infrastructure.out.persistence.entity.security.PermissionVersionEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabasePermissionVersionServiceTest {
+
+    private static final short ROW_ID = DatabasePermissionVersionService.ROW_ID;
+
+    @Mock
+    private PermissionVersionJpaRepository repository;
+
+    @Mock
+    private UserJpaRepository userRepository;
+
+    private DatabasePermissionVersionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = service(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("currentVersion should read the database once per refresh interval")
+    void currentVersion_shouldServeLocalCopy() {
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(7L));
+
+        assertThat(service.currentVersion()).isEqualTo(7L);
+        assertThat(service.currentVersion()).isEqualTo(7L);
+
+        verify(repository, times(1)).findVersion(ROW_ID);
+    }
+
+    @Test
+    @DisplayName("currentVersion should re-read the database once the refresh interval has passed")
+    void currentVersion_shouldRefreshAfterInterval() {
+        service = service(Duration.ZERO);
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(1L), Optional.of(2L));
+
+        assertThat(service.currentVersion()).isEqualTo(1L);
+        assertThat(service.currentVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("incrementForUsers should re-read the version only after the caller's transaction commits")
+    void incrementForUsers_shouldRefreshAfterCommit() {
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(1L), Optional.of(2L));
+        when(repository.increment(ROW_ID)).thenReturn(1);
+        assertThat(service.currentVersion()).isEqualTo(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.incrementForUsers(List.of());
+            assertThat(service.currentVersion()).isEqualTo(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.currentVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("incrementForUsers should create the version row when it is missing")
+    void incrementForUsers_shouldCreateMissingRow() {
+        when(repository.increment(ROW_ID)).thenReturn(0);
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(1L));
+
+        service.incrementForUsers(List.of());
+
+        verify(repository).save(any(PermissionVersionEntity.class));
+        assertThat(service.currentVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("incrementForUsers should stamp only the given users")
+    void incrementForUsers_shouldStampUsers() {
+        UUID userId = UUID.randomUUID();
+        when(repository.increment(ROW_ID)).thenReturn(1);
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(5L));
+
+        service.incrementForUsers(List.of(userId));
+
+        verify(userRepository).updatePermissionsVersion(List.of(userId), 5L);
+    }
+
+    @Test
+    @DisplayName("incrementForRole should stamp the users holding the role")
+    void incrementForRole_shouldStampRoleUsers() {
+        UUID roleId = UUID.randomUUID();
+        List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(userRepository.findIdsByRoleId(roleId)).thenReturn(userIds);
+        when(repository.increment(ROW_ID)).thenReturn(1);
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(5L));
+
+        service.incrementForRole(roleId);
+
+        verify(userRepository).updatePermissionsVersion(userIds, 5L);
+    }
+
+    @Test
+    @DisplayName("incrementForRole should only move the version when no user holds the role")
+    void incrementForRole_shouldSkipUpdateWithoutUsers() {
+        UUID roleId = UUID.randomUUID();
+        when(userRepository.findIdsByRoleId(roleId)).thenReturn(List.of());
+        when(repository.increment(ROW_ID)).thenReturn(1);
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(5L));
+
+        service.incrementForRole(roleId);
+
+        verify(userRepository, never()).updatePermissionsVersion(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("changesSince should list the users stamped after the given version")
+    void changesSince_shouldListChangedUsers() {
+        service = service(Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(4L), Optional.of(6L));
+        when(userRepository.findIdsWithPermissionsVersionAfter(4L)).thenReturn(List.of(userId));
+        service.currentVersion();
+
+        Changes changes = service.changesSince(4L);
+
+        assertThat(changes.allUsers()).isFalse();
+        assertThat(changes.userIds()).containsExactly(userId);
+    }
+
+    @Test
+    @DisplayName("changesSince should report every user for versions older than the first read")
+    void changesSince_shouldReportAll_beforeFirstRead() {
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(6L));
+
+        assertThat(service.changesSince(4L)).isEqualTo(Changes.ALL);
+        verify(userRepository, never()).findIdsWithPermissionsVersionAfter(anyLong());
+    }
+
+    @Test
+    @DisplayName("changesSince should report nothing when the version has not moved")
+    void changesSince_shouldReportNone_whenUnchanged() {
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(6L));
+
+        assertThat(service.changesSince(6L)).isEqualTo(Changes.NONE);
+    }
+
+    @Test
+    @DisplayName("isCurrent should keep trusting a user's token after another user's permissions change")
+    void isCurrent_shouldIgnoreOtherUsersChanges() {
+        service = service(Duration.ZERO);
+        UUID alice = UUID.randomUUID();
+        UUID lockedUser = UUID.randomUUID();
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(4L), Optional.of(5L));
+        when(userRepository.findIdsWithPermissionsVersionAfter(4L)).thenReturn(List.of(lockedUser));
+        service.currentVersion();
+
+        assertThat(service.isCurrent(alice, 4L)).isTrue();
+        assertThat(service.isCurrent(lockedUser, 4L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isCurrent should trust a token stamped after the user's last change")
+    void isCurrent_shouldTrustTokenIssuedAfterChange() {
+        service = service(Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(4L), Optional.of(5L));
+        when(userRepository.findIdsWithPermissionsVersionAfter(4L)).thenReturn(List.of(userId));
+        service.currentVersion();
+
+        assertThat(service.isCurrent(userId, 5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isCurrent should not trust versions older than the first read or newer than the last one")
+    void isCurrent_shouldRejectUnknownVersions() {
+        UUID userId = UUID.randomUUID();
+        when(repository.findVersion(ROW_ID)).thenReturn(Optional.of(6L));
+
+        assertThat(service.isCurrent(userId, 5L)).isFalse();
+        assertThat(service.isCurrent(userId, 7L)).isFalse();
+        assertThat(service.isCurrent(userId, 6L)).isTrue();
+    }
+
+    private DatabasePermissionVersionService service(Duration refreshInterval) {
+        return new DatabasePermissionVersionService(repository, userRepository, refreshInterval,
+                1800, Duration.ofMinutes(10));
+    }
+}
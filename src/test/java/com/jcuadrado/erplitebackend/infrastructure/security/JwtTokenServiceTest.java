@@ -7,8 +7,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -23,16 +23,8 @@ class JwtTokenServiceTest {
     private static final long EXPIRATION_SECONDS = 1800L;
 
     @BeforeEach
-    void setUp() throws Exception {
-        service = new JwtTokenService();
-
-        Field secretField = JwtTokenService.class.getDeclaredField("secret");
-        secretField.setAccessible(true);
-        secretField.set(service, TEST_SECRET);
-
-        Field expirationField = JwtTokenService.class.getDeclaredField("accessTokenExpirationSeconds");
-        expirationField.setAccessible(true);
-        expirationField.set(service, EXPIRATION_SECONDS);
+    void setUp() {
+        service = new JwtTokenService(TEST_SECRET, EXPIRATION_SECONDS);
     }
 
     @Test
@@ -45,7 +37,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of("ADMIN"), List.of("Invoice:READ"));
+        String token = service.generateAccessToken(user, List.of("ADMIN"), List.of("Invoice:READ"), 1L);
 
         assertThat(token).isNotBlank();
         assertThat(token.split("\\.")).hasSize(3);
@@ -61,7 +53,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of("USER"), List.of());
+        String token = service.generateAccessToken(user, List.of("USER"), List.of(), 1L);
         String username = service.extractUsername(token);
 
         assertThat(username).isEqualTo("alice");
@@ -77,7 +69,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of(), List.of());
+        String token = service.generateAccessToken(user, List.of(), List.of(), 1L);
 
         assertThat(service.validateToken(token)).isTrue();
     }
@@ -104,7 +96,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of("ADMIN", "USER"), List.of());
+        String token = service.generateAccessToken(user, List.of("ADMIN", "USER"), List.of(), 1L);
 
         assertThat(service.extractRoles(token)).containsExactlyInAnyOrder("ADMIN", "USER");
     }
@@ -119,7 +111,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of(), List.of());
+        String token = service.generateAccessToken(user, List.of(), List.of(), 1L);
 
         assertThat(service.extractRoles(token)).isEmpty();
     }
@@ -134,7 +126,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of(), List.of("WAREHOUSE:CREATE", "WAREHOUSE:READ"));
+        String token = service.generateAccessToken(user, List.of(), List.of("WAREHOUSE:CREATE", "WAREHOUSE:READ"), 1L);
 
         assertThat(service.extractPermissions(token)).containsExactlyInAnyOrder("WAREHOUSE:CREATE", "WAREHOUSE:READ");
     }
@@ -149,7 +141,7 @@ class JwtTokenServiceTest {
                 .failedAttempts(0)
                 .build();
 
-        String token = service.generateAccessToken(user, List.of(), List.of());
+        String token = service.generateAccessToken(user, List.of(), List.of(), 1L);
 
         assertThat(service.extractPermissions(token)).isEmpty();
     }
@@ -171,4 +163,55 @@ class JwtTokenServiceTest {
         assertThat(service.extractRoles(token)).isEmpty();
         assertThat(service.extractPermissions(token)).isEmpty();
     }
+
+    @Test
+    @DisplayName("parseToken should return subject, user id, roles, permissions and expiry from a single parse")
+    void parseToken_shouldReturnPrincipal_fromValidToken() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("alice")
+                .active(true)
+                .failedAttempts(0)
+                .build();
+
+        String token = service.generateAccessToken(user, List.of("ADMIN"), List.of("WAREHOUSE:READ"), 1L);
+
+        var principal = service.parseToken(token);
+
+        assertThat(principal).isPresent();
+        assertThat(principal.get().subject()).isEqualTo("alice");
+        assertThat(principal.get().userId()).isEqualTo(user.getId());
+        assertThat(principal.get().roles()).containsExactly("ADMIN");
+        assertThat(principal.get().permissions()).containsExactly("WAREHOUSE:READ");
+        assertThat(principal.get().permissionsVersion()).isEqualTo(1L);
+        assertThat(principal.get().expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("parseToken should return empty for a token signed with another key")
+    void parseToken_shouldReturnEmpty_forForeignSignature() {
+        var otherKey = Keys.hmacShaKeyFor("another-secret-key-for-unit-tests-32c".getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("mallory")
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_SECONDS * 1000))
+                .signWith(otherKey)
+                .compact();
+
+        assertThat(service.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseToken should return empty for an expired token")
+    void parseToken_shouldReturnEmpty_forExpiredToken() {
+        var key = Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("user")
+                .issuedAt(new Date(System.currentTimeMillis() - 7200_000))
+                .expiration(new Date(System.currentTimeMillis() - 3600_000))
+                .signWith(key)
+                .compact();
+
+        assertThat(service.parseToken(token)).isEmpty();
+        assertThat(service.validateToken(token)).isFalse();
+    }
 }
@@ -1,5 +1,6 @@
 package com.jcuadrado.erplitebackend.infrastructure.security;
 
+import com.jcuadrado.erplitebackend.domain.exception.security.InvalidPermissionConditionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SpelConditionEvaluatorTest {
 
@@ -66,4 +69,52 @@ class SpelConditionEvaluatorTest {
 
         assertThat(result).isTrue();
     }
+
+    @Test
+    @DisplayName("evaluate should resolve context entries as root properties")
+    void evaluate_shouldResolveRootProperties() {
+        Map<String, Object> context = Map.of("discountPercentage", 10);
+
+        assertThat(evaluator.evaluate("discountPercentage <= 15", context)).isTrue();
+        assertThat(evaluator.evaluate("discountPercentage <= 5", context)).isFalse();
+    }
+
+    @Test
+    @DisplayName("evaluate should return consistent results when the cached expression is reused")
+    void evaluate_shouldReuseCachedExpression() {
+        for (int i = 0; i < 200; i++) {
+            assertThat(evaluator.evaluate("#amount > 100", Map.of("amount", i))).isEqualTo(i > 100);
+        }
+    }
+
+    @Test
+    @DisplayName("evaluate should return false when condition references a type")
+    void evaluate_shouldReturnFalse_whenConditionReferencesType() {
+        boolean result = evaluator.evaluate("T(java.lang.System).currentTimeMillis() > 0", Map.of());
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("evaluate should return false when condition tries to assign a variable")
+    void evaluate_shouldReturnFalse_whenConditionAssignsVariable() {
+        boolean result = evaluator.evaluate("(#role = 'ADMIN') == 'ADMIN'", Map.of("role", "USER"));
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("validate should accept null, blank and well-formed conditions")
+    void validate_shouldAcceptValidConditions() {
+        assertThatCode(() -> evaluator.validate(null)).doesNotThrowAnyException();
+        assertThatCode(() -> evaluator.validate(" ")).doesNotThrowAnyException();
+        assertThatCode(() -> evaluator.validate("#amount > 100 and region == 'NORTE'")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("validate should throw InvalidPermissionConditionException when condition is malformed")
+    void validate_shouldThrow_whenConditionIsMalformed() {
+        assertThatThrownBy(() -> evaluator.validate("this is not valid SpEL !!@#$"))
+                .isInstanceOf(InvalidPermissionConditionException.class);
+    }
 }
@@ -0,0 +1,125 @@
+package com.jcuadrado.erplitebackend.infrastructure.security;
+
+import com.jcuadrado.erplitebackend.domain.model.security.AuditAction;
+import com.jcuadrado.erplitebackend.domain.model.security.AuditLog;
+import com.jcuadrado.erplitebackend.domain.model.security.PermissionAction;
+import com.jcuadrado.erplitebackend.domain.port.security.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WindowedPermissionDenialRecorderTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private WindowedPermissionDenialRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new WindowedPermissionDenialRecorder(auditLogRepository, Duration.ofSeconds(60), 100);
+    }
+
+    @Test
+    @DisplayName("recordDenial should coalesce identical denials into one aggregated audit log")
+    void recordDenial_shouldCoalesceIdenticalDenials() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime before = LocalDateTime.now();
+
+        for (int i = 0; i < 25; i++) {
+            recorder.recordDenial(userId, "Invoice", PermissionAction.DELETE);
+        }
+        recorder.flushExpired(LocalDateTime.now().plusSeconds(61));
+
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogRepository).save(captor.capture());
+        AuditLog log = captor.getValue();
+        assertThat(log.getUserId()).isEqualTo(userId);
+        assertThat(log.getEntity()).isEqualTo("Invoice");
+        assertThat(log.getAction()).isEqualTo(AuditAction.PERMISSION_DENIED);
+        assertThat(log.getNewValue()).isEqualTo("DELETE");
+        assertThat(log.getOccurrences()).isEqualTo(25);
+        assertThat(log.getFirstTimestamp()).isAfterOrEqualTo(before);
+        assertThat(log.getTimestamp()).isAfterOrEqualTo(log.getFirstTimestamp());
+    }
+
+    @Test
+    @DisplayName("recordDenial should keep separate windows per user, entity and action")
+    void recordDenial_shouldSeparateDistinctKeys() {
+        UUID userId = UUID.randomUUID();
+
+        recorder.recordDenial(userId, "Invoice", PermissionAction.DELETE);
+        recorder.recordDenial(userId, "Invoice", PermissionAction.UPDATE);
+        recorder.recordDenial(userId, "Role", PermissionAction.DELETE);
+        recorder.recordDenial(UUID.randomUUID(), "Invoice", PermissionAction.DELETE);
+        recorder.flushAll();
+
+        verify(auditLogRepository, times(4)).save(any(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("flushExpired should keep windows that have not elapsed yet")
+    void flushExpired_shouldKeepOpenWindows() {
+        recorder.recordDenial(UUID.randomUUID(), "Invoice", PermissionAction.DELETE);
+
+        recorder.flushExpired(LocalDateTime.now().plusSeconds(30));
+
+        verify(auditLogRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("recordDenial should write immediately when the number of open windows reaches the limit")
+    void recordDenial_shouldWriteImmediately_whenMaxKeysReached() {
+        recorder = new WindowedPermissionDenialRecorder(auditLogRepository, Duration.ofSeconds(60), 1);
+        UUID userId = UUID.randomUUID();
+
+        recorder.recordDenial(userId, "Invoice", PermissionAction.DELETE);
+        recorder.recordDenial(userId, "Invoice", PermissionAction.DELETE);
+        recorder.recordDenial(userId, "Role", PermissionAction.DELETE);
+
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogRepository).save(captor.capture());
+        assertThat(captor.getValue().getEntity()).isEqualTo("Role");
+        assertThat(captor.getValue().getOccurrences()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stop should flush every open window")
+    void stop_shouldFlushOpenWindows() {
+        recorder.start();
+        recorder.recordDenial(UUID.randomUUID(), "Invoice", PermissionAction.DELETE);
+        recorder.recordDenial(UUID.randomUUID(), "Invoice", PermissionAction.DELETE);
+
+        recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+        verify(auditLogRepository, times(2)).save(any(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("flushAll should not propagate repository errors")
+    void flushAll_shouldSwallowRepositoryErrors() {
+        when(auditLogRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+        recorder.recordDenial(UUID.randomUUID(), "Invoice", PermissionAction.DELETE);
+
+        assertThatCode(() -> recorder.flushAll()).doesNotThrowAnyException();
+        verify(auditLogRepository).save(any());
+    }
+}
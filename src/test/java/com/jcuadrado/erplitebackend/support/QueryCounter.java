@@ -0,0 +1,38 @@
+package com.jcuadrado.erplitebackend.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while a block runs, so tests can hold an endpoint to a query budget.
+ * Requires {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ */
+public final class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(ThrowingRunnable block) throws Exception {
+        statistics.clear();
+        block.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertAtMost(long budget, String description, ThrowingRunnable block) throws Exception {
+        long queries = count(block);
+        assertThat(queries)
+                .as("%s ran %d queries, budget is %d", description, queries, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}